@@ -40,7 +40,7 @@ class AssetLoadingTask implements AsyncTask<Void> {
             this.dependencies = asyncLoader.getDependencies(this.assetDesc.fileName, resolve(this.loader, this.assetDesc), this.assetDesc.params);
             if (this.dependencies != null) {
                 removeDuplicates(this.dependencies);
-                this.manager.injectDependencies(this.assetDesc.fileName, this.dependencies);
+                this.manager.injectDependencies(this, this.dependencies);
                 return null;
             }
             asyncLoader.loadAsync(this.manager, this.assetDesc.fileName, resolve(this.loader, this.assetDesc), this.assetDesc.params);
@@ -74,7 +74,7 @@ class AssetLoadingTask implements AsyncTask<Void> {
                 return;
             }
             removeDuplicates(this.dependencies);
-            this.manager.injectDependencies(this.assetDesc.fileName, this.dependencies);
+            this.manager.injectDependencies(this, this.dependencies);
             return;
         }
         this.asset = syncLoader.load(this.manager, this.assetDesc.fileName, resolve(this.loader, this.assetDesc), this.assetDesc.params);
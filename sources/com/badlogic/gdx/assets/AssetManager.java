@@ -46,6 +46,7 @@ import com.badlogic.gdx.utils.reflect.ClassReflection;
 import com.twi.game.BuildConfig;
 import java.util.Iterator;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AssetManager implements Disposable {
     final ObjectMap<String, Array<String>> assetDependencies;
@@ -53,9 +54,11 @@ public class AssetManager implements Disposable {
     final ObjectMap<Class, ObjectMap<String, RefCountedContainer>> assets;
     final AsyncExecutor executor;
     final ObjectSet<String> injected;
+    final Array<Stack<AssetLoadingTask>> lanes;
     AssetErrorListener listener;
     final Array<AssetDescriptor> loadQueue;
     int loaded;
+    final ConcurrentHashMap<String, RefCountedContainer> loadedAssets;
     final ObjectMap<Class, ObjectMap<String, AssetLoader>> loaders;
     Logger log;
     int peakTasks;
@@ -72,9 +75,14 @@ public class AssetManager implements Disposable {
     }
 
     public AssetManager(FileHandleResolver resolver2, boolean defaultLoaders) {
+        this(resolver2, defaultLoaders, 1);
+    }
+
+    public AssetManager(FileHandleResolver resolver2, boolean defaultLoaders, int loadingThreads) {
         this.assets = new ObjectMap<>();
         this.assetTypes = new ObjectMap<>();
         this.assetDependencies = new ObjectMap<>();
+        this.loadedAssets = new ConcurrentHashMap<>();
         this.injected = new ObjectSet<>();
         this.loaders = new ObjectMap<>();
         this.loadQueue = new Array<>();
@@ -85,72 +93,55 @@ public class AssetManager implements Disposable {
         this.peakTasks = 0;
         this.log = new Logger("AssetManager", 0);
         this.resolver = resolver2;
-        if (defaultLoaders) {
-            setLoader(BitmapFont.class, new BitmapFontLoader(resolver2));
-            setLoader(Music.class, new MusicLoader(resolver2));
-            setLoader(Pixmap.class, new PixmapLoader(resolver2));
-            setLoader(Sound.class, new SoundLoader(resolver2));
-            setLoader(TextureAtlas.class, new TextureAtlasLoader(resolver2));
-            setLoader(Texture.class, new TextureLoader(resolver2));
-            setLoader(Skin.class, new SkinLoader(resolver2));
-            setLoader(ParticleEffect.class, new ParticleEffectLoader(resolver2));
-            setLoader(com.badlogic.gdx.graphics.g3d.particles.ParticleEffect.class, new com.badlogic.gdx.graphics.g3d.particles.ParticleEffectLoader(resolver2));
-            setLoader(PolygonRegion.class, new PolygonRegionLoader(resolver2));
-            setLoader(I18NBundle.class, new I18NBundleLoader(resolver2));
-            setLoader(Model.class, ".g3dj", new G3dModelLoader(new JsonReader(), resolver2));
-            setLoader(Model.class, ".g3db", new G3dModelLoader(new UBJsonReader(), resolver2));
-            setLoader(Model.class, ".obj", new ObjLoader(resolver2));
-            setLoader(ShaderProgram.class, new ShaderProgramLoader(resolver2));
-            setLoader(Cubemap.class, new CubemapLoader(resolver2));
-        }
-        this.executor = new AsyncExecutor(1, "AssetManager");
+        if (loadingThreads >= 1) {
+            this.lanes = new Array<>(true, loadingThreads);
+            this.lanes.add(this.tasks);
+            for (int i = 1; i < loadingThreads; i++) {
+                this.lanes.add(new Stack<AssetLoadingTask>());
+            }
+            if (defaultLoaders) {
+                setLoader(BitmapFont.class, new BitmapFontLoader(resolver2));
+                setLoader(Music.class, new MusicLoader(resolver2));
+                setLoader(Pixmap.class, new PixmapLoader(resolver2));
+                setLoader(Sound.class, new SoundLoader(resolver2));
+                setLoader(TextureAtlas.class, new TextureAtlasLoader(resolver2));
+                setLoader(Texture.class, new TextureLoader(resolver2));
+                setLoader(Skin.class, new SkinLoader(resolver2));
+                setLoader(ParticleEffect.class, new ParticleEffectLoader(resolver2));
+                setLoader(com.badlogic.gdx.graphics.g3d.particles.ParticleEffect.class, new com.badlogic.gdx.graphics.g3d.particles.ParticleEffectLoader(resolver2));
+                setLoader(PolygonRegion.class, new PolygonRegionLoader(resolver2));
+                setLoader(I18NBundle.class, new I18NBundleLoader(resolver2));
+                setLoader(Model.class, ".g3dj", new G3dModelLoader(new JsonReader(), resolver2));
+                setLoader(Model.class, ".g3db", new G3dModelLoader(new UBJsonReader(), resolver2));
+                setLoader(Model.class, ".obj", new ObjLoader(resolver2));
+                setLoader(ShaderProgram.class, new ShaderProgramLoader(resolver2));
+                setLoader(Cubemap.class, new CubemapLoader(resolver2));
+            }
+            this.executor = new AsyncExecutor(loadingThreads, "AssetManager");
+            return;
+        }
+        throw new IllegalArgumentException("loadingThreads must be >= 1: " + loadingThreads);
     }
 
     public FileHandleResolver getFileHandleResolver() {
         return this.resolver;
     }
 
-    public synchronized <T> T get(String fileName) {
-        T asset;
-        Class<T> type = this.assetTypes.get(fileName);
-        if (type != null) {
-            ObjectMap<String, RefCountedContainer> assetsByType = this.assets.get(type);
-            if (assetsByType != null) {
-                RefCountedContainer assetContainer = assetsByType.get(fileName);
-                if (assetContainer != null) {
-                    asset = assetContainer.getObject(type);
-                    if (asset == null) {
-                        throw new GdxRuntimeException("Asset not loaded: " + fileName);
-                    }
-                } else {
-                    throw new GdxRuntimeException("Asset not loaded: " + fileName);
-                }
-            } else {
-                throw new GdxRuntimeException("Asset not loaded: " + fileName);
-            }
-        } else {
-            throw new GdxRuntimeException("Asset not loaded: " + fileName);
+    public <T> T get(String fileName) {
+        RefCountedContainer assetContainer = this.loadedAssets.get(fileName);
+        if (assetContainer != null) {
+            Class<T> type = assetContainer.type;
+            return assetContainer.getObject(type);
         }
-        return asset;
+        throw new GdxRuntimeException("Asset not loaded: " + fileName);
     }
 
-    public synchronized <T> T get(String fileName, Class<T> type) {
-        T asset;
-        ObjectMap<String, RefCountedContainer> assetsByType = this.assets.get(type);
-        if (assetsByType != null) {
-            RefCountedContainer assetContainer = assetsByType.get(fileName);
-            if (assetContainer != null) {
-                asset = assetContainer.getObject(type);
-                if (asset == null) {
-                    throw new GdxRuntimeException("Asset not loaded: " + fileName);
-                }
-            } else {
-                throw new GdxRuntimeException("Asset not loaded: " + fileName);
-            }
-        } else {
-            throw new GdxRuntimeException("Asset not loaded: " + fileName);
+    public <T> T get(String fileName, Class<T> type) {
+        RefCountedContainer assetContainer = this.loadedAssets.get(fileName);
+        if (assetContainer != null && assetContainer.type == type) {
+            return assetContainer.getObject(type);
         }
-        return asset;
+        throw new GdxRuntimeException("Asset not loaded: " + fileName);
     }
 
     public synchronized <T> Array<T> getAll(Class<T> type, Array<T> out) {
@@ -164,16 +155,19 @@ public class AssetManager implements Disposable {
         return out;
     }
 
-    public synchronized <T> T get(AssetDescriptor<T> assetDescriptor) {
+    public <T> T get(AssetDescriptor<T> assetDescriptor) {
         return get(assetDescriptor.fileName, assetDescriptor.type);
     }
 
     public synchronized boolean contains(String fileName) {
-        if (this.tasks.size() > 0 && ((AssetLoadingTask) this.tasks.firstElement()).assetDesc.fileName.equals(fileName)) {
-            return true;
+        for (int i = 0; i < this.lanes.size; i++) {
+            Stack<AssetLoadingTask> lane = this.lanes.get(i);
+            if (lane.size() > 0 && ((AssetLoadingTask) lane.firstElement()).assetDesc.fileName.equals(fileName)) {
+                return true;
+            }
         }
-        for (int i = 0; i < this.loadQueue.size; i++) {
-            if (this.loadQueue.get(i).fileName.equals(fileName)) {
+        for (int i2 = 0; i2 < this.loadQueue.size; i2++) {
+            if (this.loadQueue.get(i2).fileName.equals(fileName)) {
                 return true;
             }
         }
@@ -181,14 +175,17 @@ public class AssetManager implements Disposable {
     }
 
     public synchronized boolean contains(String fileName, Class type) {
-        if (this.tasks.size() > 0) {
-            AssetDescriptor assetDesc = ((AssetLoadingTask) this.tasks.firstElement()).assetDesc;
-            if (assetDesc.type == type && assetDesc.fileName.equals(fileName)) {
-                return true;
+        for (int i = 0; i < this.lanes.size; i++) {
+            Stack<AssetLoadingTask> lane = this.lanes.get(i);
+            if (lane.size() > 0) {
+                AssetDescriptor assetDesc = ((AssetLoadingTask) lane.firstElement()).assetDesc;
+                if (assetDesc.type == type && assetDesc.fileName.equals(fileName)) {
+                    return true;
+                }
             }
         }
-        for (int i = 0; i < this.loadQueue.size; i++) {
-            AssetDescriptor assetDesc2 = this.loadQueue.get(i);
+        for (int i2 = 0; i2 < this.loadQueue.size; i2++) {
+            AssetDescriptor assetDesc2 = this.loadQueue.get(i2);
             if (assetDesc2.type == type && assetDesc2.fileName.equals(fileName)) {
                 return true;
             }
@@ -196,319 +193,104 @@ public class AssetManager implements Disposable {
         return isLoaded(fileName, type);
     }
 
-    /* JADX WARNING: Code restructure failed: missing block: B:45:0x011b, code lost:
-        return;
-     */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    public synchronized void unload(java.lang.String r8) {
-        /*
-            r7 = this;
-            monitor-enter(r7)
-            java.util.Stack<com.badlogic.gdx.assets.AssetLoadingTask> r0 = r7.tasks     // Catch:{ all -> 0x0133 }
-            int r0 = r0.size()     // Catch:{ all -> 0x0133 }
-            r1 = 1
-            if (r0 <= 0) goto L_0x0036
-            java.util.Stack<com.badlogic.gdx.assets.AssetLoadingTask> r0 = r7.tasks     // Catch:{ all -> 0x0133 }
-            java.lang.Object r0 = r0.firstElement()     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.assets.AssetLoadingTask r0 = (com.badlogic.gdx.assets.AssetLoadingTask) r0     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.assets.AssetDescriptor r2 = r0.assetDesc     // Catch:{ all -> 0x0133 }
-            java.lang.String r2 = r2.fileName     // Catch:{ all -> 0x0133 }
-            boolean r2 = r2.equals(r8)     // Catch:{ all -> 0x0133 }
-            if (r2 == 0) goto L_0x0036
-            r0.cancel = r1     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.utils.Logger r1 = r7.log     // Catch:{ all -> 0x0133 }
-            java.lang.StringBuilder r2 = new java.lang.StringBuilder     // Catch:{ all -> 0x0133 }
-            r2.<init>()     // Catch:{ all -> 0x0133 }
-            java.lang.String r3 = "Unload (from tasks): "
-            r2.append(r3)     // Catch:{ all -> 0x0133 }
-            r2.append(r8)     // Catch:{ all -> 0x0133 }
-            java.lang.String r2 = r2.toString()     // Catch:{ all -> 0x0133 }
-            r1.info(r2)     // Catch:{ all -> 0x0133 }
-            monitor-exit(r7)
-            return
-        L_0x0036:
-            r0 = -1
-            r2 = 0
-        L_0x0038:
-            com.badlogic.gdx.utils.Array<com.badlogic.gdx.assets.AssetDescriptor> r3 = r7.loadQueue     // Catch:{ all -> 0x0133 }
-            int r3 = r3.size     // Catch:{ all -> 0x0133 }
-            if (r2 >= r3) goto L_0x0053
-            com.badlogic.gdx.utils.Array<com.badlogic.gdx.assets.AssetDescriptor> r3 = r7.loadQueue     // Catch:{ all -> 0x0133 }
-            java.lang.Object r3 = r3.get(r2)     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.assets.AssetDescriptor r3 = (com.badlogic.gdx.assets.AssetDescriptor) r3     // Catch:{ all -> 0x0133 }
-            java.lang.String r3 = r3.fileName     // Catch:{ all -> 0x0133 }
-            boolean r3 = r3.equals(r8)     // Catch:{ all -> 0x0133 }
-            if (r3 == 0) goto L_0x0050
-            r0 = r2
-            goto L_0x0053
-        L_0x0050:
-            int r2 = r2 + 1
-            goto L_0x0038
-        L_0x0053:
-            r2 = -1
-            if (r0 == r2) goto L_0x0078
-            int r2 = r7.toLoad     // Catch:{ all -> 0x0133 }
-            int r2 = r2 - r1
-            r7.toLoad = r2     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.utils.Array<com.badlogic.gdx.assets.AssetDescriptor> r1 = r7.loadQueue     // Catch:{ all -> 0x0133 }
-            r1.removeIndex(r0)     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.utils.Logger r1 = r7.log     // Catch:{ all -> 0x0133 }
-            java.lang.StringBuilder r2 = new java.lang.StringBuilder     // Catch:{ all -> 0x0133 }
-            r2.<init>()     // Catch:{ all -> 0x0133 }
-            java.lang.String r3 = "Unload (from queue): "
-            r2.append(r3)     // Catch:{ all -> 0x0133 }
-            r2.append(r8)     // Catch:{ all -> 0x0133 }
-            java.lang.String r2 = r2.toString()     // Catch:{ all -> 0x0133 }
-            r1.info(r2)     // Catch:{ all -> 0x0133 }
-            monitor-exit(r7)
-            return
-        L_0x0078:
-            com.badlogic.gdx.utils.ObjectMap<java.lang.String, java.lang.Class> r1 = r7.assetTypes     // Catch:{ all -> 0x0133 }
-            java.lang.Object r1 = r1.get(r8)     // Catch:{ all -> 0x0133 }
-            java.lang.Class r1 = (java.lang.Class) r1     // Catch:{ all -> 0x0133 }
-            if (r1 == 0) goto L_0x011c
-            com.badlogic.gdx.utils.ObjectMap<java.lang.Class, com.badlogic.gdx.utils.ObjectMap<java.lang.String, com.badlogic.gdx.assets.RefCountedContainer>> r2 = r7.assets     // Catch:{ all -> 0x0133 }
-            java.lang.Object r2 = r2.get(r1)     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.utils.ObjectMap r2 = (com.badlogic.gdx.utils.ObjectMap) r2     // Catch:{ all -> 0x0133 }
-            java.lang.Object r2 = r2.get(r8)     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.assets.RefCountedContainer r2 = (com.badlogic.gdx.assets.RefCountedContainer) r2     // Catch:{ all -> 0x0133 }
-            r2.decRefCount()     // Catch:{ all -> 0x0133 }
-            int r3 = r2.getRefCount()     // Catch:{ all -> 0x0133 }
-            if (r3 > 0) goto L_0x00d5
-            com.badlogic.gdx.utils.Logger r3 = r7.log     // Catch:{ all -> 0x0133 }
-            java.lang.StringBuilder r4 = new java.lang.StringBuilder     // Catch:{ all -> 0x0133 }
-            r4.<init>()     // Catch:{ all -> 0x0133 }
-            java.lang.String r5 = "Unload (dispose): "
-            r4.append(r5)     // Catch:{ all -> 0x0133 }
-            r4.append(r8)     // Catch:{ all -> 0x0133 }
-            java.lang.String r4 = r4.toString()     // Catch:{ all -> 0x0133 }
-            r3.info(r4)     // Catch:{ all -> 0x0133 }
-            java.lang.Class<java.lang.Object> r3 = java.lang.Object.class
-            java.lang.Object r3 = r2.getObject(r3)     // Catch:{ all -> 0x0133 }
-            boolean r3 = r3 instanceof com.badlogic.gdx.utils.Disposable     // Catch:{ all -> 0x0133 }
-            if (r3 == 0) goto L_0x00c4
-            java.lang.Class<java.lang.Object> r3 = java.lang.Object.class
-            java.lang.Object r3 = r2.getObject(r3)     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.utils.Disposable r3 = (com.badlogic.gdx.utils.Disposable) r3     // Catch:{ all -> 0x0133 }
-            r3.dispose()     // Catch:{ all -> 0x0133 }
-        L_0x00c4:
-            com.badlogic.gdx.utils.ObjectMap<java.lang.String, java.lang.Class> r3 = r7.assetTypes     // Catch:{ all -> 0x0133 }
-            r3.remove(r8)     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.utils.ObjectMap<java.lang.Class, com.badlogic.gdx.utils.ObjectMap<java.lang.String, com.badlogic.gdx.assets.RefCountedContainer>> r3 = r7.assets     // Catch:{ all -> 0x0133 }
-            java.lang.Object r3 = r3.get(r1)     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.utils.ObjectMap r3 = (com.badlogic.gdx.utils.ObjectMap) r3     // Catch:{ all -> 0x0133 }
-            r3.remove(r8)     // Catch:{ all -> 0x0133 }
-            goto L_0x00eb
-        L_0x00d5:
-            com.badlogic.gdx.utils.Logger r3 = r7.log     // Catch:{ all -> 0x0133 }
-            java.lang.StringBuilder r4 = new java.lang.StringBuilder     // Catch:{ all -> 0x0133 }
-            r4.<init>()     // Catch:{ all -> 0x0133 }
-            java.lang.String r5 = "Unload (decrement): "
-            r4.append(r5)     // Catch:{ all -> 0x0133 }
-            r4.append(r8)     // Catch:{ all -> 0x0133 }
-            java.lang.String r4 = r4.toString()     // Catch:{ all -> 0x0133 }
-            r3.info(r4)     // Catch:{ all -> 0x0133 }
-        L_0x00eb:
-            com.badlogic.gdx.utils.ObjectMap<java.lang.String, com.badlogic.gdx.utils.Array<java.lang.String>> r3 = r7.assetDependencies     // Catch:{ all -> 0x0133 }
-            java.lang.Object r3 = r3.get(r8)     // Catch:{ all -> 0x0133 }
-            com.badlogic.gdx.utils.Array r3 = (com.badlogic.gdx.utils.Array) r3     // Catch:{ all -> 0x0133 }
-            if (r3 == 0) goto L_0x010f
-            java.util.Iterator r4 = r3.iterator()     // Catch:{ all -> 0x0133 }
-        L_0x00f9:
-            boolean r5 = r4.hasNext()     // Catch:{ all -> 0x0133 }
-            if (r5 == 0) goto L_0x010f
-            java.lang.Object r5 = r4.next()     // Catch:{ all -> 0x0133 }
-            java.lang.String r5 = (java.lang.String) r5     // Catch:{ all -> 0x0133 }
-            boolean r6 = r7.isLoaded((java.lang.String) r5)     // Catch:{ all -> 0x0133 }
-            if (r6 == 0) goto L_0x010e
-            r7.unload(r5)     // Catch:{ all -> 0x0133 }
-        L_0x010e:
-            goto L_0x00f9
-        L_0x010f:
-            int r4 = r2.getRefCount()     // Catch:{ all -> 0x0133 }
-            if (r4 > 0) goto L_0x011a
-            com.badlogic.gdx.utils.ObjectMap<java.lang.String, com.badlogic.gdx.utils.Array<java.lang.String>> r4 = r7.assetDependencies     // Catch:{ all -> 0x0133 }
-            r4.remove(r8)     // Catch:{ all -> 0x0133 }
-        L_0x011a:
-            monitor-exit(r7)
-            return
-        L_0x011c:
-            com.badlogic.gdx.utils.GdxRuntimeException r2 = new com.badlogic.gdx.utils.GdxRuntimeException     // Catch:{ all -> 0x0133 }
-            java.lang.StringBuilder r3 = new java.lang.StringBuilder     // Catch:{ all -> 0x0133 }
-            r3.<init>()     // Catch:{ all -> 0x0133 }
-            java.lang.String r4 = "Asset not loaded: "
-            r3.append(r4)     // Catch:{ all -> 0x0133 }
-            r3.append(r8)     // Catch:{ all -> 0x0133 }
-            java.lang.String r3 = r3.toString()     // Catch:{ all -> 0x0133 }
-            r2.<init>((java.lang.String) r3)     // Catch:{ all -> 0x0133 }
-            throw r2     // Catch:{ all -> 0x0133 }
-        L_0x0133:
-            r8 = move-exception
-            monitor-exit(r7)
-            goto L_0x0137
-        L_0x0136:
-            throw r8
-        L_0x0137:
-            goto L_0x0136
-        */
-        throw new UnsupportedOperationException("Method not decompiled: com.badlogic.gdx.assets.AssetManager.unload(java.lang.String):void");
-    }
-
-    /* JADX WARNING: Removed duplicated region for block: B:11:0x0020  */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    public synchronized <T> boolean containsAsset(T r7) {
-        /*
-            r6 = this;
-            monitor-enter(r6)
-            com.badlogic.gdx.utils.ObjectMap<java.lang.Class, com.badlogic.gdx.utils.ObjectMap<java.lang.String, com.badlogic.gdx.assets.RefCountedContainer>> r0 = r6.assets     // Catch:{ all -> 0x0041 }
-            java.lang.Class r1 = r7.getClass()     // Catch:{ all -> 0x0041 }
-            java.lang.Object r0 = r0.get(r1)     // Catch:{ all -> 0x0041 }
-            com.badlogic.gdx.utils.ObjectMap r0 = (com.badlogic.gdx.utils.ObjectMap) r0     // Catch:{ all -> 0x0041 }
-            r1 = 0
-            if (r0 != 0) goto L_0x0012
-            monitor-exit(r6)
-            return r1
-        L_0x0012:
-            com.badlogic.gdx.utils.ObjectMap$Keys r2 = r0.keys()     // Catch:{ all -> 0x0041 }
-            com.badlogic.gdx.utils.ObjectMap$Keys r2 = r2.iterator()     // Catch:{ all -> 0x0041 }
-        L_0x001a:
-            boolean r3 = r2.hasNext()     // Catch:{ all -> 0x0041 }
-            if (r3 == 0) goto L_0x003f
-            java.lang.Object r3 = r2.next()     // Catch:{ all -> 0x0041 }
-            java.lang.String r3 = (java.lang.String) r3     // Catch:{ all -> 0x0041 }
-            java.lang.Object r4 = r0.get(r3)     // Catch:{ all -> 0x0041 }
-            com.badlogic.gdx.assets.RefCountedContainer r4 = (com.badlogic.gdx.assets.RefCountedContainer) r4     // Catch:{ all -> 0x0041 }
-            java.lang.Class<java.lang.Object> r5 = java.lang.Object.class
-            java.lang.Object r4 = r4.getObject(r5)     // Catch:{ all -> 0x0041 }
-            if (r4 == r7) goto L_0x003c
-            boolean r5 = r7.equals(r4)     // Catch:{ all -> 0x0041 }
-            if (r5 == 0) goto L_0x003b
-            goto L_0x003c
-        L_0x003b:
-            goto L_0x001a
-        L_0x003c:
-            r1 = 1
-            monitor-exit(r6)
-            return r1
-        L_0x003f:
-            monitor-exit(r6)
-            return r1
-        L_0x0041:
-            r7 = move-exception
-            monitor-exit(r6)
-            goto L_0x0045
-        L_0x0044:
-            throw r7
-        L_0x0045:
-            goto L_0x0044
-        */
-        throw new UnsupportedOperationException("Method not decompiled: com.badlogic.gdx.assets.AssetManager.containsAsset(java.lang.Object):boolean");
-    }
-
-    /* JADX WARNING: Code restructure failed: missing block: B:13:0x004a, code lost:
-        return r4;
-     */
-    /* JADX WARNING: Removed duplicated region for block: B:23:0x000b A[LOOP:0: B:3:0x000b->B:23:0x000b, LOOP_END, SYNTHETIC] */
-    /* JADX WARNING: Removed duplicated region for block: B:8:0x002d  */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    public synchronized <T> java.lang.String getAssetFileName(T r8) {
-        /*
-            r7 = this;
-            monitor-enter(r7)
-            com.badlogic.gdx.utils.ObjectMap<java.lang.Class, com.badlogic.gdx.utils.ObjectMap<java.lang.String, com.badlogic.gdx.assets.RefCountedContainer>> r0 = r7.assets     // Catch:{ all -> 0x004f }
-            com.badlogic.gdx.utils.ObjectMap$Keys r0 = r0.keys()     // Catch:{ all -> 0x004f }
-            com.badlogic.gdx.utils.ObjectMap$Keys r0 = r0.iterator()     // Catch:{ all -> 0x004f }
-        L_0x000b:
-            boolean r1 = r0.hasNext()     // Catch:{ all -> 0x004f }
-            if (r1 == 0) goto L_0x004c
-            java.lang.Object r1 = r0.next()     // Catch:{ all -> 0x004f }
-            java.lang.Class r1 = (java.lang.Class) r1     // Catch:{ all -> 0x004f }
-            com.badlogic.gdx.utils.ObjectMap<java.lang.Class, com.badlogic.gdx.utils.ObjectMap<java.lang.String, com.badlogic.gdx.assets.RefCountedContainer>> r2 = r7.assets     // Catch:{ all -> 0x004f }
-            java.lang.Object r2 = r2.get(r1)     // Catch:{ all -> 0x004f }
-            com.badlogic.gdx.utils.ObjectMap r2 = (com.badlogic.gdx.utils.ObjectMap) r2     // Catch:{ all -> 0x004f }
-            com.badlogic.gdx.utils.ObjectMap$Keys r3 = r2.keys()     // Catch:{ all -> 0x004f }
-            com.badlogic.gdx.utils.ObjectMap$Keys r3 = r3.iterator()     // Catch:{ all -> 0x004f }
-        L_0x0027:
-            boolean r4 = r3.hasNext()     // Catch:{ all -> 0x004f }
-            if (r4 == 0) goto L_0x004b
-            java.lang.Object r4 = r3.next()     // Catch:{ all -> 0x004f }
-            java.lang.String r4 = (java.lang.String) r4     // Catch:{ all -> 0x004f }
-            java.lang.Object r5 = r2.get(r4)     // Catch:{ all -> 0x004f }
-            com.badlogic.gdx.assets.RefCountedContainer r5 = (com.badlogic.gdx.assets.RefCountedContainer) r5     // Catch:{ all -> 0x004f }
-            java.lang.Class<java.lang.Object> r6 = java.lang.Object.class
-            java.lang.Object r5 = r5.getObject(r6)     // Catch:{ all -> 0x004f }
-            if (r5 == r8) goto L_0x0049
-            boolean r6 = r8.equals(r5)     // Catch:{ all -> 0x004f }
-            if (r6 == 0) goto L_0x0048
-            goto L_0x0049
-        L_0x0048:
-            goto L_0x0027
-        L_0x0049:
-            monitor-exit(r7)
-            return r4
-        L_0x004b:
-            goto L_0x000b
-        L_0x004c:
-            r0 = 0
-            monitor-exit(r7)
-            return r0
-        L_0x004f:
-            r8 = move-exception
-            monitor-exit(r7)
-            goto L_0x0053
-        L_0x0052:
-            throw r8
-        L_0x0053:
-            goto L_0x0052
-        */
-        throw new UnsupportedOperationException("Method not decompiled: com.badlogic.gdx.assets.AssetManager.getAssetFileName(java.lang.Object):java.lang.String");
-    }
-
-    public synchronized boolean isLoaded(AssetDescriptor assetDesc) {
+    public synchronized void unload(String fileName) {
+        for (int i = 0; i < this.lanes.size; i++) {
+            Stack<AssetLoadingTask> lane = this.lanes.get(i);
+            if (lane.size() > 0) {
+                AssetLoadingTask currAsset = (AssetLoadingTask) lane.firstElement();
+                if (currAsset.assetDesc.fileName.equals(fileName)) {
+                    currAsset.cancel = true;
+                    this.log.info("Unload (from tasks): " + fileName);
+                    return;
+                }
+            }
+        }
+        int foundIndex = -1;
+        int i2 = 0;
+        while (true) {
+            if (i2 >= this.loadQueue.size) {
+                break;
+            } else if (this.loadQueue.get(i2).fileName.equals(fileName)) {
+                foundIndex = i2;
+                break;
+            } else {
+                i2++;
+            }
+        }
+        if (foundIndex != -1) {
+            this.toLoad--;
+            this.loadQueue.removeIndex(foundIndex);
+            this.log.info("Unload (from queue): " + fileName);
+            return;
+        }
+        Class type = this.assetTypes.get(fileName);
+        if (type != null) {
+            RefCountedContainer assetRef = (RefCountedContainer) this.assets.get(type).get(fileName);
+            assetRef.decRefCount();
+            if (assetRef.getRefCount() <= 0) {
+                this.log.info("Unload (dispose): " + fileName);
+                this.loadedAssets.remove(fileName);
+                if (assetRef.getObject(Object.class) instanceof Disposable) {
+                    ((Disposable) assetRef.getObject(Object.class)).dispose();
+                }
+                this.assetTypes.remove(fileName);
+                this.assets.get(type).remove(fileName);
+            } else {
+                this.log.info("Unload (decrement): " + fileName);
+            }
+            Array<String> dependencies = this.assetDependencies.get(fileName);
+            if (dependencies != null) {
+                Iterator<String> it = dependencies.iterator();
+                while (it.hasNext()) {
+                    String dependency = it.next();
+                    if (isLoaded(dependency)) {
+                        unload(dependency);
+                    }
+                }
+            }
+            if (assetRef.getRefCount() <= 0) {
+                this.assetDependencies.remove(fileName);
+                return;
+            }
+            return;
+        }
+        throw new GdxRuntimeException("Asset not loaded: " + fileName);
+    }
+
+    public <T> boolean containsAsset(T asset) {
+        for (RefCountedContainer assetRef : this.loadedAssets.values()) {
+            Object otherAsset = assetRef.getObject(Object.class);
+            if (otherAsset == asset || asset.equals(otherAsset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public <T> String getAssetFileName(T asset) {
+        for (java.util.Map.Entry<String, RefCountedContainer> entry : this.loadedAssets.entrySet()) {
+            Object otherAsset = entry.getValue().getObject(Object.class);
+            if (otherAsset == asset || asset.equals(otherAsset)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    public boolean isLoaded(AssetDescriptor assetDesc) {
         return isLoaded(assetDesc.fileName);
     }
 
-    public synchronized boolean isLoaded(String fileName) {
+    public boolean isLoaded(String fileName) {
         if (fileName == null) {
             return false;
         }
-        return this.assetTypes.containsKey(fileName);
-    }
-
-    /* JADX WARNING: Code restructure failed: missing block: B:17:0x0020, code lost:
-        return r1;
-     */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    public synchronized boolean isLoaded(java.lang.String r5, java.lang.Class r6) {
-        /*
-            r4 = this;
-            monitor-enter(r4)
-            com.badlogic.gdx.utils.ObjectMap<java.lang.Class, com.badlogic.gdx.utils.ObjectMap<java.lang.String, com.badlogic.gdx.assets.RefCountedContainer>> r0 = r4.assets     // Catch:{ all -> 0x0021 }
-            java.lang.Object r0 = r0.get(r6)     // Catch:{ all -> 0x0021 }
-            com.badlogic.gdx.utils.ObjectMap r0 = (com.badlogic.gdx.utils.ObjectMap) r0     // Catch:{ all -> 0x0021 }
-            r1 = 0
-            if (r0 != 0) goto L_0x000e
-            monitor-exit(r4)
-            return r1
-        L_0x000e:
-            java.lang.Object r2 = r0.get(r5)     // Catch:{ all -> 0x0021 }
-            com.badlogic.gdx.assets.RefCountedContainer r2 = (com.badlogic.gdx.assets.RefCountedContainer) r2     // Catch:{ all -> 0x0021 }
-            if (r2 != 0) goto L_0x0018
-            monitor-exit(r4)
-            return r1
-        L_0x0018:
-            java.lang.Object r3 = r2.getObject(r6)     // Catch:{ all -> 0x0021 }
-            if (r3 == 0) goto L_0x001f
-            r1 = 1
-        L_0x001f:
-            monitor-exit(r4)
-            return r1
-        L_0x0021:
-            r5 = move-exception
-            monitor-exit(r4)
-            throw r5
-        */
-        throw new UnsupportedOperationException("Method not decompiled: com.badlogic.gdx.assets.AssetManager.isLoaded(java.lang.String, java.lang.Class):boolean");
+        return this.loadedAssets.containsKey(fileName);
+    }
+
+    public boolean isLoaded(String fileName, Class type) {
+        RefCountedContainer assetContainer = this.loadedAssets.get(fileName);
+        return assetContainer != null && assetContainer.type == type;
     }
 
     public <T> AssetLoader getLoader(Class<T> type) {
@@ -555,11 +337,14 @@ public class AssetManager implements Disposable {
                     }
                 }
             }
-            for (int i2 = 0; i2 < this.tasks.size(); i2++) {
-                AssetDescriptor desc2 = ((AssetLoadingTask) this.tasks.get(i2)).assetDesc;
-                if (desc2.fileName.equals(fileName)) {
-                    if (!desc2.type.equals(type)) {
-                        throw new GdxRuntimeException("Asset with name '" + fileName + "' already in task list, but has different type (expected: " + ClassReflection.getSimpleName(type) + ", found: " + ClassReflection.getSimpleName(desc2.type) + ")");
+            for (int i2 = 0; i2 < this.lanes.size; i2++) {
+                Stack<AssetLoadingTask> lane = this.lanes.get(i2);
+                for (int j = 0; j < lane.size(); j++) {
+                    AssetDescriptor desc2 = ((AssetLoadingTask) lane.get(j)).assetDesc;
+                    if (desc2.fileName.equals(fileName)) {
+                        if (!desc2.type.equals(type)) {
+                            throw new GdxRuntimeException("Asset with name '" + fileName + "' already in task list, but has different type (expected: " + ClassReflection.getSimpleName(type) + ", found: " + ClassReflection.getSimpleName(desc2.type) + ")");
+                        }
                     }
                 }
             }
@@ -582,69 +367,28 @@ public class AssetManager implements Disposable {
         load(desc.fileName, desc.type, desc.params);
     }
 
-    /* JADX WARNING: Code restructure failed: missing block: B:23:0x003d, code lost:
-        return r0;
-     */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
     public synchronized boolean update() {
-        /*
-            r4 = this;
-            monitor-enter(r4)
-            r0 = 0
-            r1 = 1
-            java.util.Stack<com.badlogic.gdx.assets.AssetLoadingTask> r2 = r4.tasks     // Catch:{ Throwable -> 0x0040 }
-            int r2 = r2.size()     // Catch:{ Throwable -> 0x0040 }
-            if (r2 != 0) goto L_0x0027
-        L_0x000b:
-            com.badlogic.gdx.utils.Array<com.badlogic.gdx.assets.AssetDescriptor> r2 = r4.loadQueue     // Catch:{ Throwable -> 0x0040 }
-            int r2 = r2.size     // Catch:{ Throwable -> 0x0040 }
-            if (r2 == 0) goto L_0x001d
-            java.util.Stack<com.badlogic.gdx.assets.AssetLoadingTask> r2 = r4.tasks     // Catch:{ Throwable -> 0x0040 }
-            int r2 = r2.size()     // Catch:{ Throwable -> 0x0040 }
-            if (r2 != 0) goto L_0x001d
-            r4.nextTask()     // Catch:{ Throwable -> 0x0040 }
-            goto L_0x000b
-        L_0x001d:
-            java.util.Stack<com.badlogic.gdx.assets.AssetLoadingTask> r2 = r4.tasks     // Catch:{ Throwable -> 0x0040 }
-            int r2 = r2.size()     // Catch:{ Throwable -> 0x0040 }
-            if (r2 != 0) goto L_0x0027
-            monitor-exit(r4)
-            return r1
-        L_0x0027:
-            boolean r2 = r4.updateTask()     // Catch:{ Throwable -> 0x0040 }
-            if (r2 == 0) goto L_0x003c
-            com.badlogic.gdx.utils.Array<com.badlogic.gdx.assets.AssetDescriptor> r2 = r4.loadQueue     // Catch:{ Throwable -> 0x0040 }
-            int r2 = r2.size     // Catch:{ Throwable -> 0x0040 }
-            if (r2 != 0) goto L_0x003c
-            java.util.Stack<com.badlogic.gdx.assets.AssetLoadingTask> r2 = r4.tasks     // Catch:{ Throwable -> 0x0040 }
-            int r2 = r2.size()     // Catch:{ Throwable -> 0x0040 }
-            if (r2 != 0) goto L_0x003c
-            r0 = 1
-        L_0x003c:
-            monitor-exit(r4)
-            return r0
-        L_0x003e:
-            r0 = move-exception
-            goto L_0x004d
-        L_0x0040:
-            r2 = move-exception
-            r4.handleTaskError(r2)     // Catch:{ all -> 0x003e }
-            com.badlogic.gdx.utils.Array<com.badlogic.gdx.assets.AssetDescriptor> r3 = r4.loadQueue     // Catch:{ all -> 0x003e }
-            int r3 = r3.size     // Catch:{ all -> 0x003e }
-            if (r3 != 0) goto L_0x004b
-            r0 = 1
-        L_0x004b:
-            monitor-exit(r4)
-            return r0
-        L_0x004d:
-            monitor-exit(r4)
-            goto L_0x0050
-        L_0x004f:
-            throw r0
-        L_0x0050:
-            goto L_0x004f
-        */
-        throw new UnsupportedOperationException("Method not decompiled: com.badlogic.gdx.assets.AssetManager.update():boolean");
+        for (int i = 0; i < this.lanes.size; i++) {
+            Stack<AssetLoadingTask> lane = this.lanes.get(i);
+            try {
+                while (this.loadQueue.size != 0 && lane.size() == 0) {
+                    nextTask(lane);
+                }
+                if (lane.size() != 0) {
+                    updateTask(lane);
+                }
+            } catch (Throwable t) {
+                handleTaskError(lane, t);
+                if (this.loadQueue.size == 0 && getTaskCount() == 0) {
+                    return true;
+                }
+                return false;
+            }
+        }
+        if (this.loadQueue.size == 0 && getTaskCount() == 0) {
+            return true;
+        }
+        return false;
     }
 
     public boolean update(int millis) {
@@ -661,7 +405,7 @@ public class AssetManager implements Disposable {
     }
 
     public synchronized boolean isFinished() {
-        return this.loadQueue.size == 0 && this.tasks.size() == 0;
+        return this.loadQueue.size == 0 && getTaskCount() == 0;
     }
 
     public void finishLoading() {
@@ -677,43 +421,40 @@ public class AssetManager implements Disposable {
     }
 
     public <T> T finishLoadingAsset(String fileName) {
-        ObjectMap<String, RefCountedContainer> assetsByType;
-        RefCountedContainer assetContainer;
-        T asset;
-        Logger logger = this.log;
-        logger.debug("Waiting for asset to be loaded: " + fileName);
+        this.log.debug("Waiting for asset to be loaded: " + fileName);
         while (true) {
-            synchronized (this) {
-                Class<T> type = this.assetTypes.get(fileName);
-                if (type == null || (assetsByType = this.assets.get(type)) == null || (assetContainer = assetsByType.get(fileName)) == null || (asset = assetContainer.getObject(type)) == null) {
-                    update();
-                } else {
-                    Logger logger2 = this.log;
-                    logger2.debug("Asset loaded: " + fileName);
-                    return asset;
-                }
+            RefCountedContainer assetContainer = this.loadedAssets.get(fileName);
+            if (assetContainer != null) {
+                Class<T> type = assetContainer.type;
+                T asset = assetContainer.getObject(type);
+                this.log.debug("Asset loaded: " + fileName);
+                return asset;
             }
+            update();
             ThreadUtils.yield();
         }
-        while (true) {
-        }
     }
 
     /* access modifiers changed from: package-private */
-    public synchronized void injectDependencies(String parentAssetFilename, Array<AssetDescriptor> dependendAssetDescs) {
-        ObjectSet<String> injected2 = this.injected;
-        Iterator<AssetDescriptor> it = dependendAssetDescs.iterator();
-        while (it.hasNext()) {
-            AssetDescriptor desc = it.next();
-            if (!injected2.contains(desc.fileName)) {
-                injected2.add(desc.fileName);
-                injectDependency(parentAssetFilename, desc);
+    public synchronized void injectDependencies(AssetLoadingTask parent, Array<AssetDescriptor> dependendAssetDescs) {
+        Stack<AssetLoadingTask> lane = getLane(parent);
+        if (lane != null) {
+            ObjectSet<String> injected2 = this.injected;
+            Iterator<AssetDescriptor> it = dependendAssetDescs.iterator();
+            while (it.hasNext()) {
+                AssetDescriptor desc = it.next();
+                if (!injected2.contains(desc.fileName)) {
+                    injected2.add(desc.fileName);
+                    injectDependency(lane, parent.assetDesc.fileName, desc);
+                }
             }
+            injected2.clear(32);
+        } else if (!parent.cancel) {
+            throw new GdxRuntimeException("Cannot inject dependencies, task is not queued in any lane: " + parent.assetDesc);
         }
-        injected2.clear(32);
     }
 
-    private synchronized void injectDependency(String parentAssetFilename, AssetDescriptor dependendAssetDesc) {
+    private synchronized void injectDependency(Stack<AssetLoadingTask> lane, String parentAssetFilename, AssetDescriptor dependendAssetDesc) {
         Array<String> dependencies = this.assetDependencies.get(parentAssetFilename);
         if (dependencies == null) {
             dependencies = new Array<>();
@@ -723,20 +464,20 @@ public class AssetManager implements Disposable {
         if (isLoaded(dependendAssetDesc.fileName)) {
             Logger logger = this.log;
             logger.debug("Dependency already loaded: " + dependendAssetDesc);
-            ((RefCountedContainer) this.assets.get(this.assetTypes.get(dependendAssetDesc.fileName)).get(dependendAssetDesc.fileName)).incRefCount();
+            this.loadedAssets.get(dependendAssetDesc.fileName).incRefCount();
             incrementRefCountedDependencies(dependendAssetDesc.fileName);
         } else {
             Logger logger2 = this.log;
             logger2.info("Loading dependency: " + dependendAssetDesc);
-            addTask(dependendAssetDesc);
+            addTask(lane, dependendAssetDesc);
         }
     }
 
-    private void nextTask() {
+    private void nextTask(Stack<AssetLoadingTask> lane) {
         AssetDescriptor assetDesc = this.loadQueue.removeIndex(0);
         if (isLoaded(assetDesc.fileName)) {
             this.log.debug("Already loaded: " + assetDesc);
-            ((RefCountedContainer) this.assets.get(this.assetTypes.get(assetDesc.fileName)).get(assetDesc.fileName)).incRefCount();
+            this.loadedAssets.get(assetDesc.fileName).incRefCount();
             incrementRefCountedDependencies(assetDesc.fileName);
             if (!(assetDesc.params == null || assetDesc.params.loadedCallback == null)) {
                 assetDesc.params.loadedCallback.finishedLoading(this, assetDesc.fileName, assetDesc.type);
@@ -745,19 +486,54 @@ public class AssetManager implements Disposable {
             return;
         }
         this.log.info("Loading: " + assetDesc);
-        addTask(assetDesc);
+        addTask(lane, assetDesc);
     }
 
-    private void addTask(AssetDescriptor assetDesc) {
+    private void addTask(Stack<AssetLoadingTask> lane, AssetDescriptor assetDesc) {
         AssetLoader loader = getLoader(assetDesc.type, assetDesc.fileName);
         if (loader != null) {
-            this.tasks.push(new AssetLoadingTask(this, assetDesc, loader, this.executor));
+            lane.push(new AssetLoadingTask(this, assetDesc, loader, this.executor));
             this.peakTasks++;
             return;
         }
         throw new GdxRuntimeException("No loader for type: " + ClassReflection.getSimpleName(assetDesc.type));
     }
 
+    private Stack<AssetLoadingTask> getLane(AssetLoadingTask task) {
+        for (int i = 0; i < this.lanes.size; i++) {
+            Stack<AssetLoadingTask> lane = this.lanes.get(i);
+            if (lane.contains(task)) {
+                return lane;
+            }
+        }
+        return null;
+    }
+
+    private boolean isLoaderBusy(AssetLoadingTask task, Stack<AssetLoadingTask> lane) {
+        boolean parallel = task.loader.supportsParallelLoading();
+        String fileName = task.assetDesc.fileName;
+        for (int i = 0; i < this.lanes.size; i++) {
+            Stack<AssetLoadingTask> otherLane = this.lanes.get(i);
+            if (otherLane != lane) {
+                for (int j = 0; j < otherLane.size(); j++) {
+                    AssetLoadingTask other = (AssetLoadingTask) otherLane.get(j);
+                    if (other.ticks > 0 && ((!parallel && other.loader == task.loader) || other.assetDesc.fileName.equals(fileName))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private int getTaskCount() {
+        int count = 0;
+        for (int i = 0; i < this.lanes.size; i++) {
+            count += this.lanes.get(i).size();
+        }
+        return count;
+    }
+
     /* access modifiers changed from: protected */
     public <T> void addAsset(String fileName, Class<T> type, T asset) {
         this.assetTypes.put(fileName, type);
@@ -766,11 +542,27 @@ public class AssetManager implements Disposable {
             typeToAssets = new ObjectMap<>();
             this.assets.put(type, typeToAssets);
         }
-        typeToAssets.put(fileName, new RefCountedContainer(asset));
-    }
-
-    private boolean updateTask() {
-        AssetLoadingTask task = this.tasks.peek();
+        RefCountedContainer assetRef = new RefCountedContainer(asset, type);
+        typeToAssets.put(fileName, assetRef);
+        this.loadedAssets.put(fileName, assetRef);
+    }
+
+    private boolean updateTask(Stack<AssetLoadingTask> lane) {
+        AssetLoadingTask task = lane.peek();
+        if (task.ticks == 0 && !task.cancel) {
+            if (isLoaded(task.assetDesc.fileName)) {
+                this.log.debug("Already loaded: " + task.assetDesc);
+                this.loadedAssets.get(task.assetDesc.fileName).incRefCount();
+                incrementRefCountedDependencies(task.assetDesc.fileName);
+                finishTask(lane);
+                if (!(task.assetDesc.params == null || task.assetDesc.params.loadedCallback == null)) {
+                    task.assetDesc.params.loadedCallback.finishedLoading(this, task.assetDesc.fileName, task.assetDesc.type);
+                }
+                return true;
+            } else if (isLoaderBusy(task, lane)) {
+                return false;
+            }
+        }
         boolean complete = true;
         try {
             complete = task.cancel || task.update();
@@ -781,11 +573,7 @@ public class AssetManager implements Disposable {
         if (!complete) {
             return false;
         }
-        if (this.tasks.size() == 1) {
-            this.loaded++;
-            this.peakTasks = 0;
-        }
-        this.tasks.pop();
+        finishTask(lane);
         if (task.cancel) {
             return true;
         }
@@ -798,6 +586,16 @@ public class AssetManager implements Disposable {
         return true;
     }
 
+    private void finishTask(Stack<AssetLoadingTask> lane) {
+        if (lane.size() == 1) {
+            this.loaded++;
+            if (getTaskCount() == 1) {
+                this.peakTasks = 0;
+            }
+        }
+        lane.pop();
+    }
+
     /* access modifiers changed from: protected */
     public void taskFailed(AssetDescriptor assetDesc, RuntimeException ex) {
         throw ex;
@@ -809,16 +607,16 @@ public class AssetManager implements Disposable {
             Iterator<String> it = dependencies.iterator();
             while (it.hasNext()) {
                 String dependency = it.next();
-                ((RefCountedContainer) this.assets.get(this.assetTypes.get(dependency)).get(dependency)).incRefCount();
+                this.loadedAssets.get(dependency).incRefCount();
                 incrementRefCountedDependencies(dependency);
             }
         }
     }
 
-    private void handleTaskError(Throwable t) {
+    private void handleTaskError(Stack<AssetLoadingTask> lane, Throwable t) {
         this.log.error("Error loading asset.", t);
-        if (!this.tasks.isEmpty()) {
-            AssetLoadingTask task = this.tasks.pop();
+        if (!lane.isEmpty()) {
+            AssetLoadingTask task = lane.pop();
             AssetDescriptor assetDesc = task.assetDesc;
             if (task.dependenciesLoaded && task.dependencies != null) {
                 Iterator<AssetDescriptor> it = task.dependencies.iterator();
@@ -826,7 +624,7 @@ public class AssetManager implements Disposable {
                     unload(it.next().fileName);
                 }
             }
-            this.tasks.clear();
+            lane.clear();
             AssetErrorListener assetErrorListener = this.listener;
             if (assetErrorListener != null) {
                 assetErrorListener.error(assetDesc, t);
@@ -865,7 +663,7 @@ public class AssetManager implements Disposable {
     }
 
     public synchronized int getQueuedAssets() {
-        return this.loadQueue.size + this.tasks.size();
+        return this.loadQueue.size + getTaskCount();
     }
 
     public synchronized float getProgress() {
@@ -874,7 +672,7 @@ public class AssetManager implements Disposable {
         }
         float fractionalLoaded = (float) this.loaded;
         if (this.peakTasks > 0) {
-            fractionalLoaded += ((float) (this.peakTasks - this.tasks.size())) / ((float) this.peakTasks);
+            fractionalLoaded += ((float) (this.peakTasks - getTaskCount())) / ((float) this.peakTasks);
         }
         return Math.min(1.0f, fractionalLoaded / ((float) this.toLoad));
     }
@@ -922,12 +720,15 @@ public class AssetManager implements Disposable {
         }
         this.assets.clear();
         this.assetTypes.clear();
+        this.loadedAssets.clear();
         this.assetDependencies.clear();
         this.loaded = 0;
         this.toLoad = 0;
         this.peakTasks = 0;
         this.loadQueue.clear();
-        this.tasks.clear();
+        for (int i = 0; i < this.lanes.size; i++) {
+            this.lanes.get(i).clear();
+        }
     }
 
     public Logger getLogger() {
@@ -994,7 +795,11 @@ public class AssetManager implements Disposable {
         return this.assetDependencies.get(fileName);
     }
 
-    public synchronized Class getAssetType(String fileName) {
-        return this.assetTypes.get(fileName);
+    public Class getAssetType(String fileName) {
+        RefCountedContainer assetContainer = this.loadedAssets.get(fileName);
+        if (assetContainer == null) {
+            return null;
+        }
+        return assetContainer.type;
     }
 }
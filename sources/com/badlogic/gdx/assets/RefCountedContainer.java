@@ -3,10 +3,16 @@ package com.badlogic.gdx.assets;
 public class RefCountedContainer {
     Object object;
     int refCount = 1;
+    final Class type;
 
     public RefCountedContainer(Object object2) {
+        this(object2, object2 != null ? object2.getClass() : null);
+    }
+
+    public RefCountedContainer(Object object2, Class type2) {
         if (object2 != null) {
             this.object = object2;
+            this.type = type2;
             return;
         }
         throw new IllegalArgumentException("Object must not be null");
@@ -14,6 +14,10 @@ public abstract class AssetLoader<T, P extends AssetLoaderParameters<T>> {
         this.resolver = resolver2;
     }
 
+    public boolean supportsParallelLoading() {
+        return false;
+    }
+
     public FileHandle resolve(String fileName) {
         return this.resolver.resolve(fileName);
     }
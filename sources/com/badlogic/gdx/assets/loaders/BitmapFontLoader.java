@@ -11,9 +11,10 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
 
 public class BitmapFontLoader extends AsynchronousAssetLoader<BitmapFont, BitmapFontParameter> {
-    BitmapFont.BitmapFontData data;
+    final ObjectMap<String, BitmapFont.BitmapFontData> datas = new ObjectMap<>();
 
     public static class BitmapFontParameter extends AssetLoaderParameters<BitmapFont> {
         public String atlasName = null;
@@ -31,10 +32,13 @@ public class BitmapFontLoader extends AsynchronousAssetLoader<BitmapFont, Bitmap
     public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, BitmapFontParameter parameter) {
         Array<AssetDescriptor> deps = new Array<>();
         if (parameter == null || parameter.bitmapFontData == null) {
-            this.data = new BitmapFont.BitmapFontData(file, parameter != null && parameter.flip);
+            BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData(file, parameter != null && parameter.flip);
+            synchronized (this.datas) {
+                this.datas.put(fileName, data);
+            }
             if (parameter == null || parameter.atlasName == null) {
-                for (int i = 0; i < this.data.getImagePaths().length; i++) {
-                    FileHandle resolved = resolve(this.data.getImagePath(i));
+                for (int i = 0; i < data.getImagePaths().length; i++) {
+                    FileHandle resolved = resolve(data.getImagePath(i));
                     TextureLoader.TextureParameter textureParams = new TextureLoader.TextureParameter();
                     if (parameter != null) {
                         textureParams.genMipMaps = parameter.genMipMaps;
@@ -48,23 +52,36 @@ public class BitmapFontLoader extends AsynchronousAssetLoader<BitmapFont, Bitmap
             }
             return deps;
         }
-        this.data = parameter.bitmapFontData;
+        synchronized (this.datas) {
+            this.datas.put(fileName, parameter.bitmapFontData);
+        }
         return deps;
     }
 
     public void loadAsync(AssetManager manager, String fileName, FileHandle file, BitmapFontParameter parameter) {
     }
 
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
     public BitmapFont loadSync(AssetManager manager, String fileName, FileHandle file, BitmapFontParameter parameter) {
+        BitmapFont.BitmapFontData data;
+        synchronized (this.datas) {
+            data = this.datas.remove(fileName);
+        }
+        if (data == null) {
+            throw new GdxRuntimeException("Font data was not loaded for: " + fileName);
+        }
         if (parameter == null || parameter.atlasName == null) {
-            int n = this.data.getImagePaths().length;
+            int n = data.getImagePaths().length;
             Array<TextureRegion> regs = new Array<>(n);
             for (int i = 0; i < n; i++) {
-                regs.add(new TextureRegion((Texture) manager.get(this.data.getImagePath(i), Texture.class)));
+                regs.add(new TextureRegion((Texture) manager.get(data.getImagePath(i), Texture.class)));
             }
-            return new BitmapFont(this.data, regs, true);
+            return new BitmapFont(data, regs, true);
         }
-        String name = file.sibling(this.data.imagePaths[0]).nameWithoutExtension().toString();
+        String name = file.sibling(data.imagePaths[0]).nameWithoutExtension().toString();
         TextureAtlas.AtlasRegion region = ((TextureAtlas) manager.get(parameter.atlasName, TextureAtlas.class)).findRegion(name);
         if (region != null) {
             return new BitmapFont(file, (TextureRegion) region);
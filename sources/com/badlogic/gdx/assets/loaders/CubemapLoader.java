@@ -10,9 +10,10 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.glutils.KTXTextureData;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 public class CubemapLoader extends AsynchronousAssetLoader<Cubemap, CubemapParameter> {
-    CubemapLoaderInfo info = new CubemapLoaderInfo();
+    final ObjectMap<String, CubemapLoaderInfo> infos = new ObjectMap<>();
 
     public static class CubemapLoaderInfo {
         Cubemap cubemap;
@@ -35,35 +36,42 @@ public class CubemapLoader extends AsynchronousAssetLoader<Cubemap, CubemapParam
     }
 
     public void loadAsync(AssetManager manager, String fileName, FileHandle file, CubemapParameter parameter) {
-        this.info.filename = fileName;
+        CubemapLoaderInfo info = new CubemapLoaderInfo();
+        info.filename = fileName;
         if (parameter == null || parameter.cubemapData == null) {
-            this.info.cubemap = null;
+            info.cubemap = null;
             if (parameter != null) {
                 Pixmap.Format format = parameter.format;
-                this.info.cubemap = parameter.cubemap;
+                info.cubemap = parameter.cubemap;
             }
             if (fileName.contains(".ktx") || fileName.contains(".zktx")) {
-                this.info.data = new KTXTextureData(file, false);
+                info.data = new KTXTextureData(file, false);
             }
         } else {
-            this.info.data = parameter.cubemapData;
-            this.info.cubemap = parameter.cubemap;
+            info.data = parameter.cubemapData;
+            info.cubemap = parameter.cubemap;
         }
-        if (!this.info.data.isPrepared()) {
-            this.info.data.prepare();
+        if (!info.data.isPrepared()) {
+            info.data.prepare();
+        }
+        synchronized (this.infos) {
+            this.infos.put(fileName, info);
         }
     }
 
     public Cubemap loadSync(AssetManager manager, String fileName, FileHandle file, CubemapParameter parameter) {
-        CubemapLoaderInfo cubemapLoaderInfo = this.info;
-        if (cubemapLoaderInfo == null) {
+        CubemapLoaderInfo info;
+        synchronized (this.infos) {
+            info = this.infos.remove(fileName);
+        }
+        if (info == null) {
             return null;
         }
-        Cubemap cubemap = cubemapLoaderInfo.cubemap;
+        Cubemap cubemap = info.cubemap;
         if (cubemap != null) {
-            cubemap.load(this.info.data);
+            cubemap.load(info.data);
         } else {
-            cubemap = new Cubemap(this.info.data);
+            cubemap = new Cubemap(info.data);
         }
         if (parameter != null) {
             cubemap.setFilter(parameter.minFilter, parameter.magFilter);
@@ -72,6 +80,10 @@ public class CubemapLoader extends AsynchronousAssetLoader<Cubemap, CubemapParam
         return cubemap;
     }
 
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
     public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, CubemapParameter parameter) {
         return null;
     }
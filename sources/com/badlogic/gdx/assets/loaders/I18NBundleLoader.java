@@ -6,10 +6,11 @@ import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.I18NBundle;
+import com.badlogic.gdx.utils.ObjectMap;
 import java.util.Locale;
 
 public class I18NBundleLoader extends AsynchronousAssetLoader<I18NBundle, I18NBundleParameter> {
-    I18NBundle bundle;
+    final ObjectMap<String, I18NBundle> bundles = new ObjectMap<>();
 
     public I18NBundleLoader(FileHandleResolver resolver) {
         super(resolver);
@@ -18,7 +19,7 @@ public class I18NBundleLoader extends AsynchronousAssetLoader<I18NBundle, I18NBu
     public void loadAsync(AssetManager manager, String fileName, FileHandle file, I18NBundleParameter parameter) {
         String encoding;
         Locale locale;
-        this.bundle = null;
+        I18NBundle bundle;
         if (parameter == null) {
             locale = Locale.getDefault();
             encoding = null;
@@ -27,16 +28,25 @@ public class I18NBundleLoader extends AsynchronousAssetLoader<I18NBundle, I18NBu
             encoding = parameter.encoding;
         }
         if (encoding == null) {
-            this.bundle = I18NBundle.createBundle(file, locale);
+            bundle = I18NBundle.createBundle(file, locale);
         } else {
-            this.bundle = I18NBundle.createBundle(file, locale, encoding);
+            bundle = I18NBundle.createBundle(file, locale, encoding);
+        }
+        synchronized (this.bundles) {
+            this.bundles.put(fileName, bundle);
         }
     }
 
     public I18NBundle loadSync(AssetManager manager, String fileName, FileHandle file, I18NBundleParameter parameter) {
-        I18NBundle bundle2 = this.bundle;
-        this.bundle = null;
-        return bundle2;
+        I18NBundle remove;
+        synchronized (this.bundles) {
+            remove = this.bundles.remove(fileName);
+        }
+        return remove;
+    }
+
+    public boolean supportsParallelLoading() {
+        return true;
     }
 
     public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, I18NBundleParameter parameter) {
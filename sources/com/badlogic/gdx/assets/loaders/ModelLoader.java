@@ -80,6 +80,10 @@ public abstract class ModelLoader<P extends ModelParameters> extends Asynchronou
     public void loadAsync(AssetManager manager, String fileName, FileHandle file, P p) {
     }
 
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
     public Model loadSync(AssetManager manager, String fileName, FileHandle file, P p) {
         ModelData data = null;
         synchronized (this.items) {
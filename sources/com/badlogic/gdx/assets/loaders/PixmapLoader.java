@@ -6,9 +6,10 @@ import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 public class PixmapLoader extends AsynchronousAssetLoader<Pixmap, PixmapParameter> {
-    Pixmap pixmap;
+    final ObjectMap<String, Pixmap> pixmaps = new ObjectMap<>();
 
     public static class PixmapParameter extends AssetLoaderParameters<Pixmap> {
     }
@@ -18,14 +19,22 @@ public class PixmapLoader extends AsynchronousAssetLoader<Pixmap, PixmapParamete
     }
 
     public void loadAsync(AssetManager manager, String fileName, FileHandle file, PixmapParameter parameter) {
-        this.pixmap = null;
-        this.pixmap = new Pixmap(file);
+        Pixmap pixmap = new Pixmap(file);
+        synchronized (this.pixmaps) {
+            this.pixmaps.put(fileName, pixmap);
+        }
     }
 
     public Pixmap loadSync(AssetManager manager, String fileName, FileHandle file, PixmapParameter parameter) {
-        Pixmap pixmap2 = this.pixmap;
-        this.pixmap = null;
-        return pixmap2;
+        Pixmap remove;
+        synchronized (this.pixmaps) {
+            remove = this.pixmaps.remove(fileName);
+        }
+        return remove;
+    }
+
+    public boolean supportsParallelLoading() {
+        return true;
     }
 
     public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, PixmapParameter parameter) {
@@ -36,6 +36,10 @@ public class ShaderProgramLoader extends AsynchronousAssetLoader<ShaderProgram,
     public void loadAsync(AssetManager manager, String fileName, FileHandle file, ShaderProgramParameter parameter) {
     }
 
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
     public ShaderProgram loadSync(AssetManager manager, String fileName, FileHandle file, ShaderProgramParameter parameter) {
         String vertFileName = null;
         String fragFileName = null;
@@ -27,6 +27,10 @@ public class SkinLoader extends AsynchronousAssetLoader<Skin, SkinParameter> {
     public void loadAsync(AssetManager manager, String fileName, FileHandle file, SkinParameter parameter) {
     }
 
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
     public Skin loadSync(AssetManager manager, String fileName, FileHandle file, SkinParameter parameter) {
         String textureAtlasPath = file.pathWithoutExtension() + ".atlas";
         ObjectMap<String, Object> resources = null;
@@ -8,35 +8,50 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
 import java.util.Iterator;
 
 public class TextureAtlasLoader extends SynchronousAssetLoader<TextureAtlas, TextureAtlasParameter> {
-    TextureAtlas.TextureAtlasData data;
+    final ObjectMap<String, TextureAtlas.TextureAtlasData> datas = new ObjectMap<>();
 
     public TextureAtlasLoader(FileHandleResolver resolver) {
         super(resolver);
     }
 
     public TextureAtlas load(AssetManager assetManager, String fileName, FileHandle file, TextureAtlasParameter parameter) {
-        Iterator<TextureAtlas.TextureAtlasData.Page> it = this.data.getPages().iterator();
+        TextureAtlas.TextureAtlasData data;
+        synchronized (this.datas) {
+            data = this.datas.remove(fileName);
+        }
+        if (data == null) {
+            throw new GdxRuntimeException("Atlas data was not loaded for: " + fileName);
+        }
+        Iterator<TextureAtlas.TextureAtlasData.Page> it = data.getPages().iterator();
         while (it.hasNext()) {
             TextureAtlas.TextureAtlasData.Page page = it.next();
             page.texture = (Texture) assetManager.get(page.textureFile.path().replaceAll("\\\\", "/"), Texture.class);
         }
-        TextureAtlas atlas = new TextureAtlas(this.data);
-        this.data = null;
-        return atlas;
+        return new TextureAtlas(data);
+    }
+
+    public boolean supportsParallelLoading() {
+        return true;
     }
 
     public Array<AssetDescriptor> getDependencies(String fileName, FileHandle atlasFile, TextureAtlasParameter parameter) {
+        TextureAtlas.TextureAtlasData data;
         FileHandle imgDir = atlasFile.parent();
         if (parameter != null) {
-            this.data = new TextureAtlas.TextureAtlasData(atlasFile, imgDir, parameter.flip);
+            data = new TextureAtlas.TextureAtlasData(atlasFile, imgDir, parameter.flip);
         } else {
-            this.data = new TextureAtlas.TextureAtlasData(atlasFile, imgDir, false);
+            data = new TextureAtlas.TextureAtlasData(atlasFile, imgDir, false);
+        }
+        synchronized (this.datas) {
+            this.datas.put(fileName, data);
         }
         Array<AssetDescriptor> dependencies = new Array<>();
-        Iterator<TextureAtlas.TextureAtlasData.Page> it = this.data.getPages().iterator();
+        Iterator<TextureAtlas.TextureAtlasData.Page> it = data.getPages().iterator();
         while (it.hasNext()) {
             TextureAtlas.TextureAtlasData.Page page = it.next();
             TextureLoader.TextureParameter params = new TextureLoader.TextureParameter();
@@ -8,9 +8,10 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.TextureData;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureParameter> {
-    TextureLoaderInfo info = new TextureLoaderInfo();
+    final ObjectMap<String, TextureLoaderInfo> infos = new ObjectMap<>();
 
     public static class TextureLoaderInfo {
         TextureData data;
@@ -34,36 +35,43 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureParam
     }
 
     public void loadAsync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
-        this.info.filename = fileName;
+        TextureLoaderInfo info = new TextureLoaderInfo();
+        info.filename = fileName;
         if (parameter == null || parameter.textureData == null) {
             Pixmap.Format format = null;
             boolean genMipMaps = false;
-            this.info.texture = null;
+            info.texture = null;
             if (parameter != null) {
                 format = parameter.format;
                 genMipMaps = parameter.genMipMaps;
-                this.info.texture = parameter.texture;
+                info.texture = parameter.texture;
             }
-            this.info.data = TextureData.Factory.loadFromFile(file, format, genMipMaps);
+            info.data = TextureData.Factory.loadFromFile(file, format, genMipMaps);
         } else {
-            this.info.data = parameter.textureData;
-            this.info.texture = parameter.texture;
+            info.data = parameter.textureData;
+            info.texture = parameter.texture;
         }
-        if (!this.info.data.isPrepared()) {
-            this.info.data.prepare();
+        if (!info.data.isPrepared()) {
+            info.data.prepare();
+        }
+        synchronized (this.infos) {
+            this.infos.put(fileName, info);
         }
     }
 
     public Texture loadSync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
-        TextureLoaderInfo textureLoaderInfo = this.info;
-        if (textureLoaderInfo == null) {
+        TextureLoaderInfo info;
+        synchronized (this.infos) {
+            info = this.infos.remove(fileName);
+        }
+        if (info == null) {
             return null;
         }
-        Texture texture = textureLoaderInfo.texture;
+        Texture texture = info.texture;
         if (texture != null) {
-            texture.load(this.info.data);
+            texture.load(info.data);
         } else {
-            texture = new Texture(this.info.data);
+            texture = new Texture(info.data);
         }
         if (parameter != null) {
             texture.setFilter(parameter.minFilter, parameter.magFilter);
@@ -72,6 +80,10 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureParam
         return texture;
     }
 
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
     public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, TextureParameter parameter) {
         return null;
     }
@@ -24,6 +24,7 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.TextureArray;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.GLStateCache;
 import com.badlogic.gdx.graphics.glutils.GLVersion;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.WindowedMean;
@@ -295,7 +296,24 @@ public class AndroidGraphics implements Graphics, GLSurfaceView.Renderer {
 
     public void onSurfaceCreated(GL10 gl, EGLConfig config2) {
         this.eglContext = ((EGL10) EGLContext.getEGL()).eglGetCurrentContext();
+        GLStateCache stateCache = null;
+        GL20 gl202 = this.gl20;
+        if (gl202 instanceof GLStateCache) {
+            stateCache = (GLStateCache) gl202;
+            GL20 wrapped = stateCache.getGL();
+            this.gl20 = wrapped;
+            this.gl30 = wrapped instanceof GL30 ? (GL30) wrapped : null;
+        }
         setupGL(gl);
+        if (stateCache != null) {
+            GL30 gl302 = this.gl30;
+            stateCache.setGL(gl302 != null ? gl302 : this.gl20);
+            if (stateCache instanceof GL30) {
+                setGL30((GL30) stateCache);
+            } else {
+                setGL20(stateCache);
+            }
+        }
         logConfig(config2);
         updatePpi();
         Mesh.invalidateAllMeshes(this.app);
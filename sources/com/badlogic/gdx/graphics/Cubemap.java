@@ -14,13 +14,14 @@ import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentitySet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
 public class Cubemap extends GLTexture {
     private static AssetManager assetManager;
-    static final Map<Application, Array<Cubemap>> managedCubemaps = new HashMap();
+    static final Map<Application, IdentitySet<Cubemap>> managedCubemaps = new HashMap();
     protected CubemapData data;
 
     public enum CubemapSide {
@@ -202,15 +203,15 @@ public class Cubemap extends GLTexture {
         if (this.glHandle != 0) {
             delete();
             if (this.data.isManaged() && managedCubemaps.get(Gdx.app) != null) {
-                managedCubemaps.get(Gdx.app).removeValue(this, true);
+                managedCubemaps.get(Gdx.app).remove(this);
             }
         }
     }
 
     private static void addManagedCubemap(Application app, Cubemap cubemap) {
-        Array<Cubemap> managedCubemapArray = managedCubemaps.get(app);
+        IdentitySet<Cubemap> managedCubemapArray = managedCubemaps.get(app);
         if (managedCubemapArray == null) {
-            managedCubemapArray = new Array<>();
+            managedCubemapArray = new IdentitySet<>();
         }
         managedCubemapArray.add(cubemap);
         managedCubemaps.put(app, managedCubemapArray);
@@ -221,20 +222,21 @@ public class Cubemap extends GLTexture {
     }
 
     public static void invalidateAllCubemaps(Application app) {
-        Array<Cubemap> managedCubemapArray = managedCubemaps.get(app);
+        IdentitySet<Cubemap> managedCubemapArray = managedCubemaps.get(app);
         if (managedCubemapArray != null) {
             AssetManager assetManager2 = assetManager;
             if (assetManager2 == null) {
-                for (int i = 0; i < managedCubemapArray.size; i++) {
-                    managedCubemapArray.get(i).reload();
+                Iterator<Cubemap> it = managedCubemapArray.iterator();
+                while (it.hasNext()) {
+                    it.next().reload();
                 }
                 return;
             }
             assetManager2.finishLoading();
-            Array<Cubemap> cubemaps = new Array<>(managedCubemapArray);
-            Iterator<Cubemap> it = cubemaps.iterator();
-            while (it.hasNext()) {
-                Cubemap cubemap = it.next();
+            Array<Cubemap> cubemaps = managedCubemapArray.iterator().toArray();
+            Iterator<Cubemap> it2 = cubemaps.iterator();
+            while (it2.hasNext()) {
+                Cubemap cubemap = it2.next();
                 String fileName = assetManager.getAssetFileName(cubemap);
                 if (fileName == null) {
                     cubemap.reload();
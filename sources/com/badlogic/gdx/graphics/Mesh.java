@@ -9,6 +9,7 @@ import com.badlogic.gdx.graphics.glutils.IndexData;
 import com.badlogic.gdx.graphics.glutils.InstanceBufferObject;
 import com.badlogic.gdx.graphics.glutils.InstanceData;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.StreamingVertexBufferObject;
 import com.badlogic.gdx.graphics.glutils.VertexArray;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObject;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObjectSubData;
@@ -19,18 +20,22 @@ import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.math.collision.BoundingBox;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DirectFloatArray;
+import com.badlogic.gdx.utils.DirectShortArray;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentitySet;
 import java.nio.Buffer;
 import java.nio.FloatBuffer;
 import java.nio.ShortBuffer;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 public class Mesh implements Disposable {
-    static final Map<Application, Array<Mesh>> meshes = new HashMap();
+    static final Map<Application, IdentitySet<Mesh>> meshes = new HashMap();
     boolean autoBind;
+    boolean disposed;
     final IndexData indices;
     InstanceData instances;
     boolean isInstanced;
@@ -42,7 +47,8 @@ public class Mesh implements Disposable {
         VertexArray,
         VertexBufferObject,
         VertexBufferObjectSubData,
-        VertexBufferObjectWithVAO
+        VertexBufferObjectWithVAO,
+        StreamingVertexBufferObject
     }
 
     protected Mesh(VertexData vertices2, IndexData indices2, boolean isVertexArray2) {
@@ -117,6 +123,10 @@ public class Mesh implements Disposable {
                 $SwitchMap$com$badlogic$gdx$graphics$Mesh$VertexDataType[VertexDataType.VertexArray.ordinal()] = 4;
             } catch (NoSuchFieldError e4) {
             }
+            try {
+                $SwitchMap$com$badlogic$gdx$graphics$Mesh$VertexDataType[VertexDataType.StreamingVertexBufferObject.ordinal()] = 5;
+            } catch (NoSuchFieldError e5) {
+            }
         }
     }
 
@@ -133,6 +143,10 @@ public class Mesh implements Disposable {
             this.vertices = new VertexBufferObjectSubData(isStatic, maxVertices, attributes);
             this.indices = new IndexBufferObjectSubData(isStatic, maxIndices);
             this.isVertexArray = false;
+        } else if (i == 5) {
+            this.vertices = new StreamingVertexBufferObject(maxVertices, attributes);
+            this.indices = new IndexBufferObject(true, maxIndices);
+            this.isVertexArray = false;
         } else if (i != 3) {
             this.vertices = new VertexArray(maxVertices, attributes);
             this.indices = new IndexArray(maxIndices);
@@ -163,6 +177,18 @@ public class Mesh implements Disposable {
         return this;
     }
 
+    public boolean isInstanced() {
+        return this.isInstanced;
+    }
+
+    public boolean isDisposed() {
+        return this.disposed;
+    }
+
+    public InstanceData getInstanceData() {
+        return this.instances;
+    }
+
     public Mesh setInstanceData(float[] instanceData, int offset, int count) {
         InstanceData instanceData2 = this.instances;
         if (instanceData2 != null) {
@@ -227,6 +253,15 @@ public class Mesh implements Disposable {
         return this;
     }
 
+    public Mesh setVertices(DirectFloatArray vertices2) {
+        int max = (this.vertices.getNumMaxVertices() * getVertexSize()) / 4;
+        if (vertices2.size <= max) {
+            this.vertices.setVertices(vertices2.getBuffer());
+            return this;
+        }
+        throw new IllegalArgumentException("not enough room in vertex buffer, has " + max + " floats, needs " + vertices2.size);
+    }
+
     public Mesh updateVertices(int targetOffset, float[] source) {
         return updateVertices(targetOffset, source, 0, source.length);
     }
@@ -276,6 +311,15 @@ public class Mesh implements Disposable {
         return this;
     }
 
+    public Mesh setIndices(DirectShortArray indices2) {
+        int max = this.indices.getNumMaxIndices();
+        if (indices2.size <= max) {
+            this.indices.setIndices(indices2.getBuffer());
+            return this;
+        }
+        throw new IllegalArgumentException("not enough room in index buffer, has " + max + " shorts, needs " + indices2.size);
+    }
+
     public void getIndices(short[] indices2) {
         getIndices(indices2, 0);
     }
@@ -409,8 +453,9 @@ public class Mesh implements Disposable {
     }
 
     public void dispose() {
+        this.disposed = true;
         if (meshes.get(Gdx.app) != null) {
-            meshes.get(Gdx.app).removeValue(this, true);
+            meshes.get(Gdx.app).remove(this);
         }
         this.vertices.dispose();
         InstanceData instanceData = this.instances;
@@ -684,20 +729,22 @@ public class Mesh implements Disposable {
     }
 
     private static void addManagedMesh(Application app, Mesh mesh) {
-        Array<Mesh> managedResources = meshes.get(app);
+        IdentitySet<Mesh> managedResources = meshes.get(app);
         if (managedResources == null) {
-            managedResources = new Array<>();
+            managedResources = new IdentitySet<>();
         }
         managedResources.add(mesh);
         meshes.put(app, managedResources);
     }
 
     public static void invalidateAllMeshes(Application app) {
-        Array<Mesh> meshesArray = meshes.get(app);
+        IdentitySet<Mesh> meshesArray = meshes.get(app);
         if (meshesArray != null) {
-            for (int i = 0; i < meshesArray.size; i++) {
-                meshesArray.get(i).vertices.invalidate();
-                meshesArray.get(i).indices.invalidate();
+            Iterator<Mesh> it = meshesArray.iterator();
+            while (it.hasNext()) {
+                Mesh mesh = it.next();
+                mesh.vertices.invalidate();
+                mesh.indices.invalidate();
             }
         }
     }
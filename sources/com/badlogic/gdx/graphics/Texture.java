@@ -12,13 +12,17 @@ import com.badlogic.gdx.graphics.glutils.FileTextureData;
 import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentitySet;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
 public class Texture extends GLTexture {
     private static AssetManager assetManager;
-    static final Map<Application, Array<Texture>> managedTextures = new HashMap();
+    static final Map<Application, IdentitySet<Texture>> managedTextures = new HashMap();
     TextureData data;
 
     public enum TextureFilter {
@@ -165,7 +169,7 @@ public class Texture extends GLTexture {
         if (this.glHandle != 0) {
             delete();
             if (this.data.isManaged() && managedTextures.get(Gdx.app) != null) {
-                managedTextures.get(Gdx.app).removeValue(this, true);
+                managedTextures.get(Gdx.app).remove(this);
             }
         }
     }
@@ -179,9 +183,9 @@ public class Texture extends GLTexture {
     }
 
     private static void addManagedTexture(Application app, Texture texture) {
-        Array<Texture> managedTextureArray = managedTextures.get(app);
+        IdentitySet<Texture> managedTextureArray = managedTextures.get(app);
         if (managedTextureArray == null) {
-            managedTextureArray = new Array<>();
+            managedTextureArray = new IdentitySet<>();
         }
         managedTextureArray.add(texture);
         managedTextures.put(app, managedTextureArray);
@@ -192,17 +196,15 @@ public class Texture extends GLTexture {
     }
 
     public static void invalidateAllTextures(Application app) {
-        Array<Texture> managedTextureArray = managedTextures.get(app);
+        IdentitySet<Texture> managedTextureArray = managedTextures.get(app);
         if (managedTextureArray != null) {
             AssetManager assetManager2 = assetManager;
             if (assetManager2 == null) {
-                for (int i = 0; i < managedTextureArray.size; i++) {
-                    managedTextureArray.get(i).reload();
-                }
+                reloadAll(managedTextureArray);
                 return;
             }
             assetManager2.finishLoading();
-            Array<Texture> textures = new Array<>(managedTextureArray);
+            Array<Texture> textures = managedTextureArray.iterator().toArray();
             Iterator<Texture> it = textures.iterator();
             while (it.hasNext()) {
                 Texture texture = it.next();
@@ -236,6 +238,44 @@ public class Texture extends GLTexture {
         }
     }
 
+    private static void reloadAll(IdentitySet<Texture> managedTextureArray) {
+        Array<Texture> textures = managedTextureArray.iterator().toArray();
+        int batchSize = Runtime.getRuntime().availableProcessors();
+        if (batchSize < 2 || textures.size < 2) {
+            for (int i = 0; i < textures.size; i++) {
+                textures.get(i).reload();
+            }
+            return;
+        }
+        AsyncExecutor executor = new AsyncExecutor(batchSize, "Texture-Reload");
+        Array<AsyncResult<Void>> results = new Array<>(batchSize);
+        try {
+            for (int i = 0; i < textures.size; i += batchSize) {
+                int n = Math.min(textures.size, i + batchSize);
+                for (int j = i; j < n; j++) {
+                    final TextureData data2 = textures.get(j).data;
+                    if (!data2.isPrepared()) {
+                        results.add(executor.submit(new AsyncTask<Void>() {
+                            public Void call() throws Exception {
+                                data2.prepare();
+                                return null;
+                            }
+                        }));
+                    }
+                }
+                for (int j2 = 0; j2 < results.size; j2++) {
+                    results.get(j2).get();
+                }
+                results.clear();
+                for (int j3 = i; j3 < n; j3++) {
+                    textures.get(j3).reload();
+                }
+            }
+        } finally {
+            executor.dispose();
+        }
+    }
+
     public static void setAssetManager(AssetManager manager) {
         assetManager = manager;
     }
@@ -5,14 +5,15 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.TextureArrayData;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentitySet;
 import java.nio.Buffer;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 public class TextureArray extends GLTexture {
-    static final Map<Application, Array<TextureArray>> managedTextureArrays = new HashMap();
+    static final Map<Application, IdentitySet<TextureArray>> managedTextureArrays = new HashMap();
     private TextureArrayData data;
 
     public TextureArray(String... internalPaths) {
@@ -96,9 +97,9 @@ public class TextureArray extends GLTexture {
     }
 
     private static void addManagedTexture(Application app, TextureArray texture) {
-        Array<TextureArray> managedTextureArray = managedTextureArrays.get(app);
+        IdentitySet<TextureArray> managedTextureArray = managedTextureArrays.get(app);
         if (managedTextureArray == null) {
-            managedTextureArray = new Array<>();
+            managedTextureArray = new IdentitySet<>();
         }
         managedTextureArray.add(texture);
         managedTextureArrays.put(app, managedTextureArray);
@@ -109,10 +110,11 @@ public class TextureArray extends GLTexture {
     }
 
     public static void invalidateAllTextureArrays(Application app) {
-        Array<TextureArray> managedTextureArray = managedTextureArrays.get(app);
+        IdentitySet<TextureArray> managedTextureArray = managedTextureArrays.get(app);
         if (managedTextureArray != null) {
-            for (int i = 0; i < managedTextureArray.size; i++) {
-                managedTextureArray.get(i).reload();
+            Iterator<TextureArray> it = managedTextureArray.iterator();
+            while (it.hasNext()) {
+                it.next().reload();
             }
         }
     }
@@ -0,0 +1,290 @@
+package com.badlogic.gdx.graphics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+public class TextureFactory implements Disposable {
+    private final AsyncExecutor executor;
+    private float millisPerFrame;
+    private final Array<TextureRequest> pending;
+    private final ObjectMap<TextureKey, TextureRequest> pendingFiles;
+    private final TextureRegion placeholder;
+    private Pixmap placeholderPixmap;
+    private Texture placeholderTexture;
+    private final ObjectIntMap<TextureKey> refCounts;
+    private final ObjectMap<TextureKey, Texture> textures;
+    private final TextureKey tmpKey;
+
+    static class TextureKey {
+        FileHandle file;
+        Pixmap.Format format;
+        boolean useMipMaps;
+
+        TextureKey() {
+        }
+
+        TextureKey(FileHandle file2, Pixmap.Format format2, boolean useMipMaps2) {
+            set(file2, format2, useMipMaps2);
+        }
+
+        /* access modifiers changed from: package-private */
+        public TextureKey set(FileHandle file2, Pixmap.Format format2, boolean useMipMaps2) {
+            this.file = file2;
+            this.format = format2;
+            this.useMipMaps = useMipMaps2;
+            return this;
+        }
+
+        public int hashCode() {
+            int hashCode = this.file.hashCode() * 31;
+            Pixmap.Format format2 = this.format;
+            return ((hashCode + (format2 == null ? 0 : format2.hashCode())) * 31) + (this.useMipMaps ? 1231 : 1237);
+        }
+
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TextureKey)) {
+                return false;
+            }
+            TextureKey other = (TextureKey) obj;
+            return this.useMipMaps == other.useMipMaps && this.format == other.format && this.file.equals(other.file);
+        }
+    }
+
+    static class TextureRequest {
+        boolean cancelled;
+        TextureKey key;
+        final Array<TextureRegion> regions = new Array<>();
+        AsyncResult<TextureData> result;
+
+        TextureRequest() {
+        }
+    }
+
+    public TextureFactory() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    public TextureFactory(int threads) {
+        this(threads, (TextureRegion) null);
+    }
+
+    public TextureFactory(int threads, TextureRegion placeholder2) {
+        this.millisPerFrame = 4.0f;
+        this.pending = new Array<>();
+        this.pendingFiles = new ObjectMap<>();
+        this.refCounts = new ObjectIntMap<>();
+        this.textures = new ObjectMap<>();
+        this.tmpKey = new TextureKey();
+        if (threads >= 1) {
+            this.executor = new AsyncExecutor(threads, "TextureFactory");
+            if (placeholder2 == null) {
+                this.placeholderPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+                this.placeholderPixmap.setColor(0);
+                this.placeholderPixmap.fill();
+                this.placeholderTexture = new Texture((TextureData) new PixmapTextureData(this.placeholderPixmap, (Pixmap.Format) null, false, false, true));
+                placeholder2 = new TextureRegion(this.placeholderTexture);
+            }
+            this.placeholder = placeholder2;
+            return;
+        }
+        throw new IllegalArgumentException("threads must be >= 1: " + threads);
+    }
+
+    public float getMillisPerFrame() {
+        return this.millisPerFrame;
+    }
+
+    public void setMillisPerFrame(float millisPerFrame2) {
+        this.millisPerFrame = millisPerFrame2;
+    }
+
+    public TextureRegion getPlaceholder() {
+        return this.placeholder;
+    }
+
+    public TextureRegion load(String internalPath) {
+        return load(Gdx.files.internal(internalPath));
+    }
+
+    public TextureRegion load(FileHandle file) {
+        return load(file, (Pixmap.Format) null, false);
+    }
+
+    public TextureRegion load(final FileHandle file, final Pixmap.Format format, final boolean useMipMaps) {
+        TextureKey key = this.tmpKey.set(file, format, useMipMaps);
+        Texture texture = this.textures.get(key);
+        if (texture != null) {
+            this.refCounts.getAndIncrement(key, 0, 1);
+            return new TextureRegion(texture);
+        }
+        TextureRegion region = new TextureRegion(this.placeholder);
+        TextureRequest request = this.pendingFiles.get(key);
+        if (request == null) {
+            request = new TextureRequest();
+            request.key = new TextureKey(file, format, useMipMaps);
+            request.result = this.executor.submit(new AsyncTask<TextureData>() {
+                public TextureData call() throws Exception {
+                    TextureData data = TextureData.Factory.loadFromFile(file, format, useMipMaps);
+                    if (!data.isPrepared()) {
+                        data.prepare();
+                    }
+                    return data;
+                }
+            });
+            this.pending.add(request);
+            this.pendingFiles.put(request.key, request);
+        }
+        this.refCounts.getAndIncrement(request.key, 0, 1);
+        request.regions.add(region);
+        return region;
+    }
+
+    public void unload(FileHandle file) {
+        unload(file, (Pixmap.Format) null, false);
+    }
+
+    public void unload(FileHandle file, Pixmap.Format format, boolean useMipMaps) {
+        TextureKey key = this.tmpKey.set(file, format, useMipMaps);
+        int refCount = this.refCounts.get(key, 0);
+        if (refCount == 0) {
+            throw new GdxRuntimeException("Texture not loaded: " + file);
+        } else if (refCount > 1) {
+            this.refCounts.getAndIncrement(key, 0, -1);
+        } else {
+            this.refCounts.remove(key, 0);
+            Texture texture = this.textures.remove(key);
+            if (texture != null) {
+                texture.dispose();
+                return;
+            }
+            TextureRequest request = this.pendingFiles.remove(key);
+            if (request != null) {
+                request.cancelled = true;
+                request.regions.clear();
+            }
+        }
+    }
+
+    public int getReferenceCount(FileHandle file, Pixmap.Format format, boolean useMipMaps) {
+        return this.refCounts.get(this.tmpKey.set(file, format, useMipMaps), 0);
+    }
+
+    public boolean update() {
+        long budget = (long) (this.millisPerFrame * 1000000.0f);
+        long start = TimeUtils.nanoTime();
+        Array<TextureRequest> pending2 = this.pending;
+        int i = 0;
+        while (i < pending2.size) {
+            TextureRequest request = pending2.get(i);
+            if (!request.result.isDone()) {
+                i++;
+            } else {
+                pending2.removeIndex(i);
+                upload(request);
+                if (TimeUtils.nanoTime() - start >= budget) {
+                    break;
+                }
+            }
+        }
+        return pending2.size == 0;
+    }
+
+    public void finishLoading() {
+        Array<TextureRequest> pending2 = this.pending;
+        while (pending2.size > 0) {
+            upload(pending2.removeIndex(0));
+        }
+    }
+
+    private void upload(TextureRequest request) {
+        if (request.cancelled) {
+            disposeData(request);
+            return;
+        }
+        this.pendingFiles.remove(request.key);
+        try {
+            TextureData data = request.result.get();
+            if (data == null) {
+                return;
+            }
+            Texture texture = new Texture(data);
+            this.textures.put(request.key, texture);
+            Array<TextureRegion> regions = request.regions;
+            for (int i = 0; i < regions.size; i++) {
+                regions.get(i).setRegion(texture);
+            }
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("TextureFactory", "Couldn't load texture: " + request.key.file, e);
+        }
+    }
+
+    private void disposeData(TextureRequest request) {
+        try {
+            TextureData data = request.result.get();
+            if (data != null && data.getType() == TextureData.TextureDataType.Pixmap && data.disposePixmap()) {
+                data.consumePixmap().dispose();
+            }
+        } catch (Exception e) {
+            Gdx.app.error("TextureFactory", "Couldn't dispose texture data: " + request.key.file, e);
+        }
+    }
+
+    public int getPendingCount() {
+        return this.pending.size;
+    }
+
+    public boolean isLoaded(FileHandle file) {
+        return isLoaded(file, (Pixmap.Format) null, false);
+    }
+
+    public boolean isLoaded(FileHandle file, Pixmap.Format format, boolean useMipMaps) {
+        return this.textures.containsKey(this.tmpKey.set(file, format, useMipMaps));
+    }
+
+    public Texture getTexture(FileHandle file) {
+        return getTexture(file, (Pixmap.Format) null, false);
+    }
+
+    public Texture getTexture(FileHandle file, Pixmap.Format format, boolean useMipMaps) {
+        return this.textures.get(this.tmpKey.set(file, format, useMipMaps));
+    }
+
+    public void dispose() {
+        this.executor.dispose();
+        Array<TextureRequest> pending2 = this.pending;
+        for (int i = 0; i < pending2.size; i++) {
+            disposeData(pending2.get(i));
+        }
+        pending2.clear();
+        this.pendingFiles.clear();
+        this.refCounts.clear();
+        ObjectMap.Values<Texture> it = this.textures.values().iterator();
+        while (it.hasNext()) {
+            it.next().dispose();
+        }
+        this.textures.clear();
+        Texture texture = this.placeholderTexture;
+        if (texture != null) {
+            texture.dispose();
+            this.placeholderPixmap.dispose();
+            this.placeholderTexture = null;
+            this.placeholderPixmap = null;
+        }
+    }
+}
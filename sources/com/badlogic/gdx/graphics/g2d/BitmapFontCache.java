@@ -22,6 +22,9 @@ public class BitmapFontCache {
     private float[][] pageVertices;
     private final Array<GlyphLayout> pooledLayouts;
     private int[] tempGlyphCount;
+    private final Color tintColor;
+    private float textX;
+    private float textY;
     private float x;
     private float y;
 
@@ -33,6 +36,7 @@ public class BitmapFontCache {
         this.layouts = new Array<>();
         this.pooledLayouts = new Array<>();
         this.color = new Color(1.0f, 1.0f, 1.0f, 1.0f);
+        this.tintColor = new Color(1.0f, 1.0f, 1.0f, 1.0f);
         this.font = font2;
         this.integer = integer2;
         int pageCount = font2.regions.size;
@@ -84,6 +88,7 @@ public class BitmapFontCache {
         float newTint = tint.toFloatBits();
         if (bitmapFontCache.currentTint != newTint) {
             bitmapFontCache.currentTint = newTint;
+            bitmapFontCache.tintColor.set(tint);
             int[] tempGlyphCount3 = bitmapFontCache.tempGlyphCount;
             int n = tempGlyphCount3.length;
             for (int i = 0; i < n; i++) {
@@ -367,6 +372,8 @@ public class BitmapFontCache {
             this.tempGlyphCount = new int[pageCount];
         }
         this.layouts.add(glyphLayout);
+        this.textX = x2;
+        this.textY = y2;
         requireGlyphs(layout);
         int n = glyphLayout.runs.size;
         for (int i2 = 0; i2 < n; i2++) {
@@ -509,6 +516,64 @@ public class BitmapFontCache {
         addToCache(layout, x2, this.font.data.ascent + y2);
     }
 
+    public GlyphLayout updateText(CharSequence str, float x2, float y2) {
+        if (this.layouts.size == 1 && this.pooledLayouts.size == 1) {
+            GlyphLayout layout = this.pooledLayouts.first();
+            int start = layout.updateText(this.font, str, this.color);
+            if (start >= 0 && updateCache(layout, x2, y2, start)) {
+                return layout;
+            }
+        }
+        return setText(str, x2, y2);
+    }
+
+    public void updateText(GlyphLayout layout, float x2, float y2, int start) {
+        if (!updateCache(layout, x2, y2, start)) {
+            setText(layout, x2, y2);
+        }
+    }
+
+    private boolean updateCache(GlyphLayout layout, float x2, float y2, int start) {
+        float y3 = this.font.data.ascent + y2;
+        if (start < 0 || this.pageGlyphIndices != null || this.layouts.size != 1 || this.layouts.first() != layout || layout.runs.size != 1 || this.textX != x2 || this.textY != y3) {
+            return false;
+        }
+        GlyphLayout.GlyphRun run = layout.runs.first();
+        Array<BitmapFont.Glyph> glyphs = run.glyphs;
+        FloatArray xAdvances = run.xAdvances;
+        if (start > glyphs.size || this.idx[0] < start * 20) {
+            return false;
+        }
+        this.idx[0] = start * 20;
+        requirePageGlyphs(0, glyphs.size - start);
+        float color2 = run.color.toFloatBits();
+        if (this.currentTint != Color.WHITE_FLOAT_BITS) {
+            color2 = tempColor.set(run.color).mul(this.tintColor).toFloatBits();
+        }
+        float gx = run.x + x2;
+        for (int i = 0; i < start; i++) {
+            gx += xAdvances.get(i);
+        }
+        float gy = run.y + y3;
+        int n = glyphs.size;
+        for (int i2 = start; i2 < n; i2++) {
+            gx += xAdvances.get(i2);
+            addGlyph(glyphs.get(i2), gx, gy, color2);
+        }
+        float xAmount = this.x;
+        float yAmount = this.y;
+        if (!(xAmount == 0.0f && yAmount == 0.0f)) {
+            float[] vertices = this.pageVertices[0];
+            int nn = this.idx[0];
+            for (int ii = start * 20; ii < nn; ii += 5) {
+                vertices[ii] = vertices[ii] + xAmount;
+                int i3 = ii + 1;
+                vertices[i3] = vertices[i3] + yAmount;
+            }
+        }
+        return true;
+    }
+
     public float getX() {
         return this.x;
     }
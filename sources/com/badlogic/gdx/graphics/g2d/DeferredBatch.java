@@ -0,0 +1,944 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import java.util.Arrays;
+
+public class DeferredBatch implements Batch {
+    public static final int MAX_LAYERS = 256;
+    static final int MAX_STATES = 128;
+    static final int MAX_TEXTURES = 65536;
+    private final Batch batch;
+    private int blendDstFunc;
+    private int blendDstFuncAlpha;
+    private int blendSrcFunc;
+    private int blendSrcFuncAlpha;
+    private boolean blendingDisabled;
+    private final Color color;
+    float colorPacked;
+    private int commandCount;
+    private final int[] commandCounts;
+    private final int[] commandOffsets;
+    private final Texture[] commandTextures;
+    private ShaderProgram customShader;
+    private final ShaderProgram defaultShader;
+    boolean drawing;
+    int idx;
+    float invTexHeight;
+    float invTexWidth;
+    private final long[] keys;
+    Texture lastTexture;
+    private int layer;
+    public int maxCommandsInBatch;
+    public int renderCalls;
+    private int state;
+    private final IntArray stateBlending;
+    private final Array<ShaderProgram> stateShaders;
+    private final ObjectIntMap<Texture> textureIds;
+    public int totalRenderCalls;
+    final float[] vertices;
+
+    public DeferredBatch(Batch batch2) {
+        this(batch2, 1000);
+    }
+
+    public DeferredBatch(Batch batch2, int size) {
+        this.color = new Color(1.0f, 1.0f, 1.0f, 1.0f);
+        this.colorPacked = Color.WHITE_FLOAT_BITS;
+        this.commandCount = 0;
+        this.drawing = false;
+        this.idx = 0;
+        this.invTexWidth = 0.0f;
+        this.invTexHeight = 0.0f;
+        this.lastTexture = null;
+        this.layer = 0;
+        this.maxCommandsInBatch = 0;
+        this.renderCalls = 0;
+        this.totalRenderCalls = 0;
+        this.state = -1;
+        this.stateBlending = new IntArray();
+        this.stateShaders = new Array<>();
+        this.textureIds = new ObjectIntMap<>();
+        if (size >= 1) {
+            this.batch = batch2;
+            this.defaultShader = batch2.getShader();
+            this.blendingDisabled = !batch2.isBlendingEnabled();
+            this.blendSrcFunc = batch2.getBlendSrcFunc();
+            this.blendDstFunc = batch2.getBlendDstFunc();
+            this.blendSrcFuncAlpha = batch2.getBlendSrcFuncAlpha();
+            this.blendDstFuncAlpha = batch2.getBlendDstFuncAlpha();
+            this.vertices = new float[(size * 20)];
+            this.keys = new long[size];
+            this.commandTextures = new Texture[size];
+            this.commandOffsets = new int[size];
+            this.commandCounts = new int[size];
+            return;
+        }
+        throw new IllegalArgumentException("size must be >= 1: " + size);
+    }
+
+    public Batch getBatch() {
+        return this.batch;
+    }
+
+    public void setLayer(int layer2) {
+        if (layer2 < 0 || layer2 >= MAX_LAYERS) {
+            throw new IllegalArgumentException("layer must be between 0 and 255: " + layer2);
+        }
+        this.layer = layer2;
+    }
+
+    public int getLayer() {
+        return this.layer;
+    }
+
+    public void begin() {
+        if (!this.drawing) {
+            this.renderCalls = 0;
+            this.batch.begin();
+            this.drawing = true;
+            return;
+        }
+        throw new IllegalStateException("DeferredBatch.end must be called before begin.");
+    }
+
+    public void end() {
+        if (this.drawing) {
+            flush();
+            this.lastTexture = null;
+            this.drawing = false;
+            this.batch.end();
+            return;
+        }
+        throw new IllegalStateException("DeferredBatch.begin must be called before end.");
+    }
+
+    public void setColor(Color tint) {
+        this.color.set(tint);
+        this.colorPacked = tint.toFloatBits();
+    }
+
+    public void setColor(float r, float g, float b, float a) {
+        this.color.set(r, g, b, a);
+        this.colorPacked = this.color.toFloatBits();
+    }
+
+    public Color getColor() {
+        return this.color;
+    }
+
+    public void setPackedColor(float packedColor) {
+        Color.abgr8888ToColor(this.color, packedColor);
+        this.colorPacked = packedColor;
+    }
+
+    public float getPackedColor() {
+        return this.colorPacked;
+    }
+
+    /* access modifiers changed from: package-private */
+    public void record(Texture texture, int count) {
+        if (this.commandCount == this.keys.length || this.idx + count > this.vertices.length || this.stateShaders.size == MAX_STATES || this.textureIds.size == MAX_TEXTURES) {
+            flush();
+        }
+        if (this.state == -1) {
+            this.state = addState();
+        }
+        int textureId = this.textureIds.get(texture, -1);
+        if (textureId == -1) {
+            textureId = this.textureIds.size;
+            this.textureIds.put(texture, textureId);
+        }
+        int i = this.commandCount;
+        this.commandTextures[i] = texture;
+        this.commandOffsets[i] = this.idx;
+        this.commandCounts[i] = count;
+        this.keys[i] = (((long) this.layer) << 55) | (((long) this.state) << 48) | (((long) textureId) << 32) | ((long) i);
+        this.commandCount = i + 1;
+        if (texture != this.lastTexture) {
+            this.lastTexture = texture;
+            this.invTexWidth = 1.0f / ((float) texture.getWidth());
+            this.invTexHeight = 1.0f / ((float) texture.getHeight());
+        }
+    }
+
+    private int addState() {
+        ShaderProgram shader = this.customShader;
+        int blending = this.blendingDisabled ? 0 : 1;
+        int[] items = this.stateBlending.items;
+        int n = this.stateShaders.size;
+        for (int i = 0; i < n; i++) {
+            int j = i * 5;
+            if (this.stateShaders.get(i) == shader && items[j] == blending && items[j + 1] == this.blendSrcFunc && items[j + 2] == this.blendDstFunc && items[j + 3] == this.blendSrcFuncAlpha && items[j + 4] == this.blendDstFuncAlpha) {
+                return i;
+            }
+        }
+        this.stateShaders.add(shader);
+        this.stateBlending.add(blending, this.blendSrcFunc, this.blendDstFunc);
+        this.stateBlending.add(this.blendSrcFuncAlpha, this.blendDstFuncAlpha);
+        return n;
+    }
+
+    private void applyState(int index) {
+        Batch batch2 = this.batch;
+        ShaderProgram shader = this.stateShaders.get(index);
+        if (batch2.getShader() != (shader != null ? shader : this.defaultShader)) {
+            batch2.setShader(shader);
+        }
+        int[] items = this.stateBlending.items;
+        int j = index * 5;
+        if (items[j] == 0) {
+            batch2.disableBlending();
+        } else {
+            batch2.enableBlending();
+        }
+        batch2.setBlendFunctionSeparate(items[j + 1], items[j + 2], items[j + 3], items[j + 4]);
+    }
+
+    public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        float x4;
+        float y3;
+        float x3;
+        float y2;
+        float x2;
+        float y1;
+        float x1;
+        float cos;
+        float f = originX;
+        float f2 = originY;
+        int i = srcX;
+        int i2 = srcY;
+        if (this.drawing) {
+            float[] vertices2 = this.vertices;
+            record(texture, 20);
+            float worldOriginX = x + f;
+            float worldOriginY = y + f2;
+            float fx = -f;
+            float fy = -f2;
+            float fx2 = width - f;
+            float fy2 = height - f2;
+            if (!(scaleX == 1.0f && scaleY == 1.0f)) {
+                fx *= scaleX;
+                fy *= scaleY;
+                fx2 *= scaleX;
+                fy2 *= scaleY;
+            }
+            float p1x = fx;
+            float p1y = fy;
+            float p2x = fx;
+            float p2y = fy2;
+            float p3x = fx2;
+            float p3y = fy2;
+            float p4x = fx2;
+            float p4y = fy;
+            if (rotation != 0.0f) {
+                float cos2 = MathUtils.cosDeg(rotation);
+                float sin = MathUtils.sinDeg(rotation);
+                x1 = (cos2 * p1x) - (sin * p1y);
+                y1 = (sin * p1x) + (cos2 * p1y);
+                x2 = (cos2 * p2x) - (sin * p2y);
+                y2 = (sin * p2x) + (cos2 * p2y);
+                x3 = (cos2 * p3x) - (sin * p3y);
+                y3 = (sin * p3x) + (cos2 * p3y);
+                x4 = x1 + (x3 - x2);
+                cos = y3 - (y2 - y1);
+            } else {
+                x1 = p1x;
+                y1 = p1y;
+                x2 = p2x;
+                y2 = p2y;
+                x3 = p3x;
+                y3 = p3y;
+                x4 = p4x;
+                cos = p4y;
+            }
+            float x12 = x1 + worldOriginX;
+            float y12 = y1 + worldOriginY;
+            float x22 = x2 + worldOriginX;
+            float y22 = y2 + worldOriginY;
+            float x32 = x3 + worldOriginX;
+            float y32 = y3 + worldOriginY;
+            float x42 = x4 + worldOriginX;
+            float y4 = cos + worldOriginY;
+            float f3 = this.invTexWidth;
+            float u = ((float) i) * f3;
+            float f4 = worldOriginX;
+            float f5 = this.invTexHeight;
+            float v = ((float) (i2 + srcHeight)) * f5;
+            float f6 = worldOriginY;
+            float u2 = ((float) (i + srcWidth)) * f3;
+            float v2 = ((float) i2) * f5;
+            if (flipX) {
+                float tmp = u;
+                u = u2;
+                u2 = tmp;
+            }
+            if (flipY) {
+                float tmp2 = v;
+                v = v2;
+                v2 = tmp2;
+            }
+            float tmp3 = this.colorPacked;
+            int idx2 = this.idx;
+            vertices2[idx2] = x12;
+            vertices2[idx2 + 1] = y12;
+            vertices2[idx2 + 2] = tmp3;
+            vertices2[idx2 + 3] = u;
+            vertices2[idx2 + 4] = v;
+            vertices2[idx2 + 5] = x22;
+            vertices2[idx2 + 6] = y22;
+            vertices2[idx2 + 7] = tmp3;
+            vertices2[idx2 + 8] = u;
+            vertices2[idx2 + 9] = v2;
+            vertices2[idx2 + 10] = x32;
+            vertices2[idx2 + 11] = y32;
+            vertices2[idx2 + 12] = tmp3;
+            vertices2[idx2 + 13] = u2;
+            vertices2[idx2 + 14] = v2;
+            vertices2[idx2 + 15] = x42;
+            vertices2[idx2 + 16] = y4;
+            vertices2[idx2 + 17] = tmp3;
+            vertices2[idx2 + 18] = u2;
+            vertices2[idx2 + 19] = v;
+            float f7 = u;
+            this.idx = idx2 + 20;
+            return;
+        }
+        throw new IllegalStateException("DeferredBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        int i = srcX;
+        int i2 = srcY;
+        if (this.drawing) {
+            float[] vertices2 = this.vertices;
+            record(texture, 20);
+            float f = this.invTexWidth;
+            float u = ((float) i) * f;
+            float f2 = this.invTexHeight;
+            float v = ((float) (i2 + srcHeight)) * f2;
+            float u2 = ((float) (i + srcWidth)) * f;
+            float v2 = ((float) i2) * f2;
+            float fx2 = x + width;
+            float fy2 = y + height;
+            if (flipX) {
+                float tmp = u;
+                u = u2;
+                u2 = tmp;
+            }
+            if (flipY) {
+                float tmp2 = v;
+                v = v2;
+                v2 = tmp2;
+            }
+            float tmp3 = this.colorPacked;
+            int idx2 = this.idx;
+            vertices2[idx2] = x;
+            vertices2[idx2 + 1] = y;
+            vertices2[idx2 + 2] = tmp3;
+            vertices2[idx2 + 3] = u;
+            vertices2[idx2 + 4] = v;
+            vertices2[idx2 + 5] = x;
+            vertices2[idx2 + 6] = fy2;
+            vertices2[idx2 + 7] = tmp3;
+            vertices2[idx2 + 8] = u;
+            vertices2[idx2 + 9] = v2;
+            vertices2[idx2 + 10] = fx2;
+            vertices2[idx2 + 11] = fy2;
+            vertices2[idx2 + 12] = tmp3;
+            vertices2[idx2 + 13] = u2;
+            vertices2[idx2 + 14] = v2;
+            vertices2[idx2 + 15] = fx2;
+            vertices2[idx2 + 16] = y;
+            vertices2[idx2 + 17] = tmp3;
+            vertices2[idx2 + 18] = u2;
+            vertices2[idx2 + 19] = v;
+            this.idx = idx2 + 20;
+            return;
+        }
+        Texture texture2 = texture;
+        throw new IllegalStateException("DeferredBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+        int i = srcX;
+        int i2 = srcY;
+        int i3 = srcWidth;
+        int i4 = srcHeight;
+        if (this.drawing) {
+            float[] vertices2 = this.vertices;
+            record(texture, 20);
+            float f = this.invTexWidth;
+            float u = ((float) i) * f;
+            float f2 = this.invTexHeight;
+            float v = ((float) (i2 + i4)) * f2;
+            float u2 = ((float) (i + i3)) * f;
+            float v2 = ((float) i2) * f2;
+            float fx2 = x + ((float) i3);
+            float fy2 = y + ((float) i4);
+            float color2 = this.colorPacked;
+            int idx2 = this.idx;
+            vertices2[idx2] = x;
+            vertices2[idx2 + 1] = y;
+            vertices2[idx2 + 2] = color2;
+            vertices2[idx2 + 3] = u;
+            vertices2[idx2 + 4] = v;
+            vertices2[idx2 + 5] = x;
+            vertices2[idx2 + 6] = fy2;
+            vertices2[idx2 + 7] = color2;
+            vertices2[idx2 + 8] = u;
+            vertices2[idx2 + 9] = v2;
+            vertices2[idx2 + 10] = fx2;
+            vertices2[idx2 + 11] = fy2;
+            vertices2[idx2 + 12] = color2;
+            vertices2[idx2 + 13] = u2;
+            vertices2[idx2 + 14] = v2;
+            vertices2[idx2 + 15] = fx2;
+            vertices2[idx2 + 16] = y;
+            vertices2[idx2 + 17] = color2;
+            vertices2[idx2 + 18] = u2;
+            vertices2[idx2 + 19] = v;
+            this.idx = idx2 + 20;
+            return;
+        }
+        Texture texture2 = texture;
+        throw new IllegalStateException("DeferredBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+        if (this.drawing) {
+            float[] vertices2 = this.vertices;
+            record(texture, 20);
+            float fx2 = x + width;
+            float fy2 = y + height;
+            float color2 = this.colorPacked;
+            int idx2 = this.idx;
+            vertices2[idx2] = x;
+            vertices2[idx2 + 1] = y;
+            vertices2[idx2 + 2] = color2;
+            vertices2[idx2 + 3] = u;
+            vertices2[idx2 + 4] = v;
+            vertices2[idx2 + 5] = x;
+            vertices2[idx2 + 6] = fy2;
+            vertices2[idx2 + 7] = color2;
+            vertices2[idx2 + 8] = u;
+            vertices2[idx2 + 9] = v2;
+            vertices2[idx2 + 10] = fx2;
+            vertices2[idx2 + 11] = fy2;
+            vertices2[idx2 + 12] = color2;
+            vertices2[idx2 + 13] = u2;
+            vertices2[idx2 + 14] = v2;
+            vertices2[idx2 + 15] = fx2;
+            vertices2[idx2 + 16] = y;
+            vertices2[idx2 + 17] = color2;
+            vertices2[idx2 + 18] = u2;
+            vertices2[idx2 + 19] = v;
+            this.idx = idx2 + 20;
+            return;
+        }
+        throw new IllegalStateException("DeferredBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y) {
+        draw(texture, x, y, (float) texture.getWidth(), (float) texture.getHeight());
+    }
+
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        if (this.drawing) {
+            float[] vertices2 = this.vertices;
+            record(texture, 20);
+            float fx2 = x + width;
+            float fy2 = y + height;
+            float color2 = this.colorPacked;
+            int idx2 = this.idx;
+            vertices2[idx2] = x;
+            vertices2[idx2 + 1] = y;
+            vertices2[idx2 + 2] = color2;
+            vertices2[idx2 + 3] = 0.0f;
+            vertices2[idx2 + 4] = 1.0f;
+            vertices2[idx2 + 5] = x;
+            vertices2[idx2 + 6] = fy2;
+            vertices2[idx2 + 7] = color2;
+            vertices2[idx2 + 8] = 0.0f;
+            vertices2[idx2 + 9] = 0.0f;
+            vertices2[idx2 + 10] = fx2;
+            vertices2[idx2 + 11] = fy2;
+            vertices2[idx2 + 12] = color2;
+            vertices2[idx2 + 13] = 1.0f;
+            vertices2[idx2 + 14] = 0.0f;
+            vertices2[idx2 + 15] = fx2;
+            vertices2[idx2 + 16] = y;
+            vertices2[idx2 + 17] = color2;
+            vertices2[idx2 + 18] = 1.0f;
+            vertices2[idx2 + 19] = 1.0f;
+            this.idx = idx2 + 20;
+            return;
+        }
+        Texture texture2 = texture;
+        throw new IllegalStateException("DeferredBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+        if (this.drawing) {
+            int maxCount = this.vertices.length;
+            while (count > 0) {
+                int copyCount = Math.min(maxCount, count);
+                record(texture, copyCount);
+                System.arraycopy(spriteVertices, offset, this.vertices, this.idx, copyCount);
+                this.idx += copyCount;
+                offset += copyCount;
+                count -= copyCount;
+            }
+            return;
+        }
+        throw new IllegalStateException("DeferredBatch.begin must be called before draw.");
+    }
+
+    public void draw(TextureRegion region, float x, float y) {
+        draw(region, x, y, (float) region.getRegionWidth(), (float) region.getRegionHeight());
+    }
+
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        TextureRegion textureRegion = region;
+        if (this.drawing) {
+            float[] vertices2 = this.vertices;
+            Texture texture = textureRegion.texture;
+            record(texture, 20);
+            float fx2 = x + width;
+            float fy2 = y + height;
+            float u = textureRegion.u;
+            float v = textureRegion.v2;
+            float u2 = textureRegion.u2;
+            float v2 = textureRegion.v;
+            float color2 = this.colorPacked;
+            int idx2 = this.idx;
+            vertices2[idx2] = x;
+            vertices2[idx2 + 1] = y;
+            vertices2[idx2 + 2] = color2;
+            vertices2[idx2 + 3] = u;
+            vertices2[idx2 + 4] = v;
+            vertices2[idx2 + 5] = x;
+            vertices2[idx2 + 6] = fy2;
+            vertices2[idx2 + 7] = color2;
+            vertices2[idx2 + 8] = u;
+            vertices2[idx2 + 9] = v2;
+            vertices2[idx2 + 10] = fx2;
+            vertices2[idx2 + 11] = fy2;
+            vertices2[idx2 + 12] = color2;
+            vertices2[idx2 + 13] = u2;
+            vertices2[idx2 + 14] = v2;
+            vertices2[idx2 + 15] = fx2;
+            vertices2[idx2 + 16] = y;
+            vertices2[idx2 + 17] = color2;
+            vertices2[idx2 + 18] = u2;
+            vertices2[idx2 + 19] = v;
+            this.idx = idx2 + 20;
+            return;
+        }
+        throw new IllegalStateException("DeferredBatch.begin must be called before draw.");
+    }
+
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation) {
+        float x4;
+        float y3;
+        float x3;
+        float y2;
+        float x2;
+        float y1;
+        float x1;
+        float cos;
+        TextureRegion textureRegion = region;
+        float f = originX;
+        float f2 = originY;
+        if (this.drawing) {
+            float[] vertices2 = this.vertices;
+            Texture texture = textureRegion.texture;
+            record(texture, 20);
+            float worldOriginX = x + f;
+            float worldOriginY = y + f2;
+            float fx = -f;
+            float fy = -f2;
+            float fx2 = width - f;
+            float fy2 = height - f2;
+            if (!(scaleX == 1.0f && scaleY == 1.0f)) {
+                fx *= scaleX;
+                fy *= scaleY;
+                fx2 *= scaleX;
+                fy2 *= scaleY;
+            }
+            float p1x = fx;
+            float p1y = fy;
+            float p2x = fx;
+            float p2y = fy2;
+            float p3x = fx2;
+            float p3y = fy2;
+            float p4x = fx2;
+            float p4y = fy;
+            if (rotation != 0.0f) {
+                float cos2 = MathUtils.cosDeg(rotation);
+                float sin = MathUtils.sinDeg(rotation);
+                x1 = (cos2 * p1x) - (sin * p1y);
+                y1 = (sin * p1x) + (cos2 * p1y);
+                x2 = (cos2 * p2x) - (sin * p2y);
+                y2 = (sin * p2x) + (cos2 * p2y);
+                x3 = (cos2 * p3x) - (sin * p3y);
+                y3 = (sin * p3x) + (cos2 * p3y);
+                x4 = x1 + (x3 - x2);
+                cos = y3 - (y2 - y1);
+            } else {
+                x1 = p1x;
+                y1 = p1y;
+                x2 = p2x;
+                y2 = p2y;
+                x3 = p3x;
+                y3 = p3y;
+                x4 = p4x;
+                cos = p4y;
+            }
+            float x12 = x1 + worldOriginX;
+            float y12 = y1 + worldOriginY;
+            float x22 = x2 + worldOriginX;
+            float y22 = y2 + worldOriginY;
+            float x32 = x3 + worldOriginX;
+            float y32 = y3 + worldOriginY;
+            float x42 = x4 + worldOriginX;
+            float y4 = cos + worldOriginY;
+            float u = textureRegion.u;
+            float v = textureRegion.v2;
+            Texture texture2 = texture;
+            float u2 = textureRegion.u2;
+            float f3 = worldOriginX;
+            float worldOriginX2 = textureRegion.v;
+            float color2 = this.colorPacked;
+            float f4 = worldOriginY;
+            int idx2 = this.idx;
+            vertices2[idx2] = x12;
+            vertices2[idx2 + 1] = y12;
+            vertices2[idx2 + 2] = color2;
+            vertices2[idx2 + 3] = u;
+            vertices2[idx2 + 4] = v;
+            vertices2[idx2 + 5] = x22;
+            vertices2[idx2 + 6] = y22;
+            vertices2[idx2 + 7] = color2;
+            vertices2[idx2 + 8] = u;
+            vertices2[idx2 + 9] = worldOriginX2;
+            vertices2[idx2 + 10] = x32;
+            vertices2[idx2 + 11] = y32;
+            vertices2[idx2 + 12] = color2;
+            vertices2[idx2 + 13] = u2;
+            vertices2[idx2 + 14] = worldOriginX2;
+            vertices2[idx2 + 15] = x42;
+            vertices2[idx2 + 16] = y4;
+            vertices2[idx2 + 17] = color2;
+            vertices2[idx2 + 18] = u2;
+            vertices2[idx2 + 19] = v;
+            float f5 = color2;
+            this.idx = idx2 + 20;
+            return;
+        }
+        throw new IllegalStateException("DeferredBatch.begin must be called before draw.");
+    }
+
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, boolean clockwise) {
+        float x4;
+        float y3;
+        float x3;
+        float y2;
+        float x2;
+        float y1;
+        float x1;
+        float cos;
+        float u4;
+        float v3;
+        float u3;
+        float v2;
+        float u2;
+        float v1;
+        float u1;
+        float u42;
+        TextureRegion textureRegion = region;
+        float f = originX;
+        float f2 = originY;
+        if (this.drawing) {
+            float[] vertices2 = this.vertices;
+            Texture texture = textureRegion.texture;
+            record(texture, 20);
+            float worldOriginX = x + f;
+            float worldOriginY = y + f2;
+            float fx = -f;
+            float fy = -f2;
+            float fx2 = width - f;
+            float fy2 = height - f2;
+            if (!(scaleX == 1.0f && scaleY == 1.0f)) {
+                fx *= scaleX;
+                fy *= scaleY;
+                fx2 *= scaleX;
+                fy2 *= scaleY;
+            }
+            float p1x = fx;
+            float p1y = fy;
+            float p2x = fx;
+            float p2y = fy2;
+            float p3x = fx2;
+            float p3y = fy2;
+            float p4x = fx2;
+            float p4y = fy;
+            if (rotation != 0.0f) {
+                float cos2 = MathUtils.cosDeg(rotation);
+                float sin = MathUtils.sinDeg(rotation);
+                x1 = (cos2 * p1x) - (sin * p1y);
+                y1 = (sin * p1x) + (cos2 * p1y);
+                x2 = (cos2 * p2x) - (sin * p2y);
+                y2 = (sin * p2x) + (cos2 * p2y);
+                x3 = (cos2 * p3x) - (sin * p3y);
+                y3 = (sin * p3x) + (cos2 * p3y);
+                x4 = x1 + (x3 - x2);
+                cos = y3 - (y2 - y1);
+            } else {
+                x1 = p1x;
+                y1 = p1y;
+                x2 = p2x;
+                y2 = p2y;
+                x3 = p3x;
+                y3 = p3y;
+                x4 = p4x;
+                cos = p4y;
+            }
+            float x12 = x1 + worldOriginX;
+            float y12 = y1 + worldOriginY;
+            float x22 = x2 + worldOriginX;
+            float y22 = y2 + worldOriginY;
+            float x32 = x3 + worldOriginX;
+            float y32 = y3 + worldOriginY;
+            float x42 = x4 + worldOriginX;
+            float y4 = cos + worldOriginY;
+            if (clockwise) {
+                u1 = textureRegion.u2;
+                v1 = textureRegion.v2;
+                u2 = textureRegion.u;
+                v2 = textureRegion.v2;
+                u3 = textureRegion.u;
+                v3 = textureRegion.v;
+                u4 = textureRegion.u2;
+                u42 = textureRegion.v;
+            } else {
+                u1 = textureRegion.u;
+                v1 = textureRegion.v;
+                u2 = textureRegion.u2;
+                v2 = textureRegion.v;
+                u3 = textureRegion.u2;
+                v3 = textureRegion.v2;
+                u4 = textureRegion.u;
+                u42 = textureRegion.v2;
+            }
+            float color2 = this.colorPacked;
+            int idx2 = this.idx;
+            vertices2[idx2] = x12;
+            vertices2[idx2 + 1] = y12;
+            vertices2[idx2 + 2] = color2;
+            vertices2[idx2 + 3] = u1;
+            vertices2[idx2 + 4] = v1;
+            vertices2[idx2 + 5] = x22;
+            vertices2[idx2 + 6] = y22;
+            vertices2[idx2 + 7] = color2;
+            vertices2[idx2 + 8] = u2;
+            vertices2[idx2 + 9] = v2;
+            vertices2[idx2 + 10] = x32;
+            vertices2[idx2 + 11] = y32;
+            vertices2[idx2 + 12] = color2;
+            vertices2[idx2 + 13] = u3;
+            vertices2[idx2 + 14] = v3;
+            vertices2[idx2 + 15] = x42;
+            vertices2[idx2 + 16] = y4;
+            vertices2[idx2 + 17] = color2;
+            vertices2[idx2 + 18] = u4;
+            vertices2[idx2 + 19] = u42;
+            float f3 = color2;
+            this.idx = idx2 + 20;
+            return;
+        }
+        throw new IllegalStateException("DeferredBatch.begin must be called before draw.");
+    }
+
+    public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+        TextureRegion textureRegion = region;
+        Affine2 affine2 = transform;
+        if (this.drawing) {
+            float[] vertices2 = this.vertices;
+            Texture texture = textureRegion.texture;
+            record(texture, 20);
+            float x1 = affine2.m02;
+            float y1 = affine2.m12;
+            float x2 = (affine2.m01 * height) + affine2.m02;
+            float y2 = (affine2.m11 * height) + affine2.m12;
+            float x3 = (affine2.m00 * width) + (affine2.m01 * height) + affine2.m02;
+            float y3 = (affine2.m10 * width) + (affine2.m11 * height) + affine2.m12;
+            float x4 = (affine2.m00 * width) + affine2.m02;
+            float y4 = (affine2.m10 * width) + affine2.m12;
+            float u = textureRegion.u;
+            float v = textureRegion.v2;
+            float u2 = textureRegion.u2;
+            float v2 = textureRegion.v;
+            float color2 = this.colorPacked;
+            Texture texture2 = texture;
+            int idx2 = this.idx;
+            vertices2[idx2] = x1;
+            vertices2[idx2 + 1] = y1;
+            vertices2[idx2 + 2] = color2;
+            vertices2[idx2 + 3] = u;
+            vertices2[idx2 + 4] = v;
+            vertices2[idx2 + 5] = x2;
+            vertices2[idx2 + 6] = y2;
+            vertices2[idx2 + 7] = color2;
+            vertices2[idx2 + 8] = u;
+            vertices2[idx2 + 9] = v2;
+            vertices2[idx2 + 10] = x3;
+            vertices2[idx2 + 11] = y3;
+            vertices2[idx2 + 12] = color2;
+            vertices2[idx2 + 13] = u2;
+            vertices2[idx2 + 14] = v2;
+            vertices2[idx2 + 15] = x4;
+            vertices2[idx2 + 16] = y4;
+            vertices2[idx2 + 17] = color2;
+            vertices2[idx2 + 18] = u2;
+            vertices2[idx2 + 19] = v;
+            float f = color2;
+            this.idx = idx2 + 20;
+            return;
+        }
+        throw new IllegalStateException("DeferredBatch.begin must be called before draw.");
+    }
+
+    public void flush() {
+        int n = this.commandCount;
+        if (n != 0) {
+            this.renderCalls++;
+            this.totalRenderCalls++;
+            if (n > this.maxCommandsInBatch) {
+                this.maxCommandsInBatch = n;
+            }
+            long[] keys2 = this.keys;
+            Arrays.sort(keys2, 0, n);
+            Batch batch2 = this.batch;
+            int appliedState = -1;
+            for (int i = 0; i < n; i++) {
+                long key = keys2[i];
+                int command = (int) key;
+                int state2 = ((int) (key >>> 48)) & 127;
+                if (state2 != appliedState) {
+                    applyState(state2);
+                    appliedState = state2;
+                }
+                batch2.draw(this.commandTextures[command], this.vertices, this.commandOffsets[command], this.commandCounts[command]);
+            }
+            batch2.flush();
+            Arrays.fill(this.commandTextures, 0, n, (Object) null);
+            this.commandCount = 0;
+            this.idx = 0;
+            this.state = -1;
+            this.stateShaders.clear();
+            this.stateBlending.clear();
+            this.textureIds.clear();
+        }
+    }
+
+    public void disableBlending() {
+        if (!this.blendingDisabled) {
+            this.blendingDisabled = true;
+            this.state = -1;
+        }
+    }
+
+    public void enableBlending() {
+        if (this.blendingDisabled) {
+            this.blendingDisabled = false;
+            this.state = -1;
+        }
+    }
+
+    public void setBlendFunction(int srcFunc, int dstFunc) {
+        setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+    }
+
+    public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+        if (this.blendSrcFunc != srcFuncColor || this.blendDstFunc != dstFuncColor || this.blendSrcFuncAlpha != srcFuncAlpha || this.blendDstFuncAlpha != dstFuncAlpha) {
+            this.blendSrcFunc = srcFuncColor;
+            this.blendDstFunc = dstFuncColor;
+            this.blendSrcFuncAlpha = srcFuncAlpha;
+            this.blendDstFuncAlpha = dstFuncAlpha;
+            this.state = -1;
+        }
+    }
+
+    public int getBlendSrcFunc() {
+        return this.blendSrcFunc;
+    }
+
+    public int getBlendDstFunc() {
+        return this.blendDstFunc;
+    }
+
+    public int getBlendSrcFuncAlpha() {
+        return this.blendSrcFuncAlpha;
+    }
+
+    public int getBlendDstFuncAlpha() {
+        return this.blendDstFuncAlpha;
+    }
+
+    public void dispose() {
+        this.batch.dispose();
+    }
+
+    public Matrix4 getProjectionMatrix() {
+        return this.batch.getProjectionMatrix();
+    }
+
+    public Matrix4 getTransformMatrix() {
+        return this.batch.getTransformMatrix();
+    }
+
+    public void setProjectionMatrix(Matrix4 projection) {
+        if (this.drawing) {
+            flush();
+        }
+        this.batch.setProjectionMatrix(projection);
+    }
+
+    public void setTransformMatrix(Matrix4 transform) {
+        if (this.drawing) {
+            flush();
+        }
+        this.batch.setTransformMatrix(transform);
+    }
+
+    public void setShader(ShaderProgram shader) {
+        if (this.customShader != shader) {
+            this.customShader = shader;
+            this.state = -1;
+        }
+    }
+
+    public ShaderProgram getShader() {
+        ShaderProgram shaderProgram = this.customShader;
+        if (shaderProgram == null) {
+            return this.defaultShader;
+        }
+        return shaderProgram;
+    }
+
+    public boolean isBlendingEnabled() {
+        return !this.blendingDisabled;
+    }
+
+    public boolean isDrawing() {
+        return this.drawing;
+    }
+}
@@ -0,0 +1,401 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+final class Gdx2DJava {
+    private Gdx2DJava() {
+    }
+
+    static int bytesPerPixel(int format) {
+        switch (format) {
+            case 1:
+                return 1;
+            case 2:
+            case 5:
+            case 6:
+                return 2;
+            case 3:
+                return 3;
+            case 4:
+                return 4;
+            default:
+                throw new GdxRuntimeException("unknown format: " + format);
+        }
+    }
+
+    static ByteBuffer newPixels(long[] nativeData, int width, int height, int format) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Pixmap size must be positive: " + width + "x" + height);
+        }
+        ByteBuffer pixels = ByteBuffer.allocateDirect(width * height * bytesPerPixel(format)).order(ByteOrder.nativeOrder());
+        nativeData[0] = 0;
+        nativeData[1] = (long) width;
+        nativeData[2] = (long) height;
+        nativeData[3] = (long) format;
+        return pixels;
+    }
+
+    static int toFormat(int format, int color) {
+        switch (format) {
+            case 1:
+                return color & 255;
+            case 2:
+                int r = (color >>> 24) & 255;
+                int g = (color >>> 16) & 255;
+                int b = (color >>> 8) & 255;
+                return (((int) ((0.2126f * ((float) r)) + (0.7152f * ((float) g)) + (0.0722f * ((float) b)))) << 8) | (color & 255);
+            case 3:
+                return color >>> 8;
+            case 4:
+                return color;
+            case 5:
+                return ((((color >>> 24) & 255) >> 3) << 11) | ((((color >>> 16) & 255) >> 2) << 5) | (((color >>> 8) & 255) >> 3);
+            case 6:
+                return ((((color >>> 24) & 255) >> 4) << 12) | ((((color >>> 16) & 255) >> 4) << 8) | ((((color >>> 8) & 255) >> 4) << 4) | ((color & 255) >> 4);
+            default:
+                return 0;
+        }
+    }
+
+    static int toRGBA8888(int format, int pixel) {
+        switch (format) {
+            case 1:
+                return pixel | -256;
+            case 2:
+                int l = (pixel >>> 8) & 255;
+                return (l << 24) | (l << 16) | (l << 8) | (pixel & 255);
+            case 3:
+                return (pixel << 8) | 255;
+            case 4:
+                return pixel;
+            case 5:
+                return (((((pixel >>> 11) & 31) * 255) / 31) << 24) | (((((pixel >>> 5) & 63) * 255) / 63) << 16) | ((((pixel & 31) * 255) / 31) << 8) | 255;
+            case 6:
+                return ((((pixel >>> 12) & 15) * 17) << 24) | ((((pixel >>> 8) & 15) * 17) << 16) | ((((pixel >>> 4) & 15) * 17) << 8) | ((pixel & 15) * 17);
+            default:
+                return 0;
+        }
+    }
+
+    static int blend(int src, int dst) {
+        int srcA = src & 255;
+        if (srcA == 255) {
+            return src;
+        }
+        int srcR = (src >>> 24) & 255;
+        int srcG = (src >>> 16) & 255;
+        int srcB = (src >>> 8) & 255;
+        int dstR = (dst >>> 24) & 255;
+        int dstG = (dst >>> 16) & 255;
+        int dstB = (dst >>> 8) & 255;
+        int dstA = dst & 255;
+        int dstR2 = dstR + (((srcR - dstR) * srcA) / 255);
+        int dstG2 = dstG + (((srcG - dstG) * srcA) / 255);
+        int dstB2 = dstB + (((srcB - dstB) * srcA) / 255);
+        int dstA2 = (int) ((1.0f - ((1.0f - (((float) srcA) / 255.0f)) * (1.0f - (((float) dstA) / 255.0f)))) * 255.0f);
+        return (dstR2 << 24) | (dstG2 << 16) | (dstB2 << 8) | dstA2;
+    }
+
+    static int getRaw(Gdx2DPixmap pixmap, int x, int y) {
+        ByteBuffer pixels = pixmap.pixelPtr;
+        int format = pixmap.format;
+        int index = ((pixmap.width * y) + x) * bytesPerPixel(format);
+        switch (format) {
+            case 1:
+                return pixels.get(index) & 255;
+            case 2:
+                return ((pixels.get(index) & 255) << 8) | (pixels.get(index + 1) & 255);
+            case 3:
+                return ((pixels.get(index) & 255) << 16) | ((pixels.get(index + 1) & 255) << 8) | (pixels.get(index + 2) & 255);
+            case 4:
+                return ((pixels.get(index) & 255) << 24) | ((pixels.get(index + 1) & 255) << 16) | ((pixels.get(index + 2) & 255) << 8) | (pixels.get(index + 3) & 255);
+            default:
+                return getShort(pixels, index) & 65535;
+        }
+    }
+
+    static void setRaw(Gdx2DPixmap pixmap, int x, int y, int value) {
+        ByteBuffer pixels = pixmap.pixelPtr;
+        int format = pixmap.format;
+        int index = ((pixmap.width * y) + x) * bytesPerPixel(format);
+        switch (format) {
+            case 1:
+                pixels.put(index, (byte) value);
+                return;
+            case 2:
+                pixels.put(index, (byte) (value >>> 8));
+                pixels.put(index + 1, (byte) value);
+                return;
+            case 3:
+                pixels.put(index, (byte) (value >>> 16));
+                pixels.put(index + 1, (byte) (value >>> 8));
+                pixels.put(index + 2, (byte) value);
+                return;
+            case 4:
+                pixels.put(index, (byte) (value >>> 24));
+                pixels.put(index + 1, (byte) (value >>> 16));
+                pixels.put(index + 2, (byte) (value >>> 8));
+                pixels.put(index + 3, (byte) value);
+                return;
+            default:
+                putShort(pixels, index, value);
+                return;
+        }
+    }
+
+    private static int getShort(ByteBuffer pixels, int index) {
+        int b0 = pixels.get(index) & 255;
+        int b1 = pixels.get(index + 1) & 255;
+        return ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static void putShort(ByteBuffer pixels, int index, int value) {
+        if (ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN) {
+            pixels.put(index, (byte) value);
+            pixels.put(index + 1, (byte) (value >>> 8));
+            return;
+        }
+        pixels.put(index, (byte) (value >>> 8));
+        pixels.put(index + 1, (byte) value);
+    }
+
+    static void clear(Gdx2DPixmap pixmap, int color) {
+        int value = toFormat(pixmap.format, color);
+        int width = pixmap.width;
+        int height = pixmap.height;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                setRaw(pixmap, x, y, value);
+            }
+        }
+    }
+
+    static int getPixel(Gdx2DPixmap pixmap, int x, int y) {
+        if (x < 0 || y < 0 || x >= pixmap.width || y >= pixmap.height) {
+            return 0;
+        }
+        return toRGBA8888(pixmap.format, getRaw(pixmap, x, y));
+    }
+
+    static void setPixel(Gdx2DPixmap pixmap, int x, int y, int color) {
+        if (x >= 0 && y >= 0 && x < pixmap.width && y < pixmap.height) {
+            if (pixmap.blend == 1) {
+                color = blend(color, toRGBA8888(pixmap.format, getRaw(pixmap, x, y)));
+            }
+            setRaw(pixmap, x, y, toFormat(pixmap.format, color));
+        }
+    }
+
+    private static void hline(Gdx2DPixmap pixmap, int x1, int x2, int y, int color) {
+        if (y >= 0 && y < pixmap.height) {
+            if (x1 > x2) {
+                int tmp = x1;
+                x1 = x2;
+                x2 = tmp;
+            }
+            int x12 = Math.max(x1, 0);
+            int x22 = Math.min(x2, pixmap.width - 1);
+            for (int x = x12; x <= x22; x++) {
+                setPixel(pixmap, x, y, color);
+            }
+        }
+    }
+
+    private static void vline(Gdx2DPixmap pixmap, int y1, int y2, int x, int color) {
+        if (x >= 0 && x < pixmap.width) {
+            if (y1 > y2) {
+                int tmp = y1;
+                y1 = y2;
+                y2 = tmp;
+            }
+            int y12 = Math.max(y1, 0);
+            int y22 = Math.min(y2, pixmap.height - 1);
+            for (int y = y12; y <= y22; y++) {
+                setPixel(pixmap, x, y, color);
+            }
+        }
+    }
+
+    static void drawLine(Gdx2DPixmap pixmap, int x0, int y0, int x1, int y1, int color) {
+        int dx = Math.abs(x1 - x0);
+        int dy = -Math.abs(y1 - y0);
+        int sx = x0 < x1 ? 1 : -1;
+        int sy = y0 < y1 ? 1 : -1;
+        int err = dx + dy;
+        while (true) {
+            setPixel(pixmap, x0, y0, color);
+            if (x0 != x1 || y0 != y1) {
+                int e2 = err * 2;
+                if (e2 >= dy) {
+                    err += dy;
+                    x0 += sx;
+                }
+                if (e2 <= dx) {
+                    err += dx;
+                    y0 += sy;
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    static void drawRect(Gdx2DPixmap pixmap, int x, int y, int width, int height, int color) {
+        if (width > 0 && height > 0) {
+            int x2 = (x + width) - 1;
+            int y2 = (y + height) - 1;
+            hline(pixmap, x, x2, y, color);
+            if (y2 != y) {
+                hline(pixmap, x, x2, y2, color);
+            }
+            if (height > 2) {
+                vline(pixmap, y + 1, y2 - 1, x, color);
+                if (x2 != x) {
+                    vline(pixmap, y + 1, y2 - 1, x2, color);
+                }
+            }
+        }
+    }
+
+    static void fillRect(Gdx2DPixmap pixmap, int x, int y, int width, int height, int color) {
+        int y2 = Math.min(y + height, pixmap.height);
+        for (int row = Math.max(y, 0); row < y2; row++) {
+            hline(pixmap, x, (x + width) - 1, row, color);
+        }
+    }
+
+    static void drawCircle(Gdx2DPixmap pixmap, int x, int y, int radius, int color) {
+        int f = 1 - radius;
+        int ddFx = 1;
+        int ddFy = radius * -2;
+        int px = 0;
+        int py = radius;
+        setPixel(pixmap, x, y + radius, color);
+        setPixel(pixmap, x, y - radius, color);
+        setPixel(pixmap, x + radius, y, color);
+        setPixel(pixmap, x - radius, y, color);
+        while (px < py) {
+            if (f >= 0) {
+                py--;
+                ddFy += 2;
+                f += ddFy;
+            }
+            px++;
+            ddFx += 2;
+            f += ddFx;
+            setPixel(pixmap, x + px, y + py, color);
+            setPixel(pixmap, x - px, y + py, color);
+            setPixel(pixmap, x + px, y - py, color);
+            setPixel(pixmap, x - px, y - py, color);
+            setPixel(pixmap, x + py, y + px, color);
+            setPixel(pixmap, x - py, y + px, color);
+            setPixel(pixmap, x + py, y - px, color);
+            setPixel(pixmap, x - py, y - px, color);
+        }
+    }
+
+    static void fillCircle(Gdx2DPixmap pixmap, int x, int y, int radius, int color) {
+        int r2 = radius * radius;
+        for (int dy = -radius; dy <= radius; dy++) {
+            int dx = (int) Math.sqrt((double) (r2 - (dy * dy)));
+            hline(pixmap, x - dx, x + dx, y + dy, color);
+        }
+    }
+
+    static void fillTriangle(Gdx2DPixmap pixmap, int x1, int y1, int x2, int y2, int x3, int y3, int color) {
+        if (y1 > y2) {
+            int tmp = x1;
+            x1 = x2;
+            x2 = tmp;
+            int tmp2 = y1;
+            y1 = y2;
+            y2 = tmp2;
+        }
+        if (y1 > y3) {
+            int tmp3 = x1;
+            x1 = x3;
+            x3 = tmp3;
+            int tmp4 = y1;
+            y1 = y3;
+            y3 = tmp4;
+        }
+        if (y2 > y3) {
+            int tmp5 = x2;
+            x2 = x3;
+            x3 = tmp5;
+            int tmp6 = y2;
+            y2 = y3;
+            y3 = tmp6;
+        }
+        int yStart = Math.max(y1, 0);
+        int yEnd = Math.min(y3, pixmap.height - 1);
+        for (int y = yStart; y <= yEnd; y++) {
+            int xa = interpolate(x1, y1, x3, y3, y);
+            int xb = y < y2 ? interpolate(x1, y1, x2, y2, y) : interpolate(x2, y2, x3, y3, y);
+            hline(pixmap, xa, xb, y, color);
+        }
+    }
+
+    private static int interpolate(int x1, int y1, int x2, int y2, int y) {
+        if (y1 == y2) {
+            return x2;
+        }
+        return x1 + Math.round((((float) (x2 - x1)) * ((float) (y - y1))) / ((float) (y2 - y1)));
+    }
+
+    static void drawPixmap(Gdx2DPixmap src, Gdx2DPixmap dst, int srcX, int srcY, int srcWidth, int srcHeight, int dstX, int dstY, int dstWidth, int dstHeight) {
+        if (srcWidth > 0 && srcHeight > 0 && dstWidth > 0 && dstHeight > 0) {
+            boolean linear = (dst.scale != 1 || (srcWidth == dstWidth && srcHeight == dstHeight)) ? false : true;
+            float scaleX = ((float) srcWidth) / ((float) dstWidth);
+            float scaleY = ((float) srcHeight) / ((float) dstHeight);
+            int yStart = Math.max(dstY, 0);
+            int yEnd = Math.min(dstY + dstHeight, dst.height);
+            int xStart = Math.max(dstX, 0);
+            int xEnd = Math.min(dstX + dstWidth, dst.width);
+            for (int y = yStart; y < yEnd; y++) {
+                for (int x = xStart; x < xEnd; x++) {
+                    int color = linear ? sampleLinear(src, srcX, srcY, srcWidth, srcHeight, (((float) (x - dstX)) + 0.5f) * scaleX, (((float) (y - dstY)) + 0.5f) * scaleY) : sampleNearest(src, srcX + (((x - dstX) * srcWidth) / dstWidth), srcY + (((y - dstY) * srcHeight) / dstHeight));
+                    if (color != 0 || dst.blend != 1) {
+                        if (dst.blend == 1) {
+                            color = blend(color, toRGBA8888(dst.format, getRaw(dst, x, y)));
+                        }
+                        setRaw(dst, x, y, toFormat(dst.format, color));
+                    }
+                }
+            }
+        }
+    }
+
+    private static int sampleNearest(Gdx2DPixmap src, int x, int y) {
+        if (x < 0 || y < 0 || x >= src.width || y >= src.height) {
+            return 0;
+        }
+        return toRGBA8888(src.format, getRaw(src, x, y));
+    }
+
+    private static int sampleLinear(Gdx2DPixmap src, int srcX, int srcY, int srcWidth, int srcHeight, float u, float v) {
+        float u2 = u - 0.5f;
+        float v2 = v - 0.5f;
+        int x0 = (int) Math.floor((double) u2);
+        int y0 = (int) Math.floor((double) v2);
+        float fx = u2 - ((float) x0);
+        float fy = v2 - ((float) y0);
+        int x02 = Math.max(0, Math.min(x0, srcWidth - 1));
+        int x1 = Math.max(0, Math.min(x0 + 1, srcWidth - 1));
+        int y02 = Math.max(0, Math.min(y0, srcHeight - 1));
+        int y1 = Math.max(0, Math.min(y0 + 1, srcHeight - 1));
+        int c00 = sampleNearest(src, srcX + x02, srcY + y02);
+        int c10 = sampleNearest(src, srcX + x1, srcY + y02);
+        int c01 = sampleNearest(src, srcX + x02, srcY + y1);
+        int c11 = sampleNearest(src, srcX + x1, srcY + y1);
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            float top = (((float) ((c00 >>> shift) & 255)) * (1.0f - fx)) + (((float) ((c10 >>> shift) & 255)) * fx);
+            float bottom = (((float) ((c01 >>> shift) & 255)) * (1.0f - fx)) + (((float) ((c11 >>> shift) & 255)) * fx);
+            result |= Math.min(255, (int) ((top * (1.0f - fy)) + (bottom * fy) + 0.5f)) << shift;
+        }
+        return result;
+    }
+}
@@ -19,11 +19,15 @@ public class Gdx2DPixmap implements Disposable {
     public static final int GDX2D_FORMAT_RGBA8888 = 4;
     public static final int GDX2D_SCALE_LINEAR = 1;
     public static final int GDX2D_SCALE_NEAREST = 0;
+    private static volatile boolean javaDecoder = false;
+    private static volatile boolean nativesMissing = false;
     long basePtr;
+    int blend = 1;
     int format;
     int height;
     long[] nativeData = new long[4];
     ByteBuffer pixelPtr;
+    int scale = 0;
     int width;
 
     private static native void clear(long j, int i);
@@ -58,6 +62,14 @@ public class Gdx2DPixmap implements Disposable {
 
     private static native void setScale(long j, int i);
 
+    public static void setJavaDecoder(boolean javaDecoder2) {
+        javaDecoder = javaDecoder2;
+    }
+
+    public static boolean isJavaDecoder() {
+        return javaDecoder;
+    }
+
     public static int toGlFormat(int format2) {
         switch (format2) {
             case 1:
@@ -92,7 +104,7 @@ public class Gdx2DPixmap implements Disposable {
     }
 
     public Gdx2DPixmap(byte[] encodedData, int offset, int len, int requestedFormat) throws IOException {
-        this.pixelPtr = load(this.nativeData, encodedData, offset, len);
+        this.pixelPtr = decode(this.nativeData, encodedData, offset, len);
         if (this.pixelPtr != null) {
             long[] jArr = this.nativeData;
             this.basePtr = jArr[0];
@@ -120,7 +132,7 @@ public class Gdx2DPixmap implements Disposable {
             bytes.write(buffer, 0, readBytes);
         }
         byte[] buffer2 = bytes.toByteArray();
-        this.pixelPtr = load(this.nativeData, buffer2, 0, buffer2.length);
+        this.pixelPtr = decode(this.nativeData, buffer2, 0, buffer2.length);
         if (this.pixelPtr != null) {
             long[] jArr = this.nativeData;
             this.basePtr = jArr[0];
@@ -137,7 +149,7 @@ public class Gdx2DPixmap implements Disposable {
     }
 
     public Gdx2DPixmap(int width2, int height2, int format2) throws GdxRuntimeException {
-        this.pixelPtr = newPixmap(this.nativeData, width2, height2, format2);
+        this.pixelPtr = allocate(this.nativeData, width2, height2, format2);
         if (this.pixelPtr != null) {
             long[] jArr = this.nativeData;
             this.basePtr = jArr[0];
@@ -157,6 +169,56 @@ public class Gdx2DPixmap implements Disposable {
         this.format = (int) nativeData2[3];
     }
 
+    private static ByteBuffer decode(long[] nativeData2, byte[] encodedData, int offset, int len) throws IOException {
+        boolean png = PngDecoder.isPng(encodedData, offset, len);
+        if (!javaDecoder || !png) {
+            if (!nativesMissing) {
+                try {
+                    return load(nativeData2, encodedData, offset, len);
+                } catch (UnsatisfiedLinkError e) {
+                    nativesMissing = true;
+                }
+            }
+            if (!png) {
+                throw new IOException("Only PNG images can be decoded without the native gdx2d library");
+            }
+        }
+        return toNative(nativeData2, PngDecoder.decode(nativeData2, encodedData, offset, len));
+    }
+
+    private static ByteBuffer toNative(long[] nativeData2, ByteBuffer pixels) {
+        if (nativesMissing) {
+            return pixels;
+        }
+        long[] data = new long[4];
+        try {
+            ByteBuffer nativePixels = newPixmap(data, (int) nativeData2[1], (int) nativeData2[2], (int) nativeData2[3]);
+            if (nativePixels == null) {
+                return pixels;
+            }
+            pixels.clear();
+            nativePixels.clear();
+            nativePixels.put(pixels);
+            nativePixels.clear();
+            System.arraycopy(data, 0, nativeData2, 0, 4);
+            return nativePixels;
+        } catch (UnsatisfiedLinkError e) {
+            nativesMissing = true;
+            return pixels;
+        }
+    }
+
+    private static ByteBuffer allocate(long[] nativeData2, int width2, int height2, int format2) {
+        if (!nativesMissing) {
+            try {
+                return newPixmap(nativeData2, width2, height2, format2);
+            } catch (UnsatisfiedLinkError e) {
+                nativesMissing = true;
+            }
+        }
+        return Gdx2DJava.newPixels(nativeData2, width2, height2, format2);
+    }
+
     private void convert(int requestedFormat) {
         Gdx2DPixmap pixmap = new Gdx2DPixmap(this.width, this.height, requestedFormat);
         pixmap.setBlend(0);
@@ -171,59 +233,118 @@ public class Gdx2DPixmap implements Disposable {
     }
 
     public void dispose() {
-        free(this.basePtr);
+        long j = this.basePtr;
+        if (j != 0) {
+            free(j);
+        }
     }
 
     public void clear(int color) {
-        clear(this.basePtr, color);
+        long j = this.basePtr;
+        if (j == 0) {
+            Gdx2DJava.clear(this, color);
+        } else {
+            clear(j, color);
+        }
     }
 
     public void setPixel(int x, int y, int color) {
-        setPixel(this.basePtr, x, y, color);
+        long j = this.basePtr;
+        if (j == 0) {
+            Gdx2DJava.setPixel(this, x, y, color);
+        } else {
+            setPixel(j, x, y, color);
+        }
     }
 
     public int getPixel(int x, int y) {
-        return getPixel(this.basePtr, x, y);
+        long j = this.basePtr;
+        if (j == 0) {
+            return Gdx2DJava.getPixel(this, x, y);
+        }
+        return getPixel(j, x, y);
     }
 
     public void drawLine(int x, int y, int x2, int y2, int color) {
-        drawLine(this.basePtr, x, y, x2, y2, color);
+        long j = this.basePtr;
+        if (j == 0) {
+            Gdx2DJava.drawLine(this, x, y, x2, y2, color);
+        } else {
+            drawLine(j, x, y, x2, y2, color);
+        }
     }
 
     public void drawRect(int x, int y, int width2, int height2, int color) {
-        drawRect(this.basePtr, x, y, width2, height2, color);
+        long j = this.basePtr;
+        if (j == 0) {
+            Gdx2DJava.drawRect(this, x, y, width2, height2, color);
+        } else {
+            drawRect(j, x, y, width2, height2, color);
+        }
     }
 
     public void drawCircle(int x, int y, int radius, int color) {
-        drawCircle(this.basePtr, x, y, radius, color);
+        long j = this.basePtr;
+        if (j == 0) {
+            Gdx2DJava.drawCircle(this, x, y, radius, color);
+        } else {
+            drawCircle(j, x, y, radius, color);
+        }
     }
 
     public void fillRect(int x, int y, int width2, int height2, int color) {
-        fillRect(this.basePtr, x, y, width2, height2, color);
+        long j = this.basePtr;
+        if (j == 0) {
+            Gdx2DJava.fillRect(this, x, y, width2, height2, color);
+        } else {
+            fillRect(j, x, y, width2, height2, color);
+        }
     }
 
     public void fillCircle(int x, int y, int radius, int color) {
-        fillCircle(this.basePtr, x, y, radius, color);
+        long j = this.basePtr;
+        if (j == 0) {
+            Gdx2DJava.fillCircle(this, x, y, radius, color);
+        } else {
+            fillCircle(j, x, y, radius, color);
+        }
     }
 
     public void fillTriangle(int x1, int y1, int x2, int y2, int x3, int y3, int color) {
-        fillTriangle(this.basePtr, x1, y1, x2, y2, x3, y3, color);
+        long j = this.basePtr;
+        if (j == 0) {
+            Gdx2DJava.fillTriangle(this, x1, y1, x2, y2, x3, y3, color);
+        } else {
+            fillTriangle(j, x1, y1, x2, y2, x3, y3, color);
+        }
     }
 
     public void drawPixmap(Gdx2DPixmap src, int srcX, int srcY, int dstX, int dstY, int width2, int height2) {
-        drawPixmap(src.basePtr, this.basePtr, srcX, srcY, width2, height2, dstX, dstY, width2, height2);
+        drawPixmap(src, srcX, srcY, width2, height2, dstX, dstY, width2, height2);
     }
 
     public void drawPixmap(Gdx2DPixmap src, int srcX, int srcY, int srcWidth, int srcHeight, int dstX, int dstY, int dstWidth, int dstHeight) {
-        drawPixmap(src.basePtr, this.basePtr, srcX, srcY, srcWidth, srcHeight, dstX, dstY, dstWidth, dstHeight);
+        if (src.basePtr == 0 || this.basePtr == 0) {
+            Gdx2DJava.drawPixmap(src, this, srcX, srcY, srcWidth, srcHeight, dstX, dstY, dstWidth, dstHeight);
+        } else {
+            drawPixmap(src.basePtr, this.basePtr, srcX, srcY, srcWidth, srcHeight, dstX, dstY, dstWidth, dstHeight);
+        }
     }
 
-    public void setBlend(int blend) {
-        setBlend(this.basePtr, blend);
+    public void setBlend(int blend2) {
+        this.blend = blend2;
+        long j = this.basePtr;
+        if (j != 0) {
+            setBlend(j, blend2);
+        }
     }
 
-    public void setScale(int scale) {
-        setScale(this.basePtr, scale);
+    public void setScale(int scale2) {
+        this.scale = scale2;
+        long j = this.basePtr;
+        if (j != 0) {
+            setScale(j, scale2);
+        }
     }
 
     public static Gdx2DPixmap newPixmap(InputStream in, int requestedFormat) {
@@ -38,6 +38,59 @@ public class GlyphLayout implements Pool.Poolable {
         setText(font, str, 0, str.length(), color, targetWidth, halign, wrap, (String) null);
     }
 
+    public int updateText(BitmapFont font, CharSequence str, Color color) {
+        if (this.runs.size != 1) {
+            return -1;
+        }
+        GlyphRun run = this.runs.first();
+        if (run.x != 0.0f || run.y != 0.0f || !run.color.equals(color)) {
+            return -1;
+        }
+        BitmapFont.BitmapFontData fontData = font.getData();
+        Array<BitmapFont.Glyph> glyphs = run.glyphs;
+        FloatArray xAdvances = run.xAdvances;
+        int n = str.length();
+        if (n == 0 || glyphs.size == 0 || xAdvances.size != glyphs.size + 1) {
+            return -1;
+        }
+        for (int i = 0; i < n; i++) {
+            char ch = str.charAt(i);
+            if (ch == 10 || ch == 13) {
+                return -1;
+            }
+            if (ch == '[' && fontData.markupEnabled) {
+                return -1;
+            }
+            if (fontData.getGlyph(ch) == null && fontData.missingGlyph == null) {
+                return -1;
+            }
+        }
+        int start = 0;
+        int max = Math.min(n, glyphs.size);
+        while (start < max && glyphs.get(start).id == str.charAt(start)) {
+            start++;
+        }
+        if (start > 0) {
+            BitmapFont.Glyph first = glyphs.first();
+            float advance = glyphs.size > 1 ? ((float) (first.xadvance + first.getKerning((char) glyphs.get(1).id))) * fontData.scaleX : first.fixedWidth ? ((float) first.xadvance) * fontData.scaleX : (((float) (first.width + first.xoffset)) * fontData.scaleX) - fontData.padRight;
+            if (xAdvances.get(1) != advance) {
+                return -1;
+            }
+        }
+        glyphs.truncate(start);
+        xAdvances.truncate(start);
+        fontData.getGlyphs(run, str, start, n, start > 0 ? glyphs.get(start - 1) : null);
+        float width2 = 0.0f;
+        float[] items = xAdvances.items;
+        int nn = xAdvances.size;
+        for (int i2 = 0; i2 < nn; i2++) {
+            width2 += items[i2];
+        }
+        run.width = width2;
+        this.width = width2;
+        return start;
+    }
+
     /* JADX WARNING: Removed duplicated region for block: B:134:0x044a  */
     /* JADX WARNING: Removed duplicated region for block: B:139:0x0466  */
     /* Code decompiled incorrectly, please refer to instructions dump. */
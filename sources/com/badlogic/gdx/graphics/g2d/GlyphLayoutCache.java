@@ -0,0 +1,143 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Pools;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class GlyphLayoutCache {
+    private final LinkedHashMap<Key, GlyphLayout> layouts;
+    private final Key lookup = new Key();
+    final int maxSize;
+
+    public GlyphLayoutCache() {
+        this(128);
+    }
+
+    public GlyphLayoutCache(int maxSize2) {
+        if (maxSize2 >= 1) {
+            this.maxSize = maxSize2;
+            this.layouts = new LinkedHashMap<Key, GlyphLayout>(16, 0.75f, true) {
+                /* access modifiers changed from: protected */
+                public boolean removeEldestEntry(Map.Entry<Key, GlyphLayout> eldest) {
+                    if (size() <= GlyphLayoutCache.this.maxSize) {
+                        return false;
+                    }
+                    Pools.free(eldest.getValue());
+                    return true;
+                }
+            };
+            return;
+        }
+        throw new IllegalArgumentException("maxSize must be >= 1: " + maxSize2);
+    }
+
+    public GlyphLayout get(BitmapFont font, CharSequence str) {
+        return get(font, str, font.getColor(), 0.0f, 8, false, (String) null);
+    }
+
+    public GlyphLayout get(BitmapFont font, CharSequence str, Color color, float targetWidth, int halign, boolean wrap) {
+        return get(font, str, color, targetWidth, halign, wrap, (String) null);
+    }
+
+    public GlyphLayout get(BitmapFont font, CharSequence str, Color color, float targetWidth, int halign, boolean wrap, String truncate) {
+        Key key = this.lookup;
+        key.set(font, str, color, targetWidth, halign, wrap, truncate);
+        GlyphLayout layout = this.layouts.get(key);
+        key.text = null;
+        key.font = null;
+        if (layout != null) {
+            return layout;
+        }
+        GlyphLayout layout2 = (GlyphLayout) Pools.obtain(GlyphLayout.class);
+        layout2.setText(font, str, 0, str.length(), color, targetWidth, halign, wrap, truncate);
+        Key key2 = new Key();
+        key2.set(font, str.toString(), color, targetWidth, halign, wrap, truncate);
+        this.layouts.put(key2, layout2);
+        return layout2;
+    }
+
+    public int size() {
+        return this.layouts.size();
+    }
+
+    public void clear() {
+        for (GlyphLayout layout : this.layouts.values()) {
+            Pools.free(layout);
+        }
+        this.layouts.clear();
+    }
+
+    static class Key {
+        float color;
+        BitmapFont font;
+        int halign;
+        int hashCode;
+        float scaleX;
+        float scaleY;
+        float targetWidth;
+        CharSequence text;
+        String truncate;
+        boolean wrap;
+
+        Key() {
+        }
+
+        /* access modifiers changed from: package-private */
+        public void set(BitmapFont font2, CharSequence text2, Color color2, float targetWidth2, int halign2, boolean wrap2, String truncate2) {
+            this.font = font2;
+            this.text = text2;
+            this.color = color2.toFloatBits();
+            this.targetWidth = targetWidth2;
+            this.halign = halign2;
+            this.wrap = wrap2;
+            this.truncate = truncate2;
+            this.scaleX = font2.getData().scaleX;
+            this.scaleY = font2.getData().scaleY;
+            int h = System.identityHashCode(font2);
+            int n = text2.length();
+            for (int i = 0; i < n; i++) {
+                h = (h * 31) + text2.charAt(i);
+            }
+            int h2 = (((((h * 31) + Float.floatToIntBits(this.color)) * 31) + Float.floatToIntBits(targetWidth2)) * 31) + halign2;
+            this.hashCode = (h2 * 31) + (wrap2 ? 1 : 0);
+        }
+
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            if (this.hashCode != other.hashCode || this.font != other.font || this.color != other.color || this.targetWidth != other.targetWidth || this.halign != other.halign || this.wrap != other.wrap || this.scaleX != other.scaleX || this.scaleY != other.scaleY) {
+                return false;
+            }
+            String str = this.truncate;
+            if (str == null) {
+                if (other.truncate != null) {
+                    return false;
+                }
+            } else if (!str.equals(other.truncate)) {
+                return false;
+            }
+            CharSequence text2 = this.text;
+            CharSequence otherText = other.text;
+            int n = text2.length();
+            if (n != otherText.length()) {
+                return false;
+            }
+            for (int i = 0; i < n; i++) {
+                if (text2.charAt(i) != otherText.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
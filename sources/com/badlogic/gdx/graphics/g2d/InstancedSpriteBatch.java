@@ -0,0 +1,534 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public class InstancedSpriteBatch implements Batch {
+    public static final String AXES_ATTRIBUTE = "a_axes";
+    public static final String CORNER_ATTRIBUTE = "a_corner";
+    public static final String ORIGIN_ATTRIBUTE = "a_origin";
+    public static final String REGION_ATTRIBUTE = "a_region";
+    static final int INSTANCE_SIZE = 11;
+    private int blendDstFunc;
+    private int blendDstFuncAlpha;
+    private int blendSrcFunc;
+    private int blendSrcFuncAlpha;
+    private boolean blendingDisabled;
+    private final Color color;
+    float colorPacked;
+    private final Matrix4 combinedMatrix;
+    private ShaderProgram customShader;
+    boolean drawing;
+    int idx;
+    final float[] instances;
+    float invTexHeight;
+    float invTexWidth;
+    Texture lastTexture;
+    public int maxSpritesInBatch;
+    private final Mesh mesh;
+    private boolean ownsShader;
+    private final Matrix4 projectionMatrix;
+    public int renderCalls;
+    private final ShaderProgram shader;
+    public int totalRenderCalls;
+    private final Matrix4 transformMatrix;
+
+    public InstancedSpriteBatch() {
+        this(1000, (ShaderProgram) null);
+    }
+
+    public InstancedSpriteBatch(int size) {
+        this(size, (ShaderProgram) null);
+    }
+
+    public InstancedSpriteBatch(int size, ShaderProgram defaultShader) {
+        this.idx = 0;
+        this.lastTexture = null;
+        this.invTexWidth = 0.0f;
+        this.invTexHeight = 0.0f;
+        this.drawing = false;
+        this.transformMatrix = new Matrix4();
+        this.projectionMatrix = new Matrix4();
+        this.combinedMatrix = new Matrix4();
+        this.blendingDisabled = false;
+        this.blendSrcFunc = GL20.GL_SRC_ALPHA;
+        this.blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+        this.blendSrcFuncAlpha = GL20.GL_SRC_ALPHA;
+        this.blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+        this.customShader = null;
+        this.color = new Color(1.0f, 1.0f, 1.0f, 1.0f);
+        this.colorPacked = Color.WHITE_FLOAT_BITS;
+        this.renderCalls = 0;
+        this.totalRenderCalls = 0;
+        this.maxSpritesInBatch = 0;
+        if (Gdx.gl30 == null) {
+            throw new GdxRuntimeException("InstancedSpriteBatch requires a device running with GLES 3.0 compatibilty");
+        } else if (size >= 1) {
+            this.mesh = new Mesh(Mesh.VertexDataType.VertexBufferObjectWithVAO, true, 4, 6, new VertexAttribute(32, 2, CORNER_ATTRIBUTE));
+            this.mesh.setVertices(new float[]{0.0f, 0.0f, 0.0f, 1.0f, 1.0f, 1.0f, 1.0f, 0.0f});
+            this.mesh.setIndices(new short[]{0, 1, 2, 2, 3, 0});
+            this.mesh.enableInstancedRendering(false, size, new VertexAttribute(32, 2, ORIGIN_ATTRIBUTE), new VertexAttribute(32, 4, AXES_ATTRIBUTE), new VertexAttribute(32, 4, REGION_ATTRIBUTE), new VertexAttribute(4, 4, ShaderProgram.COLOR_ATTRIBUTE));
+            this.projectionMatrix.setToOrtho2D(0.0f, 0.0f, (float) Gdx.graphics.getWidth(), (float) Gdx.graphics.getHeight());
+            this.instances = new float[(size * INSTANCE_SIZE)];
+            if (defaultShader == null) {
+                this.shader = createDefaultShader();
+                this.ownsShader = true;
+                return;
+            }
+            this.shader = defaultShader;
+        } else {
+            throw new IllegalArgumentException("size must be >= 1: " + size);
+        }
+    }
+
+    public static Batch create(int size) {
+        if (Gdx.gl30 != null) {
+            return new InstancedSpriteBatch(size);
+        }
+        return new SpriteBatch(Math.min(size, 8191));
+    }
+
+    public static ShaderProgram createDefaultShader() {
+        ShaderProgram shader2 = new ShaderProgram("attribute vec2 a_corner;\nattribute vec2 a_origin;\nattribute vec4 a_axes;\nattribute vec4 a_region;\nattribute vec4 a_color;\nuniform mat4 u_projTrans;\nvarying vec4 v_color;\nvarying vec2 v_texCoords;\n\nvoid main()\n{\n   v_color = a_color;\n   v_color.a = v_color.a * (255.0/254.0);\n   v_texCoords = mix(a_region.xy, a_region.zw, a_corner);\n   vec2 position = a_origin + a_axes.xy * a_corner.x + a_axes.zw * a_corner.y;\n   gl_Position =  u_projTrans * vec4(position, 0.0, 1.0);\n}\n", "#ifdef GL_ES\n#define LOWP lowp\nprecision mediump float;\n#else\n#define LOWP \n#endif\nvarying LOWP vec4 v_color;\nvarying vec2 v_texCoords;\nuniform sampler2D u_texture;\nvoid main()\n{\n  gl_FragColor = v_color * texture2D(u_texture, v_texCoords);\n}");
+        if (shader2.isCompiled()) {
+            return shader2;
+        }
+        throw new IllegalArgumentException("Error compiling shader: " + shader2.getLog());
+    }
+
+    public void begin() {
+        if (!this.drawing) {
+            this.renderCalls = 0;
+            Gdx.gl.glDepthMask(false);
+            ShaderProgram shaderProgram = this.customShader;
+            if (shaderProgram != null) {
+                shaderProgram.begin();
+            } else {
+                this.shader.begin();
+            }
+            setupMatrices();
+            this.drawing = true;
+            return;
+        }
+        throw new IllegalStateException("InstancedSpriteBatch.end must be called before begin.");
+    }
+
+    public void end() {
+        if (this.drawing) {
+            if (this.idx > 0) {
+                flush();
+            }
+            this.lastTexture = null;
+            this.drawing = false;
+            GL20 gl = Gdx.gl;
+            gl.glDepthMask(true);
+            if (isBlendingEnabled()) {
+                gl.glDisable(GL20.GL_BLEND);
+            }
+            ShaderProgram shaderProgram = this.customShader;
+            if (shaderProgram != null) {
+                shaderProgram.end();
+            } else {
+                this.shader.end();
+            }
+        } else {
+            throw new IllegalStateException("InstancedSpriteBatch.begin must be called before end.");
+        }
+    }
+
+    public void setColor(Color tint) {
+        this.color.set(tint);
+        this.colorPacked = tint.toFloatBits();
+    }
+
+    public void setColor(float r, float g, float b, float a) {
+        this.color.set(r, g, b, a);
+        this.colorPacked = this.color.toFloatBits();
+    }
+
+    public Color getColor() {
+        return this.color;
+    }
+
+    public void setPackedColor(float packedColor) {
+        Color.abgr8888ToColor(this.color, packedColor);
+        this.colorPacked = packedColor;
+    }
+
+    public float getPackedColor() {
+        return this.colorPacked;
+    }
+
+    public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        if (this.drawing) {
+            switchTexture(texture);
+            float u = ((float) srcX) * this.invTexWidth;
+            float v = ((float) (srcY + srcHeight)) * this.invTexHeight;
+            float u2 = ((float) (srcX + srcWidth)) * this.invTexWidth;
+            float v2 = ((float) srcY) * this.invTexHeight;
+            if (flipX) {
+                float tmp = u;
+                u = u2;
+                u2 = tmp;
+            }
+            if (flipY) {
+                float tmp2 = v;
+                v = v2;
+                v2 = tmp2;
+            }
+            putSprite(x, y, originX, originY, width, height, scaleX, scaleY, rotation, false, u, v, u2, v2);
+            return;
+        }
+        throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        if (this.drawing) {
+            switchTexture(texture);
+            float u = ((float) srcX) * this.invTexWidth;
+            float v = ((float) (srcY + srcHeight)) * this.invTexHeight;
+            float u2 = ((float) (srcX + srcWidth)) * this.invTexWidth;
+            float v2 = ((float) srcY) * this.invTexHeight;
+            if (flipX) {
+                float tmp = u;
+                u = u2;
+                u2 = tmp;
+            }
+            if (flipY) {
+                float tmp2 = v;
+                v = v2;
+                v2 = tmp2;
+            }
+            putSprite(x, y, width, 0.0f, 0.0f, height, u, v, u2, v2);
+            return;
+        }
+        throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+        if (this.drawing) {
+            switchTexture(texture);
+            float u = ((float) srcX) * this.invTexWidth;
+            float v = ((float) (srcY + srcHeight)) * this.invTexHeight;
+            float u2 = ((float) (srcX + srcWidth)) * this.invTexWidth;
+            float v2 = ((float) srcY) * this.invTexHeight;
+            putSprite(x, y, (float) srcWidth, 0.0f, 0.0f, (float) srcHeight, u, v, u2, v2);
+            return;
+        }
+        throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+        if (this.drawing) {
+            switchTexture(texture);
+            putSprite(x, y, width, 0.0f, 0.0f, height, u, v, u2, v2);
+            return;
+        }
+        throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y) {
+        draw(texture, x, y, (float) texture.getWidth(), (float) texture.getHeight());
+    }
+
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        if (this.drawing) {
+            switchTexture(texture);
+            putSprite(x, y, width, 0.0f, 0.0f, height, 0.0f, 1.0f, 1.0f, 0.0f);
+            return;
+        }
+        throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+        if (this.drawing) {
+            switchTexture(texture);
+            int end = offset + count;
+            for (int i = offset; i < end; i += 20) {
+                float x1 = spriteVertices[i];
+                float y1 = spriteVertices[i + 1];
+                float sx = spriteVertices[i + 15] - x1;
+                float sy = spriteVertices[i + 16] - y1;
+                float tx = spriteVertices[i + 5] - x1;
+                float ty = spriteVertices[i + 6] - y1;
+                float color2 = this.colorPacked;
+                this.colorPacked = spriteVertices[i + 2];
+                if (spriteVertices[i + 19] == spriteVertices[i + 4]) {
+                    putSprite(x1, y1, sx, sy, tx, ty, spriteVertices[i + 3], spriteVertices[i + 4], spriteVertices[i + 13], spriteVertices[i + 14]);
+                } else {
+                    putSprite(x1, y1, tx, ty, sx, sy, spriteVertices[i + 3], spriteVertices[i + 4], spriteVertices[i + 13], spriteVertices[i + 14]);
+                }
+                this.colorPacked = color2;
+            }
+            return;
+        }
+        throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(TextureRegion region, float x, float y) {
+        draw(region, x, y, (float) region.getRegionWidth(), (float) region.getRegionHeight());
+    }
+
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        if (this.drawing) {
+            switchTexture(region.texture);
+            putSprite(x, y, width, 0.0f, 0.0f, height, region.u, region.v2, region.u2, region.v);
+            return;
+        }
+        throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation) {
+        if (this.drawing) {
+            switchTexture(region.texture);
+            putSprite(x, y, originX, originY, width, height, scaleX, scaleY, rotation, false, region.u, region.v2, region.u2, region.v);
+            return;
+        }
+        throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, boolean clockwise) {
+        if (this.drawing) {
+            switchTexture(region.texture);
+            if (clockwise) {
+                putSprite(x, y, originX, originY, width, height, scaleX, scaleY, rotation, true, region.u2, region.v2, region.u, region.v);
+                return;
+            }
+            putSprite(x, y, originX, originY, width, height, scaleX, scaleY, rotation, true, region.u, region.v, region.u2, region.v2);
+            return;
+        }
+        throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+        if (this.drawing) {
+            switchTexture(region.texture);
+            putSprite(transform.m02, transform.m12, transform.m00 * width, transform.m10 * width, transform.m01 * height, transform.m11 * height, region.u, region.v2, region.u2, region.v);
+            return;
+        }
+        throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+    }
+
+    private void putSprite(float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, boolean rotatedRegion, float u, float v, float u2, float v2) {
+        float x1 = -originX * scaleX;
+        float y1 = -originY * scaleY;
+        float sx = width * scaleX;
+        float sy = 0.0f;
+        float tx = 0.0f;
+        float ty = height * scaleY;
+        if (rotation != 0.0f) {
+            float cos = MathUtils.cosDeg(rotation);
+            float sin = MathUtils.sinDeg(rotation);
+            float rx = (cos * x1) - (sin * y1);
+            y1 = (sin * x1) + (cos * y1);
+            x1 = rx;
+            tx = (-sin) * ty;
+            ty = cos * ty;
+            sy = sin * sx;
+            sx = cos * sx;
+        }
+        if (rotatedRegion) {
+            putSprite(x1 + x + originX, y1 + y + originY, tx, ty, sx, sy, u, v, u2, v2);
+        } else {
+            putSprite(x1 + x + originX, y1 + y + originY, sx, sy, tx, ty, u, v, u2, v2);
+        }
+    }
+
+    private void putSprite(float x, float y, float sx, float sy, float tx, float ty, float u, float v, float u2, float v2) {
+        if (this.idx == this.instances.length) {
+            flush();
+        }
+        float[] instances2 = this.instances;
+        int idx2 = this.idx;
+        instances2[idx2] = x;
+        instances2[idx2 + 1] = y;
+        instances2[idx2 + 2] = sx;
+        instances2[idx2 + 3] = sy;
+        instances2[idx2 + 4] = tx;
+        instances2[idx2 + 5] = ty;
+        instances2[idx2 + 6] = u;
+        instances2[idx2 + 7] = v;
+        instances2[idx2 + 8] = u2;
+        instances2[idx2 + 9] = v2;
+        instances2[idx2 + 10] = this.colorPacked;
+        this.idx = idx2 + INSTANCE_SIZE;
+    }
+
+    public void flush() {
+        int i = this.idx;
+        if (i != 0) {
+            this.renderCalls++;
+            this.totalRenderCalls++;
+            int spritesInBatch = i / INSTANCE_SIZE;
+            if (spritesInBatch > this.maxSpritesInBatch) {
+                this.maxSpritesInBatch = spritesInBatch;
+            }
+            this.lastTexture.bind();
+            Mesh mesh2 = this.mesh;
+            mesh2.setInstanceData(this.instances, 0, this.idx);
+            if (this.blendingDisabled) {
+                Gdx.gl.glDisable(GL20.GL_BLEND);
+            } else {
+                Gdx.gl.glEnable(GL20.GL_BLEND);
+                if (this.blendSrcFunc != -1) {
+                    Gdx.gl.glBlendFuncSeparate(this.blendSrcFunc, this.blendDstFunc, this.blendSrcFuncAlpha, this.blendDstFuncAlpha);
+                }
+            }
+            ShaderProgram shaderProgram = this.customShader;
+            if (shaderProgram == null) {
+                shaderProgram = this.shader;
+            }
+            mesh2.render(shaderProgram, 4, 0, 6);
+            this.idx = 0;
+        }
+    }
+
+    public void disableBlending() {
+        if (!this.blendingDisabled) {
+            flush();
+            this.blendingDisabled = true;
+        }
+    }
+
+    public void enableBlending() {
+        if (this.blendingDisabled) {
+            flush();
+            this.blendingDisabled = false;
+        }
+    }
+
+    public void setBlendFunction(int srcFunc, int dstFunc) {
+        setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+    }
+
+    public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+        if (this.blendSrcFunc != srcFuncColor || this.blendDstFunc != dstFuncColor || this.blendSrcFuncAlpha != srcFuncAlpha || this.blendDstFuncAlpha != dstFuncAlpha) {
+            flush();
+            this.blendSrcFunc = srcFuncColor;
+            this.blendDstFunc = dstFuncColor;
+            this.blendSrcFuncAlpha = srcFuncAlpha;
+            this.blendDstFuncAlpha = dstFuncAlpha;
+        }
+    }
+
+    public int getBlendSrcFunc() {
+        return this.blendSrcFunc;
+    }
+
+    public int getBlendDstFunc() {
+        return this.blendDstFunc;
+    }
+
+    public int getBlendSrcFuncAlpha() {
+        return this.blendSrcFuncAlpha;
+    }
+
+    public int getBlendDstFuncAlpha() {
+        return this.blendDstFuncAlpha;
+    }
+
+    public void dispose() {
+        ShaderProgram shaderProgram;
+        this.mesh.dispose();
+        if (this.ownsShader && (shaderProgram = this.shader) != null) {
+            shaderProgram.dispose();
+        }
+    }
+
+    public Matrix4 getProjectionMatrix() {
+        return this.projectionMatrix;
+    }
+
+    public Matrix4 getTransformMatrix() {
+        return this.transformMatrix;
+    }
+
+    public void setProjectionMatrix(Matrix4 projection) {
+        if (this.drawing) {
+            flush();
+        }
+        this.projectionMatrix.set(projection);
+        if (this.drawing) {
+            setupMatrices();
+        }
+    }
+
+    public void setTransformMatrix(Matrix4 transform) {
+        if (this.drawing) {
+            flush();
+        }
+        this.transformMatrix.set(transform);
+        if (this.drawing) {
+            setupMatrices();
+        }
+    }
+
+    private void setupMatrices() {
+        this.combinedMatrix.set(this.projectionMatrix).mul(this.transformMatrix);
+        ShaderProgram shaderProgram = this.customShader;
+        if (shaderProgram != null) {
+            shaderProgram.setUniformMatrix("u_projTrans", this.combinedMatrix);
+            this.customShader.setUniformi("u_texture", 0);
+            return;
+        }
+        this.shader.setUniformMatrix("u_projTrans", this.combinedMatrix);
+        this.shader.setUniformi("u_texture", 0);
+    }
+
+    /* access modifiers changed from: protected */
+    public void switchTexture(Texture texture) {
+        if (texture != this.lastTexture) {
+            flush();
+            this.lastTexture = texture;
+            this.invTexWidth = 1.0f / ((float) texture.getWidth());
+            this.invTexHeight = 1.0f / ((float) texture.getHeight());
+        }
+    }
+
+    public void setShader(ShaderProgram shader2) {
+        if (this.drawing) {
+            flush();
+            ShaderProgram shaderProgram = this.customShader;
+            if (shaderProgram != null) {
+                shaderProgram.end();
+            } else {
+                this.shader.end();
+            }
+        }
+        this.customShader = shader2;
+        if (this.drawing) {
+            ShaderProgram shaderProgram2 = this.customShader;
+            if (shaderProgram2 != null) {
+                shaderProgram2.begin();
+            } else {
+                this.shader.begin();
+            }
+            setupMatrices();
+        }
+    }
+
+    public ShaderProgram getShader() {
+        ShaderProgram shaderProgram = this.customShader;
+        if (shaderProgram == null) {
+            return this.shader;
+        }
+        return shaderProgram;
+    }
+
+    public boolean isBlendingEnabled() {
+        return !this.blendingDisabled;
+    }
+
+    public boolean isDrawing() {
+        return this.drawing;
+    }
+}
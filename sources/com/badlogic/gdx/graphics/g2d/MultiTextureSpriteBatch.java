@@ -0,0 +1,655 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+import java.nio.IntBuffer;
+
+public class MultiTextureSpriteBatch implements Batch {
+    public static final String TEXTURE_INDEX_ATTRIBUTE = "a_texIndex";
+    static final int SPRITE_SIZE = 24;
+    private int blendDstFunc;
+    private int blendDstFuncAlpha;
+    private int blendSrcFunc;
+    private int blendSrcFuncAlpha;
+    private boolean blendStateDirty;
+    private boolean blendingDisabled;
+    private final Color color;
+    float colorPacked;
+    private final Matrix4 combinedMatrix;
+    private ShaderProgram customShader;
+    boolean drawing;
+    int idx;
+    float invTexHeight;
+    float invTexWidth;
+    Texture lastTexture;
+    float lastTextureIndex;
+    public int maxSpritesInBatch;
+    private final Mesh mesh;
+    private boolean ownsShader;
+    private final Matrix4 projectionMatrix;
+    public int renderCalls;
+    private final ShaderProgram shader;
+    final String[] textureUniforms;
+    int textureCount;
+    final Texture[] textures;
+    public int totalRenderCalls;
+    private final Matrix4 transformMatrix;
+    final float[] vertices;
+
+    public MultiTextureSpriteBatch() {
+        this(1000);
+    }
+
+    public MultiTextureSpriteBatch(int size) {
+        this(size, getMaxTextureUnits(), (ShaderProgram) null);
+    }
+
+    public MultiTextureSpriteBatch(int size, int maxTextures, ShaderProgram defaultShader) {
+        this.idx = 0;
+        this.lastTexture = null;
+        this.lastTextureIndex = 0.0f;
+        this.textureCount = 0;
+        this.invTexWidth = 0.0f;
+        this.invTexHeight = 0.0f;
+        this.drawing = false;
+        this.transformMatrix = new Matrix4();
+        this.projectionMatrix = new Matrix4();
+        this.combinedMatrix = new Matrix4();
+        this.blendingDisabled = false;
+        this.blendStateDirty = true;
+        this.blendSrcFunc = GL20.GL_SRC_ALPHA;
+        this.blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+        this.blendSrcFuncAlpha = GL20.GL_SRC_ALPHA;
+        this.blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+        this.customShader = null;
+        this.color = new Color(1.0f, 1.0f, 1.0f, 1.0f);
+        this.colorPacked = Color.WHITE_FLOAT_BITS;
+        this.renderCalls = 0;
+        this.totalRenderCalls = 0;
+        this.maxSpritesInBatch = 0;
+        if (size > 8191) {
+            throw new IllegalArgumentException("Can't have more than 8191 sprites per batch: " + size);
+        } else if (maxTextures >= 1) {
+            this.mesh = new Mesh(Gdx.gl30 != null ? Mesh.VertexDataType.VertexBufferObjectWithVAO : Mesh.VertexDataType.VertexArray, false, size * 4, size * 6, new VertexAttribute(1, 2, ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(4, 4, ShaderProgram.COLOR_ATTRIBUTE), new VertexAttribute(16, 2, "a_texCoord0"), new VertexAttribute(32, 1, TEXTURE_INDEX_ATTRIBUTE));
+            this.projectionMatrix.setToOrtho2D(0.0f, 0.0f, (float) Gdx.graphics.getWidth(), (float) Gdx.graphics.getHeight());
+            this.vertices = new float[(size * SPRITE_SIZE)];
+            this.textures = new Texture[maxTextures];
+            this.textureUniforms = new String[maxTextures];
+            for (int i = 0; i < maxTextures; i++) {
+                this.textureUniforms[i] = "u_textures[" + i + "]";
+            }
+            int len = size * 6;
+            short[] indices = new short[len];
+            short j = 0;
+            int i2 = 0;
+            while (i2 < len) {
+                indices[i2] = j;
+                indices[i2 + 1] = (short) (j + 1);
+                indices[i2 + 2] = (short) (j + 2);
+                indices[i2 + 3] = (short) (j + 2);
+                indices[i2 + 4] = (short) (j + 3);
+                indices[i2 + 5] = j;
+                i2 += 6;
+                j = (short) (j + 4);
+            }
+            this.mesh.setIndices(indices);
+            if (defaultShader == null) {
+                this.shader = createDefaultShader(maxTextures);
+                this.ownsShader = true;
+                return;
+            }
+            this.shader = defaultShader;
+        } else {
+            throw new IllegalArgumentException("maxTextures must be >= 1: " + maxTextures);
+        }
+    }
+
+    public static int getMaxTextureUnits() {
+        IntBuffer buffer = BufferUtils.newIntBuffer(16);
+        Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_IMAGE_UNITS, buffer);
+        return buffer.get(0);
+    }
+
+    public static ShaderProgram createDefaultShader(int maxTextures) {
+        StringBuilder fragmentShader = new StringBuilder(256 + (maxTextures * 96));
+        fragmentShader.append("#ifdef GL_ES\n#define LOWP lowp\nprecision mediump float;\n#else\n#define LOWP \n#endif\nvarying LOWP vec4 v_color;\nvarying vec2 v_texCoords;\nvarying float v_texIndex;\nuniform sampler2D u_textures[").append(maxTextures).append("];\nvoid main()\n{\n  int index = int(v_texIndex + 0.5);\n  vec4 texel;\n  ");
+        for (int i = 0; i < maxTextures - 1; i++) {
+            fragmentShader.append("if (index == ").append(i).append(") texel = texture2D(u_textures[").append(i).append("], v_texCoords);\n  else ");
+        }
+        fragmentShader.append("texel = texture2D(u_textures[").append(maxTextures - 1).append("], v_texCoords);\n  gl_FragColor = v_color * texel;\n}");
+        ShaderProgram shader2 = new ShaderProgram("attribute vec4 a_position;\nattribute vec4 a_color;\nattribute vec2 a_texCoord0;\nattribute float a_texIndex;\nuniform mat4 u_projTrans;\nvarying vec4 v_color;\nvarying vec2 v_texCoords;\nvarying float v_texIndex;\n\nvoid main()\n{\n   v_color = a_color;\n   v_color.a = v_color.a * (255.0/254.0);\n   v_texCoords = a_texCoord0;\n   v_texIndex = a_texIndex;\n   gl_Position =  u_projTrans * a_position;\n}\n", fragmentShader.toString());
+        if (shader2.isCompiled()) {
+            return shader2;
+        }
+        throw new IllegalArgumentException("Error compiling shader: " + shader2.getLog());
+    }
+
+    public void begin() {
+        if (!this.drawing) {
+            this.renderCalls = 0;
+            this.blendStateDirty = true;
+            Gdx.gl.glDepthMask(false);
+            ShaderProgram shaderProgram = this.customShader;
+            if (shaderProgram != null) {
+                shaderProgram.begin();
+            } else {
+                this.shader.begin();
+            }
+            setupMatrices();
+            this.drawing = true;
+            return;
+        }
+        throw new IllegalStateException("MultiTextureSpriteBatch.end must be called before begin.");
+    }
+
+    public void end() {
+        if (this.drawing) {
+            if (this.idx > 0) {
+                flush();
+            }
+            this.lastTexture = null;
+            this.drawing = false;
+            GL20 gl = Gdx.gl;
+            gl.glDepthMask(true);
+            if (isBlendingEnabled()) {
+                gl.glDisable(GL20.GL_BLEND);
+            }
+            ShaderProgram shaderProgram = this.customShader;
+            if (shaderProgram != null) {
+                shaderProgram.end();
+            } else {
+                this.shader.end();
+            }
+        } else {
+            throw new IllegalStateException("MultiTextureSpriteBatch.begin must be called before end.");
+        }
+    }
+
+    public void setColor(Color tint) {
+        this.color.set(tint);
+        this.colorPacked = tint.toFloatBits();
+    }
+
+    public void setColor(float r, float g, float b, float a) {
+        this.color.set(r, g, b, a);
+        this.colorPacked = this.color.toFloatBits();
+    }
+
+    public Color getColor() {
+        return this.color;
+    }
+
+    public void setPackedColor(float packedColor) {
+        Color.abgr8888ToColor(this.color, packedColor);
+        this.colorPacked = packedColor;
+    }
+
+    public float getPackedColor() {
+        return this.colorPacked;
+    }
+
+    public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        if (this.drawing) {
+            float textureIndex = switchTexture(texture);
+            float u = ((float) srcX) * this.invTexWidth;
+            float v = ((float) (srcY + srcHeight)) * this.invTexHeight;
+            float u2 = ((float) (srcX + srcWidth)) * this.invTexWidth;
+            float v2 = ((float) srcY) * this.invTexHeight;
+            if (flipX) {
+                float tmp = u;
+                u = u2;
+                u2 = tmp;
+            }
+            if (flipY) {
+                float tmp2 = v;
+                v = v2;
+                v2 = tmp2;
+            }
+            putSprite(textureIndex, x, y, originX, originY, width, height, scaleX, scaleY, rotation, u, v, u, v2, u2, v2, u2, v);
+            return;
+        }
+        throw new IllegalStateException("MultiTextureSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        if (this.drawing) {
+            float textureIndex = switchTexture(texture);
+            float u = ((float) srcX) * this.invTexWidth;
+            float v = ((float) (srcY + srcHeight)) * this.invTexHeight;
+            float u2 = ((float) (srcX + srcWidth)) * this.invTexWidth;
+            float v2 = ((float) srcY) * this.invTexHeight;
+            float fx2 = x + width;
+            float fy2 = y + height;
+            if (flipX) {
+                float tmp = u;
+                u = u2;
+                u2 = tmp;
+            }
+            if (flipY) {
+                float tmp2 = v;
+                v = v2;
+                v2 = tmp2;
+            }
+            putSprite(textureIndex, x, y, u, v, x, fy2, u, v2, fx2, fy2, u2, v2, fx2, y, u2, v);
+            return;
+        }
+        throw new IllegalStateException("MultiTextureSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+        if (this.drawing) {
+            float textureIndex = switchTexture(texture);
+            float u = ((float) srcX) * this.invTexWidth;
+            float v = ((float) (srcY + srcHeight)) * this.invTexHeight;
+            float u2 = ((float) (srcX + srcWidth)) * this.invTexWidth;
+            float v2 = ((float) srcY) * this.invTexHeight;
+            float fx2 = x + ((float) srcWidth);
+            float fy2 = y + ((float) srcHeight);
+            putSprite(textureIndex, x, y, u, v, x, fy2, u, v2, fx2, fy2, u2, v2, fx2, y, u2, v);
+            return;
+        }
+        throw new IllegalStateException("MultiTextureSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+        if (this.drawing) {
+            float textureIndex = switchTexture(texture);
+            float fx2 = x + width;
+            float fy2 = y + height;
+            putSprite(textureIndex, x, y, u, v, x, fy2, u, v2, fx2, fy2, u2, v2, fx2, y, u2, v);
+            return;
+        }
+        throw new IllegalStateException("MultiTextureSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float x, float y) {
+        draw(texture, x, y, (float) texture.getWidth(), (float) texture.getHeight());
+    }
+
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        if (this.drawing) {
+            float textureIndex = switchTexture(texture);
+            float fx2 = x + width;
+            float fy2 = y + height;
+            putSprite(textureIndex, x, y, 0.0f, 1.0f, x, fy2, 0.0f, 0.0f, fx2, fy2, 1.0f, 0.0f, fx2, y, 1.0f, 1.0f);
+            return;
+        }
+        throw new IllegalStateException("MultiTextureSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+        if (this.drawing) {
+            float[] vertices2 = this.vertices;
+            int end = offset + count;
+            for (int i = offset; i < end; i += 20) {
+                float textureIndex = switchTexture(texture);
+                int idx2 = this.idx;
+                for (int j = i; j < i + 20; j += 5) {
+                    vertices2[idx2] = spriteVertices[j];
+                    vertices2[idx2 + 1] = spriteVertices[j + 1];
+                    vertices2[idx2 + 2] = spriteVertices[j + 2];
+                    vertices2[idx2 + 3] = spriteVertices[j + 3];
+                    vertices2[idx2 + 4] = spriteVertices[j + 4];
+                    vertices2[idx2 + 5] = textureIndex;
+                    idx2 += 6;
+                }
+                this.idx = idx2;
+            }
+            return;
+        }
+        throw new IllegalStateException("MultiTextureSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(TextureRegion region, float x, float y) {
+        draw(region, x, y, (float) region.getRegionWidth(), (float) region.getRegionHeight());
+    }
+
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        if (this.drawing) {
+            float textureIndex = switchTexture(region.texture);
+            float fx2 = x + width;
+            float fy2 = y + height;
+            float u = region.u;
+            float v = region.v2;
+            float u2 = region.u2;
+            float v2 = region.v;
+            putSprite(textureIndex, x, y, u, v, x, fy2, u, v2, fx2, fy2, u2, v2, fx2, y, u2, v);
+            return;
+        }
+        throw new IllegalStateException("MultiTextureSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation) {
+        if (this.drawing) {
+            putSprite(switchTexture(region.texture), x, y, originX, originY, width, height, scaleX, scaleY, rotation, region.u, region.v2, region.u, region.v, region.u2, region.v, region.u2, region.v2);
+            return;
+        }
+        throw new IllegalStateException("MultiTextureSpriteBatch.begin must be called before draw.");
+    }
+
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, boolean clockwise) {
+        if (!this.drawing) {
+            throw new IllegalStateException("MultiTextureSpriteBatch.begin must be called before draw.");
+        } else if (clockwise) {
+            putSprite(switchTexture(region.texture), x, y, originX, originY, width, height, scaleX, scaleY, rotation, region.u2, region.v2, region.u, region.v2, region.u, region.v, region.u2, region.v);
+        } else {
+            putSprite(switchTexture(region.texture), x, y, originX, originY, width, height, scaleX, scaleY, rotation, region.u, region.v, region.u2, region.v, region.u2, region.v2, region.u, region.v2);
+        }
+    }
+
+    public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+        if (this.drawing) {
+            float textureIndex = switchTexture(region.texture);
+            float x1 = transform.m02;
+            float y1 = transform.m12;
+            float x2 = (transform.m01 * height) + transform.m02;
+            float y2 = (transform.m11 * height) + transform.m12;
+            float x3 = (transform.m00 * width) + (transform.m01 * height) + transform.m02;
+            float y3 = (transform.m10 * width) + (transform.m11 * height) + transform.m12;
+            float x4 = (transform.m00 * width) + transform.m02;
+            float y4 = (transform.m10 * width) + transform.m12;
+            float u = region.u;
+            float v = region.v2;
+            float u2 = region.u2;
+            float v2 = region.v;
+            putSprite(textureIndex, x1, y1, u, v, x2, y2, u, v2, x3, y3, u2, v2, x4, y4, u2, v);
+            return;
+        }
+        throw new IllegalStateException("MultiTextureSpriteBatch.begin must be called before draw.");
+    }
+
+    private void putSprite(float textureIndex, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, float u1, float v1, float u2, float v2, float u3, float v3, float u4, float v4) {
+        float x1;
+        float y1;
+        float x2;
+        float y2;
+        float x3;
+        float y3;
+        float x4;
+        float y4;
+        float worldOriginX = x + originX;
+        float worldOriginY = y + originY;
+        float fx = -originX;
+        float fy = -originY;
+        float fx2 = width - originX;
+        float fy2 = height - originY;
+        if (!(scaleX == 1.0f && scaleY == 1.0f)) {
+            fx *= scaleX;
+            fy *= scaleY;
+            fx2 *= scaleX;
+            fy2 *= scaleY;
+        }
+        if (rotation != 0.0f) {
+            float cos = MathUtils.cosDeg(rotation);
+            float sin = MathUtils.sinDeg(rotation);
+            x1 = (cos * fx) - (sin * fy);
+            y1 = (sin * fx) + (cos * fy);
+            x2 = (cos * fx) - (sin * fy2);
+            y2 = (sin * fx) + (cos * fy2);
+            x3 = (cos * fx2) - (sin * fy2);
+            y3 = (sin * fx2) + (cos * fy2);
+            x4 = x1 + (x3 - x2);
+            y4 = y3 - (y2 - y1);
+        } else {
+            x1 = fx;
+            y1 = fy;
+            x2 = fx;
+            y2 = fy2;
+            x3 = fx2;
+            y3 = fy2;
+            x4 = fx2;
+            y4 = fy;
+        }
+        putSprite(textureIndex, x1 + worldOriginX, y1 + worldOriginY, u1, v1, x2 + worldOriginX, y2 + worldOriginY, u2, v2, x3 + worldOriginX, y3 + worldOriginY, u3, v3, x4 + worldOriginX, y4 + worldOriginY, u4, v4);
+    }
+
+    private void putSprite(float textureIndex, float x1, float y1, float u1, float v1, float x2, float y2, float u2, float v2, float x3, float y3, float u3, float v3, float x4, float y4, float u4, float v4) {
+        float[] vertices2 = this.vertices;
+        float color2 = this.colorPacked;
+        int idx2 = this.idx;
+        vertices2[idx2] = x1;
+        vertices2[idx2 + 1] = y1;
+        vertices2[idx2 + 2] = color2;
+        vertices2[idx2 + 3] = u1;
+        vertices2[idx2 + 4] = v1;
+        vertices2[idx2 + 5] = textureIndex;
+        vertices2[idx2 + 6] = x2;
+        vertices2[idx2 + 7] = y2;
+        vertices2[idx2 + 8] = color2;
+        vertices2[idx2 + 9] = u2;
+        vertices2[idx2 + 10] = v2;
+        vertices2[idx2 + 11] = textureIndex;
+        vertices2[idx2 + 12] = x3;
+        vertices2[idx2 + 13] = y3;
+        vertices2[idx2 + 14] = color2;
+        vertices2[idx2 + 15] = u3;
+        vertices2[idx2 + 16] = v3;
+        vertices2[idx2 + 17] = textureIndex;
+        vertices2[idx2 + 18] = x4;
+        vertices2[idx2 + 19] = y4;
+        vertices2[idx2 + 20] = color2;
+        vertices2[idx2 + 21] = u4;
+        vertices2[idx2 + 22] = v4;
+        vertices2[idx2 + 23] = textureIndex;
+        this.idx = idx2 + SPRITE_SIZE;
+    }
+
+    public void flush() {
+        int i = this.idx;
+        if (i != 0) {
+            this.renderCalls++;
+            this.totalRenderCalls++;
+            int spritesInBatch = i / SPRITE_SIZE;
+            if (spritesInBatch > this.maxSpritesInBatch) {
+                this.maxSpritesInBatch = spritesInBatch;
+            }
+            int count = spritesInBatch * 6;
+            Texture[] textures2 = this.textures;
+            for (int unit = this.textureCount - 1; unit >= 0; unit--) {
+                textures2[unit].bind(unit);
+                textures2[unit] = null;
+            }
+            this.textureCount = 0;
+            this.lastTexture = null;
+            Mesh mesh2 = this.mesh;
+            mesh2.setVertices(this.vertices, 0, this.idx);
+            mesh2.getIndicesBuffer().position(0);
+            mesh2.getIndicesBuffer().limit(count);
+            if (this.blendStateDirty) {
+                if (this.blendingDisabled) {
+                    Gdx.gl.glDisable(GL20.GL_BLEND);
+                } else {
+                    Gdx.gl.glEnable(GL20.GL_BLEND);
+                    if (this.blendSrcFunc != -1) {
+                        Gdx.gl.glBlendFuncSeparate(this.blendSrcFunc, this.blendDstFunc, this.blendSrcFuncAlpha, this.blendDstFuncAlpha);
+                    }
+                }
+                this.blendStateDirty = false;
+            }
+            ShaderProgram shaderProgram = this.customShader;
+            if (shaderProgram == null) {
+                shaderProgram = this.shader;
+            }
+            mesh2.render(shaderProgram, 4, 0, count);
+            this.idx = 0;
+        }
+    }
+
+    public void disableBlending() {
+        if (!this.blendingDisabled) {
+            flush();
+            this.blendingDisabled = true;
+            this.blendStateDirty = true;
+        }
+    }
+
+    public void enableBlending() {
+        if (this.blendingDisabled) {
+            flush();
+            this.blendingDisabled = false;
+            this.blendStateDirty = true;
+        }
+    }
+
+    public void setBlendFunction(int srcFunc, int dstFunc) {
+        setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+    }
+
+    public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+        if (this.blendSrcFunc != srcFuncColor || this.blendDstFunc != dstFuncColor || this.blendSrcFuncAlpha != srcFuncAlpha || this.blendDstFuncAlpha != dstFuncAlpha) {
+            flush();
+            this.blendSrcFunc = srcFuncColor;
+            this.blendDstFunc = dstFuncColor;
+            this.blendSrcFuncAlpha = srcFuncAlpha;
+            this.blendDstFuncAlpha = dstFuncAlpha;
+            this.blendStateDirty = true;
+        }
+    }
+
+    public int getBlendSrcFunc() {
+        return this.blendSrcFunc;
+    }
+
+    public int getBlendDstFunc() {
+        return this.blendDstFunc;
+    }
+
+    public int getBlendSrcFuncAlpha() {
+        return this.blendSrcFuncAlpha;
+    }
+
+    public int getBlendDstFuncAlpha() {
+        return this.blendDstFuncAlpha;
+    }
+
+    public void dispose() {
+        ShaderProgram shaderProgram;
+        this.mesh.dispose();
+        if (this.ownsShader && (shaderProgram = this.shader) != null) {
+            shaderProgram.dispose();
+        }
+    }
+
+    public Matrix4 getProjectionMatrix() {
+        return this.projectionMatrix;
+    }
+
+    public Matrix4 getTransformMatrix() {
+        return this.transformMatrix;
+    }
+
+    public void setProjectionMatrix(Matrix4 projection) {
+        if (this.drawing) {
+            flush();
+        }
+        this.projectionMatrix.set(projection);
+        if (this.drawing) {
+            setupMatrices();
+        }
+    }
+
+    public void setTransformMatrix(Matrix4 transform) {
+        if (this.drawing) {
+            flush();
+        }
+        this.transformMatrix.set(transform);
+        if (this.drawing) {
+            setupMatrices();
+        }
+    }
+
+    private void setupMatrices() {
+        this.combinedMatrix.set(this.projectionMatrix).mul(this.transformMatrix);
+        ShaderProgram shaderProgram = this.customShader;
+        if (shaderProgram == null) {
+            shaderProgram = this.shader;
+        }
+        shaderProgram.setUniformMatrix("u_projTrans", this.combinedMatrix);
+        for (int i = 0; i < this.textureUniforms.length; i++) {
+            shaderProgram.setUniformi(shaderProgram.fetchUniformLocation(this.textureUniforms[i], false), i);
+        }
+    }
+
+    /* access modifiers changed from: protected */
+    public float switchTexture(Texture texture) {
+        if (this.idx == this.vertices.length) {
+            flush();
+        }
+        if (texture == this.lastTexture) {
+            return this.lastTextureIndex;
+        }
+        Texture[] textures2 = this.textures;
+        int index = -1;
+        int i = 0;
+        while (true) {
+            if (i >= this.textureCount) {
+                break;
+            } else if (textures2[i] == texture) {
+                index = i;
+                break;
+            } else {
+                i++;
+            }
+        }
+        if (index == -1) {
+            if (this.textureCount == textures2.length) {
+                flush();
+            }
+            index = this.textureCount;
+            textures2[index] = texture;
+            this.textureCount = index + 1;
+        }
+        this.lastTexture = texture;
+        this.lastTextureIndex = (float) index;
+        this.invTexWidth = 1.0f / ((float) texture.getWidth());
+        this.invTexHeight = 1.0f / ((float) texture.getHeight());
+        return this.lastTextureIndex;
+    }
+
+    public void setShader(ShaderProgram shader2) {
+        if (this.drawing) {
+            flush();
+            ShaderProgram shaderProgram = this.customShader;
+            if (shaderProgram != null) {
+                shaderProgram.end();
+            } else {
+                this.shader.end();
+            }
+        }
+        this.customShader = shader2;
+        if (this.drawing) {
+            ShaderProgram shaderProgram2 = this.customShader;
+            if (shaderProgram2 != null) {
+                shaderProgram2.begin();
+            } else {
+                this.shader.begin();
+            }
+            setupMatrices();
+        }
+    }
+
+    public ShaderProgram getShader() {
+        ShaderProgram shaderProgram = this.customShader;
+        if (shaderProgram == null) {
+            return this.shader;
+        }
+        return shaderProgram;
+    }
+
+    public boolean isBlendingEnabled() {
+        return !this.blendingDisabled;
+    }
+
+    public boolean isDrawing() {
+        return this.drawing;
+    }
+}
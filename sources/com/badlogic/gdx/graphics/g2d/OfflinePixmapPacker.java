@@ -0,0 +1,274 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.PixmapPackerIO;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.OrderedMap;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+public class OfflinePixmapPacker {
+    static final Comparator<Pixmap> areaComparator = new Comparator<Pixmap>() {
+        public int compare(Pixmap o1, Pixmap o2) {
+            return (o2.getWidth() * o2.getHeight()) - (o1.getWidth() * o1.getHeight());
+        }
+    };
+    static final Comparator<Pixmap> heightComparator = new Comparator<Pixmap>() {
+        public int compare(Pixmap o1, Pixmap o2) {
+            return o2.getHeight() - o1.getHeight();
+        }
+    };
+    static final Comparator<Pixmap> widthComparator = new Comparator<Pixmap>() {
+        public int compare(Pixmap o1, Pixmap o2) {
+            return o2.getWidth() - o1.getWidth();
+        }
+    };
+    boolean duplicateBorder;
+    final Array<FileHandle> files;
+    final Array<String> names;
+    int padding;
+    Pixmap.Format pageFormat;
+    int pageHeight;
+    int pageWidth;
+    boolean stripWhitespaceX;
+    boolean stripWhitespaceY;
+    int threads;
+
+    public OfflinePixmapPacker(int pageWidth2, int pageHeight2, Pixmap.Format pageFormat2, int padding2, boolean duplicateBorder2) {
+        this(pageWidth2, pageHeight2, pageFormat2, padding2, duplicateBorder2, false, false);
+    }
+
+    public OfflinePixmapPacker(int pageWidth2, int pageHeight2, Pixmap.Format pageFormat2, int padding2, boolean duplicateBorder2, boolean stripWhitespaceX2, boolean stripWhitespaceY2) {
+        this.files = new Array<>();
+        this.names = new Array<>();
+        this.threads = Runtime.getRuntime().availableProcessors();
+        this.pageWidth = pageWidth2;
+        this.pageHeight = pageHeight2;
+        this.pageFormat = pageFormat2;
+        this.padding = padding2;
+        this.duplicateBorder = duplicateBorder2;
+        this.stripWhitespaceX = stripWhitespaceX2;
+        this.stripWhitespaceY = stripWhitespaceY2;
+    }
+
+    public void add(FileHandle file) {
+        add(file.nameWithoutExtension(), file);
+    }
+
+    public void add(String name, FileHandle file) {
+        if (this.names.contains(name, false)) {
+            throw new GdxRuntimeException("Pixmap has already been added with name: " + name);
+        }
+        this.names.add(name);
+        this.files.add(file);
+    }
+
+    public int getThreads() {
+        return this.threads;
+    }
+
+    public void setThreads(int threads2) {
+        if (threads2 >= 1) {
+            this.threads = threads2;
+            return;
+        }
+        throw new IllegalArgumentException("threads must be >= 1: " + threads2);
+    }
+
+    public void pack(FileHandle atlasFile) throws IOException {
+        pack(atlasFile, new PixmapPackerIO.SaveParameters());
+    }
+
+    public void pack(FileHandle atlasFile, PixmapPackerIO.SaveParameters parameters) throws IOException {
+        PixmapPacker packer = pack();
+        try {
+            new PixmapPackerIO().save(atlasFile, packer, parameters);
+        } finally {
+            packer.dispose();
+        }
+    }
+
+    public PixmapPacker pack() {
+        int n = this.files.size;
+        if (n != 0) {
+            ForkJoinPool pool = new ForkJoinPool(this.threads);
+            Pixmap[] pixmaps = new Pixmap[n];
+            try {
+                pool.invoke(new DecodeTask(this.files, pixmaps, 0, n));
+                IdentityMap<Pixmap, String> pixmapNames = new IdentityMap<>(n);
+                for (int i = 0; i < n; i++) {
+                    pixmapNames.put(pixmaps[i], this.names.get(i));
+                }
+                Array<Pixmap> images = new Array<>(pixmaps);
+                Comparator[] comparators = {null, areaComparator, heightComparator, widthComparator};
+                Array<PackTask> tasks = new Array<>();
+                for (int s = 0; s < 3; s++) {
+                    for (Comparator comparator : comparators) {
+                        tasks.add(new PackTask(this, s, comparator, images, pixmapNames));
+                    }
+                }
+                return (PixmapPacker) pool.invoke(new BestTask(tasks, 0, tasks.size));
+            } finally {
+                pool.shutdown();
+                for (Pixmap pixmap : pixmaps) {
+                    if (pixmap != null) {
+                        pixmap.dispose();
+                    }
+                }
+            }
+        } else {
+            throw new IllegalStateException("No files have been added.");
+        }
+    }
+
+    /* access modifiers changed from: package-private */
+    public PixmapPacker.PackStrategy newStrategy(int strategy) {
+        if (strategy == 0) {
+            return new PixmapPacker.MaxRectsStrategy();
+        }
+        if (strategy == 1) {
+            return new PixmapPacker.GuillotineStrategy();
+        }
+        return new PixmapPacker.SkylineStrategy();
+    }
+
+    static boolean isDenser(PixmapPacker a, PixmapPacker b) {
+        if (a.pages.size != b.pages.size) {
+            return a.pages.size < b.pages.size;
+        }
+        return usedArea(a.pages.peek()) < usedArea(b.pages.peek());
+    }
+
+    static long usedArea(PixmapPacker.Page page) {
+        int right = 0;
+        int top = 0;
+        OrderedMap.Values<PixmapPacker.PixmapPackerRectangle> it = page.rects.values().iterator();
+        while (it.hasNext()) {
+            Rectangle rect = it.next();
+            right = Math.max(right, (int) (rect.x + rect.width));
+            top = Math.max(top, (int) (rect.y + rect.height));
+        }
+        return ((long) right) * ((long) top);
+    }
+
+    static class DecodeTask extends RecursiveAction {
+        private static final long serialVersionUID = -2541360468217337216L;
+        final int end;
+        final Array<FileHandle> files;
+        final Pixmap[] pixmaps;
+        final int start;
+
+        DecodeTask(Array<FileHandle> files2, Pixmap[] pixmaps2, int start2, int end2) {
+            this.files = files2;
+            this.pixmaps = pixmaps2;
+            this.start = start2;
+            this.end = end2;
+        }
+
+        /* access modifiers changed from: protected */
+        public void compute() {
+            int i = this.start;
+            int i2 = this.end;
+            if (i2 - i <= 4) {
+                while (i < this.end) {
+                    this.pixmaps[i] = new Pixmap(this.files.get(i));
+                    i++;
+                }
+                return;
+            }
+            int mid = (i + i2) >>> 1;
+            invokeAll(new DecodeTask(this.files, this.pixmaps, i, mid), new DecodeTask(this.files, this.pixmaps, mid, this.end));
+        }
+    }
+
+    static class PackTask {
+        final Comparator<Pixmap> comparator;
+        final Array<Pixmap> images;
+        final OfflinePixmapPacker owner;
+        final IdentityMap<Pixmap, String> pixmapNames;
+        final int strategy;
+
+        PackTask(OfflinePixmapPacker owner2, int strategy2, Comparator<Pixmap> comparator2, Array<Pixmap> images2, IdentityMap<Pixmap, String> pixmapNames2) {
+            this.owner = owner2;
+            this.strategy = strategy2;
+            this.comparator = comparator2;
+            this.images = images2;
+            this.pixmapNames = pixmapNames2;
+        }
+
+        /* access modifiers changed from: package-private */
+        public PixmapPacker pack() {
+            OfflinePixmapPacker o = this.owner;
+            PixmapPacker.PackStrategy packStrategy = o.newStrategy(this.strategy);
+            PixmapPacker packer = new PixmapPacker(o.pageWidth, o.pageHeight, o.pageFormat, o.padding, o.duplicateBorder, o.stripWhitespaceX, o.stripWhitespaceY, packStrategy);
+            try {
+                Array<Pixmap> sorted = new Array<>(this.images);
+                Comparator<Pixmap> comparator2 = this.comparator;
+                if (comparator2 == null) {
+                    packStrategy.sort(sorted);
+                } else {
+                    sorted.sort(comparator2);
+                }
+                for (int i = 0; i < sorted.size; i++) {
+                    Pixmap pixmap = sorted.get(i);
+                    packer.pack(this.pixmapNames.get(pixmap), pixmap);
+                }
+                return packer;
+            } catch (RuntimeException e) {
+                packer.dispose();
+                throw e;
+            }
+        }
+    }
+
+    static class BestTask extends RecursiveTask<PixmapPacker> {
+        private static final long serialVersionUID = 6312917605434722101L;
+        final int end;
+        final int start;
+        final Array<PackTask> tasks;
+
+        BestTask(Array<PackTask> tasks2, int start2, int end2) {
+            this.tasks = tasks2;
+            this.start = start2;
+            this.end = end2;
+        }
+
+        /* access modifiers changed from: protected */
+        public PixmapPacker compute() {
+            int i = this.start;
+            int i2 = this.end;
+            if (i2 - i == 1) {
+                return this.tasks.get(i).pack();
+            }
+            int mid = (i + i2) >>> 1;
+            BestTask right = new BestTask(this.tasks, mid, i2);
+            right.fork();
+            try {
+                PixmapPacker a = new BestTask(this.tasks, this.start, mid).compute();
+                PixmapPacker b = (PixmapPacker) right.join();
+                if (isDenser(b, a)) {
+                    a.dispose();
+                    return b;
+                }
+                b.dispose();
+                return a;
+            } catch (RuntimeException e) {
+                if (!right.isDone()) {
+                    right.quietlyJoin();
+                }
+                if (right.isCompletedNormally()) {
+                    ((PixmapPacker) right.getRawResult()).dispose();
+                }
+                throw e;
+            }
+        }
+    }
+}
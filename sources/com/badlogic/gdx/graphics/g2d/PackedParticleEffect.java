@@ -0,0 +1,23 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public class PackedParticleEffect extends ParticleEffect {
+    public PackedParticleEffect() {
+    }
+
+    public PackedParticleEffect(ParticleEffect effect) {
+        super(effect);
+    }
+
+    /* access modifiers changed from: protected */
+    public ParticleEmitter newEmitter(BufferedReader reader) throws IOException {
+        return new PackedParticleEmitter(reader);
+    }
+
+    /* access modifiers changed from: protected */
+    public ParticleEmitter newEmitter(ParticleEmitter emitter) {
+        return new PackedParticleEmitter(emitter);
+    }
+}
@@ -0,0 +1,634 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public class PackedParticleEmitter extends ParticleEmitter {
+    private float[] angleCos;
+    private float[] angleDiff;
+    private float[] angleSin;
+    private float[] angles;
+    private BoundingBox bounds;
+    private float[] colors;
+    private int[] currentLives;
+    private int[] frames;
+    private float[] gravities;
+    private float[] gravityDiff;
+    private float[] heights;
+    private int[] lives;
+    private float[] originX;
+    private float[] originY;
+    private float[] positionX;
+    private float[] positionY;
+    private float[] rotationDiff;
+    private float[] rotations;
+    private float[] scaleX;
+    private float[] scaleY;
+    private float[] spriteRotations;
+    private int[] spriteIndices;
+    private float[] transparencies;
+    private float[] transparencyDiff;
+    private float[] velocities;
+    private float[] velocityDiff;
+    private float[] vertices;
+    private float[] widths;
+    private float[] windDiff;
+    private float[] winds;
+    private float[] xScaleDiff;
+    private float[] xScales;
+    private float[] yScaleDiff;
+    private float[] yScales;
+
+    public PackedParticleEmitter() {
+        setMaxParticleCount(getMaxParticleCount());
+    }
+
+    public PackedParticleEmitter(BufferedReader reader) throws IOException {
+        super(reader);
+    }
+
+    public PackedParticleEmitter(ParticleEmitter emitter) {
+        super(emitter);
+    }
+
+    public void setMaxParticleCount(int maxParticleCount2) {
+        this.maxParticleCount = maxParticleCount2;
+        this.active = new boolean[0];
+        this.particles = new ParticleEmitter.Particle[0];
+        this.activeCount = 0;
+        this.angleCos = new float[maxParticleCount2];
+        this.angleDiff = new float[maxParticleCount2];
+        this.angleSin = new float[maxParticleCount2];
+        this.angles = new float[maxParticleCount2];
+        this.colors = new float[maxParticleCount2];
+        this.currentLives = new int[maxParticleCount2];
+        this.frames = new int[maxParticleCount2];
+        this.gravities = new float[maxParticleCount2];
+        this.gravityDiff = new float[maxParticleCount2];
+        this.heights = new float[maxParticleCount2];
+        this.lives = new int[maxParticleCount2];
+        this.originX = new float[maxParticleCount2];
+        this.originY = new float[maxParticleCount2];
+        this.positionX = new float[maxParticleCount2];
+        this.positionY = new float[maxParticleCount2];
+        this.rotationDiff = new float[maxParticleCount2];
+        this.rotations = new float[maxParticleCount2];
+        this.scaleX = new float[maxParticleCount2];
+        this.scaleY = new float[maxParticleCount2];
+        this.spriteRotations = new float[maxParticleCount2];
+        this.spriteIndices = new int[maxParticleCount2];
+        this.transparencies = new float[maxParticleCount2];
+        this.transparencyDiff = new float[maxParticleCount2];
+        this.velocities = new float[maxParticleCount2];
+        this.velocityDiff = new float[maxParticleCount2];
+        this.vertices = new float[(maxParticleCount2 * 20)];
+        this.widths = new float[maxParticleCount2];
+        this.windDiff = new float[maxParticleCount2];
+        this.winds = new float[maxParticleCount2];
+        this.xScaleDiff = new float[maxParticleCount2];
+        this.xScales = new float[maxParticleCount2];
+        this.yScaleDiff = new float[maxParticleCount2];
+        this.yScales = new float[maxParticleCount2];
+    }
+
+    public void addParticle() {
+        int i = this.activeCount;
+        if (i != this.maxParticleCount) {
+            activateParticle(i);
+            this.activeCount = i + 1;
+        }
+    }
+
+    public void addParticles(int count) {
+        int count2 = Math.min(count, this.maxParticleCount - this.activeCount);
+        for (int i = 0; i < count2; i++) {
+            addParticle();
+        }
+    }
+
+    public void update(float delta) {
+        this.accumulator += delta * 1000.0f;
+        float f = this.accumulator;
+        if (f >= 1.0f) {
+            int deltaMillis = (int) f;
+            this.accumulator = f - ((float) deltaMillis);
+            updateEmission(deltaMillis);
+            updateParticles(delta, deltaMillis);
+        }
+    }
+
+    public void draw(Batch batch, float delta) {
+        this.accumulator += delta * 1000.0f;
+        float f = this.accumulator;
+        if (f < 1.0f) {
+            draw(batch);
+            return;
+        }
+        int deltaMillis = (int) f;
+        this.accumulator = f - ((float) deltaMillis);
+        updateParticles(delta, deltaMillis);
+        draw(batch);
+        updateEmission(deltaMillis);
+    }
+
+    public void draw(Batch batch) {
+        if (isPremultipliedAlpha()) {
+            batch.setBlendFunction(1, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        } else if (isAdditive()) {
+            batch.setBlendFunction(GL20.GL_SRC_ALPHA, 1);
+        } else {
+            batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        }
+        Array<Sprite> sprites = getSprites();
+        float[] vertices2 = this.vertices;
+        int[] spriteIndices2 = this.spriteIndices;
+        Texture texture = null;
+        int start = 0;
+        int offset = 0;
+        int n = this.activeCount;
+        for (int i = 0; i < n; i++) {
+            Sprite sprite = sprites.get(spriteIndices2[i]);
+            Texture spriteTexture = sprite.getTexture();
+            if (spriteTexture != texture) {
+                if (offset > start) {
+                    batch.draw(texture, vertices2, start, offset - start);
+                }
+                texture = spriteTexture;
+                start = offset;
+            }
+            float u = sprite.getU();
+            float v = sprite.getV();
+            float u2 = sprite.getU2();
+            float v2 = sprite.getV2();
+            if (this.flipX) {
+                float temp = u;
+                u = u2;
+                u2 = temp;
+            }
+            if (this.flipY) {
+                float temp2 = v;
+                v = v2;
+                v2 = temp2;
+            }
+            writeVertices(vertices2, offset, i, u, v, u2, v2);
+            offset += 20;
+        }
+        if (offset > start) {
+            batch.draw(texture, vertices2, start, offset - start);
+        }
+        if (this.cleansUpBlendFunction && (isAdditive() || isPremultipliedAlpha())) {
+            batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        }
+    }
+
+    private void writeVertices(float[] vertices2, int offset, int index, float u, float v, float u2, float v2) {
+        float x1;
+        float y1;
+        float x2;
+        float y2;
+        float x3;
+        float y3;
+        float x4;
+        float y4;
+        float localX = -this.originX[index];
+        float localY = -this.originY[index];
+        float localX2 = this.widths[index] + localX;
+        float localY2 = this.heights[index] + localY;
+        float worldOriginX = this.positionX[index] - localX;
+        float worldOriginY = this.positionY[index] - localY;
+        float sx = this.scaleX[index];
+        float sy = this.scaleY[index];
+        if (!(sx == 1.0f && sy == 1.0f)) {
+            localX *= sx;
+            localY *= sy;
+            localX2 *= sx;
+            localY2 *= sy;
+        }
+        float rotation = this.spriteRotations[index];
+        if (rotation != 0.0f) {
+            float cos = MathUtils.cosDeg(rotation);
+            float sin = MathUtils.sinDeg(rotation);
+            float localXCos = localX * cos;
+            float localXSin = localX * sin;
+            float localYCos = localY * cos;
+            float localYSin = localY * sin;
+            float localX2Cos = localX2 * cos;
+            float localX2Sin = localX2 * sin;
+            float localY2Cos = localY2 * cos;
+            float localY2Sin = localY2 * sin;
+            x1 = (localXCos - localYSin) + worldOriginX;
+            y1 = localYCos + localXSin + worldOriginY;
+            x2 = (localXCos - localY2Sin) + worldOriginX;
+            y2 = localY2Cos + localXSin + worldOriginY;
+            x3 = (localX2Cos - localY2Sin) + worldOriginX;
+            y3 = localY2Cos + localX2Sin + worldOriginY;
+            x4 = (x3 - x2) + x1;
+            y4 = y3 - (y2 - y1);
+        } else {
+            x1 = localX + worldOriginX;
+            y1 = localY + worldOriginY;
+            x2 = x1;
+            y2 = localY2 + worldOriginY;
+            x3 = localX2 + worldOriginX;
+            y3 = y2;
+            x4 = x3;
+            y4 = y1;
+        }
+        float color = this.colors[index];
+        vertices2[offset] = x1;
+        vertices2[offset + 1] = y1;
+        vertices2[offset + 2] = color;
+        vertices2[offset + 3] = u;
+        vertices2[offset + 4] = v2;
+        vertices2[offset + 5] = x2;
+        vertices2[offset + 6] = y2;
+        vertices2[offset + 7] = color;
+        vertices2[offset + 8] = u;
+        vertices2[offset + 9] = v;
+        vertices2[offset + 10] = x3;
+        vertices2[offset + 11] = y3;
+        vertices2[offset + 12] = color;
+        vertices2[offset + 13] = u2;
+        vertices2[offset + 14] = v;
+        vertices2[offset + 15] = x4;
+        vertices2[offset + 16] = y4;
+        vertices2[offset + 17] = color;
+        vertices2[offset + 18] = u2;
+        vertices2[offset + 19] = v2;
+    }
+
+    private void updateParticles(float delta, int deltaMillis) {
+        int i = 0;
+        int n = this.activeCount;
+        while (i < n) {
+            if (updateParticle(i, delta, deltaMillis)) {
+                i++;
+            } else {
+                n--;
+                if (i != n) {
+                    moveParticle(n, i);
+                }
+            }
+        }
+        this.activeCount = n;
+    }
+
+    private void moveParticle(int from, int to) {
+        this.angleCos[to] = this.angleCos[from];
+        this.angleDiff[to] = this.angleDiff[from];
+        this.angleSin[to] = this.angleSin[from];
+        this.angles[to] = this.angles[from];
+        this.colors[to] = this.colors[from];
+        this.currentLives[to] = this.currentLives[from];
+        this.frames[to] = this.frames[from];
+        this.gravities[to] = this.gravities[from];
+        this.gravityDiff[to] = this.gravityDiff[from];
+        this.heights[to] = this.heights[from];
+        this.lives[to] = this.lives[from];
+        this.originX[to] = this.originX[from];
+        this.originY[to] = this.originY[from];
+        this.positionX[to] = this.positionX[from];
+        this.positionY[to] = this.positionY[from];
+        this.rotationDiff[to] = this.rotationDiff[from];
+        this.rotations[to] = this.rotations[from];
+        this.scaleX[to] = this.scaleX[from];
+        this.scaleY[to] = this.scaleY[from];
+        this.spriteRotations[to] = this.spriteRotations[from];
+        this.spriteIndices[to] = this.spriteIndices[from];
+        this.transparencies[to] = this.transparencies[from];
+        this.transparencyDiff[to] = this.transparencyDiff[from];
+        this.velocities[to] = this.velocities[from];
+        this.velocityDiff[to] = this.velocityDiff[from];
+        this.widths[to] = this.widths[from];
+        this.windDiff[to] = this.windDiff[from];
+        this.winds[to] = this.winds[from];
+        this.xScaleDiff[to] = this.xScaleDiff[from];
+        this.xScales[to] = this.xScales[from];
+        this.yScaleDiff[to] = this.yScaleDiff[from];
+        this.yScales[to] = this.yScales[from];
+    }
+
+    private void activateParticle(int index) {
+        float px;
+        float py;
+        float spawnAngle;
+        Array<Sprite> sprites = getSprites();
+        int spriteIndex = getSpriteMode() == ParticleEmitter.SpriteMode.random ? MathUtils.random(sprites.size - 1) : 0;
+        Sprite sprite = sprites.get(spriteIndex);
+        this.spriteIndices[index] = spriteIndex;
+        this.frames[index] = 0;
+        float percent = this.durationTimer / this.duration;
+        int updateFlags2 = this.updateFlags;
+        ParticleEmitter.IndependentScaledNumericValue lifeValue = (ParticleEmitter.IndependentScaledNumericValue) getLife();
+        if (lifeValue.independent) {
+            generateLifeValues();
+        }
+        if (((ParticleEmitter.IndependentScaledNumericValue) getLifeOffset()).independent) {
+            generateLifeOffsetValues();
+        }
+        int life2 = this.life + ((int) (((float) this.lifeDiff) * lifeValue.getScale(percent)));
+        this.lives[index] = life2;
+        this.currentLives[index] = life2;
+        ParticleEmitter.ScaledNumericValue velocityValue = getVelocity();
+        if (velocityValue.active) {
+            this.velocities[index] = velocityValue.newLowValue();
+            this.velocityDiff[index] = velocityValue.newHighValue();
+            if (!velocityValue.isRelative()) {
+                float[] fArr = this.velocityDiff;
+                fArr[index] = fArr[index] - this.velocities[index];
+            }
+        }
+        ParticleEmitter.ScaledNumericValue angleValue = getAngle();
+        float angle = angleValue.newLowValue();
+        this.angleDiff[index] = angleValue.newHighValue();
+        if (!angleValue.isRelative()) {
+            float[] fArr2 = this.angleDiff;
+            fArr2[index] = fArr2[index] - angle;
+        }
+        if ((updateFlags2 & 2) == 0) {
+            angle += this.angleDiff[index] * angleValue.getScale(0.0f);
+            this.angleCos[index] = MathUtils.cosDeg(angle);
+            this.angleSin[index] = MathUtils.sinDeg(angle);
+        }
+        this.angles[index] = angle;
+        float spriteWidth = sprite.getWidth();
+        float spriteHeight = sprite.getHeight();
+        ParticleEmitter.ScaledNumericValue xScaleValue = getXScale();
+        this.xScales[index] = xScaleValue.newLowValue() / spriteWidth;
+        this.xScaleDiff[index] = xScaleValue.newHighValue() / spriteWidth;
+        if (!xScaleValue.isRelative()) {
+            float[] fArr3 = this.xScaleDiff;
+            fArr3[index] = fArr3[index] - this.xScales[index];
+        }
+        this.scaleX[index] = this.xScales[index] + (this.xScaleDiff[index] * xScaleValue.getScale(0.0f));
+        ParticleEmitter.ScaledNumericValue yScaleValue = getYScale();
+        if (yScaleValue.active) {
+            this.yScales[index] = yScaleValue.newLowValue() / spriteHeight;
+            this.yScaleDiff[index] = yScaleValue.newHighValue() / spriteHeight;
+            if (!yScaleValue.isRelative()) {
+                float[] fArr4 = this.yScaleDiff;
+                fArr4[index] = fArr4[index] - this.yScales[index];
+            }
+            this.scaleY[index] = this.yScales[index] + (this.yScaleDiff[index] * yScaleValue.getScale(0.0f));
+        } else {
+            this.scaleY[index] = this.scaleX[index];
+        }
+        this.spriteRotations[index] = sprite.getRotation();
+        ParticleEmitter.ScaledNumericValue rotationValue = getRotation();
+        if (rotationValue.active) {
+            this.rotations[index] = rotationValue.newLowValue();
+            this.rotationDiff[index] = rotationValue.newHighValue();
+            if (!rotationValue.isRelative()) {
+                float[] fArr5 = this.rotationDiff;
+                fArr5[index] = fArr5[index] - this.rotations[index];
+            }
+            float rotation = this.rotations[index] + (this.rotationDiff[index] * rotationValue.getScale(0.0f));
+            if (isAligned()) {
+                rotation += angle;
+            }
+            this.spriteRotations[index] = rotation;
+        }
+        ParticleEmitter.ScaledNumericValue windValue = getWind();
+        if (windValue.active) {
+            this.winds[index] = windValue.newLowValue();
+            this.windDiff[index] = windValue.newHighValue();
+            if (!windValue.isRelative()) {
+                float[] fArr6 = this.windDiff;
+                fArr6[index] = fArr6[index] - this.winds[index];
+            }
+        }
+        ParticleEmitter.ScaledNumericValue gravityValue = getGravity();
+        if (gravityValue.active) {
+            this.gravities[index] = gravityValue.newLowValue();
+            this.gravityDiff[index] = gravityValue.newHighValue();
+            if (!gravityValue.isRelative()) {
+                float[] fArr7 = this.gravityDiff;
+                fArr7[index] = fArr7[index] - this.gravities[index];
+            }
+        }
+        ParticleEmitter.ScaledNumericValue transparencyValue = getTransparency();
+        this.transparencies[index] = transparencyValue.newLowValue();
+        this.transparencyDiff[index] = transparencyValue.newHighValue() - this.transparencies[index];
+        updateColor(index, 0.0f, getTint().getColor(0.0f));
+        float x2 = this.x;
+        ParticleEmitter.RangedNumericValue xOffsetValue = getXOffsetValue();
+        if (xOffsetValue.active) {
+            x2 += xOffsetValue.newLowValue();
+        }
+        float y2 = this.y;
+        ParticleEmitter.RangedNumericValue yOffsetValue = getYOffsetValue();
+        if (yOffsetValue.active) {
+            y2 += yOffsetValue.newLowValue();
+        }
+        ParticleEmitter.SpawnShapeValue spawnShapeValue = getSpawnShape();
+        ParticleEmitter.SpawnShape shape = spawnShapeValue.shape;
+        if (shape != ParticleEmitter.SpawnShape.point) {
+            float width = this.spawnWidth + (this.spawnWidthDiff * getSpawnWidth().getScale(percent));
+            float height = this.spawnHeight + (this.spawnHeightDiff * getSpawnHeight().getScale(percent));
+            if (shape == ParticleEmitter.SpawnShape.square) {
+                x2 += MathUtils.random(width) - (width / 2.0f);
+                y2 += MathUtils.random(height) - (height / 2.0f);
+            } else if (shape == ParticleEmitter.SpawnShape.line) {
+                if (width != 0.0f) {
+                    float lineX = MathUtils.random() * width;
+                    x2 += lineX;
+                    y2 += (height / width) * lineX;
+                } else {
+                    y2 += MathUtils.random() * height;
+                }
+            } else {
+                float radiusX = width / 2.0f;
+                float radiusY = height / 2.0f;
+                if (!(radiusX == 0.0f || radiusY == 0.0f)) {
+                    float scaleY2 = radiusX / radiusY;
+                    if (spawnShapeValue.edges) {
+                        if (spawnShapeValue.side == ParticleEmitter.SpawnEllipseSide.top) {
+                            spawnAngle = -MathUtils.random(179.0f);
+                        } else if (spawnShapeValue.side == ParticleEmitter.SpawnEllipseSide.bottom) {
+                            spawnAngle = MathUtils.random(179.0f);
+                        } else {
+                            spawnAngle = MathUtils.random(360.0f);
+                        }
+                        float cosDeg = MathUtils.cosDeg(spawnAngle);
+                        float sinDeg = MathUtils.sinDeg(spawnAngle);
+                        x2 += cosDeg * radiusX;
+                        y2 += (sinDeg * radiusX) / scaleY2;
+                        if ((updateFlags2 & 2) == 0) {
+                            this.angles[index] = spawnAngle;
+                            this.angleCos[index] = cosDeg;
+                            this.angleSin[index] = sinDeg;
+                        }
+                    } else {
+                        float radius2 = radiusX * radiusX;
+                        do {
+                            px = MathUtils.random(width) - radiusX;
+                            py = MathUtils.random(width) - radiusX;
+                        } while ((px * px) + (py * py) > radius2);
+                        x2 += px;
+                        y2 += py / scaleY2;
+                    }
+                }
+            }
+        }
+        this.positionX[index] = x2 - (spriteWidth / 2.0f);
+        this.positionY[index] = y2 - (spriteHeight / 2.0f);
+        this.widths[index] = spriteWidth;
+        this.heights[index] = spriteHeight;
+        this.originX[index] = sprite.getOriginX();
+        this.originY[index] = sprite.getOriginY();
+        int offsetTime = (int) (((float) this.lifeOffset) + (((float) this.lifeOffsetDiff) * getLifeOffset().getScale(percent)));
+        if (offsetTime > 0) {
+            if (offsetTime >= this.currentLives[index]) {
+                offsetTime = this.currentLives[index] - 1;
+            }
+            updateParticle(index, ((float) offsetTime) / 1000.0f, offsetTime);
+        }
+    }
+
+    private boolean updateParticle(int index, float delta, int deltaMillis) {
+        float velocityX;
+        float velocityY;
+        int frame;
+        int life2 = this.currentLives[index] - deltaMillis;
+        if (life2 <= 0) {
+            return false;
+        }
+        this.currentLives[index] = life2;
+        float percent = 1.0f - (((float) life2) / ((float) this.lives[index]));
+        int updateFlags2 = this.updateFlags;
+        if ((updateFlags2 & 1) != 0) {
+            float scale = this.xScales[index] + (this.xScaleDiff[index] * getXScale().getScale(percent));
+            this.scaleX[index] = scale;
+            ParticleEmitter.ScaledNumericValue yScaleValue = getYScale();
+            if (yScaleValue.active) {
+                scale = this.yScales[index] + (this.yScaleDiff[index] * yScaleValue.getScale(percent));
+            }
+            this.scaleY[index] = scale;
+        }
+        if ((updateFlags2 & 8) != 0) {
+            float velocity = (this.velocities[index] + (this.velocityDiff[index] * getVelocity().getScale(percent))) * delta;
+            if ((updateFlags2 & 2) != 0) {
+                float angle = this.angles[index] + (this.angleDiff[index] * getAngle().getScale(percent));
+                velocityX = MathUtils.cosDeg(angle) * velocity;
+                velocityY = MathUtils.sinDeg(angle) * velocity;
+                if ((updateFlags2 & 4) != 0) {
+                    float rotation = this.rotations[index] + (this.rotationDiff[index] * getRotation().getScale(percent));
+                    if (isAligned()) {
+                        rotation += angle;
+                    }
+                    this.spriteRotations[index] = rotation;
+                }
+            } else {
+                velocityX = this.angleCos[index] * velocity;
+                velocityY = this.angleSin[index] * velocity;
+                if (isAligned() || (updateFlags2 & 4) != 0) {
+                    float rotation2 = this.rotations[index] + (this.rotationDiff[index] * getRotation().getScale(percent));
+                    if (isAligned()) {
+                        rotation2 += this.angles[index];
+                    }
+                    this.spriteRotations[index] = rotation2;
+                }
+            }
+            if ((updateFlags2 & 16) != 0) {
+                velocityX += (this.winds[index] + (this.windDiff[index] * getWind().getScale(percent))) * delta;
+            }
+            if ((updateFlags2 & 32) != 0) {
+                velocityY += (this.gravities[index] + (this.gravityDiff[index] * getGravity().getScale(percent))) * delta;
+            }
+            float[] fArr = this.positionX;
+            fArr[index] = fArr[index] + velocityX;
+            float[] fArr2 = this.positionY;
+            fArr2[index] = fArr2[index] + velocityY;
+        } else if ((updateFlags2 & 4) != 0) {
+            this.spriteRotations[index] = this.rotations[index] + (this.rotationDiff[index] * getRotation().getScale(percent));
+        }
+        updateColor(index, percent, getTint().getColor((updateFlags2 & 64) != 0 ? percent : 0.0f));
+        if ((updateFlags2 & 128) != 0) {
+            Array<Sprite> sprites = getSprites();
+            if (this.frames[index] != (frame = Math.min((int) (((float) sprites.size) * percent), sprites.size - 1))) {
+                Sprite sprite = sprites.get(frame);
+                float[] fArr3 = this.positionX;
+                fArr3[index] = fArr3[index] + ((this.widths[index] - sprite.getWidth()) / 2.0f);
+                float[] fArr4 = this.positionY;
+                fArr4[index] = fArr4[index] + ((this.heights[index] - sprite.getHeight()) / 2.0f);
+                this.widths[index] = sprite.getWidth();
+                this.heights[index] = sprite.getHeight();
+                this.originX[index] = sprite.getOriginX();
+                this.originY[index] = sprite.getOriginY();
+                this.spriteIndices[index] = frame;
+                this.frames[index] = frame;
+            }
+        }
+        return true;
+    }
+
+    private void updateColor(int index, float percent, float[] color) {
+        float a = this.transparencies[index] + (this.transparencyDiff[index] * getTransparency().getScale(percent));
+        if (isPremultipliedAlpha()) {
+            this.colors[index] = Color.toFloatBits(color[0] * a, color[1] * a, color[2] * a, isAdditive() ? 0.0f : a);
+        } else {
+            this.colors[index] = Color.toFloatBits(color[0], color[1], color[2], a);
+        }
+    }
+
+    public void setPosition(float x2, float y2) {
+        if (isAttached()) {
+            float xAmount = x2 - this.x;
+            float yAmount = y2 - this.y;
+            int n = this.activeCount;
+            for (int i = 0; i < n; i++) {
+                float[] fArr = this.positionX;
+                fArr[i] = fArr[i] + xAmount;
+                float[] fArr2 = this.positionY;
+                fArr2[i] = fArr2[i] + yAmount;
+            }
+        }
+        this.x = x2;
+        this.y = y2;
+    }
+
+    public void setSprites(Array<Sprite> sprites2) {
+        super.setSprites(sprites2);
+        if (sprites2.size != 0) {
+            ParticleEmitter.SpriteMode spriteMode = getSpriteMode();
+            int n = this.activeCount;
+            for (int i = 0; i < n; i++) {
+                int spriteIndex = 0;
+                if (spriteMode == ParticleEmitter.SpriteMode.animated) {
+                    spriteIndex = Math.min((int) (((float) sprites2.size) * (1.0f - (((float) this.currentLives[i]) / ((float) this.lives[i])))), sprites2.size - 1);
+                    this.frames[i] = spriteIndex;
+                } else if (spriteMode == ParticleEmitter.SpriteMode.random) {
+                    spriteIndex = MathUtils.random(sprites2.size - 1);
+                }
+                Sprite sprite = sprites2.get(spriteIndex);
+                this.spriteIndices[i] = spriteIndex;
+                this.originX[i] = sprite.getOriginX();
+                this.originY[i] = sprite.getOriginY();
+            }
+        }
+    }
+
+    public BoundingBox getBoundingBox() {
+        if (this.bounds == null) {
+            this.bounds = new BoundingBox();
+        }
+        BoundingBox bounds2 = this.bounds;
+        bounds2.inf();
+        float[] vertices2 = this.vertices;
+        int n = this.activeCount;
+        for (int i = 0; i < n; i++) {
+            writeVertices(vertices2, 0, i, 0.0f, 0.0f, 0.0f, 0.0f);
+            for (int j = 0; j < 20; j += 5) {
+                bounds2.ext(vertices2[j], vertices2[j + 1], 0.0f);
+            }
+        }
+        return bounds2;
+    }
+}
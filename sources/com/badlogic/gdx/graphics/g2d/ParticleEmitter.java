@@ -21,9 +21,9 @@ public class ParticleEmitter {
     private static final int UPDATE_TINT = 64;
     private static final int UPDATE_VELOCITY = 8;
     private static final int UPDATE_WIND = 16;
-    private float accumulator;
-    private boolean[] active;
-    private int activeCount;
+    float accumulator;
+    boolean[] active;
+    int activeCount;
     private boolean additive = true;
     private boolean aligned;
     private boolean allowCompletion;
@@ -43,43 +43,43 @@ public class ParticleEmitter {
     private int emissionDelta;
     private int emissionDiff;
     private ScaledNumericValue emissionValue = new ScaledNumericValue();
-    private boolean firstUpdate;
-    private boolean flipX;
-    private boolean flipY;
+    boolean firstUpdate;
+    boolean flipX;
+    boolean flipY;
     private ScaledNumericValue gravityValue = new ScaledNumericValue();
     private Array<String> imagePaths;
-    private int life;
-    private int lifeDiff;
-    private int lifeOffset;
-    private int lifeOffsetDiff;
+    int life;
+    int lifeDiff;
+    int lifeOffset;
+    int lifeOffsetDiff;
     private IndependentScaledNumericValue lifeOffsetValue = new IndependentScaledNumericValue();
     private IndependentScaledNumericValue lifeValue = new IndependentScaledNumericValue();
-    private int maxParticleCount = 4;
+    int maxParticleCount = 4;
     private int minParticleCount;
     private RangedNumericValue[] motionValues;
     private String name;
-    private Particle[] particles;
+    Particle[] particles;
     private boolean premultipliedAlpha = false;
     private ScaledNumericValue rotationValue = new ScaledNumericValue();
-    private float spawnHeight;
-    private float spawnHeightDiff;
+    float spawnHeight;
+    float spawnHeightDiff;
     private ScaledNumericValue spawnHeightValue = new ScaledNumericValue();
     private SpawnShapeValue spawnShapeValue = new SpawnShapeValue();
-    private float spawnWidth;
-    private float spawnWidthDiff;
+    float spawnWidth;
+    float spawnWidthDiff;
     private ScaledNumericValue spawnWidthValue = new ScaledNumericValue();
     private SpriteMode spriteMode = SpriteMode.single;
     private Array<Sprite> sprites;
     private GradientColorValue tintValue = new GradientColorValue();
     private ScaledNumericValue transparencyValue = new ScaledNumericValue();
-    private int updateFlags;
+    int updateFlags;
     private ScaledNumericValue velocityValue = new ScaledNumericValue();
     private ScaledNumericValue windValue = new ScaledNumericValue();
-    private float x;
+    float x;
     private RangedNumericValue xOffsetValue = new ScaledNumericValue();
     private ScaledNumericValue xScaleValue = new ScaledNumericValue();
     private RangedNumericValue[] xSizeValues;
-    private float y;
+    float y;
     private RangedNumericValue yOffsetValue = new ScaledNumericValue();
     private ScaledNumericValue yScaleValue = new ScaledNumericValue();
     private RangedNumericValue[] ySizeValues;
@@ -215,43 +215,7 @@ public class ParticleEmitter {
         if (f >= 1.0f) {
             int deltaMillis = (int) f;
             this.accumulator = f - ((float) deltaMillis);
-            float f2 = this.delayTimer;
-            if (f2 < this.delay) {
-                this.delayTimer = f2 + ((float) deltaMillis);
-            } else {
-                boolean done = false;
-                if (this.firstUpdate) {
-                    this.firstUpdate = false;
-                    addParticle();
-                }
-                float f3 = this.durationTimer;
-                if (f3 < this.duration) {
-                    this.durationTimer = f3 + ((float) deltaMillis);
-                } else if (!this.continuous || this.allowCompletion) {
-                    done = true;
-                } else {
-                    restart();
-                }
-                if (!done) {
-                    this.emissionDelta += deltaMillis;
-                    float emissionTime = ((float) this.emission) + (((float) this.emissionDiff) * this.emissionValue.getScale(this.durationTimer / this.duration));
-                    if (emissionTime > 0.0f) {
-                        float emissionTime2 = 1000.0f / emissionTime;
-                        int i = this.emissionDelta;
-                        if (((float) i) >= emissionTime2) {
-                            int emitCount = Math.min((int) (((float) i) / emissionTime2), this.maxParticleCount - this.activeCount);
-                            this.emissionDelta = (int) (((float) this.emissionDelta) - (((float) emitCount) * emissionTime2));
-                            this.emissionDelta = (int) (((float) this.emissionDelta) % emissionTime2);
-                            addParticles(emitCount);
-                        }
-                    }
-                    int emitCount2 = this.activeCount;
-                    int i2 = this.minParticleCount;
-                    if (emitCount2 < i2) {
-                        addParticles(i2 - emitCount2);
-                    }
-                }
-            }
+            updateEmission(deltaMillis);
             boolean[] active2 = this.active;
             int activeCount2 = this.activeCount;
             Particle[] particles2 = this.particles;
@@ -325,18 +289,23 @@ public class ParticleEmitter {
         if (this.cleansUpBlendFunction && (this.additive || this.premultipliedAlpha)) {
             batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
         }
-        float f2 = this.delayTimer;
-        if (f2 < this.delay) {
-            this.delayTimer = f2 + ((float) deltaMillis);
+        updateEmission(deltaMillis);
+    }
+
+    /* access modifiers changed from: package-private */
+    public void updateEmission(int deltaMillis) {
+        float f = this.delayTimer;
+        if (f < this.delay) {
+            this.delayTimer = f + ((float) deltaMillis);
             return;
         }
         if (this.firstUpdate) {
             this.firstUpdate = false;
             addParticle();
         }
-        float f3 = this.durationTimer;
-        if (f3 < this.duration) {
-            this.durationTimer = f3 + ((float) deltaMillis);
+        float f2 = this.durationTimer;
+        if (f2 < this.duration) {
+            this.durationTimer = f2 + ((float) deltaMillis);
         } else if (this.continuous && !this.allowCompletion) {
             restart();
         } else {
@@ -346,17 +315,18 @@ public class ParticleEmitter {
         float emissionTime = ((float) this.emission) + (((float) this.emissionDiff) * this.emissionValue.getScale(this.durationTimer / this.duration));
         if (emissionTime > 0.0f) {
             float emissionTime2 = 1000.0f / emissionTime;
-            int i2 = this.emissionDelta;
-            if (((float) i2) >= emissionTime2) {
-                int emitCount = Math.min((int) (((float) i2) / emissionTime2), this.maxParticleCount - activeCount2);
+            int i = this.emissionDelta;
+            if (((float) i) >= emissionTime2) {
+                int emitCount = Math.min((int) (((float) i) / emissionTime2), this.maxParticleCount - this.activeCount);
                 this.emissionDelta = (int) (((float) this.emissionDelta) - (((float) emitCount) * emissionTime2));
                 this.emissionDelta = (int) (((float) this.emissionDelta) % emissionTime2);
                 addParticles(emitCount);
             }
         }
-        int emitCount2 = this.minParticleCount;
-        if (activeCount2 < emitCount2) {
-            addParticles(emitCount2 - activeCount2);
+        int activeCount2 = this.activeCount;
+        int i2 = this.minParticleCount;
+        if (activeCount2 < i2) {
+            addParticles(i2 - activeCount2);
         }
     }
 
@@ -770,7 +740,8 @@ public class ParticleEmitter {
         return true;
     }
 
-    private void generateLifeValues() {
+    /* access modifiers changed from: package-private */
+    public void generateLifeValues() {
         this.life = (int) this.lifeValue.newLowValue();
         this.lifeDiff = (int) this.lifeValue.newHighValue();
         if (!this.lifeValue.isRelative()) {
@@ -778,7 +749,8 @@ public class ParticleEmitter {
         }
     }
 
-    private void generateLifeOffsetValues() {
+    /* access modifiers changed from: package-private */
+    public void generateLifeOffsetValues() {
         this.lifeOffset = this.lifeOffsetValue.active ? (int) this.lifeOffsetValue.newLowValue() : 0;
         this.lifeOffsetDiff = (int) this.lifeOffsetValue.newHighValue();
         if (!this.lifeOffsetValue.isRelative()) {
@@ -8,6 +8,7 @@ import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.OrderedMap;
 import java.io.PrintStream;
 import java.util.Arrays;
@@ -908,6 +909,146 @@ public class PixmapPacker implements Disposable {
         }
     }
 
+    public static class MaxRectsStrategy implements PackStrategy {
+        Comparator<Pixmap> comparator;
+
+        public void sort(Array<Pixmap> images) {
+            if (this.comparator == null) {
+                this.comparator = new Comparator<Pixmap>() {
+                    public int compare(Pixmap o1, Pixmap o2) {
+                        int diff = Math.max(o2.getWidth(), o2.getHeight()) - Math.max(o1.getWidth(), o1.getHeight());
+                        if (diff != 0) {
+                            return diff;
+                        }
+                        return Math.min(o2.getWidth(), o2.getHeight()) - Math.min(o1.getWidth(), o1.getHeight());
+                    }
+                };
+            }
+            images.sort(this.comparator);
+        }
+
+        public Page pack(PixmapPacker packer, String name, Rectangle rect) {
+            int padding = packer.padding;
+            int rectWidth = ((int) rect.width) + padding;
+            int rectHeight = ((int) rect.height) + padding;
+            int n = packer.pages.size;
+            for (int i = 0; i < n; i++) {
+                MaxRectsPage page = (MaxRectsPage) packer.pages.get(i);
+                if (page.insert(rectWidth, rectHeight, rect)) {
+                    return page;
+                }
+            }
+            MaxRectsPage page2 = new MaxRectsPage(packer);
+            if (page2.insert(rectWidth, rectHeight, rect)) {
+                packer.pages.add(page2);
+                return page2;
+            }
+            page2.image.dispose();
+            throw new GdxRuntimeException("Page size too small for pixmap: " + name);
+        }
+
+        static class MaxRectsPage extends Page {
+            final Array<Rectangle> freeRects = new Array<>();
+
+            public MaxRectsPage(PixmapPacker packer) {
+                super(packer);
+                this.freeRects.add(new Rectangle((float) packer.padding, (float) packer.padding, (float) (packer.pageWidth - (packer.padding * 2)), (float) (packer.pageHeight - (packer.padding * 2))));
+            }
+
+            /* access modifiers changed from: package-private */
+            public boolean insert(int width, int height, Rectangle rect) {
+                Array<Rectangle> freeRects2 = this.freeRects;
+                Rectangle best = null;
+                int bestShortSide = Integer.MAX_VALUE;
+                int bestLongSide = Integer.MAX_VALUE;
+                int n = freeRects2.size;
+                for (int i = 0; i < n; i++) {
+                    Rectangle free = freeRects2.get(i);
+                    int leftoverX = ((int) free.width) - width;
+                    int leftoverY = ((int) free.height) - height;
+                    if (leftoverX >= 0 && leftoverY >= 0) {
+                        int shortSide = Math.min(leftoverX, leftoverY);
+                        int longSide = Math.max(leftoverX, leftoverY);
+                        if (shortSide < bestShortSide || (shortSide == bestShortSide && longSide < bestLongSide)) {
+                            best = free;
+                            bestShortSide = shortSide;
+                            bestLongSide = longSide;
+                        }
+                    }
+                }
+                if (best == null) {
+                    return false;
+                }
+                int x = (int) best.x;
+                int y = (int) best.y;
+                rect.x = (float) x;
+                rect.y = (float) y;
+                int i2 = 0;
+                while (i2 < n) {
+                    if (split(freeRects2.get(i2), x, y, width, height)) {
+                        freeRects2.removeIndex(i2);
+                        n--;
+                    } else {
+                        i2++;
+                    }
+                }
+                prune();
+                return true;
+            }
+
+            private boolean split(Rectangle free, int x, int y, int width, int height) {
+                int freeX = (int) free.x;
+                int freeY = (int) free.y;
+                int freeRight = ((int) free.width) + freeX;
+                int freeTop = ((int) free.height) + freeY;
+                if (x >= freeRight || x + width <= freeX || y >= freeTop || y + height <= freeY) {
+                    return false;
+                }
+                if (y > freeY) {
+                    this.freeRects.add(new Rectangle((float) freeX, (float) freeY, (float) (freeRight - freeX), (float) (y - freeY)));
+                }
+                if (y + height < freeTop) {
+                    this.freeRects.add(new Rectangle((float) freeX, (float) (y + height), (float) (freeRight - freeX), (float) (freeTop - (y + height))));
+                }
+                if (x > freeX) {
+                    this.freeRects.add(new Rectangle((float) freeX, (float) freeY, (float) (x - freeX), (float) (freeTop - freeY)));
+                }
+                if (x + width < freeRight) {
+                    this.freeRects.add(new Rectangle((float) (x + width), (float) freeY, (float) (freeRight - (x + width)), (float) (freeTop - freeY)));
+                }
+                return true;
+            }
+
+            private void prune() {
+                Array<Rectangle> freeRects2 = this.freeRects;
+                int i = 0;
+                while (i < freeRects2.size) {
+                    Rectangle a = freeRects2.get(i);
+                    boolean contained = false;
+                    int ii = 0;
+                    while (true) {
+                        if (ii >= freeRects2.size) {
+                            break;
+                        }
+                        if (ii != i) {
+                            Rectangle b = freeRects2.get(ii);
+                            if (a.x >= b.x && a.y >= b.y && a.x + a.width <= b.x + b.width && a.y + a.height <= b.y + b.height) {
+                                contained = true;
+                                break;
+                            }
+                        }
+                        ii++;
+                    }
+                    if (contained) {
+                        freeRects2.removeIndex(i);
+                    } else {
+                        i++;
+                    }
+                }
+            }
+        }
+    }
+
     public Color getTransparentColor() {
         return this.transparentColor;
     }
@@ -0,0 +1,396 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+public final class PngDecoder {
+    private static final int CHUNK_IDAT = 1229209940;
+    private static final int CHUNK_IEND = 1229278788;
+    private static final int CHUNK_IHDR = 1229472850;
+    private static final int CHUNK_PLTE = 1347179589;
+    private static final int CHUNK_TRNS = 1951551059;
+    private static final int[] PASS_X = {0, 4, 0, 2, 0, 1, 0};
+    private static final int[] PASS_Y = {0, 0, 4, 0, 2, 0, 1};
+    private static final int[] PASS_STEP_X = {8, 8, 4, 4, 2, 2, 1};
+    private static final int[] PASS_STEP_Y = {8, 8, 8, 4, 4, 2, 2};
+    private static final byte[] SIGNATURE = {-119, 80, 78, 71, 13, 10, 26, 10};
+    private int bitDepth;
+    private int channels;
+    private int colorType;
+    private int format;
+    private int height;
+    private int interlace;
+    private byte[] palette;
+    private byte[] paletteAlpha;
+    private int paletteSize;
+    private byte[] raw;
+    private int samples;
+    private int transB;
+    private int transG;
+    private int transR;
+    private int width;
+
+    private PngDecoder() {
+        this.transR = -1;
+        this.transG = -1;
+        this.transB = -1;
+    }
+
+    public static boolean isPng(byte[] data, int offset, int len) {
+        if (len < 8) {
+            return false;
+        }
+        for (int i = 0; i < 8; i++) {
+            if (data[offset + i] != SIGNATURE[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static ByteBuffer decode(long[] nativeData, byte[] data, int offset, int len) throws IOException {
+        if (isPng(data, offset, len)) {
+            PngDecoder decoder = new PngDecoder();
+            ByteBuffer pixels = decoder.read(data, offset + 8, offset + len);
+            nativeData[0] = 0;
+            nativeData[1] = (long) decoder.width;
+            nativeData[2] = (long) decoder.height;
+            nativeData[3] = (long) decoder.format;
+            return pixels;
+        }
+        throw new IOException("Not a PNG image");
+    }
+
+    private static int readInt(byte[] data, int pos) {
+        return ((data[pos] & 255) << 24) | ((data[pos + 1] & 255) << 16) | ((data[pos + 2] & 255) << 8) | (data[pos + 3] & 255);
+    }
+
+    private ByteBuffer read(byte[] data, int pos, int end) throws IOException {
+        Inflater inflater = new Inflater();
+        int rawPos = 0;
+        boolean seenHeader = false;
+        try {
+            while (pos + 8 <= end) {
+                int length = readInt(data, pos);
+                int type = readInt(data, pos + 4);
+                int start = pos + 8;
+                if (length < 0 || length > (end - start) - 4) {
+                    throw new IOException("Truncated PNG chunk");
+                }
+                if (type == CHUNK_IHDR) {
+                    readHeader(data, start, length);
+                    seenHeader = true;
+                } else if (!seenHeader) {
+                    throw new IOException("PNG is missing IHDR");
+                } else if (type == CHUNK_PLTE) {
+                    this.palette = new byte[length];
+                    System.arraycopy(data, start, this.palette, 0, length);
+                    this.paletteSize = length / 3;
+                } else if (type == CHUNK_TRNS) {
+                    readTransparency(data, start, length);
+                } else if (type == CHUNK_IDAT) {
+                    inflater.setInput(data, start, length);
+                    byte[] raw2 = this.raw;
+                    while (!inflater.needsInput() && !inflater.finished() && rawPos < raw2.length) {
+                        if (!inflater.needsDictionary()) {
+                            rawPos += inflater.inflate(raw2, rawPos, raw2.length - rawPos);
+                        } else {
+                            throw new IOException("Corrupt PNG image data");
+                        }
+                    }
+                } else if (type == CHUNK_IEND) {
+                    break;
+                } else if ((type & 536870912) == 0) {
+                    throw new IOException("Unsupported critical PNG chunk: " + type);
+                }
+                pos = start + length + 4;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt PNG image data", e);
+        } finally {
+            inflater.end();
+        }
+        if (!seenHeader) {
+            throw new IOException("PNG is missing IHDR");
+        } else if (rawPos >= this.raw.length) {
+            return expand();
+        } else {
+            throw new IOException("Truncated PNG image data");
+        }
+    }
+
+    private void readHeader(byte[] data, int pos, int length) throws IOException {
+        if (length >= 13) {
+            this.width = readInt(data, pos);
+            this.height = readInt(data, pos + 4);
+            this.bitDepth = data[pos + 8] & 255;
+            this.colorType = data[pos + 9] & 255;
+            this.interlace = data[pos + 12] & 255;
+            if (this.width <= 0 || this.height <= 0 || ((long) this.width) * ((long) this.height) > 536870911) {
+                throw new IOException("Invalid PNG dimensions: " + this.width + "x" + this.height);
+            }
+            int i = this.colorType;
+            if (i == 0) {
+                this.samples = 1;
+            } else if (i == 2) {
+                this.samples = 3;
+            } else if (i == 3) {
+                this.samples = 1;
+            } else if (i == 4) {
+                this.samples = 2;
+            } else if (i == 6) {
+                this.samples = 4;
+            } else {
+                throw new IOException("Unsupported PNG color type: " + i);
+            }
+            int i2 = this.bitDepth;
+            if (i2 != 1 && i2 != 2 && i2 != 4 && i2 != 8 && i2 != 16) {
+                throw new IOException("Unsupported PNG bit depth: " + i2);
+            }
+            long size = 0;
+            if (this.interlace == 0) {
+                size = ((long) this.height) * ((long) (rowBytes(this.width) + 1));
+            } else {
+                for (int pass = 0; pass < 7; pass++) {
+                    int passWidth = passSize(this.width, PASS_X[pass], PASS_STEP_X[pass]);
+                    int passHeight = passSize(this.height, PASS_Y[pass], PASS_STEP_Y[pass]);
+                    if (passWidth > 0 && passHeight > 0) {
+                        size += ((long) passHeight) * ((long) (rowBytes(passWidth) + 1));
+                    }
+                }
+            }
+            if (size <= 2147483639) {
+                this.raw = new byte[((int) size)];
+                return;
+            }
+            throw new IOException("PNG image too large: " + this.width + "x" + this.height);
+        }
+        throw new IOException("Invalid PNG header");
+    }
+
+    private void readTransparency(byte[] data, int pos, int length) {
+        int i = this.colorType;
+        if (i == 3) {
+            this.paletteAlpha = new byte[length];
+            System.arraycopy(data, pos, this.paletteAlpha, 0, length);
+        } else if (i == 0 && length >= 2) {
+            this.transR = ((data[pos] & 255) << 8) | (data[pos + 1] & 255);
+        } else if (i == 2 && length >= 6) {
+            this.transR = ((data[pos] & 255) << 8) | (data[pos + 1] & 255);
+            this.transG = ((data[pos + 2] & 255) << 8) | (data[pos + 3] & 255);
+            this.transB = ((data[pos + 4] & 255) << 8) | (data[pos + 5] & 255);
+        }
+    }
+
+    private int rowBytes(int pixels) {
+        return (int) (((((long) pixels) * ((long) this.samples)) * ((long) this.bitDepth) + 7) >> 3);
+    }
+
+    private static int passSize(int size, int start, int step) {
+        if (size <= start) {
+            return 0;
+        }
+        return ((size - start) + (step - 1)) / step;
+    }
+
+    private ByteBuffer expand() throws IOException {
+        int i = this.colorType;
+        if (i == 0) {
+            this.format = this.transR >= 0 ? Gdx2DPixmap.GDX2D_FORMAT_LUMINANCE_ALPHA : Gdx2DPixmap.GDX2D_FORMAT_ALPHA;
+        } else if (i == 2) {
+            this.format = this.transR >= 0 ? Gdx2DPixmap.GDX2D_FORMAT_RGBA8888 : Gdx2DPixmap.GDX2D_FORMAT_RGB888;
+        } else if (i == 3) {
+            if (this.palette != null) {
+                this.format = this.paletteAlpha != null ? Gdx2DPixmap.GDX2D_FORMAT_RGBA8888 : Gdx2DPixmap.GDX2D_FORMAT_RGB888;
+            } else {
+                throw new IOException("PNG is missing PLTE");
+            }
+        } else if (i == 4) {
+            this.format = Gdx2DPixmap.GDX2D_FORMAT_LUMINANCE_ALPHA;
+        } else {
+            this.format = Gdx2DPixmap.GDX2D_FORMAT_RGBA8888;
+        }
+        int i2 = this.format;
+        this.channels = i2 == 1 ? 1 : i2 == 2 ? 2 : i2 == 3 ? 3 : 4;
+        ByteBuffer pixels = ByteBuffer.allocateDirect(this.width * this.height * this.channels);
+        int filterBytes = Math.max(1, (this.samples * this.bitDepth) >> 3);
+        if (this.interlace == 0) {
+            int rowBytes = rowBytes(this.width);
+            int pos = 0;
+            for (int y = 0; y < this.height; y++) {
+                unfilter(pos, rowBytes, filterBytes, y == 0 ? -1 : (pos - rowBytes) - 1);
+                expandRow(pixels, pos + 1, this.width, y, 0, 1);
+                pos += rowBytes + 1;
+            }
+        } else {
+            int pos2 = 0;
+            for (int pass = 0; pass < 7; pass++) {
+                int passWidth = passSize(this.width, PASS_X[pass], PASS_STEP_X[pass]);
+                int passHeight = passSize(this.height, PASS_Y[pass], PASS_STEP_Y[pass]);
+                if (passWidth != 0 && passHeight != 0) {
+                    int rowBytes2 = rowBytes(passWidth);
+                    for (int row = 0; row < passHeight; row++) {
+                        unfilter(pos2, rowBytes2, filterBytes, row == 0 ? -1 : (pos2 - rowBytes2) - 1);
+                        expandRow(pixels, pos2 + 1, passWidth, PASS_Y[pass] + (PASS_STEP_Y[pass] * row), PASS_X[pass], PASS_STEP_X[pass]);
+                        pos2 += rowBytes2 + 1;
+                    }
+                }
+            }
+        }
+        this.raw = null;
+        pixels.position(0);
+        return pixels;
+    }
+
+    private void unfilter(int pos, int rowBytes, int bpp, int prior) throws IOException {
+        byte[] raw2 = this.raw;
+        int filter = raw2[pos];
+        int start = pos + 1;
+        int end = start + rowBytes;
+        if (filter != 0) {
+            if (filter == 1) {
+                for (int i = start + bpp; i < end; i++) {
+                    raw2[i] = (byte) (raw2[i] + raw2[i - bpp]);
+                }
+            } else if (filter != 2) {
+                if (filter != 3) {
+                    if (filter == 4) {
+                        if (prior < 0) {
+                            for (int i2 = start + bpp; i2 < end; i2++) {
+                                raw2[i2] = (byte) (raw2[i2] + raw2[i2 - bpp]);
+                            }
+                            return;
+                        }
+                        int up = prior + 1;
+                        for (int i3 = start; i3 < start + bpp; i3++) {
+                            raw2[i3] = (byte) (raw2[i3] + raw2[(i3 - start) + up]);
+                        }
+                        for (int i4 = start + bpp; i4 < end; i4++) {
+                            int j = (i4 - start) + up;
+                            int a = raw2[i4 - bpp] & 255;
+                            int b = raw2[j] & 255;
+                            int c = raw2[j - bpp] & 255;
+                            int p = (a + b) - c;
+                            int pa = Math.abs(p - a);
+                            int pb = Math.abs(p - b);
+                            int pc = Math.abs(p - c);
+                            raw2[i4] = (byte) (raw2[i4] + ((pa > pb || pa > pc) ? pb <= pc ? b : c : a));
+                        }
+                        return;
+                    }
+                    throw new IOException("Invalid PNG filter type: " + filter);
+                } else if (prior < 0) {
+                    for (int i5 = start + bpp; i5 < end; i5++) {
+                        raw2[i5] = (byte) (raw2[i5] + ((raw2[i5 - bpp] & 255) >> 1));
+                    }
+                } else {
+                    int up2 = prior + 1;
+                    for (int i6 = start; i6 < start + bpp; i6++) {
+                        raw2[i6] = (byte) (raw2[i6] + ((raw2[(i6 - start) + up2] & 255) >> 1));
+                    }
+                    for (int i7 = start + bpp; i7 < end; i7++) {
+                        raw2[i7] = (byte) (raw2[i7] + (((raw2[i7 - bpp] & 255) + (raw2[(i7 - start) + up2] & 255)) >> 1));
+                    }
+                }
+            } else if (prior >= 0) {
+                int up3 = prior + 1;
+                for (int i8 = start; i8 < end; i8++) {
+                    raw2[i8] = (byte) (raw2[i8] + raw2[(i8 - start) + up3]);
+                }
+            }
+        }
+    }
+
+    private int sample(int rowStart, int index) {
+        byte[] raw2 = this.raw;
+        int i = this.bitDepth;
+        if (i == 8) {
+            return raw2[rowStart + index] & 255;
+        }
+        if (i == 16) {
+            int pos = (index << 1) + rowStart;
+            return ((raw2[pos] & 255) << 8) | (raw2[pos + 1] & 255);
+        }
+        int bit = index * i;
+        return (raw2[(bit >> 3) + rowStart] >> ((8 - i) - (bit & 7))) & ((1 << i) - 1);
+    }
+
+    private int scale(int value) {
+        int i = this.bitDepth;
+        if (i == 8) {
+            return value;
+        }
+        if (i == 16) {
+            return value >> 8;
+        }
+        if (i == 4) {
+            return value * 17;
+        }
+        if (i == 2) {
+            return value * 85;
+        }
+        return value * 255;
+    }
+
+    private void expandRow(ByteBuffer pixels, int rowStart, int count, int y, int x, int stepX) {
+        int channels2 = this.channels;
+        int samples2 = this.samples;
+        int out = ((this.width * y) + x) * channels2;
+        int outStep = stepX * channels2;
+        if (this.bitDepth == 8 && stepX == 1 && channels2 == samples2) {
+            pixels.position(out);
+            pixels.put(this.raw, rowStart, count * channels2);
+            return;
+        }
+        int i = this.colorType;
+        if (i == 3) {
+            byte[] palette2 = this.palette;
+            byte[] alpha = this.paletteAlpha;
+            for (int p = 0; p < count; p++) {
+                int index = sample(rowStart, p);
+                if (index < this.paletteSize) {
+                    int entry = index * 3;
+                    pixels.put(out, palette2[entry]);
+                    pixels.put(out + 1, palette2[entry + 1]);
+                    pixels.put(out + 2, palette2[entry + 2]);
+                } else {
+                    pixels.put(out, (byte) 0);
+                    pixels.put(out + 1, (byte) 0);
+                    pixels.put(out + 2, (byte) 0);
+                }
+                if (alpha != null) {
+                    pixels.put(out + 3, index < alpha.length ? alpha[index] : -1);
+                }
+                out += outStep;
+            }
+            return;
+        }
+        for (int p2 = 0; p2 < count; p2++) {
+            int base = p2 * samples2;
+            if (i == 0) {
+                int gray = sample(rowStart, base);
+                pixels.put(out, (byte) scale(gray));
+                if (channels2 == 2) {
+                    pixels.put(out + 1, (byte) (gray == this.transR ? 0 : 255));
+                }
+            } else if (i == 2) {
+                int r = sample(rowStart, base);
+                int g = sample(rowStart, base + 1);
+                int b = sample(rowStart, base + 2);
+                pixels.put(out, (byte) scale(r));
+                pixels.put(out + 1, (byte) scale(g));
+                pixels.put(out + 2, (byte) scale(b));
+                if (channels2 == 4) {
+                    pixels.put(out + 3, (byte) ((r == this.transR && g == this.transG && b == this.transB) ? 0 : 255));
+                }
+            } else {
+                for (int c = 0; c < samples2; c++) {
+                    pixels.put(out + c, (byte) scale(sample(rowStart, base + c)));
+                }
+            }
+            out += outStep;
+        }
+    }
+}
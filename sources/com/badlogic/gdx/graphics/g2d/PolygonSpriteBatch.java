@@ -51,6 +51,10 @@ public class PolygonSpriteBatch implements PolygonBatch {
     }
 
     public PolygonSpriteBatch(int maxVertices, int maxTriangles, ShaderProgram defaultShader) {
+        this(maxVertices, maxTriangles, defaultShader, (Mesh.VertexDataType) null);
+    }
+
+    public PolygonSpriteBatch(int maxVertices, int maxTriangles, ShaderProgram defaultShader, Mesh.VertexDataType vertexDataType) {
         this.invTexWidth = 0.0f;
         this.invTexHeight = 0.0f;
         this.transformMatrix = new Matrix4();
@@ -66,7 +70,7 @@ public class PolygonSpriteBatch implements PolygonBatch {
         this.totalRenderCalls = 0;
         this.maxTrianglesInBatch = 0;
         if (maxVertices <= 32767) {
-            this.mesh = new Mesh(Gdx.gl30 != null ? Mesh.VertexDataType.VertexBufferObjectWithVAO : Mesh.VertexDataType.VertexArray, false, maxVertices, maxTriangles * 3, new VertexAttribute(1, 2, ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(4, 4, ShaderProgram.COLOR_ATTRIBUTE), new VertexAttribute(16, 2, "a_texCoord0"));
+            this.mesh = new Mesh(vertexDataType != null ? vertexDataType : Gdx.gl30 != null ? Mesh.VertexDataType.VertexBufferObjectWithVAO : Mesh.VertexDataType.VertexArray, false, maxVertices, maxTriangles * 3, new VertexAttribute(1, 2, ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(4, 4, ShaderProgram.COLOR_ATTRIBUTE), new VertexAttribute(16, 2, "a_texCoord0"));
             this.vertices = new float[(maxVertices * 5)];
             this.triangles = new short[(maxTriangles * 3)];
             if (defaultShader == null) {
@@ -47,6 +47,10 @@ public class SpriteBatch implements Batch {
     }
 
     public SpriteBatch(int size, ShaderProgram defaultShader) {
+        this(size, defaultShader, (Mesh.VertexDataType) null);
+    }
+
+    public SpriteBatch(int size, ShaderProgram defaultShader, Mesh.VertexDataType vertexDataType) {
         this.idx = 0;
         this.lastTexture = null;
         this.invTexWidth = 0.0f;
@@ -67,7 +71,7 @@ public class SpriteBatch implements Batch {
         this.totalRenderCalls = 0;
         this.maxSpritesInBatch = 0;
         if (size <= 8191) {
-            this.mesh = new Mesh(Gdx.gl30 != null ? Mesh.VertexDataType.VertexBufferObjectWithVAO : defaultVertexDataType, false, size * 4, size * 6, new VertexAttribute(1, 2, ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(4, 4, ShaderProgram.COLOR_ATTRIBUTE), new VertexAttribute(16, 2, "a_texCoord0"));
+            this.mesh = new Mesh(vertexDataType != null ? vertexDataType : Gdx.gl30 != null ? Mesh.VertexDataType.VertexBufferObjectWithVAO : defaultVertexDataType, false, size * 4, size * 6, new VertexAttribute(1, 2, ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(4, 4, ShaderProgram.COLOR_ATTRIBUTE), new VertexAttribute(16, 2, "a_texCoord0"));
             this.projectionMatrix.setToOrtho2D(0.0f, 0.0f, (float) Gdx.graphics.getWidth(), (float) Gdx.graphics.getHeight());
             this.vertices = new float[(size * 20)];
             int len = size * 6;
@@ -0,0 +1,274 @@
+package com.badlogic.gdx.graphics.g3d;
+
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.g3d.utils.ShaderProvider;
+import com.badlogic.gdx.graphics.glutils.InstanceData;
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import java.util.Arrays;
+
+public class InstancedModelBatch extends ModelBatch {
+    private final IdentityMap<Mesh, LongMap<BoundingBox>> boundsCache = new IdentityMap<>();
+    private final int[] counts = new int[256];
+    private boolean culling = true;
+    private int drawCalls;
+    private int[] indices = new int[0];
+    private float[] instanceData = new float[0];
+    private boolean instancing = true;
+    private long[] keys = new long[0];
+    private final ObjectIntMap<Object> materialIds = new ObjectIntMap<>();
+    private final ObjectIntMap<Object> meshIds = new ObjectIntMap<>();
+    private final ObjectIntMap<Object> shaderIds = new ObjectIntMap<>();
+    private Renderable[] sorted = new Renderable[0];
+    private int[] tmpIndices = new int[0];
+    private long[] tmpKeys = new long[0];
+    private final Vector3 tmpV1 = new Vector3();
+    private final Vector3 tmpV2 = new Vector3();
+    private final Vector3 tmpV3 = new Vector3();
+
+    public InstancedModelBatch(RenderContext context, ShaderProvider shaderProvider) {
+        super(context, shaderProvider, null);
+    }
+
+    public InstancedModelBatch(ShaderProvider shaderProvider) {
+        this(null, shaderProvider);
+    }
+
+    public InstancedModelBatch() {
+        this(null, null);
+    }
+
+    public void setCulling(boolean culling2) {
+        this.culling = culling2;
+    }
+
+    public boolean isCulling() {
+        return this.culling;
+    }
+
+    public void setInstancing(boolean instancing2) {
+        this.instancing = instancing2;
+    }
+
+    public boolean isInstancing() {
+        return this.instancing;
+    }
+
+    public int getDrawCalls() {
+        return this.drawCalls;
+    }
+
+    public void clearBoundsCache() {
+        this.boundsCache.clear();
+    }
+
+    public void clearBounds(Mesh mesh) {
+        this.boundsCache.remove(mesh);
+    }
+
+    private void pruneBoundsCache() {
+        IdentityMap.Keys<Mesh> it = this.boundsCache.keys();
+        while (it.hasNext()) {
+            if (it.next().isDisposed()) {
+                it.remove();
+            }
+        }
+    }
+
+    public void flush() {
+        Array<Renderable> renderables = this.renderables;
+        if (this.boundsCache.size > 0) {
+            pruneBoundsCache();
+        }
+        ensureCapacity(renderables.size);
+        int count = collect(renderables);
+        radixSort(count);
+        Renderable[] sorted2 = this.sorted;
+        int[] indices2 = this.indices;
+        for (int i = 0; i < count; i++) {
+            sorted2[i] = renderables.get(indices2[i]);
+        }
+        this.drawCalls = 0;
+        Shader currentShader = null;
+        int i2 = 0;
+        while (i2 < count) {
+            Renderable renderable = sorted2[i2];
+            if (currentShader != renderable.shader) {
+                if (currentShader != null) {
+                    currentShader.end();
+                }
+                currentShader = renderable.shader;
+                currentShader.begin(this.camera, this.context);
+            }
+            int end = i2 + 1;
+            Mesh mesh = renderable.meshPart.mesh;
+            InstanceData data = mesh.isInstanced() ? mesh.getInstanceData() : null;
+            if (data != null && data.getAttributes().vertexSize == 64 && data.getNumMaxInstances() >= 1) {
+                if (this.instancing && renderable.bones == null) {
+                    int max = Math.min(i2 + data.getNumMaxInstances(), count);
+                    while (end < max && canInstance(renderable, sorted2[end])) {
+                        end++;
+                    }
+                }
+                float[] instanceData2 = this.instanceData;
+                int offset = 0;
+                for (int j = i2; j < end; j++) {
+                    System.arraycopy(sorted2[j].worldTransform.val, 0, instanceData2, offset, 16);
+                    offset += 16;
+                }
+                mesh.setInstanceData(instanceData2, 0, offset);
+            }
+            currentShader.render(renderable);
+            this.drawCalls++;
+            i2 = end;
+        }
+        if (currentShader != null) {
+            currentShader.end();
+        }
+        Arrays.fill(sorted2, 0, count, (Object) null);
+        this.shaderIds.clear();
+        this.materialIds.clear();
+        this.meshIds.clear();
+        this.renderablesPool.flush();
+        renderables.clear();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (this.keys.length < capacity) {
+            int capacity2 = Math.max(capacity, this.keys.length * 2);
+            this.keys = new long[capacity2];
+            this.tmpKeys = new long[capacity2];
+            this.indices = new int[capacity2];
+            this.tmpIndices = new int[capacity2];
+            this.sorted = new Renderable[capacity2];
+            this.instanceData = new float[(capacity2 * 16)];
+        }
+    }
+
+    private int collect(Array<Renderable> renderables) {
+        Frustum frustum = this.camera.frustum;
+        Vector3 position = this.camera.position;
+        Vector3 center = this.tmpV3;
+        long[] keys2 = this.keys;
+        int[] indices2 = this.indices;
+        int count = 0;
+        int n = renderables.size;
+        for (int i = 0; i < n; i++) {
+            Renderable renderable = renderables.get(i);
+            MeshPart meshPart = renderable.meshPart;
+            Vector3 localCenter = meshPart.center;
+            Vector3 halfExtents = meshPart.halfExtents;
+            if (meshPart.radius < 0.0f) {
+                BoundingBox bounds = getBounds(meshPart);
+                localCenter = bounds.getCenter(this.tmpV1);
+                halfExtents = bounds.getDimensions(this.tmpV2).scl(0.5f);
+            }
+            center.set(localCenter).mul(renderable.worldTransform);
+            if (this.culling && renderable.bones == null) {
+                float[] val = renderable.worldTransform.val;
+                float hx = halfExtents.x;
+                float hy = halfExtents.y;
+                float hz = halfExtents.z;
+                if (!frustum.boundsInFrustum(center.x, center.y, center.z, (Math.abs(val[0]) * hx) + (Math.abs(val[4]) * hy) + (Math.abs(val[8]) * hz), (Math.abs(val[1]) * hx) + (Math.abs(val[5]) * hy) + (Math.abs(val[9]) * hz), (Math.abs(val[2]) * hx) + (Math.abs(val[6]) * hy) + (Math.abs(val[10]) * hz))) {
+                    continue;
+                }
+            }
+            keys2[count] = sortKey(renderable, position.dst2(center));
+            indices2[count] = i;
+            count++;
+        }
+        return count;
+    }
+
+    private long sortKey(Renderable renderable, float dst2) {
+        Material material = renderable.material;
+        MeshPart meshPart = renderable.meshPart;
+        int depth = Float.floatToRawIntBits(dst2) & Integer.MAX_VALUE;
+        long shaderId = (long) (id(this.shaderIds, renderable.shader) & 511);
+        long materialId = (long) (id(this.materialIds, material) & 8191);
+        long meshId = (long) (id(this.meshIds, meshPart.mesh) & 1023);
+        if (material.has(BlendingAttribute.Type) && ((BlendingAttribute) material.get(BlendingAttribute.Type)).blended) {
+            return Long.MIN_VALUE | (((long) ((depth ^ -1) & Integer.MAX_VALUE)) << 32) | (shaderId << 23) | (materialId << 10) | meshId;
+        }
+        return (shaderId << 54) | (materialId << 41) | (meshId << 31) | (((long) (((meshPart.offset * 31) + meshPart.size) & 63)) << 25) | ((long) (depth >>> 6));
+    }
+
+    private static int id(ObjectIntMap<Object> ids, Object key) {
+        int id = ids.get(key, -1);
+        if (id != -1) {
+            return id;
+        }
+        int id2 = ids.size;
+        ids.put(key, id2);
+        return id2;
+    }
+
+    private BoundingBox getBounds(MeshPart meshPart) {
+        LongMap<BoundingBox> parts = this.boundsCache.get(meshPart.mesh);
+        if (parts == null) {
+            parts = new LongMap<>();
+            this.boundsCache.put(meshPart.mesh, parts);
+        }
+        long key = (((long) meshPart.offset) << 32) | (((long) meshPart.size) & 4294967295L);
+        BoundingBox bounds = parts.get(key);
+        if (bounds != null) {
+            return bounds;
+        }
+        BoundingBox bounds2 = meshPart.mesh.calculateBoundingBox(new BoundingBox(), meshPart.offset, meshPart.size);
+        parts.put(key, bounds2);
+        return bounds2;
+    }
+
+    private static boolean canInstance(Renderable first, Renderable renderable) {
+        return renderable.shader == first.shader && renderable.bones == null && renderable.environment == first.environment && renderable.meshPart.equals(first.meshPart) && (renderable.material == first.material || renderable.material.equals(first.material));
+    }
+
+    private void radixSort(int count) {
+        long[] keys2 = this.keys;
+        int[] indices2 = this.indices;
+        long[] tmpKeys2 = this.tmpKeys;
+        int[] tmpIndices2 = this.tmpIndices;
+        int[] counts2 = this.counts;
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(counts2, 0);
+            for (int i = 0; i < count; i++) {
+                int b = (int) ((keys2[i] >>> shift) & 255);
+                counts2[b] = counts2[b] + 1;
+            }
+            if (count != 0 && counts2[(int) ((keys2[0] >>> shift) & 255)] != count) {
+                int sum = 0;
+                for (int b2 = 0; b2 < 256; b2++) {
+                    int bucketCount = counts2[b2];
+                    counts2[b2] = sum;
+                    sum += bucketCount;
+                }
+                for (int i2 = 0; i2 < count; i2++) {
+                    long key = keys2[i2];
+                    int b3 = (int) ((key >>> shift) & 255);
+                    int dst = counts2[b3];
+                    counts2[b3] = dst + 1;
+                    tmpKeys2[dst] = key;
+                    tmpIndices2[dst] = indices2[i2];
+                }
+                long[] swapKeys = keys2;
+                keys2 = tmpKeys2;
+                tmpKeys2 = swapKeys;
+                int[] swapIndices = indices2;
+                indices2 = tmpIndices2;
+                tmpIndices2 = swapIndices;
+            }
+        }
+        this.keys = keys2;
+        this.tmpKeys = tmpKeys2;
+        this.indices = indices2;
+        this.tmpIndices = tmpIndices2;
+    }
+}
@@ -8,6 +8,7 @@ import com.badlogic.gdx.graphics.g3d.particles.emitters.Emitter;
 import com.badlogic.gdx.graphics.g3d.particles.influencers.Influencer;
 import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRenderer;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.math.collision.BoundingBox;
@@ -27,6 +28,7 @@ public class ParticleController implements Json.Serializable, ResourceData.Confi
     public String name;
     public ParticleChannels particleChannels;
     public ParallelArray particles;
+    final RandomXS128 random = new RandomXS128();
     public ParticleControllerRenderer<?, ?> renderer;
     public Vector3 scale;
     public Matrix4 transform;
@@ -26,6 +26,10 @@ public class ParticleEffectLoader extends AsynchronousAssetLoader<ParticleEffect
     public void loadAsync(AssetManager manager, String fileName, FileHandle file, ParticleEffectLoadParameter parameter) {
     }
 
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
     public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, ParticleEffectLoadParameter parameter) {
         Array<ResourceData.AssetData> assets;
         ResourceData<ParticleEffect> data = (ResourceData) new Json().fromJson(ResourceData.class, file);
@@ -0,0 +1,44 @@
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import com.badlogic.gdx.math.MathUtils;
+import java.util.Random;
+
+public final class ParticleRandom {
+    private static final ThreadLocal<Random> current = new ThreadLocal<>();
+
+    private ParticleRandom() {
+    }
+
+    static void set(Random random) {
+        if (random == null) {
+            current.remove();
+        } else {
+            current.set(random);
+        }
+    }
+
+    public static Random get() {
+        Random random = current.get();
+        return random != null ? random : MathUtils.random;
+    }
+
+    public static int random(int range) {
+        return get().nextInt(range + 1);
+    }
+
+    public static int random(int start, int end) {
+        return get().nextInt((end - start) + 1) + start;
+    }
+
+    public static float random() {
+        return get().nextFloat();
+    }
+
+    public static float random(float range) {
+        return get().nextFloat() * range;
+    }
+
+    public static float random(float start, float end) {
+        return (get().nextFloat() * (end - start)) + start;
+    }
+}
@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRenderData;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
+import java.util.Arrays;
 import java.util.Iterator;
 
 public abstract class ParticleSorter {
@@ -32,17 +33,22 @@ public abstract class ParticleSorter {
     }
 
     public static class Distance extends ParticleSorter {
+        private final int[] counts = new int[256];
         private int currentSize = 0;
-        private float[] distances;
+        private int[] keys;
+        private int lastCount;
         private int[] particleIndices;
+        private int[] particleKeys;
         private int[] particleOffsets;
 
         public void ensureCapacity(int capacity) {
             if (this.currentSize < capacity) {
-                this.distances = new float[capacity];
+                this.keys = new int[capacity];
                 this.particleIndices = new int[capacity];
+                this.particleKeys = new int[capacity];
                 this.particleOffsets = new int[capacity];
                 this.currentSize = capacity;
+                this.lastCount = 0;
             }
         }
 
@@ -51,6 +57,7 @@ public abstract class ParticleSorter {
             float cx = val[2];
             float cy = val[6];
             float cz = val[10];
+            int[] particleKeys2 = this.particleKeys;
             int count = 0;
             int i = 0;
             Iterator<T> it = renderData.iterator();
@@ -59,68 +66,100 @@ public abstract class ParticleSorter {
                 int k = 0;
                 int c = data.controller.particles.size + i;
                 while (i < c) {
-                    this.distances[i] = (data.positionChannel.data[k + 0] * cx) + (data.positionChannel.data[k + 1] * cy) + (data.positionChannel.data[k + 2] * cz);
-                    this.particleIndices[i] = i;
+                    int bits = Float.floatToRawIntBits((data.positionChannel.data[k + 0] * cx) + (data.positionChannel.data[k + 1] * cy) + (data.positionChannel.data[k + 2] * cz));
+                    particleKeys2[i] = ((bits >> 31) & Integer.MAX_VALUE) ^ bits;
                     i++;
                     k += data.positionChannel.strideSize;
                 }
                 count += data.controller.particles.size;
             }
-            qsort(0, count - 1);
-            for (int i2 = 0; i2 < count; i2++) {
-                this.particleOffsets[this.particleIndices[i2]] = i2;
+            int[] indices = this.particleIndices;
+            int[] keys2 = this.keys;
+            if (count != this.lastCount) {
+                for (int i2 = 0; i2 < count; i2++) {
+                    indices[i2] = i2;
+                }
+                this.lastCount = count;
+            }
+            for (int i3 = 0; i3 < count; i3++) {
+                keys2[i3] = particleKeys2[indices[i3]];
+            }
+            if (!insertionSort(count, count << 2)) {
+                radixSort(count);
+            }
+            for (int i4 = 0; i4 < count; i4++) {
+                this.particleOffsets[indices[i4]] = i4;
             }
             return this.particleOffsets;
         }
 
-        public void qsort(int si, int ei) {
-            if (si >= ei) {
-                return;
-            }
-            if (ei - si <= 8) {
-                for (int i = si; i <= ei; i++) {
-                    for (int j = i; j > si; j--) {
-                        float[] fArr = this.distances;
-                        if (fArr[j - 1] <= fArr[j]) {
+        private boolean insertionSort(int count, int maxMoves) {
+            int[] keys2 = this.keys;
+            int[] indices = this.particleIndices;
+            int moves = 0;
+            for (int i = 1; i < count; i++) {
+                int key = keys2[i];
+                if (keys2[i - 1] > key) {
+                    int index = indices[i];
+                    int j = i - 1;
+                    do {
+                        keys2[j + 1] = keys2[j];
+                        indices[j + 1] = indices[j];
+                        j--;
+                        moves++;
+                        if (j < 0) {
                             break;
                         }
-                        float tmp = fArr[j];
-                        fArr[j] = fArr[j - 1];
-                        fArr[j - 1] = tmp;
-                        int[] iArr = this.particleIndices;
-                        int tmpIndex = iArr[j];
-                        iArr[j] = iArr[j - 1];
-                        iArr[j - 1] = tmpIndex;
+                    } while (keys2[j] > key);
+                    keys2[j + 1] = key;
+                    indices[j + 1] = index;
+                    if (moves > maxMoves) {
+                        return false;
                     }
                 }
-                return;
             }
-            float pivot = this.distances[si];
-            int i2 = si + 1;
-            int particlesPivotIndex = this.particleIndices[si];
-            for (int j2 = si + 1; j2 <= ei; j2++) {
-                float[] fArr2 = this.distances;
-                if (pivot > fArr2[j2]) {
-                    if (j2 > i2) {
-                        float tmp2 = fArr2[j2];
-                        fArr2[j2] = fArr2[i2];
-                        fArr2[i2] = tmp2;
-                        int[] iArr2 = this.particleIndices;
-                        int tmpIndex2 = iArr2[j2];
-                        iArr2[j2] = iArr2[i2];
-                        iArr2[i2] = tmpIndex2;
+            return true;
+        }
+
+        private void radixSort(int count) {
+            int[] keys2 = this.keys;
+            int[] indices = this.particleIndices;
+            int[] tmpKeys = this.particleKeys;
+            int[] tmpIndices = this.particleOffsets;
+            int[] counts2 = this.counts;
+            for (int shift = 0; shift < 32; shift += 8) {
+                int flip = shift == 24 ? 128 : 0;
+                Arrays.fill(counts2, 0);
+                for (int i = 0; i < count; i++) {
+                    int i2 = ((keys2[i] >>> shift) & 255) ^ flip;
+                    counts2[i2] = counts2[i2] + 1;
+                }
+                if (counts2[((keys2[0] >>> shift) & 255) ^ flip] != count) {
+                    int sum = 0;
+                    for (int b = 0; b < 256; b++) {
+                        int bucketCount = counts2[b];
+                        counts2[b] = sum;
+                        sum += bucketCount;
                     }
-                    i2++;
+                    for (int i3 = 0; i3 < count; i3++) {
+                        int key = keys2[i3];
+                        int b2 = ((key >>> shift) & 255) ^ flip;
+                        int dst = counts2[b2];
+                        counts2[b2] = dst + 1;
+                        tmpKeys[dst] = key;
+                        tmpIndices[dst] = indices[i3];
+                    }
+                    int[] swapKeys = keys2;
+                    keys2 = tmpKeys;
+                    tmpKeys = swapKeys;
+                    int[] swapIndices = indices;
+                    indices = tmpIndices;
+                    tmpIndices = swapIndices;
                 }
             }
-            float[] fArr3 = this.distances;
-            fArr3[si] = fArr3[i2 - 1];
-            fArr3[i2 - 1] = pivot;
-            int[] iArr3 = this.particleIndices;
-            iArr3[si] = iArr3[i2 - 1];
-            iArr3[i2 - 1] = particlesPivotIndex;
-            qsort(si, i2 - 2);
-            qsort(i2, ei);
+            if (indices != this.particleIndices) {
+                System.arraycopy(indices, 0, this.particleIndices, 0, count);
+            }
         }
     }
 
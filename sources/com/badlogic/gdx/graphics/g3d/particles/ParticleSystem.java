@@ -1,16 +1,25 @@
 package com.badlogic.gdx.graphics.g3d.particles;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g3d.Renderable;
 import com.badlogic.gdx.graphics.g3d.RenderableProvider;
 import com.badlogic.gdx.graphics.g3d.particles.batches.ParticleBatch;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
 import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public final class ParticleSystem implements RenderableProvider {
     private static ParticleSystem instance;
     private Array<ParticleBatch<?>> batches = new Array<>();
     private Array<ParticleEffect> effects = new Array<>();
+    private boolean ownsUpdatePool;
+    private final Array<ParticleController> parallelControllers = new Array<>(true, 16, ParticleController.class);
+    private ForkJoinPool updatePool;
+    private final UpdateTask updateTask = new UpdateTask();
 
     public static ParticleSystem get() {
         if (instance == null) {
@@ -36,22 +45,18 @@ public final class ParticleSystem implements RenderableProvider {
     }
 
     public void update() {
-        Iterator<ParticleEffect> it = this.effects.iterator();
-        while (it.hasNext()) {
-            it.next().update();
-        }
+        update(Gdx.graphics.getDeltaTime());
     }
 
     public void updateAndDraw() {
-        Iterator<ParticleEffect> it = this.effects.iterator();
-        while (it.hasNext()) {
-            ParticleEffect effect = it.next();
-            effect.update();
-            effect.draw();
-        }
+        updateAndDraw(Gdx.graphics.getDeltaTime());
     }
 
     public void update(float deltaTime) {
+        if (this.updatePool != null) {
+            updateParallel(deltaTime);
+            return;
+        }
         Iterator<ParticleEffect> it = this.effects.iterator();
         while (it.hasNext()) {
             it.next().update(deltaTime);
@@ -59,6 +64,11 @@ public final class ParticleSystem implements RenderableProvider {
     }
 
     public void updateAndDraw(float deltaTime) {
+        if (this.updatePool != null) {
+            updateParallel(deltaTime);
+            draw();
+            return;
+        }
         Iterator<ParticleEffect> it = this.effects.iterator();
         while (it.hasNext()) {
             ParticleEffect effect = it.next();
@@ -67,6 +77,63 @@ public final class ParticleSystem implements RenderableProvider {
         }
     }
 
+    private void updateParallel(float deltaTime) {
+        Array<ParticleController> controllers = this.parallelControllers;
+        int n = this.effects.size;
+        for (int i = 0; i < n; i++) {
+            controllers.addAll(this.effects.get(i).getControllers());
+        }
+        if (controllers.size > 1) {
+            ParticleController[] controllersArray = controllers.items;
+            int n2 = controllers.size;
+            for (int i2 = 0; i2 < n2; i2++) {
+                controllersArray[i2].random.setSeed(MathUtils.random.nextLong());
+            }
+            UpdateTask task = this.updateTask;
+            task.reinitialize();
+            task.set(controllersArray, 0, n2, deltaTime);
+            try {
+                this.updatePool.invoke(task);
+            } finally {
+                task.controllers = null;
+                controllers.clear();
+            }
+        } else {
+            if (controllers.size == 1) {
+                controllers.first().update(deltaTime);
+            }
+            controllers.clear();
+        }
+    }
+
+    public void setUpdatePool(ForkJoinPool updatePool2) {
+        ForkJoinPool forkJoinPool = this.updatePool;
+        if (forkJoinPool != updatePool2) {
+            if (this.ownsUpdatePool) {
+                forkJoinPool.shutdown();
+            }
+            this.updatePool = updatePool2;
+            this.ownsUpdatePool = false;
+        }
+    }
+
+    public ForkJoinPool getUpdatePool() {
+        return this.updatePool;
+    }
+
+    public void setParallelUpdate(boolean parallel) {
+        if (!parallel) {
+            setUpdatePool((ForkJoinPool) null);
+        } else if (this.updatePool == null) {
+            this.updatePool = new ForkJoinPool();
+            this.ownsUpdatePool = true;
+        }
+    }
+
+    public boolean isParallelUpdate() {
+        return this.updatePool != null;
+    }
+
     public void begin() {
         Iterator<ParticleBatch<?>> it = this.batches.iterator();
         while (it.hasNext()) {
@@ -98,4 +165,45 @@ public final class ParticleSystem implements RenderableProvider {
     public Array<ParticleBatch<?>> getBatches() {
         return this.batches;
     }
+
+    static class UpdateTask extends RecursiveAction {
+        private static final long serialVersionUID = 4823170261475930522L;
+        ParticleController[] controllers;
+        float deltaTime;
+        int end;
+        int start;
+
+        UpdateTask() {
+        }
+
+        UpdateTask(ParticleController[] controllers2, int start2, int end2, float deltaTime2) {
+            set(controllers2, start2, end2, deltaTime2);
+        }
+
+        /* access modifiers changed from: package-private */
+        public void set(ParticleController[] controllers2, int start2, int end2, float deltaTime2) {
+            this.controllers = controllers2;
+            this.start = start2;
+            this.end = end2;
+            this.deltaTime = deltaTime2;
+        }
+
+        /* access modifiers changed from: protected */
+        public void compute() {
+            int i = this.end;
+            int i2 = this.start;
+            if (i - i2 == 1) {
+                ParticleController controller = this.controllers[i2];
+                ParticleRandom.set(controller.random);
+                try {
+                    controller.update(this.deltaTime);
+                    return;
+                } finally {
+                    ParticleRandom.set((Random) null);
+                }
+            }
+            int mid = (i2 + i) >>> 1;
+            invokeAll(new UpdateTask(this.controllers, i2, mid, this.deltaTime), new UpdateTask(this.controllers, mid, this.end, this.deltaTime));
+        }
+    }
 }
@@ -2,9 +2,9 @@ package com.badlogic.gdx.graphics.g3d.particles.influencers;
 
 import com.badlogic.gdx.graphics.g3d.particles.ParallelArray;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleChannels;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleRandom;
 import com.badlogic.gdx.graphics.g3d.particles.values.GradientColorValue;
 import com.badlogic.gdx.graphics.g3d.particles.values.ScaledNumericValue;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 
@@ -22,10 +22,10 @@ public abstract class ColorInfluencer extends Influencer {
             int i = this.colorChannel.strideSize * startIndex;
             int c = (this.colorChannel.strideSize * count) + i;
             while (i < c) {
-                this.colorChannel.data[i + 0] = MathUtils.random();
-                this.colorChannel.data[i + 1] = MathUtils.random();
-                this.colorChannel.data[i + 2] = MathUtils.random();
-                this.colorChannel.data[i + 3] = MathUtils.random();
+                this.colorChannel.data[i + 0] = ParticleRandom.random();
+                this.colorChannel.data[i + 1] = ParticleRandom.random();
+                this.colorChannel.data[i + 2] = ParticleRandom.random();
+                this.colorChannel.data[i + 3] = ParticleRandom.random();
                 i += this.colorChannel.strideSize;
             }
         }
@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.g3d.particles.ParallelArray;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleChannels;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleController;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
@@ -18,6 +19,7 @@ public class DynamicsInfluencer extends Influencer {
     private ParallelArray.FloatChannel positionChannel;
     private ParallelArray.FloatChannel previousPositionChannel;
     private ParallelArray.FloatChannel rotationChannel;
+    private final Quaternion tmpRotation = new Quaternion();
     public Array<DynamicsModifier> velocities;
 
     public DynamicsInfluencer() {
@@ -166,11 +168,11 @@ public class DynamicsInfluencer extends Influencer {
                 float qy = this.rotationChannel.data[offset3 + 1];
                 float qz = this.rotationChannel.data[offset3 + 2];
                 float qw = this.rotationChannel.data[offset3 + 3];
-                TMP_Q.set(wx, wy, wz, 0.0f).mul(qx, qy, qz, qw).mul(this.controller.deltaTime * 0.5f).add(qx, qy, qz, qw).nor();
-                this.rotationChannel.data[offset3 + 0] = TMP_Q.x;
-                this.rotationChannel.data[offset3 + 1] = TMP_Q.y;
-                this.rotationChannel.data[offset3 + 2] = TMP_Q.z;
-                this.rotationChannel.data[offset3 + 3] = TMP_Q.w;
+                this.tmpRotation.set(wx, wy, wz, 0.0f).mul(qx, qy, qz, qw).mul(this.controller.deltaTime * 0.5f).add(qx, qy, qz, qw).nor();
+                this.rotationChannel.data[offset3 + 0] = this.tmpRotation.x;
+                this.rotationChannel.data[offset3 + 1] = this.tmpRotation.y;
+                this.rotationChannel.data[offset3 + 2] = this.tmpRotation.z;
+                this.rotationChannel.data[offset3 + 3] = this.tmpRotation.w;
                 i3++;
                 offset3 += this.rotationChannel.strideSize;
                 angularOffset += this.angularVelocityChannel.strideSize;
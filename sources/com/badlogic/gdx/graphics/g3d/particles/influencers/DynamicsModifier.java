@@ -3,6 +3,7 @@ package com.badlogic.gdx.graphics.g3d.particles.influencers;
 import com.badlogic.gdx.graphics.g3d.particles.ParallelArray;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleChannels;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleControllerComponent;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleRandom;
 import com.badlogic.gdx.graphics.g3d.particles.values.ScaledNumericValue;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Quaternion;
@@ -11,10 +12,10 @@ import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 
 public abstract class DynamicsModifier extends Influencer {
-    protected static final Quaternion TMP_Q = new Quaternion();
-    protected static final Vector3 TMP_V1 = new Vector3();
-    protected static final Vector3 TMP_V2 = new Vector3();
-    protected static final Vector3 TMP_V3 = new Vector3();
+    protected final Quaternion tmpQ = new Quaternion();
+    protected final Vector3 tmpV1 = new Vector3();
+    protected final Vector3 tmpV2 = new Vector3();
+    protected final Vector3 tmpV3 = new Vector3();
     public boolean isGlobal = false;
     protected ParallelArray.FloatChannel lifeChannel;
 
@@ -39,14 +40,14 @@ public abstract class DynamicsModifier extends Influencer {
             int accelOffset = 0;
             int c = (this.controller.particles.size * this.rotationChannel.strideSize) + 0;
             while (i < c) {
-                Vector3 axisZ = TMP_V1.set(this.accellerationChannel.data[accelOffset + 0], this.accellerationChannel.data[accelOffset + 1], this.accellerationChannel.data[accelOffset + 2]).nor();
-                Vector3 axisY = TMP_V2.set(TMP_V1).crs(Vector3.Y).nor().crs(TMP_V1).nor();
-                Vector3 axisX = TMP_V3.set(axisY).crs(axisZ).nor();
-                TMP_Q.setFromAxes(false, axisX.x, axisY.x, axisZ.x, axisX.y, axisY.y, axisZ.y, axisX.z, axisY.z, axisZ.z);
-                this.rotationChannel.data[i + 0] = TMP_Q.x;
-                this.rotationChannel.data[i + 1] = TMP_Q.y;
-                this.rotationChannel.data[i + 2] = TMP_Q.z;
-                this.rotationChannel.data[i + 3] = TMP_Q.w;
+                Vector3 axisZ = this.tmpV1.set(this.accellerationChannel.data[accelOffset + 0], this.accellerationChannel.data[accelOffset + 1], this.accellerationChannel.data[accelOffset + 2]).nor();
+                Vector3 axisY = this.tmpV2.set(this.tmpV1).crs(Vector3.Y).nor().crs(this.tmpV1).nor();
+                Vector3 axisX = this.tmpV3.set(axisY).crs(axisZ).nor();
+                this.tmpQ.setFromAxes(false, axisX.x, axisY.x, axisZ.x, axisX.y, axisY.y, axisZ.y, axisX.z, axisY.z, axisZ.z);
+                this.rotationChannel.data[i + 0] = this.tmpQ.x;
+                this.rotationChannel.data[i + 1] = this.tmpQ.y;
+                this.rotationChannel.data[i + 2] = this.tmpQ.z;
+                this.rotationChannel.data[i + 3] = this.tmpQ.w;
                 i += this.rotationChannel.strideSize;
                 accelOffset += this.accellerationChannel.strideSize;
                 c = c;
@@ -225,18 +226,18 @@ public abstract class DynamicsModifier extends Influencer {
                 float cosPhi = MathUtils.cosDeg(phi);
                 float sinPhi = MathUtils.sinDeg(phi);
                 int c2 = c;
-                TMP_V3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi);
-                TMP_V3.scl(0.017453292f * strength);
+                this.tmpV3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi);
+                this.tmpV3.scl(0.017453292f * strength);
                 float[] fArr = this.rotationalForceChannel.data;
                 int i2 = i + 0;
                 float f = lifePercent;
-                fArr[i2] = fArr[i2] + TMP_V3.x;
+                fArr[i2] = fArr[i2] + this.tmpV3.x;
                 float[] fArr2 = this.rotationalForceChannel.data;
                 int i3 = i + 1;
-                fArr2[i3] = fArr2[i3] + TMP_V3.y;
+                fArr2[i3] = fArr2[i3] + this.tmpV3.y;
                 float[] fArr3 = this.rotationalForceChannel.data;
                 int i4 = i + 2;
-                fArr3[i4] = fArr3[i4] + TMP_V3.z;
+                fArr3[i4] = fArr3[i4] + this.tmpV3.z;
                 s += this.strengthChannel.strideSize;
                 i += this.rotationalForceChannel.strideSize;
                 a += this.angularChannel.strideSize;
@@ -284,16 +285,16 @@ public abstract class DynamicsModifier extends Influencer {
             int i = 0;
             int c = this.controller.particles.size;
             while (i < c) {
-                TMP_V3.set(this.positionChannel.data[positionOffset + 0] - cx, this.positionChannel.data[positionOffset + 1] - cy, this.positionChannel.data[positionOffset + 2] - cz).nor().scl(this.strengthChannel.data[strengthOffset + 0] + (this.strengthChannel.data[strengthOffset + 1] * this.strengthValue.getScale(this.lifeChannel.data[lifeOffset])));
+                this.tmpV3.set(this.positionChannel.data[positionOffset + 0] - cx, this.positionChannel.data[positionOffset + 1] - cy, this.positionChannel.data[positionOffset + 2] - cz).nor().scl(this.strengthChannel.data[strengthOffset + 0] + (this.strengthChannel.data[strengthOffset + 1] * this.strengthValue.getScale(this.lifeChannel.data[lifeOffset])));
                 float[] fArr = this.accelerationChannel.data;
                 int i2 = forceOffset + 0;
-                fArr[i2] = fArr[i2] + TMP_V3.x;
+                fArr[i2] = fArr[i2] + this.tmpV3.x;
                 float[] fArr2 = this.accelerationChannel.data;
                 int i3 = forceOffset + 1;
-                fArr2[i3] = fArr2[i3] + TMP_V3.y;
+                fArr2[i3] = fArr2[i3] + this.tmpV3.y;
                 float[] fArr3 = this.accelerationChannel.data;
                 int i4 = forceOffset + 2;
-                fArr3[i4] = fArr3[i4] + TMP_V3.z;
+                fArr3[i4] = fArr3[i4] + this.tmpV3.z;
                 i++;
                 positionOffset += this.positionChannel.strideSize;
                 strengthOffset += this.strengthChannel.strideSize;
@@ -338,17 +339,17 @@ public abstract class DynamicsModifier extends Influencer {
                 float cosPhi = MathUtils.cosDeg(phi);
                 float sinPhi = MathUtils.sinDeg(phi);
                 int c2 = c;
-                TMP_V3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi).nor().scl(strength);
+                this.tmpV3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi).nor().scl(strength);
                 float[] fArr = this.directionalVelocityChannel.data;
                 int i2 = i + 0;
                 float f = lifePercent;
-                fArr[i2] = fArr[i2] + TMP_V3.x;
+                fArr[i2] = fArr[i2] + this.tmpV3.x;
                 float[] fArr2 = this.directionalVelocityChannel.data;
                 int i3 = i + 1;
-                fArr2[i3] = fArr2[i3] + TMP_V3.y;
+                fArr2[i3] = fArr2[i3] + this.tmpV3.y;
                 float[] fArr3 = this.directionalVelocityChannel.data;
                 int i4 = i + 2;
-                fArr3[i4] = fArr3[i4] + TMP_V3.z;
+                fArr3[i4] = fArr3[i4] + this.tmpV3.z;
                 s += this.strengthChannel.strideSize;
                 i += this.directionalVelocityChannel.strideSize;
                 a += this.angularChannel.strideSize;
@@ -398,16 +399,16 @@ public abstract class DynamicsModifier extends Influencer {
                 int c2 = c;
                 float f = lifePercent;
                 float f2 = phi;
-                TMP_V3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi).crs(this.positionChannel.data[positionOffset + 0], this.positionChannel.data[positionOffset + 1], this.positionChannel.data[positionOffset + 2]).nor().scl(strength);
+                this.tmpV3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi).crs(this.positionChannel.data[positionOffset + 0], this.positionChannel.data[positionOffset + 1], this.positionChannel.data[positionOffset + 2]).nor().scl(strength);
                 float[] fArr = this.directionalVelocityChannel.data;
                 int i2 = i + 0;
-                fArr[i2] = fArr[i2] + TMP_V3.x;
+                fArr[i2] = fArr[i2] + this.tmpV3.x;
                 float[] fArr2 = this.directionalVelocityChannel.data;
                 int i3 = i + 1;
-                fArr2[i3] = fArr2[i3] + TMP_V3.y;
+                fArr2[i3] = fArr2[i3] + this.tmpV3.y;
                 float[] fArr3 = this.directionalVelocityChannel.data;
                 int i4 = i + 2;
-                fArr3[i4] = fArr3[i4] + TMP_V3.z;
+                fArr3[i4] = fArr3[i4] + this.tmpV3.z;
                 s += this.strengthChannel.strideSize;
                 i += this.directionalVelocityChannel.strideSize;
                 a += this.angularChannel.strideSize;
@@ -444,16 +445,16 @@ public abstract class DynamicsModifier extends Influencer {
             int i = 0;
             int c = this.controller.particles.size;
             while (i < c) {
-                TMP_V3.set(MathUtils.random(-1.0f, 1.0f), MathUtils.random(-1.0f, 1.0f), MathUtils.random(-1.0f, 1.0f)).nor().scl(this.strengthChannel.data[strengthOffset + 0] + (this.strengthChannel.data[strengthOffset + 1] * this.strengthValue.getScale(this.lifeChannel.data[lifeOffset])));
+                this.tmpV3.set(ParticleRandom.random(-1.0f, 1.0f), ParticleRandom.random(-1.0f, 1.0f), ParticleRandom.random(-1.0f, 1.0f)).nor().scl(this.strengthChannel.data[strengthOffset + 0] + (this.strengthChannel.data[strengthOffset + 1] * this.strengthValue.getScale(this.lifeChannel.data[lifeOffset])));
                 float[] fArr = this.accelerationChannel.data;
                 int i2 = forceOffset + 0;
-                fArr[i2] = fArr[i2] + TMP_V3.x;
+                fArr[i2] = fArr[i2] + this.tmpV3.x;
                 float[] fArr2 = this.accelerationChannel.data;
                 int i3 = forceOffset + 1;
-                fArr2[i3] = fArr2[i3] + TMP_V3.y;
+                fArr2[i3] = fArr2[i3] + this.tmpV3.y;
                 float[] fArr3 = this.accelerationChannel.data;
                 int i4 = forceOffset + 2;
-                fArr3[i4] = fArr3[i4] + TMP_V3.z;
+                fArr3[i4] = fArr3[i4] + this.tmpV3.z;
                 i++;
                 strengthOffset += this.strengthChannel.strideSize;
                 forceOffset += this.accelerationChannel.strideSize;
@@ -6,12 +6,14 @@ import com.badlogic.gdx.graphics.g3d.particles.ParticleChannels;
 import com.badlogic.gdx.graphics.g3d.particles.ResourceData;
 import com.badlogic.gdx.graphics.g3d.particles.values.PointSpawnShapeValue;
 import com.badlogic.gdx.graphics.g3d.particles.values.SpawnShapeValue;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 
 public class SpawnInfluencer extends Influencer {
     ParallelArray.FloatChannel positionChannel;
     public SpawnShapeValue spawnShapeValue;
+    private final Vector3 tmpPosition = new Vector3();
 
     public SpawnInfluencer() {
         this.spawnShapeValue = new PointSpawnShapeValue();
@@ -41,11 +43,11 @@ public class SpawnInfluencer extends Influencer {
         int i = this.positionChannel.strideSize * startIndex;
         int c = (this.positionChannel.strideSize * count) + i;
         while (i < c) {
-            this.spawnShapeValue.spawn(TMP_V1, this.controller.emitter.percent);
-            TMP_V1.mul(this.controller.transform);
-            this.positionChannel.data[i + 0] = TMP_V1.x;
-            this.positionChannel.data[i + 1] = TMP_V1.y;
-            this.positionChannel.data[i + 2] = TMP_V1.z;
+            this.spawnShapeValue.spawn(this.tmpPosition, this.controller.emitter.percent);
+            this.tmpPosition.mul(this.controller.transform);
+            this.positionChannel.data[i + 0] = this.tmpPosition.x;
+            this.positionChannel.data[i + 1] = this.tmpPosition.y;
+            this.positionChannel.data[i + 2] = this.tmpPosition.z;
             i += this.positionChannel.strideSize;
         }
     }
@@ -1,5 +1,6 @@
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import com.badlogic.gdx.graphics.g3d.particles.ParticleRandom;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 
@@ -18,13 +19,13 @@ public final class CylinderSpawnShapeValue extends PrimitiveSpawnShapeValue {
         float width = this.spawnWidth + (this.spawnWidthDiff * this.spawnWidthValue.getScale(percent));
         float height = this.spawnHeight + (this.spawnHeightDiff * this.spawnHeightValue.getScale(percent));
         float depth = this.spawnDepth + (this.spawnDepthDiff * this.spawnDepthValue.getScale(percent));
-        float ty = MathUtils.random(height) - (height / 2.0f);
+        float ty = ParticleRandom.random(height) - (height / 2.0f);
         if (this.edges) {
             radiusX = width / 2.0f;
             radiusZ = depth / 2.0f;
         } else {
-            radiusX = MathUtils.random(width) / 2.0f;
-            radiusZ = MathUtils.random(depth) / 2.0f;
+            radiusX = ParticleRandom.random(width) / 2.0f;
+            radiusZ = ParticleRandom.random(depth) / 2.0f;
         }
         float spawnTheta = 0.0f;
         boolean isRadiusZZero = false;
@@ -34,11 +35,11 @@ public final class CylinderSpawnShapeValue extends PrimitiveSpawnShapeValue {
             isRadiusZZero = true;
         }
         if (!isRadiusXZero && !isRadiusZZero) {
-            spawnTheta = MathUtils.random(360.0f);
+            spawnTheta = ParticleRandom.random(360.0f);
         } else if (isRadiusXZero) {
-            spawnTheta = MathUtils.random(1) == 0 ? -90.0f : 90.0f;
+            spawnTheta = ParticleRandom.random(1) == 0 ? -90.0f : 90.0f;
         } else if (isRadiusZZero) {
-            if (MathUtils.random(1) != 0) {
+            if (ParticleRandom.random(1) != 0) {
                 f = 180.0f;
             }
             spawnTheta = f;
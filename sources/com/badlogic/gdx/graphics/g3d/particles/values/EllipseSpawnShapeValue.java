@@ -1,5 +1,6 @@
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import com.badlogic.gdx.graphics.g3d.particles.ParticleRandom;
 import com.badlogic.gdx.graphics.g3d.particles.values.PrimitiveSpawnShapeValue;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
@@ -32,11 +33,11 @@ public final class EllipseSpawnShapeValue extends PrimitiveSpawnShapeValue {
         } else if (this.side == PrimitiveSpawnShapeValue.SpawnSide.bottom) {
             maxT = -3.1415927f;
         }
-        float t = MathUtils.random(0.0f, maxT);
+        float t = ParticleRandom.random(0.0f, maxT);
         if (!this.edges) {
-            radiusX = MathUtils.random(width / 2.0f);
-            radiusY = MathUtils.random(height / 2.0f);
-            radiusZ = MathUtils.random(depth / 2.0f);
+            radiusX = ParticleRandom.random(width / 2.0f);
+            radiusY = ParticleRandom.random(height / 2.0f);
+            radiusZ = ParticleRandom.random(depth / 2.0f);
         } else if (width == 0.0f) {
             vector3.set(0.0f, (height / 2.0f) * MathUtils.sin(t), (depth / 2.0f) * MathUtils.cos(t));
             return;
@@ -51,7 +52,7 @@ public final class EllipseSpawnShapeValue extends PrimitiveSpawnShapeValue {
             radiusY = height / 2.0f;
             radiusZ = depth / 2.0f;
         }
-        float z = MathUtils.random(-1.0f, 1.0f);
+        float z = ParticleRandom.random(-1.0f, 1.0f);
         float r = (float) Math.sqrt((double) (1.0f - (z * z)));
         vector3.set(radiusX * r * MathUtils.cos(t), radiusY * r * MathUtils.sin(t), radiusZ * z);
     }
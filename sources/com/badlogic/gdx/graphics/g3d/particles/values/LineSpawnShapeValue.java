@@ -1,6 +1,6 @@
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleRandom;
 import com.badlogic.gdx.math.Vector3;
 
 public final class LineSpawnShapeValue extends PrimitiveSpawnShapeValue {
@@ -16,7 +16,7 @@ public final class LineSpawnShapeValue extends PrimitiveSpawnShapeValue {
         float width = this.spawnWidth + (this.spawnWidthDiff * this.spawnWidthValue.getScale(percent));
         float height = this.spawnHeight + (this.spawnHeightDiff * this.spawnHeightValue.getScale(percent));
         float depth = this.spawnDepth + (this.spawnDepthDiff * this.spawnDepthValue.getScale(percent));
-        float a = MathUtils.random();
+        float a = ParticleRandom.random();
         vector.x = a * width;
         vector.y = a * height;
         vector.z = a * depth;
@@ -4,8 +4,8 @@ import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleRandom;
 import com.badlogic.gdx.graphics.g3d.particles.ResourceData;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
@@ -37,14 +37,14 @@ public abstract class MeshSpawnShapeValue extends SpawnShapeValue {
         }
 
         public static Vector3 pick(float x12, float y12, float z12, float x22, float y22, float z22, float x32, float y32, float z32, Vector3 vector) {
-            float a = MathUtils.random();
-            float b = MathUtils.random();
+            float a = ParticleRandom.random();
+            float b = ParticleRandom.random();
             return vector.set(((x22 - x12) * a) + x12 + ((x32 - x12) * b), ((y22 - y12) * a) + y12 + ((y32 - y12) * b), ((z22 - z12) * a) + z12 + ((z32 - z12) * b));
         }
 
         public Vector3 pick(Vector3 vector) {
-            float a = MathUtils.random();
-            float b = MathUtils.random();
+            float a = ParticleRandom.random();
+            float b = ParticleRandom.random();
             float f = this.x1;
             float f2 = this.y1;
             float f3 = this.z1;
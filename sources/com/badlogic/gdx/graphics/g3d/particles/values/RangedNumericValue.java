@@ -1,6 +1,6 @@
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleRandom;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 
@@ -10,7 +10,7 @@ public class RangedNumericValue extends ParticleValue {
 
     public float newLowValue() {
         float f = this.lowMin;
-        return f + ((this.lowMax - f) * MathUtils.random());
+        return f + ((this.lowMax - f) * ParticleRandom.random());
     }
 
     public void setLow(float value) {
@@ -1,6 +1,6 @@
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleRandom;
 import com.badlogic.gdx.math.Vector3;
 
 public final class RectangleSpawnShapeValue extends PrimitiveSpawnShapeValue {
@@ -20,39 +20,39 @@ public final class RectangleSpawnShapeValue extends PrimitiveSpawnShapeValue {
         float height = this.spawnHeight + (this.spawnHeightDiff * this.spawnHeightValue.getScale(percent));
         float depth = this.spawnDepth + (this.spawnDepthDiff * this.spawnDepthValue.getScale(percent));
         if (this.edges) {
-            int a = MathUtils.random(-1, 1);
+            int a = ParticleRandom.random(-1, 1);
             if (a == -1) {
-                tx = MathUtils.random(1) == 0 ? (-width) / 2.0f : width / 2.0f;
+                tx = ParticleRandom.random(1) == 0 ? (-width) / 2.0f : width / 2.0f;
                 if (tx == 0.0f) {
-                    ty = MathUtils.random(1) == 0 ? (-height) / 2.0f : height / 2.0f;
-                    tz = MathUtils.random(1) == 0 ? (-depth) / 2.0f : depth / 2.0f;
+                    ty = ParticleRandom.random(1) == 0 ? (-height) / 2.0f : height / 2.0f;
+                    tz = ParticleRandom.random(1) == 0 ? (-depth) / 2.0f : depth / 2.0f;
                 } else {
-                    ty = MathUtils.random(height) - (height / 2.0f);
-                    tz = MathUtils.random(depth) - (depth / 2.0f);
+                    ty = ParticleRandom.random(height) - (height / 2.0f);
+                    tz = ParticleRandom.random(depth) - (depth / 2.0f);
                 }
             } else if (a == 0) {
-                float tz2 = MathUtils.random(1) == 0 ? (-depth) / 2.0f : depth / 2.0f;
+                float tz2 = ParticleRandom.random(1) == 0 ? (-depth) / 2.0f : depth / 2.0f;
                 if (tz2 == 0.0f) {
-                    ty = MathUtils.random(1) == 0 ? (-height) / 2.0f : height / 2.0f;
+                    ty = ParticleRandom.random(1) == 0 ? (-height) / 2.0f : height / 2.0f;
                     tz = tz2;
-                    tx = MathUtils.random(1) == 0 ? (-width) / 2.0f : width / 2.0f;
+                    tx = ParticleRandom.random(1) == 0 ? (-width) / 2.0f : width / 2.0f;
                 } else {
-                    ty = MathUtils.random(height) - (height / 2.0f);
+                    ty = ParticleRandom.random(height) - (height / 2.0f);
                     tz = tz2;
-                    tx = MathUtils.random(width) - (width / 2.0f);
+                    tx = ParticleRandom.random(width) - (width / 2.0f);
                 }
             } else {
-                float ty2 = MathUtils.random(1) == 0 ? (-height) / 2.0f : height / 2.0f;
+                float ty2 = ParticleRandom.random(1) == 0 ? (-height) / 2.0f : height / 2.0f;
                 if (ty2 == 0.0f) {
-                    float tx2 = MathUtils.random(1) == 0 ? (-width) / 2.0f : width / 2.0f;
-                    tz = MathUtils.random(1) == 0 ? (-depth) / 2.0f : depth / 2.0f;
+                    float tx2 = ParticleRandom.random(1) == 0 ? (-width) / 2.0f : width / 2.0f;
+                    tz = ParticleRandom.random(1) == 0 ? (-depth) / 2.0f : depth / 2.0f;
                     float f = tx2;
                     ty = ty2;
                     tx = f;
                 } else {
-                    tz = MathUtils.random(depth) - (depth / 2.0f);
+                    tz = ParticleRandom.random(depth) - (depth / 2.0f);
                     ty = ty2;
-                    tx = MathUtils.random(width) - (width / 2.0f);
+                    tx = ParticleRandom.random(width) - (width / 2.0f);
                 }
             }
             vector.x = tx;
@@ -60,9 +60,9 @@ public final class RectangleSpawnShapeValue extends PrimitiveSpawnShapeValue {
             vector.z = tz;
             return;
         }
-        vector.x = MathUtils.random(width) - (width / 2.0f);
-        vector.y = MathUtils.random(height) - (height / 2.0f);
-        vector.z = MathUtils.random(depth) - (depth / 2.0f);
+        vector.x = ParticleRandom.random(width) - (width / 2.0f);
+        vector.y = ParticleRandom.random(height) - (height / 2.0f);
+        vector.z = ParticleRandom.random(depth) - (depth / 2.0f);
     }
 
     public SpawnShapeValue copy() {
@@ -1,6 +1,6 @@
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleRandom;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 
@@ -13,7 +13,7 @@ public class ScaledNumericValue extends RangedNumericValue {
 
     public float newHighValue() {
         float f = this.highMin;
-        return f + ((this.highMax - f) * MathUtils.random());
+        return f + ((this.highMax - f) * ParticleRandom.random());
     }
 
     public void setHigh(float value) {
@@ -2,8 +2,8 @@ package com.badlogic.gdx.graphics.g3d.particles.values;
 
 import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleRandom;
 import com.badlogic.gdx.graphics.g3d.particles.values.MeshSpawnShapeValue;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 
 public final class UnweightedMeshSpawnShapeValue extends MeshSpawnShapeValue {
@@ -41,7 +41,7 @@ public final class UnweightedMeshSpawnShapeValue extends MeshSpawnShapeValue {
 
     public void spawnAux(Vector3 vector, float percent) {
         if (this.indices == null) {
-            int random = MathUtils.random(this.vertexCount - 3);
+            int random = ParticleRandom.random(this.vertexCount - 3);
             int i = this.vertexSize;
             int p1Offset = this.positionOffset + (random * i);
             int p2Offset = p1Offset + i;
@@ -50,7 +50,7 @@ public final class UnweightedMeshSpawnShapeValue extends MeshSpawnShapeValue {
             MeshSpawnShapeValue.Triangle.pick(fArr[p1Offset], fArr[p1Offset + 1], fArr[p1Offset + 2], fArr[p2Offset], fArr[p2Offset + 1], fArr[p2Offset + 2], fArr[p3Offset], fArr[p3Offset + 1], fArr[p3Offset + 2], vector);
             return;
         }
-        int triangleIndex = MathUtils.random(this.triangleCount - 1) * 3;
+        int triangleIndex = ParticleRandom.random(this.triangleCount - 1) * 3;
         short[] sArr = this.indices;
         short s = sArr[triangleIndex];
         int i2 = this.vertexSize;
@@ -1,9 +1,9 @@
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
 import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleRandom;
 import com.badlogic.gdx.graphics.g3d.particles.values.MeshSpawnShapeValue;
 import com.badlogic.gdx.math.CumulativeDistribution;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 
 public final class WeightMeshSpawnShapeValue extends MeshSpawnShapeValue {
@@ -95,8 +95,8 @@ public final class WeightMeshSpawnShapeValue extends MeshSpawnShapeValue {
 
     public void spawnAux(Vector3 vector, float percent) {
         MeshSpawnShapeValue.Triangle t = this.distribution.value();
-        float a = MathUtils.random();
-        float b = MathUtils.random();
+        float a = ParticleRandom.random();
+        float b = ParticleRandom.random();
         vector.set(t.x1 + ((t.x2 - t.x1) * a) + ((t.x3 - t.x1) * b), t.y1 + ((t.y2 - t.y1) * a) + ((t.y3 - t.y1) * b), t.z1 + ((t.z2 - t.z1) * a) + ((t.z3 - t.z1) * b));
     }
 
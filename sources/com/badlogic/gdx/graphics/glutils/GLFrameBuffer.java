@@ -10,6 +10,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentitySet;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.IntBuffer;
@@ -19,7 +20,7 @@ import java.util.Map;
 
 public abstract class GLFrameBuffer<T extends GLTexture> implements Disposable {
     protected static final int GL_DEPTH24_STENCIL8_OES = 35056;
-    protected static final Map<Application, Array<GLFrameBuffer>> buffers = new HashMap();
+    protected static final Map<Application, IdentitySet<GLFrameBuffer>> buffers = new HashMap();
     protected static int defaultFramebufferHandle;
     protected static boolean defaultFramebufferHandleInitialized = false;
     protected GLFrameBufferBuilder<? extends GLFrameBuffer<T>> bufferBuilder;
@@ -240,7 +241,7 @@ public abstract class GLFrameBuffer<T extends GLTexture> implements Disposable {
         }
         gl.glDeleteFramebuffer(this.framebufferHandle);
         if (buffers.get(Gdx.app) != null) {
-            buffers.get(Gdx.app).removeValue(this, true);
+            buffers.get(Gdx.app).remove(this);
         }
     }
 
@@ -297,19 +298,20 @@ public abstract class GLFrameBuffer<T extends GLTexture> implements Disposable {
     }
 
     private static void addManagedFrameBuffer(Application app, GLFrameBuffer frameBuffer) {
-        Array<GLFrameBuffer> managedResources = buffers.get(app);
+        IdentitySet<GLFrameBuffer> managedResources = buffers.get(app);
         if (managedResources == null) {
-            managedResources = new Array<>();
+            managedResources = new IdentitySet<>();
         }
         managedResources.add(frameBuffer);
         buffers.put(app, managedResources);
     }
 
     public static void invalidateAllFrameBuffers(Application app) {
-        Array<GLFrameBuffer> bufferArray;
+        IdentitySet<GLFrameBuffer> bufferArray;
         if (Gdx.gl20 != null && (bufferArray = buffers.get(app)) != null) {
-            for (int i = 0; i < bufferArray.size; i++) {
-                bufferArray.get(i).build();
+            Array<GLFrameBuffer> frameBuffers = bufferArray.iterator().toArray();
+            for (int i = 0; i < frameBuffers.size; i++) {
+                frameBuffers.get(i).build();
             }
         }
     }
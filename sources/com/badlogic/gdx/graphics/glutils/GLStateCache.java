@@ -0,0 +1,242 @@
+package com.badlogic.gdx.graphics.glutils;
+
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.IntIntMap;
+import java.nio.IntBuffer;
+
+public abstract class GLStateCache implements GL20 {
+    static final int MAX_TEXTURE_UNITS = 32;
+    int activeUnit;
+    int arrayBuffer;
+    int blendDstAlpha;
+    int blendDstRGB;
+    int blendSrcAlpha;
+    int blendSrcRGB;
+    protected int calls;
+    final IntIntMap capabilities = new IntIntMap();
+    int depthMask;
+    int elementArrayBuffer;
+    protected int elided;
+    protected GL20 gl20;
+    int program;
+    final int[] textures = new int[MAX_TEXTURE_UNITS];
+
+    protected GLStateCache(GL20 gl202) {
+        this.gl20 = gl202;
+        invalidate();
+    }
+
+    public static GLStateCache install(Graphics graphics) {
+        if (graphics.getGL20() instanceof GLStateCache) {
+            return (GLStateCache) graphics.getGL20();
+        }
+        if (graphics.getGL30() != null) {
+            GL30StateCache cache = new GL30StateCache(graphics.getGL30());
+            graphics.setGL30(cache);
+            return cache;
+        }
+        GL20StateCache cache2 = new GL20StateCache(graphics.getGL20());
+        graphics.setGL20(cache2);
+        return cache2;
+    }
+
+    public static void uninstall(Graphics graphics) {
+        if (graphics.getGL30() instanceof GL30StateCache) {
+            graphics.setGL30(((GL30StateCache) graphics.getGL30()).gl30);
+        } else if (graphics.getGL20() instanceof GL20StateCache) {
+            graphics.setGL20(((GL20StateCache) graphics.getGL20()).gl20);
+        }
+    }
+
+    public GL20 getGL() {
+        return this.gl20;
+    }
+
+    public void setGL(GL20 gl202) {
+        this.gl20 = gl202;
+        invalidate();
+    }
+
+    public void invalidate() {
+        this.capabilities.clear();
+        this.blendSrcRGB = -1;
+        this.blendDstRGB = -1;
+        this.blendSrcAlpha = -1;
+        this.blendDstAlpha = -1;
+        this.depthMask = -1;
+        this.activeUnit = -1;
+        for (int i = 0; i < MAX_TEXTURE_UNITS; i++) {
+            this.textures[i] = -1;
+        }
+        this.program = -1;
+        this.arrayBuffer = -1;
+        this.elementArrayBuffer = -1;
+    }
+
+    public int getCalls() {
+        return this.calls;
+    }
+
+    public int getElidedCalls() {
+        return this.elided;
+    }
+
+    public void reset() {
+        this.calls = 0;
+        this.elided = 0;
+    }
+
+    public void glEnable(int cap) {
+        if (this.capabilities.get(cap, -1) == 1) {
+            this.elided++;
+            return;
+        }
+        this.calls++;
+        this.capabilities.put(cap, 1);
+        this.gl20.glEnable(cap);
+    }
+
+    public void glDisable(int cap) {
+        if (this.capabilities.get(cap, -1) == 0) {
+            this.elided++;
+            return;
+        }
+        this.calls++;
+        this.capabilities.put(cap, 0);
+        this.gl20.glDisable(cap);
+    }
+
+    public void glBlendFunc(int sfactor, int dfactor) {
+        if (this.blendSrcRGB == sfactor && this.blendDstRGB == dfactor && this.blendSrcAlpha == sfactor && this.blendDstAlpha == dfactor) {
+            this.elided++;
+            return;
+        }
+        this.calls++;
+        this.blendSrcRGB = sfactor;
+        this.blendDstRGB = dfactor;
+        this.blendSrcAlpha = sfactor;
+        this.blendDstAlpha = dfactor;
+        this.gl20.glBlendFunc(sfactor, dfactor);
+    }
+
+    public void glBlendFuncSeparate(int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+        if (this.blendSrcRGB == srcRGB && this.blendDstRGB == dstRGB && this.blendSrcAlpha == srcAlpha && this.blendDstAlpha == dstAlpha) {
+            this.elided++;
+            return;
+        }
+        this.calls++;
+        this.blendSrcRGB = srcRGB;
+        this.blendDstRGB = dstRGB;
+        this.blendSrcAlpha = srcAlpha;
+        this.blendDstAlpha = dstAlpha;
+        this.gl20.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+    }
+
+    public void glDepthMask(boolean flag) {
+        int mask = flag ? 1 : 0;
+        if (this.depthMask == mask) {
+            this.elided++;
+            return;
+        }
+        this.calls++;
+        this.depthMask = mask;
+        this.gl20.glDepthMask(flag);
+    }
+
+    public void glActiveTexture(int texture) {
+        int unit = texture - GL20.GL_TEXTURE0;
+        if (unit == this.activeUnit) {
+            this.elided++;
+            return;
+        }
+        this.calls++;
+        this.activeUnit = (unit < 0 || unit >= MAX_TEXTURE_UNITS) ? -1 : unit;
+        this.gl20.glActiveTexture(texture);
+    }
+
+    public void glBindTexture(int target, int texture) {
+        int i = this.activeUnit;
+        if (target != GL20.GL_TEXTURE_2D || i < 0) {
+            this.calls++;
+            this.gl20.glBindTexture(target, texture);
+        } else if (this.textures[i] == texture) {
+            this.elided++;
+        } else {
+            this.calls++;
+            this.textures[i] = texture;
+            this.gl20.glBindTexture(target, texture);
+        }
+    }
+
+    public void glDeleteTexture(int texture) {
+        forgetTexture(texture);
+        this.gl20.glDeleteTexture(texture);
+    }
+
+    public void glDeleteTextures(int n, IntBuffer textures2) {
+        int position = textures2.position();
+        for (int i = 0; i < n; i++) {
+            forgetTexture(textures2.get(position + i));
+        }
+        this.gl20.glDeleteTextures(n, textures2);
+    }
+
+    private void forgetTexture(int texture) {
+        for (int i = 0; i < MAX_TEXTURE_UNITS; i++) {
+            if (this.textures[i] == texture) {
+                this.textures[i] = 0;
+            }
+        }
+    }
+
+    public void glUseProgram(int program2) {
+        if (this.program == program2) {
+            this.elided++;
+            return;
+        }
+        this.calls++;
+        this.program = program2;
+        this.gl20.glUseProgram(program2);
+    }
+
+    public void glBindBuffer(int target, int buffer) {
+        if (target == GL20.GL_ARRAY_BUFFER) {
+            if (this.arrayBuffer == buffer) {
+                this.elided++;
+                return;
+            }
+            this.arrayBuffer = buffer;
+        } else if (target == GL20.GL_ELEMENT_ARRAY_BUFFER) {
+            if (this.elementArrayBuffer == buffer) {
+                this.elided++;
+                return;
+            }
+            this.elementArrayBuffer = buffer;
+        }
+        this.calls++;
+        this.gl20.glBindBuffer(target, buffer);
+    }
+
+    public void glDeleteBuffer(int buffer) {
+        forgetBuffer(buffer);
+        this.gl20.glDeleteBuffer(buffer);
+    }
+
+    public void glDeleteBuffers(int n, IntBuffer buffers) {
+        int position = buffers.position();
+        for (int i = 0; i < n; i++) {
+            forgetBuffer(buffers.get(position + i));
+        }
+        this.gl20.glDeleteBuffers(n, buffers);
+    }
+
+    private void forgetBuffer(int buffer) {
+        if (this.arrayBuffer == buffer) {
+            this.arrayBuffer = 0;
+        }
+        if (this.elementArrayBuffer == buffer) {
+            this.elementArrayBuffer = 0;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.Array;
 import com.twi.game.BuildConfig;
+import java.nio.FloatBuffer;
 
 public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
     private final int colorOffset;
@@ -23,7 +24,7 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
     private final int texCoordOffset;
     private int vertexIdx;
     private final int vertexSize;
-    private final float[] vertices;
+    private final FloatBuffer vertices;
 
     public ImmediateModeRenderer20(boolean hasNormals, boolean hasColors, int numTexCoords2) {
         this(5000, hasNormals, hasColors, numTexCoords2, createDefaultShader(hasNormals, hasColors, numTexCoords2));
@@ -35,14 +36,25 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
         this.ownsShader = true;
     }
 
+    public ImmediateModeRenderer20(Mesh.VertexDataType vertexDataType, int maxVertices2, boolean hasNormals, boolean hasColors, int numTexCoords2) {
+        this(vertexDataType, maxVertices2, hasNormals, hasColors, numTexCoords2, createDefaultShader(hasNormals, hasColors, numTexCoords2));
+        this.ownsShader = true;
+    }
+
     public ImmediateModeRenderer20(int maxVertices2, boolean hasNormals, boolean hasColors, int numTexCoords2, ShaderProgram shader2) {
+        this((Mesh.VertexDataType) null, maxVertices2, hasNormals, hasColors, numTexCoords2, shader2);
+    }
+
+    public ImmediateModeRenderer20(Mesh.VertexDataType vertexDataType, int maxVertices2, boolean hasNormals, boolean hasColors, int numTexCoords2, ShaderProgram shader2) {
         this.projModelView = new Matrix4();
         this.maxVertices = maxVertices2;
         this.numTexCoords = numTexCoords2;
         this.shader = shader2;
         int i = 0;
-        this.mesh = new Mesh(false, maxVertices2, 0, buildVertexAttributes(hasNormals, hasColors, numTexCoords2));
-        this.vertices = new float[((this.mesh.getVertexAttributes().vertexSize / 4) * maxVertices2)];
+        VertexAttribute[] attributes = buildVertexAttributes(hasNormals, hasColors, numTexCoords2);
+        this.mesh = vertexDataType != null ? new Mesh(vertexDataType, false, maxVertices2, 0, attributes) : new Mesh(false, maxVertices2, 0, attributes);
+        this.vertices = this.mesh.getVerticesBuffer();
+        this.vertices.clear();
         this.vertexSize = this.mesh.getVertexAttributes().vertexSize / 4;
         this.normalOffset = this.mesh.getVertexAttribute(8) != null ? this.mesh.getVertexAttribute(8).offset / 4 : 0;
         this.colorOffset = this.mesh.getVertexAttribute(4) != null ? this.mesh.getVertexAttribute(4).offset / 4 : 0;
@@ -87,40 +99,40 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
     }
 
     public void color(Color color) {
-        this.vertices[this.vertexIdx + this.colorOffset] = color.toFloatBits();
+        this.vertices.put(this.vertexIdx + this.colorOffset, color.toFloatBits());
     }
 
     public void color(float r, float g, float b, float a) {
-        this.vertices[this.vertexIdx + this.colorOffset] = Color.toFloatBits(r, g, b, a);
+        this.vertices.put(this.vertexIdx + this.colorOffset, Color.toFloatBits(r, g, b, a));
     }
 
     public void color(float colorBits) {
-        this.vertices[this.vertexIdx + this.colorOffset] = colorBits;
+        this.vertices.put(this.vertexIdx + this.colorOffset, colorBits);
     }
 
     public void texCoord(float u, float v) {
         int idx = this.vertexIdx + this.texCoordOffset;
-        float[] fArr = this.vertices;
+        FloatBuffer vertices2 = this.vertices;
         int i = this.numSetTexCoords;
-        fArr[idx + i] = u;
-        fArr[idx + i + 1] = v;
+        vertices2.put(idx + i, u);
+        vertices2.put(idx + i + 1, v);
         this.numSetTexCoords = i + 2;
     }
 
     public void normal(float x, float y, float z) {
         int idx = this.vertexIdx + this.normalOffset;
-        float[] fArr = this.vertices;
-        fArr[idx] = x;
-        fArr[idx + 1] = y;
-        fArr[idx + 2] = z;
+        FloatBuffer vertices2 = this.vertices;
+        vertices2.put(idx, x);
+        vertices2.put(idx + 1, y);
+        vertices2.put(idx + 2, z);
     }
 
     public void vertex(float x, float y, float z) {
         int idx = this.vertexIdx;
-        float[] fArr = this.vertices;
-        fArr[idx] = x;
-        fArr[idx + 1] = y;
-        fArr[idx + 2] = z;
+        FloatBuffer vertices2 = this.vertices;
+        vertices2.put(idx, x);
+        vertices2.put(idx + 1, y);
+        vertices2.put(idx + 2, z);
         this.numSetTexCoords = 0;
         this.vertexIdx += this.vertexSize;
         this.numVertices++;
@@ -133,8 +145,11 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
             for (int i = 0; i < this.numTexCoords; i++) {
                 this.shader.setUniformi(this.shaderUniformNames[i], i);
             }
-            this.mesh.setVertices(this.vertices, 0, this.vertexIdx);
+            FloatBuffer vertices2 = this.mesh.getVerticesBuffer();
+            vertices2.position(0);
+            vertices2.limit(this.vertexIdx);
             this.mesh.render(this.shader, this.primitiveType);
+            vertices2.clear();
             this.shader.end();
             this.numSetTexCoords = 0;
             this.vertexIdx = 0;
@@ -9,9 +9,9 @@ import com.badlogic.gdx.math.Matrix3;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IdentitySet;
 import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.twi.game.BuildConfig;
@@ -20,6 +20,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
+import java.util.Iterator;
 
 public class ShaderProgram implements Disposable {
     public static final String BINORMAL_ATTRIBUTE = "a_binormal";
@@ -33,7 +34,7 @@ public class ShaderProgram implements Disposable {
     public static boolean pedantic = true;
     public static String prependFragmentCode = BuildConfig.FLAVOR;
     public static String prependVertexCode = BuildConfig.FLAVOR;
-    private static final ObjectMap<Application, Array<ShaderProgram>> shaders = new ObjectMap<>();
+    private static final ObjectMap<Application, IdentitySet<ShaderProgram>> shaders = new ObjectMap<>();
     private String[] attributeNames;
     private final ObjectIntMap<String> attributeSizes;
     private final ObjectIntMap<String> attributeTypes;
@@ -478,7 +479,7 @@ public class ShaderProgram implements Disposable {
         gl.glDeleteShader(this.fragmentShaderHandle);
         gl.glDeleteProgram(this.program);
         if (shaders.get(Gdx.app) != null) {
-            shaders.get(Gdx.app).removeValue(this, true);
+            shaders.get(Gdx.app).remove(this);
         }
     }
 
@@ -520,20 +521,22 @@ public class ShaderProgram implements Disposable {
     }
 
     private void addManagedShader(Application app, ShaderProgram shaderProgram) {
-        Array<ShaderProgram> managedResources = shaders.get(app);
+        IdentitySet<ShaderProgram> managedResources = shaders.get(app);
         if (managedResources == null) {
-            managedResources = new Array<>();
+            managedResources = new IdentitySet<>();
         }
         managedResources.add(shaderProgram);
         shaders.put(app, managedResources);
     }
 
     public static void invalidateAllShaderPrograms(Application app) {
-        Array<ShaderProgram> shaderArray;
+        IdentitySet<ShaderProgram> shaderArray;
         if (Gdx.gl20 != null && (shaderArray = shaders.get(app)) != null) {
-            for (int i = 0; i < shaderArray.size; i++) {
-                shaderArray.get(i).invalidated = true;
-                shaderArray.get(i).checkManaged();
+            Iterator<ShaderProgram> it = shaderArray.iterator();
+            while (it.hasNext()) {
+                ShaderProgram shaderProgram = it.next();
+                shaderProgram.invalidated = true;
+                shaderProgram.checkManaged();
             }
         }
     }
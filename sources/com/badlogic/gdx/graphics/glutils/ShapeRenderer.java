@@ -2,6 +2,7 @@ package com.badlogic.gdx.graphics.glutils;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
@@ -45,6 +46,10 @@ public class ShapeRenderer implements Disposable {
     }
 
     public ShapeRenderer(int maxVertices, ShaderProgram defaultShader) {
+        this(maxVertices, defaultShader, (Mesh.VertexDataType) null);
+    }
+
+    public ShapeRenderer(int maxVertices, ShaderProgram defaultShader, Mesh.VertexDataType vertexDataType) {
         this.matrixDirty = false;
         this.projectionMatrix = new Matrix4();
         this.transformMatrix = new Matrix4();
@@ -53,9 +58,9 @@ public class ShapeRenderer implements Disposable {
         this.color = new Color(1.0f, 1.0f, 1.0f, 1.0f);
         this.defaultRectLineWidth = 0.75f;
         if (defaultShader == null) {
-            this.renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0);
+            this.renderer = new ImmediateModeRenderer20(vertexDataType, maxVertices, false, true, 0);
         } else {
-            this.renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, defaultShader);
+            this.renderer = new ImmediateModeRenderer20(vertexDataType, maxVertices, false, true, 0, defaultShader);
         }
         this.projectionMatrix.setToOrtho2D(0.0f, 0.0f, (float) Gdx.graphics.getWidth(), (float) Gdx.graphics.getHeight());
         this.matrixDirty = true;
@@ -0,0 +1,209 @@
+package com.badlogic.gdx.graphics.glutils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.BufferUtils;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+public class StreamingVertexBufferObject implements VertexData {
+    public static int defaultRegions = 4;
+    final VertexAttributes attributes;
+    int[] boundLocations;
+    ShaderProgram boundShader;
+    final FloatBuffer buffer;
+    int bufferHandle;
+    final ByteBuffer byteBuffer;
+    final int capacity;
+    int drawOffset;
+    boolean isBound;
+    boolean isDirty;
+    public int orphans;
+    int writeOffset;
+
+    public StreamingVertexBufferObject(int numVertices, VertexAttribute... attributes2) {
+        this(numVertices, defaultRegions, new VertexAttributes(attributes2));
+    }
+
+    public StreamingVertexBufferObject(int numVertices, VertexAttributes attributes2) {
+        this(numVertices, defaultRegions, attributes2);
+    }
+
+    public StreamingVertexBufferObject(int numVertices, int regions, VertexAttributes attributes2) {
+        this.isDirty = false;
+        this.isBound = false;
+        this.drawOffset = 0;
+        this.writeOffset = 0;
+        this.orphans = 0;
+        if (regions >= 1) {
+            this.attributes = attributes2;
+            this.byteBuffer = BufferUtils.newUnsafeByteBuffer(this.attributes.vertexSize * numVertices);
+            this.buffer = this.byteBuffer.asFloatBuffer();
+            this.buffer.limit(0);
+            this.byteBuffer.limit(0);
+            this.capacity = this.byteBuffer.capacity() * regions;
+            this.bufferHandle = createBufferObject();
+            return;
+        }
+        throw new IllegalArgumentException("regions must be >= 1: " + regions);
+    }
+
+    private int createBufferObject() {
+        int result = Gdx.gl20.glGenBuffer();
+        Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, result);
+        Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, this.capacity, (Buffer) null, GL20.GL_STREAM_DRAW);
+        Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+        return result;
+    }
+
+    public VertexAttributes getAttributes() {
+        return this.attributes;
+    }
+
+    public int getNumVertices() {
+        return (this.buffer.limit() * 4) / this.attributes.vertexSize;
+    }
+
+    public int getNumMaxVertices() {
+        return this.byteBuffer.capacity() / this.attributes.vertexSize;
+    }
+
+    public FloatBuffer getBuffer() {
+        this.isDirty = true;
+        return this.buffer;
+    }
+
+    private void upload() {
+        int size = this.buffer.limit() * 4;
+        this.byteBuffer.position(0);
+        this.byteBuffer.limit(size);
+        if (this.writeOffset + size > this.capacity) {
+            Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, this.capacity, (Buffer) null, GL20.GL_STREAM_DRAW);
+            this.writeOffset = 0;
+            this.orphans++;
+        }
+        if (size > 0) {
+            Gdx.gl20.glBufferSubData(GL20.GL_ARRAY_BUFFER, this.writeOffset, size, this.byteBuffer);
+        }
+        this.drawOffset = this.writeOffset;
+        this.writeOffset += size;
+        this.isDirty = false;
+    }
+
+    private void bufferChanged() {
+        if (this.isBound) {
+            Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, this.bufferHandle);
+            upload();
+            setAttributePointers(this.boundShader, this.boundLocations);
+        }
+    }
+
+    public void setVertices(float[] vertices, int offset, int count) {
+        this.isDirty = true;
+        BufferUtils.copy(vertices, (Buffer) this.byteBuffer, count, offset);
+        this.buffer.position(0);
+        this.buffer.limit(count);
+        bufferChanged();
+    }
+
+    public void setVertices(FloatBuffer vertices) {
+        this.isDirty = true;
+        int pos = vertices.position();
+        this.buffer.clear();
+        this.buffer.put(vertices);
+        this.buffer.flip();
+        vertices.position(pos);
+        this.byteBuffer.position(0);
+        this.byteBuffer.limit(this.buffer.limit() << 2);
+        bufferChanged();
+    }
+
+    public void updateVertices(int targetOffset, float[] vertices, int sourceOffset, int count) {
+        this.isDirty = true;
+        int pos = this.byteBuffer.position();
+        this.byteBuffer.position(targetOffset * 4);
+        BufferUtils.copy(vertices, sourceOffset, count, (Buffer) this.byteBuffer);
+        this.byteBuffer.position(pos);
+        this.buffer.position(0);
+        bufferChanged();
+    }
+
+    public void bind(ShaderProgram shader) {
+        bind(shader, (int[]) null);
+    }
+
+    public void bind(ShaderProgram shader, int[] locations) {
+        Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, this.bufferHandle);
+        if (this.isDirty) {
+            upload();
+        }
+        setAttributePointers(shader, locations);
+        this.boundShader = shader;
+        this.boundLocations = locations;
+        this.isBound = true;
+    }
+
+    private void setAttributePointers(ShaderProgram shader, int[] locations) {
+        int numAttributes = this.attributes.size();
+        if (locations == null) {
+            for (int i = 0; i < numAttributes; i++) {
+                VertexAttribute attribute = this.attributes.get(i);
+                int location = shader.getAttributeLocation(attribute.alias);
+                if (location >= 0) {
+                    shader.enableVertexAttribute(location);
+                    shader.setVertexAttribute(location, attribute.numComponents, attribute.type, attribute.normalized, this.attributes.vertexSize, this.drawOffset + attribute.offset);
+                }
+            }
+        } else {
+            for (int i2 = 0; i2 < numAttributes; i2++) {
+                VertexAttribute attribute2 = this.attributes.get(i2);
+                int location2 = locations[i2];
+                if (location2 >= 0) {
+                    shader.enableVertexAttribute(location2);
+                    shader.setVertexAttribute(location2, attribute2.numComponents, attribute2.type, attribute2.normalized, this.attributes.vertexSize, this.drawOffset + attribute2.offset);
+                }
+            }
+        }
+    }
+
+    public void unbind(ShaderProgram shader) {
+        unbind(shader, (int[]) null);
+    }
+
+    public void unbind(ShaderProgram shader, int[] locations) {
+        int numAttributes = this.attributes.size();
+        if (locations == null) {
+            for (int i = 0; i < numAttributes; i++) {
+                shader.disableVertexAttribute(this.attributes.get(i).alias);
+            }
+        } else {
+            for (int i2 = 0; i2 < numAttributes; i2++) {
+                int location = locations[i2];
+                if (location >= 0) {
+                    shader.disableVertexAttribute(location);
+                }
+            }
+        }
+        Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+        this.boundShader = null;
+        this.boundLocations = null;
+        this.isBound = false;
+    }
+
+    public void invalidate() {
+        this.bufferHandle = createBufferObject();
+        this.writeOffset = 0;
+        this.isDirty = true;
+    }
+
+    public void dispose() {
+        GL20 gl = Gdx.gl20;
+        gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+        gl.glDeleteBuffer(this.bufferHandle);
+        this.bufferHandle = 0;
+        BufferUtils.disposeUnsafeByteBuffer(this.byteBuffer);
+    }
+}
@@ -48,6 +48,16 @@ public class VertexArray implements VertexData {
         this.buffer.limit(count);
     }
 
+    public void setVertices(FloatBuffer vertices) {
+        int pos = vertices.position();
+        this.buffer.clear();
+        this.buffer.put(vertices);
+        this.buffer.flip();
+        vertices.position(pos);
+        this.byteBuffer.position(0);
+        this.byteBuffer.limit(this.buffer.limit() << 2);
+    }
+
     public void updateVertices(int targetOffset, float[] vertices, int sourceOffset, int count) {
         int pos = this.byteBuffer.position();
         this.byteBuffer.position(targetOffset * 4);
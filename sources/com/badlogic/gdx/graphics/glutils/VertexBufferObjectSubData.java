@@ -87,6 +87,18 @@ public class VertexBufferObjectSubData implements VertexData {
         bufferChanged();
     }
 
+    public void setVertices(FloatBuffer vertices) {
+        this.isDirty = true;
+        int pos = vertices.position();
+        this.buffer.clear();
+        this.buffer.put(vertices);
+        this.buffer.flip();
+        vertices.position(pos);
+        this.byteBuffer.position(0);
+        this.byteBuffer.limit(this.buffer.limit() << 2);
+        bufferChanged();
+    }
+
     public void updateVertices(int targetOffset, float[] vertices, int sourceOffset, int count) {
         this.isDirty = true;
         if (this.isDirect) {
@@ -21,6 +21,8 @@ public interface VertexData extends Disposable {
 
     void invalidate();
 
+    void setVertices(FloatBuffer floatBuffer);
+
     void setVertices(float[] fArr, int i, int i2);
 
     void unbind(ShaderProgram shaderProgram);
@@ -417,6 +417,7 @@ public class Actor {
         if (this.x != x2) {
             this.x = x2;
             positionChanged();
+            boundsChanged();
         }
     }
 
@@ -429,6 +430,7 @@ public class Actor {
         if (this.x != x2) {
             this.x = x2;
             positionChanged();
+            boundsChanged();
         }
     }
 
@@ -440,6 +442,7 @@ public class Actor {
         if (this.y != y2) {
             this.y = y2;
             positionChanged();
+            boundsChanged();
         }
     }
 
@@ -452,6 +455,7 @@ public class Actor {
         if (this.y != y2) {
             this.y = y2;
             positionChanged();
+            boundsChanged();
         }
     }
 
@@ -471,6 +475,7 @@ public class Actor {
             this.x = x2;
             this.y = y2;
             positionChanged();
+            boundsChanged();
         }
     }
 
@@ -489,6 +494,7 @@ public class Actor {
             this.x = x2;
             this.y = y2;
             positionChanged();
+            boundsChanged();
         }
     }
 
@@ -497,6 +503,7 @@ public class Actor {
             this.x += x2;
             this.y += y2;
             positionChanged();
+            boundsChanged();
         }
     }
 
@@ -508,6 +515,7 @@ public class Actor {
         if (this.width != width2) {
             this.width = width2;
             sizeChanged();
+            boundsChanged();
         }
     }
 
@@ -519,6 +527,7 @@ public class Actor {
         if (this.height != height2) {
             this.height = height2;
             sizeChanged();
+            boundsChanged();
         }
     }
 
@@ -530,6 +539,18 @@ public class Actor {
         return this.x + this.width;
     }
 
+    private void boundsChanged() {
+        Group group = this.parent;
+        if (group != null && group.hitGrid != null) {
+            group.hitGrid.update(this);
+        }
+        if (this instanceof Group) {
+            ((Group) this).invalidateCullingBounds();
+        } else if (group != null) {
+            group.invalidateCullingBounds();
+        }
+    }
+
     /* access modifiers changed from: protected */
     public void positionChanged() {
     }
@@ -547,6 +568,7 @@ public class Actor {
             this.width = width2;
             this.height = height2;
             sizeChanged();
+            boundsChanged();
         }
     }
 
@@ -555,6 +577,7 @@ public class Actor {
             this.width += size;
             this.height += size;
             sizeChanged();
+            boundsChanged();
         }
     }
 
@@ -563,6 +586,7 @@ public class Actor {
             this.width += width2;
             this.height += height2;
             sizeChanged();
+            boundsChanged();
         }
     }
 
@@ -571,11 +595,13 @@ public class Actor {
             this.x = x2;
             this.y = y2;
             positionChanged();
+            boundsChanged();
         }
         if (this.width != width2 || this.height != height2) {
             this.width = width2;
             this.height = height2;
             sizeChanged();
+            boundsChanged();
         }
     }
 
@@ -585,6 +611,7 @@ public class Actor {
 
     public void setOriginX(float originX2) {
         this.originX = originX2;
+        boundsChanged();
     }
 
     public float getOriginY() {
@@ -593,11 +620,13 @@ public class Actor {
 
     public void setOriginY(float originY2) {
         this.originY = originY2;
+        boundsChanged();
     }
 
     public void setOrigin(float originX2, float originY2) {
         this.originX = originX2;
         this.originY = originY2;
+        boundsChanged();
     }
 
     public void setOrigin(int alignment) {
@@ -615,6 +644,7 @@ public class Actor {
         } else {
             this.originY = this.height / 2.0f;
         }
+        boundsChanged();
     }
 
     public float getScaleX() {
@@ -623,6 +653,7 @@ public class Actor {
 
     public void setScaleX(float scaleX2) {
         this.scaleX = scaleX2;
+        boundsChanged();
     }
 
     public float getScaleY() {
@@ -631,26 +662,31 @@ public class Actor {
 
     public void setScaleY(float scaleY2) {
         this.scaleY = scaleY2;
+        boundsChanged();
     }
 
     public void setScale(float scaleXY) {
         this.scaleX = scaleXY;
         this.scaleY = scaleXY;
+        boundsChanged();
     }
 
     public void setScale(float scaleX2, float scaleY2) {
         this.scaleX = scaleX2;
         this.scaleY = scaleY2;
+        boundsChanged();
     }
 
     public void scaleBy(float scale) {
         this.scaleX += scale;
         this.scaleY += scale;
+        boundsChanged();
     }
 
     public void scaleBy(float scaleX2, float scaleY2) {
         this.scaleX += scaleX2;
         this.scaleY += scaleY2;
+        boundsChanged();
     }
 
     public float getRotation() {
@@ -661,6 +697,7 @@ public class Actor {
         if (this.rotation != degrees) {
             this.rotation = degrees;
             rotationChanged();
+            boundsChanged();
         }
     }
 
@@ -668,6 +705,7 @@ public class Actor {
         if (amountInDegrees != 0.0f) {
             this.rotation = (this.rotation + amountInDegrees) % 360.0f;
             rotationChanged();
+            boundsChanged();
         }
     }
 
@@ -714,6 +752,10 @@ public class Actor {
                 return false;
             }
             children.insert(index2, this);
+            HitGrid hitGrid = parent2.hitGrid;
+            if (hitGrid != null) {
+                hitGrid.invalidate();
+            }
             return true;
         }
         throw new IllegalArgumentException("ZIndex cannot be < 0.");
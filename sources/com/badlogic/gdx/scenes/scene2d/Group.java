@@ -13,9 +13,17 @@ import java.util.Iterator;
 
 public class Group extends Actor implements Cullable {
     private static final Vector2 tmp = new Vector2();
+    private static final Rectangle tmpBounds = new Rectangle();
+    private final Rectangle autoCullingArea = new Rectangle();
+    private int autoCullingFrame = -1;
+    final Rectangle childCullingArea = new Rectangle();
     final SnapshotArray<Actor> children = new SnapshotArray<>(true, 4, Actor.class);
     private final Matrix4 computedTransform = new Matrix4();
     private Rectangle cullingArea;
+    private final Rectangle cullingBounds = new Rectangle();
+    boolean cullingBoundsDirty = true;
+    boolean hasChildCullingArea;
+    HitGrid hitGrid;
     private final Matrix4 oldTransform = new Matrix4();
     boolean transform = true;
     private final Affine2 worldTransform = new Affine2();
@@ -23,9 +31,16 @@ public class Group extends Actor implements Cullable {
     public void act(float delta) {
         super.act(delta);
         Actor[] actors = (Actor[]) this.children.begin();
+        Stage stage = getStage();
+        Rectangle area = null;
+        if (stage != null && stage.autoCulling && stage.autoCullingAct && this.autoCullingFrame == stage.cullingFrame) {
+            area = this.autoCullingArea;
+        }
         int n = this.children.size;
         for (int i = 0; i < n; i++) {
-            actors[i].act(delta);
+            if (area == null || isInCullingArea(actors[i], area)) {
+                actors[i].act(delta);
+            }
         }
         this.children.end();
     }
@@ -49,19 +64,31 @@ public class Group extends Actor implements Cullable {
         SnapshotArray<Actor> children2 = this.children;
         Actor[] actors = (Actor[]) children2.begin();
         Rectangle cullingArea3 = this.cullingArea;
+        boolean autoCulling = updateAutoCullingArea();
+        if (autoCulling && cullingArea3 == null) {
+            cullingArea3 = this.autoCullingArea;
+        }
         if (cullingArea3 != null) {
             float cullLeft = cullingArea3.x;
             float cullRight2 = cullingArea3.width + cullLeft;
             float cullBottom = cullingArea3.y;
             float cullTop = cullingArea3.height + cullBottom;
             if (this.transform) {
+                if (autoCulling) {
+                    this.childCullingArea.set(cullingArea3);
+                    this.hasChildCullingArea = true;
+                }
                 int n = children2.size;
                 for (int i = 0; i < n; i++) {
                     Actor child = actors[i];
                     if (child.isVisible()) {
                         float cx = child.x;
                         float cy = child.y;
-                        if (cx <= cullRight2 && cy <= cullTop && child.width + cx >= cullLeft && child.height + cy >= cullBottom) {
+                        if (autoCulling) {
+                            if (isInCullingArea(child, cullingArea3)) {
+                                child.draw(batch2, parentAlpha2);
+                            }
+                        } else if (cx <= cullRight2 && cy <= cullTop && child.width + cx >= cullLeft && child.height + cy >= cullBottom) {
                             child.draw(batch2, parentAlpha2);
                         }
                     }
@@ -70,6 +97,10 @@ public class Group extends Actor implements Cullable {
             } else {
                 float offsetX = this.x;
                 float offsetY = this.y;
+                if (autoCulling) {
+                    this.childCullingArea.set(cullingArea3.x + offsetX, cullingArea3.y + offsetY, cullingArea3.width, cullingArea3.height);
+                    this.hasChildCullingArea = true;
+                }
                 this.x = 0.0f;
                 this.y = 0.0f;
                 int i2 = 0;
@@ -83,7 +114,16 @@ public class Group extends Actor implements Cullable {
                         float cx2 = child2.x;
                         cullingArea2 = cullingArea3;
                         float cy2 = child2.y;
-                        if (cx2 > cullRight2 || cy2 > cullTop) {
+                        if (autoCulling) {
+                            cullRight = cullRight2;
+                            if (isInCullingArea(child2, cullingArea2)) {
+                                child2.x = cx2 + offsetX;
+                                child2.y = cy2 + offsetY;
+                                child2.draw(batch2, parentAlpha2);
+                                child2.x = cx2;
+                                child2.y = cy2;
+                            }
+                        } else if (cx2 > cullRight2 || cy2 > cullTop) {
                             cullRight = cullRight2;
                         } else {
                             cullRight = cullRight2;
@@ -135,6 +175,7 @@ public class Group extends Actor implements Cullable {
                 this.y = offsetY2;
             }
         }
+        this.hasChildCullingArea = false;
         children2.end();
     }
 
@@ -241,6 +282,14 @@ public class Group extends Actor implements Cullable {
         if ((touchable && getTouchable() == Touchable.disabled) || !isVisible()) {
             return null;
         }
+        HitGrid hitGrid2 = this.hitGrid;
+        if (hitGrid2 != null) {
+            Actor hit = hitGrid2.hit(x, y, touchable);
+            if (hit != null) {
+                return hit;
+            }
+            return super.hit(x, y, touchable);
+        }
         Vector2 point = tmp;
         Actor[] childrenArray = (Actor[]) this.children.items;
         for (int i = this.children.size - 1; i >= 0; i--) {
@@ -254,6 +303,153 @@ public class Group extends Actor implements Cullable {
         return super.hit(x, y, touchable);
     }
 
+    public void setHitGrid(float cellSize) {
+        if (cellSize <= 0.0f) {
+            this.hitGrid = null;
+            return;
+        }
+        HitGrid hitGrid2 = this.hitGrid;
+        if (hitGrid2 == null || hitGrid2.cellSize != cellSize) {
+            this.hitGrid = new HitGrid(this, cellSize);
+        }
+    }
+
+    public float getHitGrid() {
+        HitGrid hitGrid2 = this.hitGrid;
+        if (hitGrid2 == null) {
+            return 0.0f;
+        }
+        return hitGrid2.cellSize;
+    }
+
+    private void invalidateChildren() {
+        HitGrid hitGrid2 = this.hitGrid;
+        if (hitGrid2 != null) {
+            hitGrid2.invalidate();
+        }
+        invalidateCullingBounds();
+    }
+
+    /* access modifiers changed from: package-private */
+    public void invalidateCullingBounds() {
+        for (Group group = this; group != null && !group.cullingBoundsDirty; group = group.parent) {
+            group.cullingBoundsDirty = true;
+        }
+    }
+
+    public Rectangle getCullingBounds() {
+        Rectangle bounds = this.cullingBounds;
+        if (this.cullingBoundsDirty) {
+            float left = 0.0f;
+            float bottom = 0.0f;
+            float right = this.width;
+            float top = this.height;
+            Actor[] actors = (Actor[]) this.children.items;
+            int n = this.children.size;
+            for (int i = 0; i < n; i++) {
+                getBoundsInParent(actors[i], bounds);
+                left = Math.min(left, bounds.x);
+                bottom = Math.min(bottom, bounds.y);
+                right = Math.max(right, bounds.x + bounds.width);
+                top = Math.max(top, bounds.y + bounds.height);
+            }
+            bounds.set(left, bottom, right - left, top - bottom);
+            this.cullingBoundsDirty = false;
+        }
+        return bounds;
+    }
+
+    static void getBoundsInParent(Actor actor, Rectangle out) {
+        float left = 0.0f;
+        float bottom = 0.0f;
+        float right = actor.width;
+        float top = actor.height;
+        boolean transform2 = true;
+        if (actor instanceof Group) {
+            Group group = (Group) actor;
+            Rectangle bounds = group.getCullingBounds();
+            left = bounds.x;
+            bottom = bounds.y;
+            right = bounds.x + bounds.width;
+            top = bounds.y + bounds.height;
+            transform2 = group.transform;
+        }
+        if (!transform2 || (actor.rotation == 0.0f && actor.scaleX == 1.0f && actor.scaleY == 1.0f)) {
+            out.set(actor.x + left, actor.y + bottom, right - left, top - bottom);
+            return;
+        }
+        Vector2 point = tmp;
+        actor.localToParentCoordinates(point.set(left, bottom));
+        float minX = point.x;
+        float minY = point.y;
+        float maxX = point.x;
+        float maxY = point.y;
+        actor.localToParentCoordinates(point.set(right, bottom));
+        minX = Math.min(minX, point.x);
+        minY = Math.min(minY, point.y);
+        maxX = Math.max(maxX, point.x);
+        maxY = Math.max(maxY, point.y);
+        actor.localToParentCoordinates(point.set(right, top));
+        minX = Math.min(minX, point.x);
+        minY = Math.min(minY, point.y);
+        maxX = Math.max(maxX, point.x);
+        maxY = Math.max(maxY, point.y);
+        actor.localToParentCoordinates(point.set(left, top));
+        out.set(Math.min(minX, point.x), Math.min(minY, point.y), Math.max(maxX, point.x) - Math.min(minX, point.x), Math.max(maxY, point.y) - Math.min(minY, point.y));
+    }
+
+    static boolean isInCullingArea(Actor actor, Rectangle area) {
+        Rectangle bounds = tmpBounds;
+        getBoundsInParent(actor, bounds);
+        return bounds.x <= area.x + area.width && bounds.y <= area.y + area.height && bounds.x + bounds.width >= area.x && bounds.y + bounds.height >= area.y;
+    }
+
+    private boolean updateAutoCullingArea() {
+        Rectangle area;
+        Stage stage = getStage();
+        if (stage == null || !stage.autoCulling) {
+            return false;
+        }
+        Group parent2 = this.parent;
+        if (parent2 != null) {
+            if (!parent2.hasChildCullingArea) {
+                return false;
+            }
+            area = parent2.childCullingArea;
+        } else if (stage.getRoot() != this) {
+            return false;
+        } else {
+            area = stage.cullingArea;
+        }
+        Rectangle local = this.autoCullingArea;
+        if (!this.transform || (this.rotation == 0.0f && this.scaleX == 1.0f && this.scaleY == 1.0f)) {
+            local.set(area.x - this.x, area.y - this.y, area.width, area.height);
+        } else {
+            Vector2 point = tmp;
+            parentToLocalCoordinates(point.set(area.x, area.y));
+            float minX = point.x;
+            float minY = point.y;
+            float maxX = point.x;
+            float maxY = point.y;
+            parentToLocalCoordinates(point.set(area.x + area.width, area.y));
+            minX = Math.min(minX, point.x);
+            minY = Math.min(minY, point.y);
+            maxX = Math.max(maxX, point.x);
+            maxY = Math.max(maxY, point.y);
+            parentToLocalCoordinates(point.set(area.x + area.width, area.y + area.height));
+            minX = Math.min(minX, point.x);
+            minY = Math.min(minY, point.y);
+            maxX = Math.max(maxX, point.x);
+            maxY = Math.max(maxY, point.y);
+            parentToLocalCoordinates(point.set(area.x, area.y + area.height));
+            minX = Math.min(minX, point.x);
+            minY = Math.min(minY, point.y);
+            local.set(minX, minY, Math.max(maxX, point.x) - minX, Math.max(maxY, point.y) - minY);
+        }
+        this.autoCullingFrame = stage.cullingFrame;
+        return true;
+    }
+
     /* access modifiers changed from: protected */
     public void childrenChanged() {
     }
@@ -270,6 +466,7 @@ public class Group extends Actor implements Cullable {
         actor.setParent(this);
         actor.setStage(getStage());
         childrenChanged();
+        invalidateChildren();
     }
 
     public void addActorAt(int index, Actor actor) {
@@ -288,6 +485,7 @@ public class Group extends Actor implements Cullable {
         actor.setParent(this);
         actor.setStage(getStage());
         childrenChanged();
+        invalidateChildren();
     }
 
     public void addActorBefore(Actor actorBefore, Actor actor) {
@@ -302,6 +500,7 @@ public class Group extends Actor implements Cullable {
         actor.setParent(this);
         actor.setStage(getStage());
         childrenChanged();
+        invalidateChildren();
     }
 
     public void addActorAfter(Actor actorAfter, Actor actor) {
@@ -321,6 +520,7 @@ public class Group extends Actor implements Cullable {
         actor.setParent(this);
         actor.setStage(getStage());
         childrenChanged();
+        invalidateChildren();
     }
 
     public boolean removeActor(Actor actor) {
@@ -338,6 +538,7 @@ public class Group extends Actor implements Cullable {
         actor.setParent((Group) null);
         actor.setStage((Stage) null);
         childrenChanged();
+        invalidateChildren();
         return true;
     }
 
@@ -352,6 +553,7 @@ public class Group extends Actor implements Cullable {
         this.children.end();
         this.children.clear();
         childrenChanged();
+        invalidateChildren();
     }
 
     public void clear() {
@@ -394,6 +596,7 @@ public class Group extends Actor implements Cullable {
             return false;
         }
         this.children.swap(first, second);
+        invalidateChildren();
         return true;
     }
 
@@ -404,6 +607,7 @@ public class Group extends Actor implements Cullable {
             return false;
         }
         this.children.swap(firstIndex, secondIndex);
+        invalidateChildren();
         return true;
     }
 
@@ -0,0 +1,224 @@
+package com.badlogic.gdx.scenes.scene2d;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+import java.util.Iterator;
+
+class HitGrid {
+    static final float EPSILON = 0.001f;
+    static final int MAX_CELLS = 64;
+    static final ObjectMap<Class, Boolean> boundsHit = new ObjectMap<>();
+    private static final Vector2 tmp = new Vector2();
+    final float cellSize;
+    private final IntMap<Array<Entry>> cells = new IntMap<>();
+    private boolean dirty = true;
+    private final IdentityMap<Actor, Entry> entries = new IdentityMap<>();
+    private final Group group;
+    private final Array<Entry> unindexed = new Array<>(true, 16, Entry.class);
+
+    static class Entry {
+        Actor actor;
+        int cellX;
+        int cellX2;
+        int cellY;
+        int cellY2;
+        boolean indexed;
+        float x;
+        float x2;
+        float y;
+        float y2;
+        int z;
+
+        Entry() {
+        }
+    }
+
+    HitGrid(Group group2, float cellSize2) {
+        if (cellSize2 > 0.0f) {
+            this.group = group2;
+            this.cellSize = cellSize2;
+            return;
+        }
+        throw new IllegalArgumentException("cellSize must be > 0: " + cellSize2);
+    }
+
+    /* access modifiers changed from: package-private */
+    public void invalidate() {
+        this.dirty = true;
+    }
+
+    /* access modifiers changed from: package-private */
+    public void update(Actor actor) {
+        if (!this.dirty) {
+            Entry entry = this.entries.get(actor);
+            if (entry == null) {
+                this.dirty = true;
+                return;
+            }
+            remove(entry);
+            insert(entry);
+        }
+    }
+
+    private void rebuild() {
+        Iterator<Array<Entry>> it = this.cells.values().iterator();
+        while (it.hasNext()) {
+            it.next().clear();
+        }
+        this.entries.clear();
+        this.unindexed.clear();
+        Actor[] childrenArray = (Actor[]) this.group.children.items;
+        int n = this.group.children.size;
+        for (int i = 0; i < n; i++) {
+            Entry entry = new Entry();
+            entry.actor = childrenArray[i];
+            entry.z = i;
+            this.entries.put(entry.actor, entry);
+            insert(entry);
+        }
+        this.dirty = false;
+    }
+
+    private void insert(Entry entry) {
+        Actor actor = entry.actor;
+        entry.indexed = false;
+        if (!(actor instanceof Group) && actor.rotation == 0.0f && actor.scaleX != 0.0f && actor.scaleY != 0.0f && hitsBounds(actor.getClass())) {
+            float originX = actor.originX;
+            float originY = actor.originY;
+            float x1 = actor.x + originX;
+            float y1 = actor.y + originY;
+            float left = x1 - (actor.scaleX * originX);
+            float right = ((actor.width - originX) * actor.scaleX) + x1;
+            float bottom = y1 - (actor.scaleY * originY);
+            float top = ((actor.height - originY) * actor.scaleY) + y1;
+            entry.x = Math.min(left, right) - EPSILON;
+            entry.x2 = Math.max(left, right) + EPSILON;
+            entry.y = Math.min(bottom, top) - EPSILON;
+            entry.y2 = Math.max(bottom, top) + EPSILON;
+            float f = this.cellSize;
+            float cellX = (float) Math.floor((double) (entry.x / f));
+            float cellX2 = (float) Math.floor((double) (entry.x2 / f));
+            float cellY = (float) Math.floor((double) (entry.y / f));
+            float cellY2 = (float) Math.floor((double) (entry.y2 / f));
+            if (cellX >= -32768.0f && cellX2 <= 32767.0f && cellY >= -32768.0f && cellY2 <= 32767.0f && ((cellX2 - cellX) + 1.0f) * ((cellY2 - cellY) + 1.0f) <= ((float) MAX_CELLS)) {
+                entry.indexed = true;
+                entry.cellX = (int) cellX;
+                entry.cellX2 = (int) cellX2;
+                entry.cellY = (int) cellY;
+                entry.cellY2 = (int) cellY2;
+                for (int cy = entry.cellY; cy <= entry.cellY2; cy++) {
+                    for (int cx = entry.cellX; cx <= entry.cellX2; cx++) {
+                        int key = key(cx, cy);
+                        Array<Entry> cell = this.cells.get(key);
+                        if (cell == null) {
+                            cell = new Array<>(true, 4, Entry.class);
+                            this.cells.put(key, cell);
+                        }
+                        add(cell, entry);
+                    }
+                }
+                return;
+            }
+        }
+        add(this.unindexed, entry);
+    }
+
+    private static void add(Array<Entry> list, Entry entry) {
+        Entry[] items = (Entry[]) list.items;
+        int z = entry.z;
+        int low = 0;
+        int high = list.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (items[mid].z > z) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        list.insert(low, entry);
+    }
+
+    private void remove(Entry entry) {
+        if (entry.indexed) {
+            for (int cy = entry.cellY; cy <= entry.cellY2; cy++) {
+                for (int cx = entry.cellX; cx <= entry.cellX2; cx++) {
+                    this.cells.get(key(cx, cy)).removeValue(entry, true);
+                }
+            }
+            return;
+        }
+        this.unindexed.removeValue(entry, true);
+    }
+
+    /* access modifiers changed from: package-private */
+    public Actor hit(float x, float y, boolean touchable) {
+        Array<Entry> cell;
+        if (this.dirty) {
+            rebuild();
+        }
+        Entry[] cellItems = null;
+        int cellSize2 = 0;
+        float cellX = (float) Math.floor((double) (x / this.cellSize));
+        float cellY = (float) Math.floor((double) (y / this.cellSize));
+        if (cellX >= -32768.0f && cellX <= 32767.0f && cellY >= -32768.0f && cellY <= 32767.0f && (cell = this.cells.get(key((int) cellX, (int) cellY))) != null) {
+            cellItems = (Entry[]) cell.items;
+            cellSize2 = cell.size;
+        }
+        Entry[] unindexedItems = (Entry[]) this.unindexed.items;
+        int unindexedSize = this.unindexed.size;
+        Vector2 point = tmp;
+        int i = 0;
+        int j = 0;
+        while (true) {
+            Entry entry;
+            if (i < cellSize2) {
+                Entry cellEntry = cellItems[i];
+                if (x < cellEntry.x || x > cellEntry.x2 || y < cellEntry.y || y > cellEntry.y2) {
+                    i++;
+                    continue;
+                } else if (j >= unindexedSize || cellEntry.z > unindexedItems[j].z) {
+                    i++;
+                    entry = cellEntry;
+                } else {
+                    entry = unindexedItems[j];
+                    j++;
+                }
+            } else if (j >= unindexedSize) {
+                return null;
+            } else {
+                entry = unindexedItems[j];
+                j++;
+            }
+            Actor child = entry.actor;
+            child.parentToLocalCoordinates(point.set(x, y));
+            Actor hit = child.hit(point.x, point.y, touchable);
+            if (hit != null) {
+                return hit;
+            }
+        }
+    }
+
+    static int key(int cellX, int cellY) {
+        return (cellY << 16) | (65535 & cellX);
+    }
+
+    static boolean hitsBounds(Class type) {
+        Boolean result = boundsHit.get(type);
+        if (result == null) {
+            try {
+                Class declaringClass = ClassReflection.getMethod(type, "hit", Float.TYPE, Float.TYPE, Boolean.TYPE).getDeclaringClass();
+                result = Boolean.valueOf(declaringClass == Actor.class);
+            } catch (ReflectionException e) {
+                result = Boolean.FALSE;
+            }
+            boundsHit.put(type, result);
+        }
+        return result.booleanValue();
+    }
+}
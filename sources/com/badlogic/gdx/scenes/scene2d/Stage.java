@@ -13,9 +13,12 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.actions.TweenEngine;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.FocusListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Pool;
@@ -28,7 +31,12 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 public class Stage extends InputAdapter implements Disposable {
     static boolean debug;
     private boolean actionsRequestRendering;
+    boolean autoCulling;
+    boolean autoCullingAct;
     private final Batch batch;
+    final Rectangle cullingArea;
+    private final Vector3 cullingCorner;
+    int cullingFrame;
     private boolean debugAll;
     private final Color debugColor;
     private boolean debugInvisible;
@@ -36,6 +44,7 @@ public class Stage extends InputAdapter implements Disposable {
     private ShapeRenderer debugShapes;
     private Table.Debug debugTableUnderMouse;
     private boolean debugUnderMouse;
+    private final Array<Layout> invalidLayouts;
     private Actor keyboardFocus;
     private Actor mouseOverActor;
     private int mouseScreenX;
@@ -49,6 +58,7 @@ public class Stage extends InputAdapter implements Disposable {
     private Actor scrollFocus;
     private final Vector2 tempCoords;
     final SnapshotArray<TouchFocus> touchFocuses;
+    private TweenEngine tweens;
     private Viewport viewport;
 
     public Stage() {
@@ -63,6 +73,9 @@ public class Stage extends InputAdapter implements Disposable {
 
     public Stage(Viewport viewport2, Batch batch2) {
         this.tempCoords = new Vector2();
+        this.cullingArea = new Rectangle();
+        this.cullingCorner = new Vector3();
+        this.invalidLayouts = new Array<>(false, 8);
         this.pointerOverActors = new Actor[20];
         this.pointerTouched = new boolean[20];
         this.pointerScreenX = new int[20];
@@ -84,9 +97,63 @@ public class Stage extends InputAdapter implements Disposable {
         }
     }
 
+    private void updateCullingArea(Camera camera) {
+        Vector3 corner = this.cullingCorner;
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < 4; i++) {
+            float f = 1.0f;
+            float f2 = (i & 1) == 0 ? -1.0f : 1.0f;
+            if ((i & 2) == 0) {
+                f = -1.0f;
+            }
+            corner.set(f2, f, -1.0f).prj(camera.invProjectionView);
+            minX = Math.min(minX, corner.x);
+            minY = Math.min(minY, corner.y);
+            maxX = Math.max(maxX, corner.x);
+            maxY = Math.max(maxY, corner.y);
+        }
+        this.cullingArea.set(minX, minY, maxX - minX, maxY - minY);
+        this.cullingFrame++;
+    }
+
+    public boolean getAutoCulling() {
+        return this.autoCulling;
+    }
+
+    public void setAutoCulling(boolean autoCulling2) {
+        this.autoCulling = autoCulling2;
+    }
+
+    public boolean getAutoCullingAct() {
+        return this.autoCullingAct;
+    }
+
+    public void setAutoCullingAct(boolean autoCullingAct2) {
+        this.autoCullingAct = autoCullingAct2;
+    }
+
+    public void invalidateLayout(Layout layout) {
+        this.invalidLayouts.add(layout);
+    }
+
+    public void validateLayouts() {
+        Array<Layout> layouts = this.invalidLayouts;
+        for (int i = 0; i < layouts.size; i++) {
+            layouts.get(i).validate();
+        }
+        layouts.clear();
+    }
+
     public void draw() {
         Camera camera = this.viewport.getCamera();
         camera.update();
+        if (this.autoCulling) {
+            updateCullingArea(camera);
+        }
+        validateLayouts();
         if (this.root.isVisible()) {
             Batch batch2 = this.batch;
             batch2.setProjectionMatrix(camera.combined);
@@ -183,9 +250,23 @@ public class Stage extends InputAdapter implements Disposable {
         if (type == Application.ApplicationType.Desktop || type == Application.ApplicationType.Applet || type == Application.ApplicationType.WebGL) {
             this.mouseOverActor = fireEnterAndExit(this.mouseOverActor, this.mouseScreenX, this.mouseScreenY, -1);
         }
+        TweenEngine tweenEngine = this.tweens;
+        if (tweenEngine != null && tweenEngine.size() > 0) {
+            tweenEngine.update(delta);
+            if (this.actionsRequestRendering) {
+                Gdx.graphics.requestRendering();
+            }
+        }
         this.root.act(delta);
     }
 
+    public TweenEngine getTweens() {
+        if (this.tweens == null) {
+            this.tweens = new TweenEngine();
+        }
+        return this.tweens;
+    }
+
     private Actor fireEnterAndExit(Actor overLast, int screenX, int screenY, int pointer) {
         screenToStageCoordinates(this.tempCoords.set((float) screenX, (float) screenY));
         Actor over = hit(this.tempCoords.x, this.tempCoords.y, true);
@@ -498,6 +579,10 @@ public class Stage extends InputAdapter implements Disposable {
 
     public void clear() {
         unfocusAll();
+        TweenEngine tweenEngine = this.tweens;
+        if (tweenEngine != null) {
+            tweenEngine.clear();
+        }
         this.root.clear();
     }
 
@@ -0,0 +1,92 @@
+package com.badlogic.gdx.scenes.scene2d.actions;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.scenes.scene2d.Action;
+
+public class TweenAction extends Action {
+    private float duration;
+    private float end;
+    private TweenEngine engine;
+    private int id;
+    private Interpolation interpolation;
+    private int property;
+    private boolean relative;
+
+    public boolean act(float delta) {
+        TweenEngine engine2 = this.engine;
+        if (engine2 == null) {
+            throw new IllegalStateException("engine has not been set.");
+        }
+        if (this.id == 0) {
+            if (this.relative) {
+                this.id = engine2.by(this.target, this.property, this.end, this.duration, this.interpolation, 0.0f);
+            } else {
+                this.id = engine2.to(this.target, this.property, this.end, this.duration, this.interpolation, 0.0f);
+            }
+        }
+        return !engine2.isActive(this.id);
+    }
+
+    public void restart() {
+        TweenEngine tweenEngine = this.engine;
+        if (tweenEngine != null && this.id != 0) {
+            tweenEngine.cancel(this.id);
+        }
+        this.id = 0;
+    }
+
+    public void reset() {
+        super.reset();
+        this.engine = null;
+        this.interpolation = null;
+        this.relative = false;
+    }
+
+    public TweenEngine getEngine() {
+        return this.engine;
+    }
+
+    public void setEngine(TweenEngine engine2) {
+        this.engine = engine2;
+    }
+
+    public int getProperty() {
+        return this.property;
+    }
+
+    public void setProperty(int property2) {
+        this.property = property2;
+    }
+
+    public float getEnd() {
+        return this.end;
+    }
+
+    public void setEnd(float end2) {
+        this.end = end2;
+    }
+
+    public float getDuration() {
+        return this.duration;
+    }
+
+    public void setDuration(float duration2) {
+        this.duration = duration2;
+    }
+
+    public Interpolation getInterpolation() {
+        return this.interpolation;
+    }
+
+    public void setInterpolation(Interpolation interpolation2) {
+        this.interpolation = interpolation2;
+    }
+
+    public boolean isRelative() {
+        return this.relative;
+    }
+
+    public void setRelative(boolean relative2) {
+        this.relative = relative2;
+    }
+}
@@ -0,0 +1,651 @@
+package com.badlogic.gdx.scenes.scene2d.actions;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+public class TweenEngine {
+    public static final int ALPHA = 7;
+    static final int FROM_CURRENT = 1;
+    public static final int HEIGHT = 3;
+    static final int KILLED = 8;
+    static final int LINEAR = 0;
+    static final int POW2_IN = 3;
+    static final int POW2_OUT = 4;
+    static final int RELATIVE = 2;
+    public static final int ROTATION = 4;
+    public static final int SCALE_X = 5;
+    public static final int SCALE_Y = 6;
+    static final int SINE = 5;
+    static final int SINE_IN = 6;
+    static final int SINE_OUT = 7;
+    static final int SMOOTH = 1;
+    static final int SMOOTHER = 2;
+    static final int STARTED = 4;
+    public static final int WIDTH = 2;
+    public static final int X = 0;
+    public static final int Y = 1;
+    private Actor[] actors;
+    private boolean compact;
+    private final Array<Runnable> completed;
+    private Runnable[] completions;
+    private float[] durations;
+    private float[] ends;
+    private int[] flags;
+    private final Array<PendingTween> freePending;
+    private int[] ids;
+    private int[] interpolationIds;
+    private final ObjectIntMap<Interpolation> interpolationIndex;
+    private final Array<Interpolation> interpolations;
+    private int nextId;
+    private final Array<PendingTween> pending;
+    private int[] properties;
+    private int size;
+    private float[] starts;
+    private float[] times;
+    private int updateRead;
+    private int updateWrite;
+    private boolean updating;
+
+    static class PendingTween {
+        Actor actor;
+        Runnable completion;
+        float duration;
+        float end;
+        int flags;
+        int id;
+        int interpolationId;
+        int property;
+        float start;
+        float time;
+
+        PendingTween() {
+        }
+    }
+
+    public TweenEngine() {
+        this(64);
+    }
+
+    public TweenEngine(int capacity) {
+        this.completed = new Array<>(false, 8);
+        this.interpolationIndex = new ObjectIntMap<>();
+        this.interpolations = new Array<>(true, 16, Interpolation.class);
+        this.pending = new Array<>();
+        this.freePending = new Array<>(false, 8);
+        this.nextId = 1;
+        int capacity2 = Math.max(1, capacity);
+        this.actors = new Actor[capacity2];
+        this.properties = new int[capacity2];
+        this.interpolationIds = new int[capacity2];
+        this.flags = new int[capacity2];
+        this.ids = new int[capacity2];
+        this.starts = new float[capacity2];
+        this.ends = new float[capacity2];
+        this.durations = new float[capacity2];
+        this.times = new float[capacity2];
+        this.completions = new Runnable[capacity2];
+        register(Interpolation.linear);
+        register(Interpolation.smooth);
+        register(Interpolation.smoother);
+        register(Interpolation.pow2In);
+        register(Interpolation.pow2Out);
+        register(Interpolation.sine);
+        register(Interpolation.sineIn);
+        register(Interpolation.sineOut);
+    }
+
+    private int register(Interpolation interpolation) {
+        if (interpolation == null) {
+            return LINEAR;
+        }
+        int id = this.interpolationIndex.get(interpolation, -1);
+        if (id != -1) {
+            return id;
+        }
+        int id2 = this.interpolations.size;
+        this.interpolations.add(interpolation);
+        this.interpolationIndex.put(interpolation, id2);
+        return id2;
+    }
+
+    public int to(Actor actor, int property, float end, float duration, Interpolation interpolation, float delay) {
+        return add(actor, property, 0.0f, end, duration, interpolation, delay, FROM_CURRENT, 0);
+    }
+
+    public int fromTo(Actor actor, int property, float start, float end, float duration, Interpolation interpolation, float delay) {
+        return add(actor, property, start, end, duration, interpolation, delay, 0, 0);
+    }
+
+    public int by(Actor actor, int property, float amount, float duration, Interpolation interpolation, float delay) {
+        return add(actor, property, 0.0f, amount, duration, interpolation, delay, RELATIVE, 0);
+    }
+
+    private int add(Actor actor, int property, float start, float end, float duration, Interpolation interpolation, float delay, int flags2, int id) {
+        if (actor == null) {
+            throw new IllegalArgumentException("actor cannot be null.");
+        } else if (property < 0 || property > 7) {
+            throw new IllegalArgumentException("Unknown property: " + property);
+        } else {
+            if (id == 0) {
+                id = this.nextId;
+                this.nextId = id + 1;
+                if (this.nextId == Integer.MAX_VALUE) {
+                    this.nextId = 1;
+                }
+            }
+            int interpolationId = register(interpolation);
+            if (this.updating) {
+                PendingTween tween = this.freePending.size > 0 ? this.freePending.pop() : new PendingTween();
+                tween.actor = actor;
+                tween.property = property;
+                tween.interpolationId = interpolationId;
+                tween.flags = flags2;
+                tween.id = id;
+                tween.start = start;
+                tween.end = end;
+                tween.duration = duration;
+                tween.time = -delay;
+                tween.completion = null;
+                this.pending.add(tween);
+            } else {
+                insert(actor, property, interpolationId, flags2, id, start, end, duration, -delay, (Runnable) null);
+            }
+            return id;
+        }
+    }
+
+    private void insert(Actor actor, int property, int interpolationId, int flags2, int id, float start, float end, float duration, float time, Runnable completion) {
+        int i = this.size;
+        if (i == this.actors.length) {
+            resize(Math.max(8, (int) (((float) i) * 1.75f)));
+        }
+        this.actors[i] = actor;
+        this.properties[i] = property;
+        this.interpolationIds[i] = interpolationId;
+        this.flags[i] = flags2;
+        this.ids[i] = id;
+        this.starts[i] = start;
+        this.ends[i] = end;
+        this.durations[i] = duration;
+        this.times[i] = time;
+        this.completions[i] = completion;
+        this.size = i + 1;
+    }
+
+    private void flushPending() {
+        Array<PendingTween> pending2 = this.pending;
+        for (int i = 0; i < pending2.size; i++) {
+            PendingTween tween = pending2.get(i);
+            insert(tween.actor, tween.property, tween.interpolationId, tween.flags, tween.id, tween.start, tween.end, tween.duration, tween.time, tween.completion);
+            free(tween);
+        }
+        pending2.clear();
+    }
+
+    private void free(PendingTween tween) {
+        tween.actor = null;
+        tween.completion = null;
+        this.freePending.add(tween);
+    }
+
+    private void resize(int newSize) {
+        int n = this.size;
+        Actor[] actors2 = new Actor[newSize];
+        System.arraycopy(this.actors, 0, actors2, 0, n);
+        this.actors = actors2;
+        this.properties = copy(this.properties, newSize, n);
+        this.interpolationIds = copy(this.interpolationIds, newSize, n);
+        this.flags = copy(this.flags, newSize, n);
+        this.ids = copy(this.ids, newSize, n);
+        this.starts = copy(this.starts, newSize, n);
+        this.ends = copy(this.ends, newSize, n);
+        this.durations = copy(this.durations, newSize, n);
+        this.times = copy(this.times, newSize, n);
+        Runnable[] completions2 = new Runnable[newSize];
+        System.arraycopy(this.completions, 0, completions2, 0, n);
+        this.completions = completions2;
+    }
+
+    private static int[] copy(int[] array, int newSize, int n) {
+        int[] newArray = new int[newSize];
+        System.arraycopy(array, 0, newArray, 0, n);
+        return newArray;
+    }
+
+    private static float[] copy(float[] array, int newSize, int n) {
+        float[] newArray = new float[newSize];
+        System.arraycopy(array, 0, newArray, 0, n);
+        return newArray;
+    }
+
+    public void update(float delta) {
+        float a;
+        Actor[] actors2 = this.actors;
+        int[] properties2 = this.properties;
+        int[] interpolationIds2 = this.interpolationIds;
+        int[] flags2 = this.flags;
+        int[] ids2 = this.ids;
+        float[] starts2 = this.starts;
+        float[] ends2 = this.ends;
+        float[] durations2 = this.durations;
+        float[] times2 = this.times;
+        Runnable[] completions2 = this.completions;
+        Interpolation[] interpolations2 = (Interpolation[]) this.interpolations.items;
+        int n = this.size;
+        int w = 0;
+        this.updating = true;
+        try {
+            for (int i = 0; i < n; i++) {
+                if ((flags2[i] & KILLED) == 0) {
+                    this.updateWrite = w;
+                    this.updateRead = i;
+                    Actor actor = actors2[i];
+                    float time = times2[i] + delta;
+                    times2[i] = time;
+                    boolean done = false;
+                    if (time >= 0.0f) {
+                        int property = properties2[i];
+                        int flag = flags2[i];
+                        if ((flag & 4) == 0) {
+                            flags2[i] = flag | 4;
+                            if ((flag & 1) != 0) {
+                                starts2[i] = get(actor, property);
+                            } else if ((flag & 2) != 0) {
+                                float current = get(actor, property);
+                                starts2[i] = current;
+                                ends2[i] = ends2[i] + current;
+                            }
+                        }
+                        float duration = durations2[i];
+                        done = time >= duration;
+                        a = done ? 1.0f : time / duration;
+                        switch (interpolationIds2[i]) {
+                            case 0:
+                                break;
+                            case 1:
+                                a = a * a * (3.0f - (2.0f * a));
+                                break;
+                            case 2:
+                                a = a * a * a * ((((6.0f * a) - 15.0f) * a) + 10.0f);
+                                break;
+                            case 3:
+                                a *= a;
+                                break;
+                            case 4:
+                                float a2 = a - 1.0f;
+                                a = 1.0f - (a2 * a2);
+                                break;
+                            case 5:
+                                a = (1.0f - MathUtils.cos(3.1415927f * a)) / 2.0f;
+                                break;
+                            case 6:
+                                a = 1.0f - MathUtils.cos((3.1415927f * a) / 2.0f);
+                                break;
+                            case 7:
+                                a = MathUtils.sin((3.1415927f * a) / 2.0f);
+                                break;
+                            default:
+                                a = interpolations2[interpolationIds2[i]].apply(a);
+                                break;
+                        }
+                        float start = starts2[i];
+                        set(actor, property, ((ends2[i] - start) * a) + start);
+                    }
+                    if ((flags2[i] & KILLED) == 0) {
+                        if (done) {
+                            Runnable completion = completions2[i];
+                            if (completion != null && !hasOther(ids2[i], i)) {
+                                this.completed.add(completion);
+                            }
+                        } else {
+                            if (w != i) {
+                                move(i, w);
+                            }
+                            w++;
+                        }
+                    }
+                }
+            }
+            clear(w, n);
+            this.size = w;
+        } finally {
+            this.updating = false;
+        }
+        if (this.compact) {
+            this.compact = false;
+            removeKilled();
+        }
+        flushPending();
+        Array<Runnable> completed2 = this.completed;
+        if (completed2.size > 0) {
+            for (int i2 = 0; i2 < completed2.size; i2++) {
+                completed2.get(i2).run();
+            }
+            completed2.clear();
+        }
+    }
+
+    private void move(int from, int to) {
+        this.actors[to] = this.actors[from];
+        this.properties[to] = this.properties[from];
+        this.interpolationIds[to] = this.interpolationIds[from];
+        this.flags[to] = this.flags[from];
+        this.ids[to] = this.ids[from];
+        this.starts[to] = this.starts[from];
+        this.ends[to] = this.ends[from];
+        this.durations[to] = this.durations[from];
+        this.times[to] = this.times[from];
+        this.completions[to] = this.completions[from];
+    }
+
+    private void clear(int from, int to) {
+        for (int i = from; i < to; i++) {
+            this.actors[i] = null;
+            this.completions[i] = null;
+        }
+    }
+
+    static float get(Actor actor, int property) {
+        switch (property) {
+            case 0:
+                return actor.getX();
+            case 1:
+                return actor.getY();
+            case 2:
+                return actor.getWidth();
+            case 3:
+                return actor.getHeight();
+            case 4:
+                return actor.getRotation();
+            case 5:
+                return actor.getScaleX();
+            case 6:
+                return actor.getScaleY();
+            default:
+                return actor.getColor().a;
+        }
+    }
+
+    static void set(Actor actor, int property, float value) {
+        switch (property) {
+            case 0:
+                actor.setX(value);
+                return;
+            case 1:
+                actor.setY(value);
+                return;
+            case 2:
+                actor.setWidth(value);
+                return;
+            case 3:
+                actor.setHeight(value);
+                return;
+            case 4:
+                actor.setRotation(value);
+                return;
+            case 5:
+                actor.setScaleX(value);
+                return;
+            case 6:
+                actor.setScaleY(value);
+                return;
+            default:
+                actor.getColor().a = value;
+                return;
+        }
+    }
+
+    private boolean isLive(int index) {
+        if ((this.flags[index] & KILLED) != 0) {
+            return false;
+        }
+        return !this.updating || index < this.updateWrite || index >= this.updateRead;
+    }
+
+    private boolean hasOther(int id, int index) {
+        int[] ids2 = this.ids;
+        int n = this.size;
+        for (int i = 0; i < n; i++) {
+            if (i != index && ids2[i] == id && isLive(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexOf(int id) {
+        int[] ids2 = this.ids;
+        int n = this.size;
+        for (int i = 0; i < n; i++) {
+            if (ids2[i] == id && isLive(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int pendingIndexOf(int id) {
+        Array<PendingTween> pending2 = this.pending;
+        for (int i = 0; i < pending2.size; i++) {
+            if (pending2.get(i).id == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean isActive(int id) {
+        return indexOf(id) != -1 || pendingIndexOf(id) != -1;
+    }
+
+    public void onComplete(int id, Runnable runnable) {
+        boolean found = false;
+        int[] ids2 = this.ids;
+        int n = this.size;
+        for (int i = 0; i < n; i++) {
+            if (ids2[i] == id && isLive(i)) {
+                this.completions[i] = runnable;
+                found = true;
+            }
+        }
+        Array<PendingTween> pending2 = this.pending;
+        for (int i2 = 0; i2 < pending2.size; i2++) {
+            PendingTween tween = pending2.get(i2);
+            if (tween.id == id) {
+                tween.completion = runnable;
+                found = true;
+            }
+        }
+        if (!found) {
+            throw new IllegalArgumentException("Tween is not active: " + id);
+        }
+    }
+
+    public boolean cancel(int id) {
+        return id != 0 && remove((Actor) null, -1, id) > 0;
+    }
+
+    public int kill(Actor actor) {
+        return kill(actor, -1);
+    }
+
+    public int kill(Actor actor, int property) {
+        if (actor == null) {
+            return 0;
+        }
+        return remove(actor, property, 0);
+    }
+
+    public void clear() {
+        remove((Actor) null, -1, 0);
+    }
+
+    private static boolean matches(Actor tweenActor, int tweenProperty, int tweenId, Actor actor, int property, int id) {
+        if (id != 0) {
+            return tweenId == id;
+        }
+        if (actor == null) {
+            return true;
+        }
+        return tweenActor == actor && (property == -1 || tweenProperty == property);
+    }
+
+    private int remove(Actor actor, int property, int id) {
+        int removed = 0;
+        Array<PendingTween> pending2 = this.pending;
+        for (int i = pending2.size - 1; i >= 0; i--) {
+            PendingTween tween = pending2.get(i);
+            if (matches(tween.actor, tween.property, tween.id, actor, property, id)) {
+                pending2.removeIndex(i);
+                free(tween);
+                removed++;
+            }
+        }
+        Actor[] actors2 = this.actors;
+        int[] properties2 = this.properties;
+        int[] ids2 = this.ids;
+        int n = this.size;
+        if (this.updating) {
+            int[] flags2 = this.flags;
+            for (int i2 = 0; i2 < n; i2++) {
+                if (isLive(i2) && matches(actors2[i2], properties2[i2], ids2[i2], actor, property, id)) {
+                    flags2[i2] = flags2[i2] | KILLED;
+                    this.compact = true;
+                    removed++;
+                }
+            }
+            return removed;
+        }
+        int w = 0;
+        for (int i3 = 0; i3 < n; i3++) {
+            if (!matches(actors2[i3], properties2[i3], ids2[i3], actor, property, id)) {
+                if (w != i3) {
+                    move(i3, w);
+                }
+                w++;
+            }
+        }
+        clear(w, n);
+        this.size = w;
+        return (n - w) + removed;
+    }
+
+    private void removeKilled() {
+        int[] flags2 = this.flags;
+        int n = this.size;
+        int w = 0;
+        for (int i = 0; i < n; i++) {
+            if ((flags2[i] & KILLED) == 0) {
+                if (w != i) {
+                    move(i, w);
+                }
+                w++;
+            }
+        }
+        clear(w, n);
+        this.size = w;
+    }
+
+    public int size() {
+        return this.size + this.pending.size;
+    }
+
+    public TweenAction action(int property, float end, float duration, Interpolation interpolation) {
+        TweenAction action = (TweenAction) Actions.action(TweenAction.class);
+        action.setEngine(this);
+        action.setProperty(property);
+        action.setEnd(end);
+        action.setDuration(duration);
+        action.setInterpolation(interpolation);
+        return action;
+    }
+
+    public TweenAction actionBy(int property, float amount, float duration, Interpolation interpolation) {
+        TweenAction action = action(property, amount, duration, interpolation);
+        action.setRelative(true);
+        return action;
+    }
+
+    public int moveTo(Actor actor, float x, float y, float duration) {
+        return moveTo(actor, x, y, duration, (Interpolation) null);
+    }
+
+    public int moveTo(Actor actor, float x, float y, float duration, Interpolation interpolation) {
+        int id = to(actor, 0, x, duration, interpolation, 0.0f);
+        add(actor, 1, 0.0f, y, duration, interpolation, 0.0f, FROM_CURRENT, id);
+        return id;
+    }
+
+    public int moveBy(Actor actor, float amountX, float amountY, float duration) {
+        return moveBy(actor, amountX, amountY, duration, (Interpolation) null);
+    }
+
+    public int moveBy(Actor actor, float amountX, float amountY, float duration, Interpolation interpolation) {
+        int id = by(actor, 0, amountX, duration, interpolation, 0.0f);
+        add(actor, 1, 0.0f, amountY, duration, interpolation, 0.0f, RELATIVE, id);
+        return id;
+    }
+
+    public int sizeTo(Actor actor, float width, float height, float duration) {
+        return sizeTo(actor, width, height, duration, (Interpolation) null);
+    }
+
+    public int sizeTo(Actor actor, float width, float height, float duration, Interpolation interpolation) {
+        int id = to(actor, 2, width, duration, interpolation, 0.0f);
+        add(actor, 3, 0.0f, height, duration, interpolation, 0.0f, FROM_CURRENT, id);
+        return id;
+    }
+
+    public int scaleTo(Actor actor, float x, float y, float duration) {
+        return scaleTo(actor, x, y, duration, (Interpolation) null);
+    }
+
+    public int scaleTo(Actor actor, float x, float y, float duration, Interpolation interpolation) {
+        int id = to(actor, 5, x, duration, interpolation, 0.0f);
+        add(actor, 6, 0.0f, y, duration, interpolation, 0.0f, FROM_CURRENT, id);
+        return id;
+    }
+
+    public int rotateTo(Actor actor, float rotation, float duration) {
+        return to(actor, 4, rotation, duration, (Interpolation) null, 0.0f);
+    }
+
+    public int rotateTo(Actor actor, float rotation, float duration, Interpolation interpolation) {
+        return to(actor, 4, rotation, duration, interpolation, 0.0f);
+    }
+
+    public int rotateBy(Actor actor, float rotationAmount, float duration) {
+        return by(actor, 4, rotationAmount, duration, (Interpolation) null, 0.0f);
+    }
+
+    public int rotateBy(Actor actor, float rotationAmount, float duration, Interpolation interpolation) {
+        return by(actor, 4, rotationAmount, duration, interpolation, 0.0f);
+    }
+
+    public int alpha(Actor actor, float a, float duration) {
+        return to(actor, 7, a, duration, (Interpolation) null, 0.0f);
+    }
+
+    public int alpha(Actor actor, float a, float duration, Interpolation interpolation) {
+        return to(actor, 7, a, duration, interpolation, 0.0f);
+    }
+
+    public int fadeOut(Actor actor, float duration) {
+        return to(actor, 7, 0.0f, duration, (Interpolation) null, 0.0f);
+    }
+
+    public int fadeOut(Actor actor, float duration, Interpolation interpolation) {
+        return to(actor, 7, 0.0f, duration, interpolation, 0.0f);
+    }
+
+    public int fadeIn(Actor actor, float duration) {
+        return to(actor, 7, 1.0f, duration, (Interpolation) null, 0.0f);
+    }
+
+    public int fadeIn(Actor actor, float duration, Interpolation interpolation) {
+        return to(actor, 7, 1.0f, duration, interpolation, 0.0f);
+    }
+}
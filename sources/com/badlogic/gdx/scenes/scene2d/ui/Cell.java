@@ -27,10 +27,16 @@ public class Cell<T extends Actor> implements Pool.Poolable {
     int cellAboveIndex = -1;
     Integer colspan;
     int column;
+    float computedMaxHeight;
+    float computedMaxWidth;
+    float computedMinHeight;
+    float computedMinWidth;
     float computedPadBottom;
     float computedPadLeft;
     float computedPadRight;
     float computedPadTop;
+    float computedPrefHeight;
+    float computedPrefWidth;
     boolean endRow;
     Integer expandX;
     Integer expandY;
@@ -38,6 +44,7 @@ public class Cell<T extends Actor> implements Pool.Poolable {
     Float fillY;
     Value maxHeight;
     Value maxWidth;
+    boolean measureInvalid = true;
     Value minHeight;
     Value minWidth;
     Value padBottom;
@@ -967,9 +974,32 @@ public class Cell<T extends Actor> implements Pool.Poolable {
         this.table = null;
         this.endRow = false;
         this.cellAboveIndex = -1;
+        this.measureInvalid = true;
         set(defaults());
     }
 
+    /* access modifiers changed from: package-private */
+    public boolean measure() {
+        Actor a = this.actor;
+        float minWidth2 = this.minWidth.get(a);
+        float minHeight2 = this.minHeight.get(a);
+        float prefWidth2 = this.prefWidth.get(a);
+        float prefHeight2 = this.prefHeight.get(a);
+        float maxWidth2 = this.maxWidth.get(a);
+        float maxHeight2 = this.maxHeight.get(a);
+        this.measureInvalid = false;
+        if (minWidth2 == this.computedMinWidth && minHeight2 == this.computedMinHeight && prefWidth2 == this.computedPrefWidth && prefHeight2 == this.computedPrefHeight && maxWidth2 == this.computedMaxWidth && maxHeight2 == this.computedMaxHeight) {
+            return false;
+        }
+        this.computedMinWidth = minWidth2;
+        this.computedMinHeight = minHeight2;
+        this.computedPrefWidth = prefWidth2;
+        this.computedPrefHeight = prefHeight2;
+        this.computedMaxWidth = maxWidth2;
+        this.computedMaxHeight = maxHeight2;
+        return true;
+    }
+
     /* access modifiers changed from: package-private */
     public void set(Cell cell) {
         this.minWidth = cell.minWidth;
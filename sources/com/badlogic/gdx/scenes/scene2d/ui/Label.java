@@ -5,13 +5,14 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.GlyphLayoutCache;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.StringBuilder;
 import com.twi.game.BuildConfig;
 
 public class Label extends Widget {
-    private static final GlyphLayout prefSizeLayout = new GlyphLayout();
+    private static final GlyphLayoutCache prefSizeLayouts = new GlyphLayoutCache();
     private static final Color tempColor = new Color();
     private BitmapFontCache cache;
     private String ellipsis;
@@ -149,16 +150,16 @@ public class Label extends Widget {
 
     private void computePrefSize() {
         this.prefSizeInvalid = false;
-        GlyphLayout prefSizeLayout2 = prefSizeLayout;
+        GlyphLayout prefSizeLayout2;
         if (!this.wrap || this.ellipsis != null) {
-            prefSizeLayout2.setText(this.cache.getFont(), this.text);
+            prefSizeLayout2 = prefSizeLayouts.get(this.cache.getFont(), this.text);
         } else {
             float width = getWidth();
             if (this.style.background != null) {
                 width -= this.style.background.getLeftWidth() + this.style.background.getRightWidth();
             }
             float width2 = width;
-            prefSizeLayout2.setText(this.cache.getFont(), this.text, Color.WHITE, width2, 8, true);
+            prefSizeLayout2 = prefSizeLayouts.get(this.cache.getFont(), this.text, Color.WHITE, width2, 8, true);
         }
         this.prefSize.set(prefSizeLayout2.width, prefSizeLayout2.height);
     }
@@ -252,8 +253,16 @@ public class Label extends Widget {
         }
         StringBuilder stringBuilder2 = this.text;
         boolean z = wrap2;
-        layout2.setText(font, stringBuilder2, 0, stringBuilder2.length, Color.WHITE, textWidth, this.lineAlign, wrap2, this.ellipsis);
-        this.cache.setText(layout2, x3, y2);
+        int start = -1;
+        if (!wrap2 && this.ellipsis == null && this.lineAlign == 8) {
+            start = layout2.updateText(font, stringBuilder2, Color.WHITE);
+        }
+        if (start >= 0) {
+            this.cache.updateText(layout2, x3, y2, start);
+        } else {
+            layout2.setText(font, stringBuilder2, 0, stringBuilder2.length, Color.WHITE, textWidth, this.lineAlign, wrap2, this.ellipsis);
+            this.cache.setText(layout2, x3, y2);
+        }
         if (this.fontScaleChanged) {
             font.getData().setScale(oldScaleX, oldScaleY);
         }
@@ -236,7 +236,11 @@ public class List<T> extends Widget implements Cullable {
         float textOffsetY = selectedDrawable.getTopHeight() - font.getDescent();
         font.setColor(fontColorUnselected.r, fontColorUnselected.g, fontColorUnselected.b, fontColorUnselected.a * parentAlpha);
         int i2 = 0;
-        float itemY2 = itemY;
+        Rectangle area = this.cullingArea;
+        if (area != null && this.itemHeight > 0.0f) {
+            i2 = Math.max(0, ((int) (((itemY - this.itemHeight) - (area.y + area.height)) / this.itemHeight)) - 1);
+        }
+        float itemY2 = itemY - (((float) i2) * this.itemHeight);
         while (i2 < this.items.size) {
             Rectangle rectangle = this.cullingArea;
             if (rectangle == null || (itemY2 - this.itemHeight <= rectangle.y + this.cullingArea.height && itemY2 >= this.cullingArea.y)) {
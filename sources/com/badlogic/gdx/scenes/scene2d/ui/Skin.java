@@ -46,7 +46,7 @@ import com.badlogic.gdx.utils.reflect.ReflectionException;
 import com.twi.game.BuildConfig;
 
 public class Skin implements Disposable {
-    private static final Class[] defaultTagClasses = {BitmapFont.class, Color.class, TintedDrawable.class, NinePatchDrawable.class, SpriteDrawable.class, TextureRegionDrawable.class, TiledDrawable.class, Button.ButtonStyle.class, CheckBox.CheckBoxStyle.class, ImageButton.ImageButtonStyle.class, ImageTextButton.ImageTextButtonStyle.class, Label.LabelStyle.class, List.ListStyle.class, ProgressBar.ProgressBarStyle.class, ScrollPane.ScrollPaneStyle.class, SelectBox.SelectBoxStyle.class, Slider.SliderStyle.class, SplitPane.SplitPaneStyle.class, TextButton.TextButtonStyle.class, TextField.TextFieldStyle.class, TextTooltip.TextTooltipStyle.class, Touchpad.TouchpadStyle.class, Tree.TreeStyle.class, Window.WindowStyle.class};
+    static final Class[] defaultTagClasses = {BitmapFont.class, Color.class, TintedDrawable.class, NinePatchDrawable.class, SpriteDrawable.class, TextureRegionDrawable.class, TiledDrawable.class, Button.ButtonStyle.class, CheckBox.CheckBoxStyle.class, ImageButton.ImageButtonStyle.class, ImageTextButton.ImageTextButtonStyle.class, Label.LabelStyle.class, List.ListStyle.class, ProgressBar.ProgressBarStyle.class, ScrollPane.ScrollPaneStyle.class, SelectBox.SelectBoxStyle.class, Slider.SliderStyle.class, SplitPane.SplitPaneStyle.class, TextButton.TextButtonStyle.class, TextField.TextFieldStyle.class, TextTooltip.TextTooltipStyle.class, Touchpad.TouchpadStyle.class, Tree.TreeStyle.class, Window.WindowStyle.class};
     TextureAtlas atlas;
     private final ObjectMap<String, Class> jsonClassTags = new ObjectMap<>(defaultTagClasses.length);
     ObjectMap<Class, ObjectMap<String, Object>> resources = new ObjectMap<>();
@@ -92,6 +92,10 @@ public class Skin implements Disposable {
     }
 
     public void load(FileHandle skinFile) {
+        if (skinFile.extension().equalsIgnoreCase(SkinIO.EXTENSION)) {
+            SkinIO.load(this, skinFile);
+            return;
+        }
         try {
             getJsonLoader(skinFile).fromJson(Skin.class, skinFile);
         } catch (SerializationException ex) {
@@ -558,46 +562,11 @@ public class Skin implements Disposable {
         });
         json.setSerializer(BitmapFont.class, new Json.ReadOnlySerializer<BitmapFont>() {
             public BitmapFont read(Json json, JsonValue jsonData, Class type) {
-                BitmapFont font;
                 String path = (String) json.readValue("file", String.class, jsonData);
                 int scaledSize = ((Integer) json.readValue("scaledSize", Integer.TYPE, -1, jsonData)).intValue();
                 Boolean flip = (Boolean) json.readValue("flip", Boolean.class, false, jsonData);
                 Boolean markupEnabled = (Boolean) json.readValue("markupEnabled", Boolean.class, false, jsonData);
-                FileHandle fontFile = skinFile.parent().child(path);
-                if (!fontFile.exists()) {
-                    fontFile = Gdx.files.internal(path);
-                }
-                if (fontFile.exists()) {
-                    String regionName = fontFile.nameWithoutExtension();
-                    try {
-                        Array<TextureRegion> regions = this.getRegions(regionName);
-                        if (regions != null) {
-                            font = new BitmapFont(new BitmapFont.BitmapFontData(fontFile, flip.booleanValue()), regions, true);
-                        } else {
-                            TextureRegion region = (TextureRegion) this.optional(regionName, TextureRegion.class);
-                            if (region != null) {
-                                font = new BitmapFont(fontFile, region, flip.booleanValue());
-                            } else {
-                                FileHandle parent = fontFile.parent();
-                                FileHandle imageFile = parent.child(regionName + ".png");
-                                if (imageFile.exists()) {
-                                    font = new BitmapFont(fontFile, imageFile, flip.booleanValue());
-                                } else {
-                                    font = new BitmapFont(fontFile, flip.booleanValue());
-                                }
-                            }
-                        }
-                        font.getData().markupEnabled = markupEnabled.booleanValue();
-                        if (scaledSize != -1) {
-                            font.getData().setScale(((float) scaledSize) / font.getCapHeight());
-                        }
-                        return font;
-                    } catch (RuntimeException ex) {
-                        throw new SerializationException("Error loading bitmap font: " + fontFile, ex);
-                    }
-                } else {
-                    throw new SerializationException("Font file not found: " + fontFile);
-                }
+                return Skin.this.loadFont(skinFile, path, scaledSize, flip.booleanValue(), markupEnabled.booleanValue());
             }
         });
         json.setSerializer(Color.class, new Json.ReadOnlySerializer<Color>() {
@@ -634,6 +603,44 @@ public class Skin implements Disposable {
         return json;
     }
 
+    /* access modifiers changed from: package-private */
+    public BitmapFont loadFont(FileHandle skinFile, String path, int scaledSize, boolean flip, boolean markupEnabled) {
+        BitmapFont font;
+        FileHandle fontFile = skinFile.parent().child(path);
+        if (!fontFile.exists()) {
+            fontFile = Gdx.files.internal(path);
+        }
+        if (fontFile.exists()) {
+            String regionName = fontFile.nameWithoutExtension();
+            try {
+                Array<TextureRegion> regions = getRegions(regionName);
+                if (regions != null) {
+                    font = new BitmapFont(new BitmapFont.BitmapFontData(fontFile, flip), regions, true);
+                } else {
+                    TextureRegion region = (TextureRegion) optional(regionName, TextureRegion.class);
+                    if (region != null) {
+                        font = new BitmapFont(fontFile, region, flip);
+                    } else {
+                        FileHandle imageFile = fontFile.parent().child(regionName + ".png");
+                        if (imageFile.exists()) {
+                            font = new BitmapFont(fontFile, imageFile, flip);
+                        } else {
+                            font = new BitmapFont(fontFile, flip);
+                        }
+                    }
+                }
+                font.getData().markupEnabled = markupEnabled;
+                if (scaledSize != -1) {
+                    font.getData().setScale(((float) scaledSize) / font.getCapHeight());
+                }
+                return font;
+            } catch (RuntimeException ex) {
+                throw new SerializationException("Error loading bitmap font: " + fontFile, ex);
+            }
+        }
+        throw new SerializationException("Font file not found: " + fontFile);
+    }
+
     public ObjectMap<String, Class> getJsonClassTags() {
         return this.jsonClassTags;
     }
@@ -0,0 +1,200 @@
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.OrderedMap;
+import com.badlogic.gdx.utils.StreamUtils;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public class SkinCompiler {
+    private final ObjectMap<Class, ObjectMap<String, OrderedMap<String, JsonValue>>> styles = new ObjectMap<>();
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.out.println("Usage: SkinCompiler skinFile.json [outputFile.skb]");
+            System.exit(1);
+        }
+        FileHandle skinFile = new FileHandle(args[0]);
+        compile(skinFile, args.length == 2 ? new FileHandle(args[1]) : skinFile.sibling(skinFile.nameWithoutExtension() + "." + SkinIO.EXTENSION));
+    }
+
+    public static void compile(FileHandle skinFile, FileHandle outputFile) {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputFile.write(false), 4096));
+        try {
+            new SkinCompiler().compile(new JsonReader().parse(skinFile), output);
+        } catch (IOException ex) {
+            throw new GdxRuntimeException("Error writing compiled skin file: " + outputFile, ex);
+        } catch (RuntimeException ex2) {
+            throw new GdxRuntimeException("Error compiling skin file: " + skinFile, ex2);
+        } finally {
+            StreamUtils.closeQuietly(output);
+        }
+    }
+
+    private void compile(JsonValue root, DataOutputStream output) throws IOException {
+        output.writeInt(SkinIO.MAGIC);
+        output.writeInt(SkinIO.VERSION);
+        output.writeInt(root.size);
+        for (JsonValue section = root.child; section != null; section = section.next) {
+            int type = findType(section.name);
+            if (type != -1) {
+                output.writeByte(type);
+                output.writeInt(section.size);
+                for (JsonValue entry = section.child; entry != null; entry = entry.next) {
+                    output.writeUTF(entry.name);
+                    writeEntry(type, entry, output);
+                }
+            } else {
+                throw new GdxRuntimeException("Unsupported skin type: " + section.name);
+            }
+        }
+    }
+
+    private static int findType(String name) {
+        Class[] types = Skin.defaultTagClasses;
+        for (int i = 0; i < types.length; i++) {
+            Class type = types[i];
+            if (type.getSimpleName().equals(name) || type.getName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void writeEntry(int type, JsonValue entry, DataOutputStream output) throws IOException {
+        switch (type) {
+            case 0:
+                output.writeUTF(entry.getString("file"));
+                output.writeInt(entry.getInt("scaledSize", -1));
+                output.writeBoolean(entry.getBoolean("flip", false));
+                output.writeBoolean(entry.getBoolean("markupEnabled", false));
+                return;
+            case 1:
+                writeColor(entry, output);
+                return;
+            case 2:
+                JsonValue color = entry.get("color");
+                if (color != null) {
+                    output.writeUTF(entry.getString("name"));
+                    writeColor(color, output);
+                    return;
+                }
+                throw new GdxRuntimeException("TintedDrawable missing color: " + entry.name);
+            case 3:
+                writeDrawable(entry, "patch", output);
+                return;
+            case 4:
+                writeDrawable(entry, "sprite", output);
+                return;
+            case 5:
+            case 6:
+                writeDrawable(entry, "region", output);
+                return;
+            default:
+                writeStyle(type, entry, output);
+                return;
+        }
+    }
+
+    private static void writeColor(JsonValue value, DataOutputStream output) throws IOException {
+        if (value.isString()) {
+            output.writeByte(1);
+            output.writeUTF(value.asString());
+            return;
+        }
+        String hex = value.getString("hex", (String) null);
+        Color color = hex != null ? Color.valueOf(hex) : new Color(value.getFloat("r", 0.0f), value.getFloat("g", 0.0f), value.getFloat("b", 0.0f), value.getFloat("a", 1.0f));
+        output.writeByte(0);
+        output.writeFloat(color.r);
+        output.writeFloat(color.g);
+        output.writeFloat(color.b);
+        output.writeFloat(color.a);
+    }
+
+    private static void writeDrawable(JsonValue entry, String field, DataOutputStream output) throws IOException {
+        JsonValue value = entry.get(field);
+        if (value == null || !value.isString() || entry.size != 1) {
+            throw new GdxRuntimeException("Only a named " + field + " is supported for drawable: " + entry.name);
+        }
+        output.writeUTF(value.asString());
+    }
+
+    private void writeStyle(int type, JsonValue entry, DataOutputStream output) throws IOException {
+        Class styleType = Skin.defaultTagClasses[type];
+        OrderedMap<String, JsonValue> fields = new OrderedMap<>();
+        String parentName = entry.getString("parent", (String) null);
+        if (parentName != null) {
+            OrderedMap<String, JsonValue> parent = findParent(styleType, parentName);
+            if (parent != null) {
+                fields.putAll(parent);
+            } else {
+                throw new GdxRuntimeException("Unable to find parent resource with name: " + parentName);
+            }
+        }
+        for (JsonValue field = entry.child; field != null; field = field.next) {
+            if (!field.name.equals("parent")) {
+                if (field.isNull()) {
+                    fields.remove(field.name);
+                } else {
+                    fields.put(field.name, field);
+                }
+            }
+        }
+        ObjectMap<String, OrderedMap<String, JsonValue>> named = this.styles.get(styleType);
+        if (named == null) {
+            named = new ObjectMap<>();
+            this.styles.put(styleType, named);
+        }
+        named.put(entry.name, fields);
+        Object[] schema = SkinIO.styleFields[type];
+        ObjectMap.Entries<String, JsonValue> it = fields.entries().iterator();
+        while (it.hasNext()) {
+            ObjectMap.Entry<String, JsonValue> field2 = it.next();
+            int index = fieldIndex(schema, (String) field2.key);
+            if (index != -1) {
+                JsonValue value = (JsonValue) field2.value;
+                Class fieldType = (Class) schema[(index * 2) + 1];
+                output.writeByte(index);
+                if (fieldType == Float.TYPE) {
+                    output.writeFloat(value.asFloat());
+                } else if (fieldType == Color.class) {
+                    writeColor(value, output);
+                } else if (value.isString()) {
+                    output.writeUTF(value.asString());
+                } else {
+                    throw new GdxRuntimeException("Only named references are supported for " + styleType.getSimpleName() + "." + ((String) field2.key) + ": " + entry.name);
+                }
+            } else {
+                throw new GdxRuntimeException("Unknown field " + ((String) field2.key) + " for " + styleType.getSimpleName() + ": " + entry.name);
+            }
+        }
+        output.writeByte(255);
+    }
+
+    private OrderedMap<String, JsonValue> findParent(Class type, String name) {
+        while (type != Object.class) {
+            ObjectMap<String, OrderedMap<String, JsonValue>> named = this.styles.get(type);
+            if (named != null && named.containsKey(name)) {
+                return named.get(name);
+            }
+            type = type.getSuperclass();
+        }
+        return null;
+    }
+
+    private static int fieldIndex(Object[] schema, String name) {
+        for (int i = 0; i < schema.length; i += 2) {
+            if (schema[i].equals(name)) {
+                return i / 2;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,716 @@
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.scenes.scene2d.ui.Button;
+import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
+import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
+import com.badlogic.gdx.scenes.scene2d.ui.ImageTextButton;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.List;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.SelectBox;
+import com.badlogic.gdx.scenes.scene2d.ui.Slider;
+import com.badlogic.gdx.scenes.scene2d.ui.SplitPane;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.scenes.scene2d.ui.TextField;
+import com.badlogic.gdx.scenes.scene2d.ui.TextTooltip;
+import com.badlogic.gdx.scenes.scene2d.ui.Touchpad;
+import com.badlogic.gdx.scenes.scene2d.ui.Tree;
+import com.badlogic.gdx.scenes.scene2d.ui.Window;
+import com.badlogic.gdx.scenes.scene2d.utils.BaseDrawable;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.NinePatchDrawable;
+import com.badlogic.gdx.scenes.scene2d.utils.SpriteDrawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TiledDrawable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+public class SkinIO {
+    static final int BITMAP_FONT = 0;
+    static final Object[] BUTTON = {"up", Drawable.class, "down", Drawable.class, "over", Drawable.class, "focused", Drawable.class, "checked", Drawable.class, "checkedOver", Drawable.class, "checkedFocused", Drawable.class, "disabled", Drawable.class, "pressedOffsetX", Float.TYPE, "pressedOffsetY", Float.TYPE, "unpressedOffsetX", Float.TYPE, "unpressedOffsetY", Float.TYPE, "checkedOffsetX", Float.TYPE, "checkedOffsetY", Float.TYPE};
+    static final Object[] CHECK_BOX;
+    static final int COLOR = 1;
+    static final int COLOR_REFERENCE = 1;
+    static final int COLOR_VALUE = 0;
+    public static final String EXTENSION = "skb";
+    static final Object[] IMAGE_BUTTON;
+    static final Object[] IMAGE_TEXT_BUTTON;
+    static final Object[] LABEL = {"font", BitmapFont.class, "fontColor", Color.class, "background", Drawable.class};
+    static final Object[] LIST = {"font", BitmapFont.class, "fontColorSelected", Color.class, "fontColorUnselected", Color.class, "selection", Drawable.class, "down", Drawable.class, "over", Drawable.class, "background", Drawable.class};
+    static final int MAGIC = 1397440049;
+    static final int NINE_PATCH_DRAWABLE = 3;
+    static final Object[] PROGRESS_BAR = {"background", Drawable.class, "disabledBackground", Drawable.class, "knob", Drawable.class, "disabledKnob", Drawable.class, "knobBefore", Drawable.class, "knobAfter", Drawable.class, "disabledKnobBefore", Drawable.class, "disabledKnobAfter", Drawable.class};
+    static final Object[] SCROLL_PANE = {"background", Drawable.class, "corner", Drawable.class, "hScroll", Drawable.class, "hScrollKnob", Drawable.class, "vScroll", Drawable.class, "vScrollKnob", Drawable.class};
+    static final Object[] SELECT_BOX = {"font", BitmapFont.class, "fontColor", Color.class, "disabledFontColor", Color.class, "background", Drawable.class, "scrollStyle", ScrollPane.ScrollPaneStyle.class, "listStyle", List.ListStyle.class, "backgroundOver", Drawable.class, "backgroundOpen", Drawable.class, "backgroundDisabled", Drawable.class};
+    static final Object[] SLIDER;
+    static final Object[] SPLIT_PANE = {"handle", Drawable.class};
+    static final int SPRITE_DRAWABLE = 4;
+    static final int STYLE_END = 255;
+    static final Object[] TEXT_BUTTON;
+    static final Object[] TEXT_FIELD = {"font", BitmapFont.class, "fontColor", Color.class, "focusedFontColor", Color.class, "disabledFontColor", Color.class, "background", Drawable.class, "focusedBackground", Drawable.class, "disabledBackground", Drawable.class, "cursor", Drawable.class, "selection", Drawable.class, "messageFont", BitmapFont.class, "messageFontColor", Color.class};
+    static final Object[] TEXT_TOOLTIP = {"label", Label.LabelStyle.class, "background", Drawable.class, "wrapWidth", Float.TYPE};
+    static final int TEXTURE_REGION_DRAWABLE = 5;
+    static final int TILED_DRAWABLE = 6;
+    static final int TINTED_DRAWABLE = 2;
+    static final Object[] TOUCHPAD = {"background", Drawable.class, "knob", Drawable.class};
+    static final Object[] TREE = {"plus", Drawable.class, "minus", Drawable.class, "plusOver", Drawable.class, "minusOver", Drawable.class, "over", Drawable.class, "selection", Drawable.class, "background", Drawable.class};
+    static final int VERSION = 1;
+    static final Object[] WINDOW = {"background", Drawable.class, "titleFont", BitmapFont.class, "titleFontColor", Color.class, "stageBackground", Drawable.class};
+    static final Object[][] styleFields;
+
+    static {
+        Object[] objArr = BUTTON;
+        Object[] objArr2 = {"font", BitmapFont.class, "fontColor", Color.class, "downFontColor", Color.class, "overFontColor", Color.class, "checkedFontColor", Color.class, "checkedOverFontColor", Color.class, "disabledFontColor", Color.class};
+        TEXT_BUTTON = concat(objArr, objArr2);
+        Object[] image = {"imageUp", Drawable.class, "imageDown", Drawable.class, "imageOver", Drawable.class, "imageChecked", Drawable.class, "imageCheckedOver", Drawable.class, "imageDisabled", Drawable.class};
+        CHECK_BOX = concat(TEXT_BUTTON, new Object[]{"checkboxOn", Drawable.class, "checkboxOff", Drawable.class, "checkboxOnOver", Drawable.class, "checkboxOver", Drawable.class, "checkboxOnDisabled", Drawable.class, "checkboxOffDisabled", Drawable.class});
+        IMAGE_BUTTON = concat(BUTTON, image);
+        IMAGE_TEXT_BUTTON = concat(TEXT_BUTTON, image);
+        SLIDER = concat(PROGRESS_BAR, new Object[]{"knobOver", Drawable.class, "knobDown", Drawable.class});
+        styleFields = new Object[][]{null, null, null, null, null, null, null, BUTTON, CHECK_BOX, IMAGE_BUTTON, IMAGE_TEXT_BUTTON, LABEL, LIST, PROGRESS_BAR, SCROLL_PANE, SELECT_BOX, SLIDER, SPLIT_PANE, TEXT_BUTTON, TEXT_FIELD, TEXT_TOOLTIP, TOUCHPAD, TREE, WINDOW};
+    }
+
+    private static Object[] concat(Object[] a, Object[] b) {
+        Object[] result = new Object[(a.length + b.length)];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    static int typeId(Class type) {
+        Class[] types = Skin.defaultTagClasses;
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static void load(Skin skin, FileHandle file) {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(file.read(), 4096));
+        try {
+            if (input.readInt() == MAGIC) {
+                int version = input.readInt();
+                if (version != VERSION) {
+                    throw new GdxRuntimeException("Compiled skin file version " + version + " does not match " + VERSION + ", recompile it: " + file);
+                }
+                int sections = input.readInt();
+                for (int i = 0; i < sections; i++) {
+                    readSection(skin, file, input);
+                }
+                return;
+            }
+            throw new GdxRuntimeException("Not a compiled skin file: " + file);
+        } catch (IOException ex) {
+            throw new GdxRuntimeException("Error reading compiled skin file: " + file, ex);
+        } finally {
+            StreamUtils.closeQuietly(input);
+        }
+    }
+
+    private static void readSection(Skin skin, FileHandle file, DataInputStream input) throws IOException {
+        Object object;
+        int type = input.readUnsignedByte();
+        Class[] clsArr = Skin.defaultTagClasses;
+        if (type < clsArr.length) {
+            Class resourceType = clsArr[type];
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                String name = input.readUTF();
+                switch (type) {
+                    case 0:
+                        object = skin.loadFont(file, input.readUTF(), input.readInt(), input.readBoolean(), input.readBoolean());
+                        break;
+                    case 1:
+                        object = readColor(skin, input);
+                        break;
+                    case 2:
+                        String drawableName = input.readUTF();
+                        Color color = readColor(skin, input);
+                        Drawable drawable = skin.newDrawable(drawableName, color);
+                        if (drawable instanceof BaseDrawable) {
+                            ((BaseDrawable) drawable).setName(name + " (" + drawableName + ", " + color + ")");
+                        }
+                        skin.add(name, drawable, Drawable.class);
+                        continue;
+                    case 3:
+                        object = new NinePatchDrawable(skin.getPatch(input.readUTF()));
+                        break;
+                    case 4:
+                        object = new SpriteDrawable(skin.getSprite(input.readUTF()));
+                        break;
+                    case 5:
+                        object = new TextureRegionDrawable(skin.getRegion(input.readUTF()));
+                        break;
+                    case 6:
+                        object = new TiledDrawable(skin.getRegion(input.readUTF()));
+                        break;
+                    default:
+                        object = readStyle(skin, type, input);
+                        break;
+                }
+                skin.add(name, object, resourceType);
+                if (type >= 3 && type <= 6) {
+                    skin.add(name, object, Drawable.class);
+                }
+            }
+            return;
+        }
+        throw new GdxRuntimeException("Unknown compiled skin section: " + type);
+    }
+
+    private static Color readColor(Skin skin, DataInputStream input) throws IOException {
+        if (input.readUnsignedByte() == 1) {
+            return skin.getColor(input.readUTF());
+        }
+        return new Color(input.readFloat(), input.readFloat(), input.readFloat(), input.readFloat());
+    }
+
+    private static Object readStyle(Skin skin, int type, DataInputStream input) throws IOException {
+        Object value;
+        Object style = newStyle(type);
+        Object[] fields = styleFields[type];
+        while (true) {
+            int field = input.readUnsignedByte();
+            if (field == 255) {
+                return style;
+            }
+            int index = field * 2;
+            if (index < fields.length) {
+                Class fieldType = (Class) fields[index + 1];
+                if (fieldType == Float.TYPE) {
+                    value = Float.valueOf(input.readFloat());
+                } else if (fieldType == Color.class) {
+                    value = readColor(skin, input);
+                } else {
+                    value = skin.get(input.readUTF(), fieldType);
+                }
+                setField(style, type, field, value);
+            } else {
+                throw new GdxRuntimeException("Unknown field " + field + " for " + Skin.defaultTagClasses[type].getName());
+            }
+        }
+    }
+
+    static Object newStyle(int type) {
+        switch (type) {
+            case 7:
+                return new Button.ButtonStyle();
+            case 8:
+                return new CheckBox.CheckBoxStyle();
+            case 9:
+                return new ImageButton.ImageButtonStyle();
+            case 10:
+                return new ImageTextButton.ImageTextButtonStyle();
+            case 11:
+                return new Label.LabelStyle();
+            case 12:
+                return new List.ListStyle();
+            case 13:
+                return new ProgressBar.ProgressBarStyle();
+            case 14:
+                return new ScrollPane.ScrollPaneStyle();
+            case 15:
+                return new SelectBox.SelectBoxStyle();
+            case 16:
+                return new Slider.SliderStyle();
+            case 17:
+                return new SplitPane.SplitPaneStyle();
+            case 18:
+                return new TextButton.TextButtonStyle();
+            case 19:
+                return new TextField.TextFieldStyle();
+            case 20:
+                return new TextTooltip.TextTooltipStyle();
+            case 21:
+                return new Touchpad.TouchpadStyle();
+            case 22:
+                return new Tree.TreeStyle();
+            case 23:
+                return new Window.WindowStyle();
+            default:
+                throw new GdxRuntimeException("Not a style type: " + type);
+        }
+    }
+
+    static void setField(Object style, int type, int field, Object value) {
+        switch (type) {
+            case 7:
+                setButton((Button.ButtonStyle) style, field, value);
+                return;
+            case 8:
+                setCheckBox((CheckBox.CheckBoxStyle) style, field, value);
+                return;
+            case 9:
+                setImageButton((ImageButton.ImageButtonStyle) style, field, value);
+                return;
+            case 10:
+                setImageTextButton((ImageTextButton.ImageTextButtonStyle) style, field, value);
+                return;
+            case 11:
+                setLabel((Label.LabelStyle) style, field, value);
+                return;
+            case 12:
+                setList((List.ListStyle) style, field, value);
+                return;
+            case 13:
+                setProgressBar((ProgressBar.ProgressBarStyle) style, field, value);
+                return;
+            case 14:
+                setScrollPane((ScrollPane.ScrollPaneStyle) style, field, value);
+                return;
+            case 15:
+                setSelectBox((SelectBox.SelectBoxStyle) style, field, value);
+                return;
+            case 16:
+                setSlider((Slider.SliderStyle) style, field, value);
+                return;
+            case 17:
+                ((SplitPane.SplitPaneStyle) style).handle = (Drawable) value;
+                return;
+            case 18:
+                setTextButton((TextButton.TextButtonStyle) style, field, value);
+                return;
+            case 19:
+                setTextField((TextField.TextFieldStyle) style, field, value);
+                return;
+            case 20:
+                setTextTooltip((TextTooltip.TextTooltipStyle) style, field, value);
+                return;
+            case 21:
+                setTouchpad((Touchpad.TouchpadStyle) style, field, value);
+                return;
+            case 22:
+                setTree((Tree.TreeStyle) style, field, value);
+                return;
+            case 23:
+                setWindow((Window.WindowStyle) style, field, value);
+                return;
+            default:
+                return;
+        }
+    }
+
+    private static void setButton(Button.ButtonStyle style, int field, Object value) {
+        switch (field) {
+            case 0:
+                style.up = (Drawable) value;
+                return;
+            case 1:
+                style.down = (Drawable) value;
+                return;
+            case 2:
+                style.over = (Drawable) value;
+                return;
+            case 3:
+                style.focused = (Drawable) value;
+                return;
+            case 4:
+                style.checked = (Drawable) value;
+                return;
+            case 5:
+                style.checkedOver = (Drawable) value;
+                return;
+            case 6:
+                style.checkedFocused = (Drawable) value;
+                return;
+            case 7:
+                style.disabled = (Drawable) value;
+                return;
+            case 8:
+                style.pressedOffsetX = ((Float) value).floatValue();
+                return;
+            case 9:
+                style.pressedOffsetY = ((Float) value).floatValue();
+                return;
+            case 10:
+                style.unpressedOffsetX = ((Float) value).floatValue();
+                return;
+            case 11:
+                style.unpressedOffsetY = ((Float) value).floatValue();
+                return;
+            case 12:
+                style.checkedOffsetX = ((Float) value).floatValue();
+                return;
+            case 13:
+                style.checkedOffsetY = ((Float) value).floatValue();
+                return;
+            default:
+                return;
+        }
+    }
+
+    private static void setTextButton(TextButton.TextButtonStyle style, int field, Object value) {
+        switch (field) {
+            case 14:
+                style.font = (BitmapFont) value;
+                return;
+            case 15:
+                style.fontColor = (Color) value;
+                return;
+            case 16:
+                style.downFontColor = (Color) value;
+                return;
+            case 17:
+                style.overFontColor = (Color) value;
+                return;
+            case 18:
+                style.checkedFontColor = (Color) value;
+                return;
+            case 19:
+                style.checkedOverFontColor = (Color) value;
+                return;
+            case 20:
+                style.disabledFontColor = (Color) value;
+                return;
+            default:
+                setButton(style, field, value);
+                return;
+        }
+    }
+
+    private static void setCheckBox(CheckBox.CheckBoxStyle style, int field, Object value) {
+        switch (field) {
+            case 21:
+                style.checkboxOn = (Drawable) value;
+                return;
+            case 22:
+                style.checkboxOff = (Drawable) value;
+                return;
+            case 23:
+                style.checkboxOnOver = (Drawable) value;
+                return;
+            case 24:
+                style.checkboxOver = (Drawable) value;
+                return;
+            case 25:
+                style.checkboxOnDisabled = (Drawable) value;
+                return;
+            case 26:
+                style.checkboxOffDisabled = (Drawable) value;
+                return;
+            default:
+                setTextButton(style, field, value);
+                return;
+        }
+    }
+
+    private static void setImageButton(ImageButton.ImageButtonStyle style, int field, Object value) {
+        switch (field) {
+            case 14:
+                style.imageUp = (Drawable) value;
+                return;
+            case 15:
+                style.imageDown = (Drawable) value;
+                return;
+            case 16:
+                style.imageOver = (Drawable) value;
+                return;
+            case 17:
+                style.imageChecked = (Drawable) value;
+                return;
+            case 18:
+                style.imageCheckedOver = (Drawable) value;
+                return;
+            case 19:
+                style.imageDisabled = (Drawable) value;
+                return;
+            default:
+                setButton(style, field, value);
+                return;
+        }
+    }
+
+    private static void setImageTextButton(ImageTextButton.ImageTextButtonStyle style, int field, Object value) {
+        switch (field) {
+            case 21:
+                style.imageUp = (Drawable) value;
+                return;
+            case 22:
+                style.imageDown = (Drawable) value;
+                return;
+            case 23:
+                style.imageOver = (Drawable) value;
+                return;
+            case 24:
+                style.imageChecked = (Drawable) value;
+                return;
+            case 25:
+                style.imageCheckedOver = (Drawable) value;
+                return;
+            case 26:
+                style.imageDisabled = (Drawable) value;
+                return;
+            default:
+                setTextButton(style, field, value);
+                return;
+        }
+    }
+
+    private static void setLabel(Label.LabelStyle style, int field, Object value) {
+        switch (field) {
+            case 0:
+                style.font = (BitmapFont) value;
+                return;
+            case 1:
+                style.fontColor = (Color) value;
+                return;
+            case 2:
+                style.background = (Drawable) value;
+                return;
+            default:
+                return;
+        }
+    }
+
+    private static void setList(List.ListStyle style, int field, Object value) {
+        switch (field) {
+            case 0:
+                style.font = (BitmapFont) value;
+                return;
+            case 1:
+                style.fontColorSelected = (Color) value;
+                return;
+            case 2:
+                style.fontColorUnselected = (Color) value;
+                return;
+            case 3:
+                style.selection = (Drawable) value;
+                return;
+            case 4:
+                style.down = (Drawable) value;
+                return;
+            case 5:
+                style.over = (Drawable) value;
+                return;
+            case 6:
+                style.background = (Drawable) value;
+                return;
+            default:
+                return;
+        }
+    }
+
+    private static void setProgressBar(ProgressBar.ProgressBarStyle style, int field, Object value) {
+        switch (field) {
+            case 0:
+                style.background = (Drawable) value;
+                return;
+            case 1:
+                style.disabledBackground = (Drawable) value;
+                return;
+            case 2:
+                style.knob = (Drawable) value;
+                return;
+            case 3:
+                style.disabledKnob = (Drawable) value;
+                return;
+            case 4:
+                style.knobBefore = (Drawable) value;
+                return;
+            case 5:
+                style.knobAfter = (Drawable) value;
+                return;
+            case 6:
+                style.disabledKnobBefore = (Drawable) value;
+                return;
+            case 7:
+                style.disabledKnobAfter = (Drawable) value;
+                return;
+            default:
+                return;
+        }
+    }
+
+    private static void setSlider(Slider.SliderStyle style, int field, Object value) {
+        switch (field) {
+            case 8:
+                style.knobOver = (Drawable) value;
+                return;
+            case 9:
+                style.knobDown = (Drawable) value;
+                return;
+            default:
+                setProgressBar(style, field, value);
+                return;
+        }
+    }
+
+    private static void setScrollPane(ScrollPane.ScrollPaneStyle style, int field, Object value) {
+        switch (field) {
+            case 0:
+                style.background = (Drawable) value;
+                return;
+            case 1:
+                style.corner = (Drawable) value;
+                return;
+            case 2:
+                style.hScroll = (Drawable) value;
+                return;
+            case 3:
+                style.hScrollKnob = (Drawable) value;
+                return;
+            case 4:
+                style.vScroll = (Drawable) value;
+                return;
+            case 5:
+                style.vScrollKnob = (Drawable) value;
+                return;
+            default:
+                return;
+        }
+    }
+
+    private static void setSelectBox(SelectBox.SelectBoxStyle style, int field, Object value) {
+        switch (field) {
+            case 0:
+                style.font = (BitmapFont) value;
+                return;
+            case 1:
+                style.fontColor = (Color) value;
+                return;
+            case 2:
+                style.disabledFontColor = (Color) value;
+                return;
+            case 3:
+                style.background = (Drawable) value;
+                return;
+            case 4:
+                style.scrollStyle = (ScrollPane.ScrollPaneStyle) value;
+                return;
+            case 5:
+                style.listStyle = (List.ListStyle) value;
+                return;
+            case 6:
+                style.backgroundOver = (Drawable) value;
+                return;
+            case 7:
+                style.backgroundOpen = (Drawable) value;
+                return;
+            case 8:
+                style.backgroundDisabled = (Drawable) value;
+                return;
+            default:
+                return;
+        }
+    }
+
+    private static void setTextField(TextField.TextFieldStyle style, int field, Object value) {
+        switch (field) {
+            case 0:
+                style.font = (BitmapFont) value;
+                return;
+            case 1:
+                style.fontColor = (Color) value;
+                return;
+            case 2:
+                style.focusedFontColor = (Color) value;
+                return;
+            case 3:
+                style.disabledFontColor = (Color) value;
+                return;
+            case 4:
+                style.background = (Drawable) value;
+                return;
+            case 5:
+                style.focusedBackground = (Drawable) value;
+                return;
+            case 6:
+                style.disabledBackground = (Drawable) value;
+                return;
+            case 7:
+                style.cursor = (Drawable) value;
+                return;
+            case 8:
+                style.selection = (Drawable) value;
+                return;
+            case 9:
+                style.messageFont = (BitmapFont) value;
+                return;
+            case 10:
+                style.messageFontColor = (Color) value;
+                return;
+            default:
+                return;
+        }
+    }
+
+    private static void setTextTooltip(TextTooltip.TextTooltipStyle style, int field, Object value) {
+        switch (field) {
+            case 0:
+                style.label = (Label.LabelStyle) value;
+                return;
+            case 1:
+                style.background = (Drawable) value;
+                return;
+            case 2:
+                style.wrapWidth = ((Float) value).floatValue();
+                return;
+            default:
+                return;
+        }
+    }
+
+    private static void setTouchpad(Touchpad.TouchpadStyle style, int field, Object value) {
+        if (field == 0) {
+            style.background = (Drawable) value;
+        } else if (field == 1) {
+            style.knob = (Drawable) value;
+        }
+    }
+
+    private static void setTree(Tree.TreeStyle style, int field, Object value) {
+        switch (field) {
+            case 0:
+                style.plus = (Drawable) value;
+                return;
+            case 1:
+                style.minus = (Drawable) value;
+                return;
+            case 2:
+                style.plusOver = (Drawable) value;
+                return;
+            case 3:
+                style.minusOver = (Drawable) value;
+                return;
+            case 4:
+                style.over = (Drawable) value;
+                return;
+            case 5:
+                style.selection = (Drawable) value;
+                return;
+            case 6:
+                style.background = (Drawable) value;
+                return;
+            default:
+                return;
+        }
+    }
+
+    private static void setWindow(Window.WindowStyle style, int field, Object value) {
+        switch (field) {
+            case 0:
+                style.background = (Drawable) value;
+                return;
+            case 1:
+                style.titleFont = (BitmapFont) value;
+                return;
+            case 2:
+                style.titleFontColor = (Color) value;
+                return;
+            case 3:
+                style.stageBackground = (Drawable) value;
+                return;
+            default:
+                return;
+        }
+    }
+}
@@ -5,6 +5,8 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Value;
@@ -66,6 +68,7 @@ public class Table extends WidgetGroup {
     Drawable background;
     private final Cell cellDefaults;
     private final Array<Cell> cells;
+    private boolean cellsInvalid;
     private boolean clip;
     private final Array<Cell> columnDefaults;
     private float[] columnMinWidth;
@@ -228,7 +231,76 @@ public class Table extends WidgetGroup {
 
     public void invalidate() {
         this.sizeInvalid = true;
+        Array<Cell> cells2 = this.cells;
+        int n = cells2.size;
+        for (int i = 0; i < n; i++) {
+            cells2.get(i).measureInvalid = true;
+        }
+        super.invalidate();
+    }
+
+    /* access modifiers changed from: protected */
+    public void childInvalidated(Actor child) {
+        Stage stage;
+        if (this.sizeInvalid || (stage = getStage()) == null) {
+            invalidateHierarchy();
+            return;
+        }
+        Cell cell = getCell(child);
+        if (cell == null) {
+            invalidateHierarchy();
+            return;
+        }
+        cell.measureInvalid = true;
+        if (!this.cellsInvalid) {
+            this.cellsInvalid = true;
+            stage.invalidateLayout(this);
+        }
+    }
+
+    private boolean validateCells() {
+        this.cellsInvalid = false;
+        if (this.sizeInvalid) {
+            invalidateHierarchy();
+            return true;
+        }
+        boolean changed = false;
+        Array<Cell> cells2 = this.cells;
+        int n = cells2.size;
+        for (int i = 0; i < n; i++) {
+            Cell c = cells2.get(i);
+            if (c.measureInvalid && c.measure()) {
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return false;
+        }
+        float minWidth = this.tableMinWidth;
+        float minHeight = this.tableMinHeight;
+        float prefWidth = this.tablePrefWidth;
+        float prefHeight = this.tablePrefHeight;
+        computeSize();
         super.invalidate();
+        if (minWidth == this.tableMinWidth && minHeight == this.tableMinHeight && prefWidth == this.tablePrefWidth && prefHeight == this.tablePrefHeight) {
+            return false;
+        }
+        Group parent = getParent();
+        if (parent instanceof WidgetGroup) {
+            ((WidgetGroup) parent).childInvalidated(this);
+            return true;
+        } else if (!(parent instanceof Layout)) {
+            return false;
+        } else {
+            ((Layout) parent).invalidateHierarchy();
+            return true;
+        }
+    }
+
+    public void validate() {
+        if (!this.cellsInvalid || !validateCells()) {
+            super.validate();
+        }
     }
 
     public <T extends Actor> Cell<T> add(T actor) {
@@ -465,6 +537,9 @@ public class Table extends WidgetGroup {
     }
 
     public float getPrefWidth() {
+        if (this.cellsInvalid) {
+            validateCells();
+        }
         if (this.sizeInvalid) {
             computeSize();
         }
@@ -477,6 +552,9 @@ public class Table extends WidgetGroup {
     }
 
     public float getPrefHeight() {
+        if (this.cellsInvalid) {
+            validateCells();
+        }
         if (this.sizeInvalid) {
             computeSize();
         }
@@ -489,6 +567,9 @@ public class Table extends WidgetGroup {
     }
 
     public float getMinWidth() {
+        if (this.cellsInvalid) {
+            validateCells();
+        }
         if (this.sizeInvalid) {
             computeSize();
         }
@@ -496,6 +577,9 @@ public class Table extends WidgetGroup {
     }
 
     public float getMinHeight() {
+        if (this.cellsInvalid) {
+            validateCells();
+        }
         if (this.sizeInvalid) {
             computeSize();
         }
@@ -966,16 +1050,19 @@ public class Table extends WidgetGroup {
             c.computedPadRight = c.padRight.get(a) + (column + colspan == columns2 ? 0.0f : spaceRight);
             c.computedPadBottom = c.padBottom.get(a) + (row == rows2 + -1 ? 0.0f : c.spaceBottom.get(a));
             float spaceRightLast2 = spaceRight;
-            float prefWidth = c.prefWidth.get(a);
-            float prefHeight = c.prefHeight.get(a);
+            if (c.measureInvalid) {
+                c.measure();
+            }
+            float prefWidth = c.computedPrefWidth;
+            float prefHeight = c.computedPrefHeight;
             float f6 = spaceRight;
-            float minWidth = c.minWidth.get(a);
+            float minWidth = c.computedMinWidth;
             float spaceRightLast3 = spaceRightLast2;
-            float minHeight = c.minHeight.get(a);
+            float minHeight = c.computedMinHeight;
             int rows3 = rows2;
-            float maxWidth = c.maxWidth.get(a);
+            float maxWidth = c.computedMaxWidth;
             int columns3 = columns2;
-            float maxHeight = c.maxHeight.get(a);
+            float maxHeight = c.computedMaxHeight;
             if (prefWidth < minWidth) {
                 prefWidth = minWidth;
             }
@@ -1091,11 +1178,11 @@ public class Table extends WidgetGroup {
             } else {
                 int column3 = c4.column;
                 Actor a2 = c4.actor;
-                float minWidth2 = c4.minWidth.get(a2);
+                float minWidth2 = c4.computedMinWidth;
                 uniformMinWidth = uniformMinWidth2;
-                float prefWidth2 = c4.prefWidth.get(a2);
+                float prefWidth2 = c4.computedPrefWidth;
                 cells2 = cells3;
-                float maxWidth2 = c4.maxWidth.get(a2);
+                float maxWidth2 = c4.computedMaxWidth;
                 if (prefWidth2 < minWidth2) {
                     prefWidth2 = minWidth2;
                 }
@@ -1280,17 +1367,17 @@ public class Table extends WidgetGroup {
                 spannedWeightedWidth += columnPrefWidth2[ii2];
             }
             float weightedHeight = rowWeightedHeight2[row];
-            float prefWidth = c2.prefWidth.get(a);
+            float prefWidth = c2.computedPrefWidth;
             float[] rowWeightedHeight4 = rowWeightedHeight2;
-            float prefHeight = c2.prefHeight.get(a);
+            float prefHeight = c2.computedPrefHeight;
             float[] columnWeightedWidth3 = columnPrefWidth2;
-            float minWidth = c2.minWidth.get(a);
+            float minWidth = c2.computedMinWidth;
             float[] expandWidth3 = expandWidth2;
-            float minHeight = c2.minHeight.get(a);
+            float minHeight = c2.computedMinHeight;
             int columns4 = columns3;
-            float maxWidth = c2.maxWidth.get(a);
+            float maxWidth = c2.computedMaxWidth;
             float hpadding2 = hpadding;
-            float maxHeight = c2.maxHeight.get(a);
+            float maxHeight = c2.computedMaxHeight;
             if (prefWidth < minWidth) {
                 prefWidth = minWidth;
             }
@@ -1468,8 +1555,8 @@ public class Table extends WidgetGroup {
                 columnWidth3 = columnWidth4;
                 float f6 = fillX;
                 rows3 = rows2;
-                c4.actorWidth = Math.max(spannedCellWidth2 * fillX, c4.minWidth.get(c4.actor));
-                float maxWidth2 = c4.maxWidth.get(c4.actor);
+                c4.actorWidth = Math.max(spannedCellWidth2 * fillX, c4.computedMinWidth);
+                float maxWidth2 = c4.computedMaxWidth;
                 if (maxWidth2 > 0.0f) {
                     c4.actorWidth = Math.min(c4.actorWidth, maxWidth2);
                 }
@@ -1479,8 +1566,8 @@ public class Table extends WidgetGroup {
                 rows3 = rows2;
             }
             if (fillY > 0.0f) {
-                c4.actorHeight = Math.max(((rowHeight3[c4.row] * fillY) - c4.computedPadTop) - c4.computedPadBottom, c4.minHeight.get(c4.actor));
-                float maxHeight2 = c4.maxHeight.get(c4.actor);
+                c4.actorHeight = Math.max(((rowHeight3[c4.row] * fillY) - c4.computedPadTop) - c4.computedPadBottom, c4.computedMinHeight);
+                float maxHeight2 = c4.computedMaxHeight;
                 if (maxHeight2 > 0.0f) {
                     c4.actorHeight = Math.min(c4.actorHeight, maxHeight2);
                 }
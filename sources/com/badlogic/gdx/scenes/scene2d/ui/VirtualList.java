@@ -0,0 +1,256 @@
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+
+public class VirtualList<T> extends WidgetGroup {
+    private final Adapter<T> adapter;
+    private final Array<Actor> freeRows;
+    final Array<T> items;
+    private float lastVisibleBottom;
+    private float lastVisibleTop;
+    private final FloatArray offsets;
+    private boolean offsetsDirty;
+    private float rowHeight;
+    private final IntMap<Actor> rows;
+    private final IntArray tempIndices;
+
+    public interface Adapter<T> {
+        void bindRow(Actor actor, int i, T t);
+
+        float getRowHeight(int i, T t);
+
+        Actor newRow();
+    }
+
+    public VirtualList(Adapter<T> adapter2) {
+        this(adapter2, 0.0f);
+    }
+
+    public VirtualList(Adapter<T> adapter2, float rowHeight2) {
+        this.freeRows = new Array<>();
+        this.items = new Array<>();
+        this.offsets = new FloatArray();
+        this.offsetsDirty = true;
+        this.rows = new IntMap<>();
+        this.tempIndices = new IntArray();
+        if (adapter2 != null) {
+            this.adapter = adapter2;
+            this.rowHeight = rowHeight2;
+            return;
+        }
+        throw new IllegalArgumentException("adapter cannot be null.");
+    }
+
+    public Adapter<T> getAdapter() {
+        return this.adapter;
+    }
+
+    public float getRowHeight() {
+        return this.rowHeight;
+    }
+
+    public void setRowHeight(float rowHeight2) {
+        this.rowHeight = rowHeight2;
+        itemsChanged();
+    }
+
+    public void setItems(T... newItems) {
+        if (newItems != null) {
+            this.items.clear();
+            this.items.addAll(newItems);
+            itemsChanged();
+            return;
+        }
+        throw new IllegalArgumentException("newItems cannot be null.");
+    }
+
+    public void setItems(Array<? extends T> newItems) {
+        if (newItems != null) {
+            if (newItems != this.items) {
+                this.items.clear();
+                this.items.addAll(newItems);
+            }
+            itemsChanged();
+            return;
+        }
+        throw new IllegalArgumentException("newItems cannot be null.");
+    }
+
+    public void clearItems() {
+        this.items.clear();
+        itemsChanged();
+    }
+
+    public Array<T> getItems() {
+        return this.items;
+    }
+
+    public void itemsChanged() {
+        this.offsetsDirty = true;
+        recycleAll();
+        invalidateHierarchy();
+    }
+
+    public int getItemIndexAt(float y) {
+        int index = indexAt(getHeight() - y);
+        if (index < 0 || index >= this.items.size) {
+            return -1;
+        }
+        return index;
+    }
+
+    public T getItemAt(float y) {
+        int index = getItemIndexAt(y);
+        if (index == -1) {
+            return null;
+        }
+        return this.items.get(index);
+    }
+
+    public float getRowTop(int index) {
+        return getHeight() - offset(index);
+    }
+
+    public Actor getRow(int index) {
+        return this.rows.get(index);
+    }
+
+    public float getPrefHeight() {
+        return offset(this.items.size);
+    }
+
+    public void layout() {
+        updateRows(true);
+    }
+
+    public void draw(Batch batch, float parentAlpha) {
+        validate();
+        Rectangle area = getCullingArea();
+        if (area != null && !(area.y + area.height == this.lastVisibleTop && area.y == this.lastVisibleBottom)) {
+            updateRows(false);
+        }
+        super.draw(batch, parentAlpha);
+    }
+
+    private void updateRows(boolean rebind) {
+        float visibleBottom;
+        float visibleTop;
+        float height = getHeight();
+        float width = getWidth();
+        Rectangle area = getCullingArea();
+        if (area != null) {
+            visibleTop = area.y + area.height;
+            visibleBottom = area.y;
+        } else {
+            visibleTop = height;
+            visibleBottom = 0.0f;
+        }
+        this.lastVisibleTop = visibleTop;
+        this.lastVisibleBottom = visibleBottom;
+        int n = this.items.size;
+        int first = Math.max(0, indexAt(height - visibleTop));
+        int last = Math.min(n - 1, indexAt(height - visibleBottom));
+        IntArray remove = this.tempIndices;
+        remove.clear();
+        IntMap.Keys keys = this.rows.keys();
+        while (keys.hasNext) {
+            int index = keys.next();
+            if (index < first || index > last) {
+                remove.add(index);
+            }
+        }
+        for (int i = 0; i < remove.size; i++) {
+            Actor row = this.rows.remove(remove.get(i));
+            row.setVisible(false);
+            this.freeRows.add(row);
+        }
+        for (int i2 = first; i2 <= last; i2++) {
+            Actor row2 = this.rows.get(i2);
+            if (row2 == null) {
+                row2 = obtainRow();
+                this.adapter.bindRow(row2, i2, this.items.get(i2));
+                row2.setVisible(true);
+                this.rows.put(i2, row2);
+            } else if (rebind) {
+                this.adapter.bindRow(row2, i2, this.items.get(i2));
+            }
+            float top = offset(i2);
+            float bottom = offset(i2 + 1);
+            row2.setBounds(0.0f, height - bottom, width, bottom - top);
+        }
+    }
+
+    private Actor obtainRow() {
+        if (this.freeRows.size > 0) {
+            return this.freeRows.pop();
+        }
+        Actor row = this.adapter.newRow();
+        addActor(row);
+        return row;
+    }
+
+    private void recycleAll() {
+        IntMap.Values<Actor> it = this.rows.values();
+        while (it.hasNext) {
+            Actor row = it.next();
+            row.setVisible(false);
+            this.freeRows.add(row);
+        }
+        this.rows.clear();
+    }
+
+    /* access modifiers changed from: package-private */
+    public float offset(int index) {
+        float f = this.rowHeight;
+        if (f > 0.0f) {
+            return ((float) index) * f;
+        }
+        updateOffsets();
+        return this.offsets.get(index);
+    }
+
+    private int indexAt(float distance) {
+        float f = this.rowHeight;
+        if (f > 0.0f) {
+            return (int) Math.floor((double) (distance / f));
+        }
+        updateOffsets();
+        float[] offsets2 = this.offsets.items;
+        int low = 0;
+        int high = this.offsets.size - 1;
+        if (distance < 0.0f) {
+            return -1;
+        }
+        while (low < high) {
+            int mid = ((low + high) + 1) >>> 1;
+            if (offsets2[mid] <= distance) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private void updateOffsets() {
+        if (this.offsetsDirty) {
+            FloatArray offsets2 = this.offsets;
+            offsets2.clear();
+            offsets2.ensureCapacity(this.items.size + 1);
+            float total = 0.0f;
+            offsets2.add(0.0f);
+            int n = this.items.size;
+            for (int i = 0; i < n; i++) {
+                total += this.adapter.getRowHeight(i, this.items.get(i));
+                offsets2.add(total);
+            }
+            this.offsetsDirty = false;
+        }
+    }
+}
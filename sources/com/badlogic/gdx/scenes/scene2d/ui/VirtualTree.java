@@ -0,0 +1,254 @@
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import com.badlogic.gdx.utils.Array;
+
+public class VirtualTree<T> extends VirtualList<VirtualTree.Node<T>> {
+    private final Array<Node<T>> rootNodes = new Array<>();
+
+    public VirtualTree(VirtualList.Adapter<Node<T>> adapter) {
+        super(adapter);
+    }
+
+    public VirtualTree(VirtualList.Adapter<Node<T>> adapter, float rowHeight) {
+        super(adapter, rowHeight);
+    }
+
+    public void add(Node<T> node) {
+        insert(this.rootNodes.size, node);
+    }
+
+    public void insert(int index, Node<T> node) {
+        if (node.parent == null && node.tree == null) {
+            this.rootNodes.insert(index, node);
+            node.setTree(this);
+            updateNodes();
+            return;
+        }
+        throw new IllegalArgumentException("node already belongs to a tree.");
+    }
+
+    public void remove(Node<T> node) {
+        Node<T> node2 = node.parent;
+        if (node2 != null) {
+            node2.remove(node);
+        } else if (this.rootNodes.removeValue(node, true)) {
+            node.setTree(null);
+            updateNodes();
+        }
+    }
+
+    public void clearNodes() {
+        int n = this.rootNodes.size;
+        for (int i = 0; i < n; i++) {
+            this.rootNodes.get(i).setTree(null);
+        }
+        this.rootNodes.clear();
+        updateNodes();
+    }
+
+    public Array<Node<T>> getRootNodes() {
+        return this.rootNodes;
+    }
+
+    public Node<T> findNode(T value) {
+        if (value != null) {
+            return findNode(this.rootNodes, value);
+        }
+        throw new IllegalArgumentException("value cannot be null.");
+    }
+
+    static <T> Node<T> findNode(Array<Node<T>> nodes, T value) {
+        int n = nodes.size;
+        for (int i = 0; i < n; i++) {
+            Node<T> node = nodes.get(i);
+            if (value.equals(node.value)) {
+                return node;
+            }
+        }
+        int n2 = nodes.size;
+        for (int i2 = 0; i2 < n2; i2++) {
+            Node<T> found = findNode(nodes.get(i2).children, value);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    public void expandAll() {
+        expandAll(this.rootNodes, true);
+        updateNodes();
+    }
+
+    public void collapseAll() {
+        expandAll(this.rootNodes, false);
+        updateNodes();
+    }
+
+    static <T> void expandAll(Array<Node<T>> nodes, boolean expanded) {
+        int n = nodes.size;
+        for (int i = 0; i < n; i++) {
+            Node<T> node = nodes.get(i);
+            node.expanded = expanded;
+            expandAll(node.children, expanded);
+        }
+    }
+
+    public void updateNodes() {
+        Array<Node<T>> items = this.items;
+        items.clear();
+        addVisible(this.rootNodes, 0);
+        setItems(items);
+    }
+
+    private void addVisible(Array<Node<T>> nodes, int depth) {
+        int n = nodes.size;
+        for (int i = 0; i < n; i++) {
+            Node<T> node = nodes.get(i);
+            node.depth = depth;
+            this.items.add(node);
+            if (node.expanded) {
+                addVisible(node.children, depth + 1);
+            }
+        }
+    }
+
+    public static class Node<T> {
+        final Array<Node<T>> children = new Array<>(0);
+        int depth;
+        boolean expanded;
+        Node<T> parent;
+        VirtualTree<T> tree;
+        T value;
+
+        public Node() {
+        }
+
+        public Node(T value2) {
+            this.value = value2;
+        }
+
+        public void add(Node<T> node) {
+            insert(this.children.size, node);
+        }
+
+        public void insert(int index, Node<T> node) {
+            if (node.parent == null && node.tree == null) {
+                node.parent = this;
+                this.children.insert(index, node);
+                node.setTree(this.tree);
+                childrenChanged();
+                return;
+            }
+            throw new IllegalArgumentException("node already belongs to a tree.");
+        }
+
+        public void remove(Node<T> node) {
+            if (this.children.removeValue(node, true)) {
+                node.parent = null;
+                node.setTree(null);
+                childrenChanged();
+            }
+        }
+
+        public void removeAll() {
+            int n = this.children.size;
+            for (int i = 0; i < n; i++) {
+                Node<T> node = this.children.get(i);
+                node.parent = null;
+                node.setTree(null);
+            }
+            this.children.clear();
+            childrenChanged();
+        }
+
+        private void childrenChanged() {
+            VirtualTree<T> virtualTree = this.tree;
+            if (virtualTree != null && isShown()) {
+                virtualTree.updateNodes();
+            }
+        }
+
+        /* access modifiers changed from: package-private */
+        public void setTree(VirtualTree<T> tree2) {
+            this.tree = tree2;
+            int n = this.children.size;
+            for (int i = 0; i < n; i++) {
+                this.children.get(i).setTree(tree2);
+            }
+        }
+
+        /* access modifiers changed from: package-private */
+        public boolean isShown() {
+            if (!this.expanded) {
+                return false;
+            }
+            for (Node<T> node = this.parent; node != null; node = node.parent) {
+                if (!node.expanded) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public boolean isExpanded() {
+            return this.expanded;
+        }
+
+        public void setExpanded(boolean expanded2) {
+            if (expanded2 != this.expanded) {
+                this.expanded = expanded2;
+                if (this.children.size != 0) {
+                    boolean shown = true;
+                    Node<T> node = this.parent;
+                    while (true) {
+                        if (node == null) {
+                            break;
+                        } else if (!node.expanded) {
+                            shown = false;
+                            break;
+                        } else {
+                            node = node.parent;
+                        }
+                    }
+                    VirtualTree<T> virtualTree = this.tree;
+                    if (virtualTree != null && shown) {
+                        virtualTree.updateNodes();
+                    }
+                }
+            }
+        }
+
+        public void toggle() {
+            setExpanded(!this.expanded);
+        }
+
+        public boolean hasChildren() {
+            return this.children.size > 0;
+        }
+
+        public Array<Node<T>> getChildren() {
+            return this.children;
+        }
+
+        public Node<T> getParent() {
+            return this.parent;
+        }
+
+        public VirtualTree<T> getTree() {
+            return this.tree;
+        }
+
+        public int getDepth() {
+            return this.depth;
+        }
+
+        public T getValue() {
+            return this.value;
+        }
+
+        public void setValue(T value2) {
+            this.value = value2;
+        }
+    }
+}
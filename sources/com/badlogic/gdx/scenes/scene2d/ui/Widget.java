@@ -77,7 +77,9 @@ public class Widget extends Actor implements Layout {
         if (this.layoutEnabled) {
             invalidate();
             Group parent = getParent();
-            if (parent instanceof Layout) {
+            if (parent instanceof WidgetGroup) {
+                ((WidgetGroup) parent).childInvalidated(this);
+            } else if (parent instanceof Layout) {
                 ((Layout) parent).invalidateHierarchy();
             }
         }
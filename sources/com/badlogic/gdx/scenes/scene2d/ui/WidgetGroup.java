@@ -113,11 +113,18 @@ public class WidgetGroup extends Group implements Layout {
     public void invalidateHierarchy() {
         invalidate();
         Group parent = getParent();
-        if (parent instanceof Layout) {
+        if (parent instanceof WidgetGroup) {
+            ((WidgetGroup) parent).childInvalidated(this);
+        } else if (parent instanceof Layout) {
             ((Layout) parent).invalidateHierarchy();
         }
     }
 
+    /* access modifiers changed from: protected */
+    public void childInvalidated(Actor child) {
+        invalidateHierarchy();
+    }
+
     /* access modifiers changed from: protected */
     public void childrenChanged() {
         invalidateHierarchy();
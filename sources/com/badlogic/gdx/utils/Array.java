@@ -492,6 +492,14 @@ public class Array<T> implements Iterable<T> {
         }
     }
 
+    public void each(Consumer<? super T> consumer) {
+        T[] items2 = this.items;
+        int n = this.size;
+        for (int i = 0; i < n; i++) {
+            consumer.accept(items2[i]);
+        }
+    }
+
     public Iterator<T> iterator() {
         if (Collections.allocateIterators) {
             return new ArrayIterator(this, true);
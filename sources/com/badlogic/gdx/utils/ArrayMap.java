@@ -570,6 +570,31 @@ public class ArrayMap<K, V> implements Iterable<ObjectMap.Entry<K, V>> {
         return buffer.toString();
     }
 
+    public void each(Consumer.BiConsumer<? super K, ? super V> consumer) {
+        K[] keys2 = this.keys;
+        V[] values2 = this.values;
+        int n = this.size;
+        for (int i = 0; i < n; i++) {
+            consumer.accept(keys2[i], values2[i]);
+        }
+    }
+
+    public void eachKey(Consumer<? super K> consumer) {
+        K[] keys2 = this.keys;
+        int n = this.size;
+        for (int i = 0; i < n; i++) {
+            consumer.accept(keys2[i]);
+        }
+    }
+
+    public void eachValue(Consumer<? super V> consumer) {
+        V[] values2 = this.values;
+        int n = this.size;
+        for (int i = 0; i < n; i++) {
+            consumer.accept(values2[i]);
+        }
+    }
+
     public Iterator<ObjectMap.Entry<K, V>> iterator() {
         return entries();
     }
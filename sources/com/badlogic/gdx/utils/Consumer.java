@@ -0,0 +1,45 @@
+package com.badlogic.gdx.utils;
+
+public interface Consumer<T> {
+    void accept(T t);
+
+    public interface BiConsumer<K, V> {
+        void accept(K k, V v);
+    }
+
+    public interface FloatConsumer {
+        void accept(float f);
+    }
+
+    public interface IntConsumer {
+        void accept(int i);
+    }
+
+    public interface IntFloatConsumer {
+        void accept(int i, float f);
+    }
+
+    public interface IntIntConsumer {
+        void accept(int i, int i2);
+    }
+
+    public interface IntObjectConsumer<V> {
+        void accept(int i, V v);
+    }
+
+    public interface LongConsumer {
+        void accept(long j);
+    }
+
+    public interface LongObjectConsumer<V> {
+        void accept(long j, V v);
+    }
+
+    public interface ObjectFloatConsumer<K> {
+        void accept(K k, float f);
+    }
+
+    public interface ObjectIntConsumer<K> {
+        void accept(K k, int i);
+    }
+}
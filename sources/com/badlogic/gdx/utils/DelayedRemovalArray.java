@@ -207,6 +207,19 @@ public class DelayedRemovalArray<T> extends Array<T> {
         throw new IllegalStateException("Invalid between begin/end.");
     }
 
+    public void each(Consumer<? super T> consumer) {
+        begin();
+        try {
+            T[] items2 = this.items;
+            int n = this.size;
+            for (int i = 0; i < n; i++) {
+                consumer.accept(items2[i]);
+            }
+        } finally {
+            end();
+        }
+    }
+
     public static <T> DelayedRemovalArray<T> with(T... array) {
         return new DelayedRemovalArray<>(array);
     }
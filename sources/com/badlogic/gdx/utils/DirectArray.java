@@ -0,0 +1,105 @@
+package com.badlogic.gdx.utils;
+
+import java.nio.ByteBuffer;
+
+public abstract class DirectArray implements Disposable {
+    private ByteBuffer byteBuffer;
+    private final int elementSize;
+    public boolean ordered;
+    public int size;
+
+    DirectArray(boolean ordered2, int capacity, int elementSize2) {
+        this.ordered = ordered2;
+        this.elementSize = elementSize2;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        this.byteBuffer = BufferUtils.newUnsafeByteBuffer(Math.max(1, capacity) * this.elementSize);
+        setViews(this.byteBuffer);
+    }
+
+    /* access modifiers changed from: package-private */
+    public abstract void setViews(ByteBuffer byteBuffer2);
+
+    public boolean notEmpty() {
+        return this.size > 0;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    public int capacity() {
+        return this.byteBuffer.capacity() / this.elementSize;
+    }
+
+    public void shrink() {
+        if (capacity() != this.size) {
+            resize(this.size);
+        }
+    }
+
+    public void ensureCapacity(int additionalCapacity) {
+        if (additionalCapacity >= 0) {
+            int sizeNeeded = this.size + additionalCapacity;
+            if (sizeNeeded > capacity()) {
+                resize(Math.max(8, (int) (((float) sizeNeeded) * 1.75f)));
+                return;
+            }
+            return;
+        }
+        throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
+    }
+
+    public void setSize(int newSize) {
+        if (newSize >= 0) {
+            if (newSize > capacity()) {
+                resize(Math.max(8, newSize));
+            }
+            this.size = newSize;
+            return;
+        }
+        throw new IllegalArgumentException("newSize must be >= 0: " + newSize);
+    }
+
+    /* access modifiers changed from: protected */
+    public void resize(int newSize) {
+        ByteBuffer oldByteBuffer = this.byteBuffer;
+        int n = Math.min(this.size, newSize);
+        allocate(newSize);
+        oldByteBuffer.position(0);
+        oldByteBuffer.limit(this.elementSize * n);
+        this.byteBuffer.put(oldByteBuffer);
+        this.byteBuffer.clear();
+        BufferUtils.disposeUnsafeByteBuffer(oldByteBuffer);
+        this.size = n;
+    }
+
+    public void truncate(int newSize) {
+        if (this.size > newSize) {
+            this.size = newSize;
+        }
+    }
+
+    public ByteBuffer getByteBuffer() {
+        ByteBuffer byteBuffer2 = this.byteBuffer;
+        byteBuffer2.clear();
+        byteBuffer2.limit(this.size * this.elementSize);
+        return byteBuffer2;
+    }
+
+    public void dispose() {
+        ByteBuffer byteBuffer2 = this.byteBuffer;
+        if (byteBuffer2 != null) {
+            BufferUtils.disposeUnsafeByteBuffer(byteBuffer2);
+            this.byteBuffer = null;
+            setViews((ByteBuffer) null);
+            this.size = 0;
+        }
+    }
+}
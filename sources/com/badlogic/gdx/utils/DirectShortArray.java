@@ -0,0 +1,388 @@
+package com.badlogic.gdx.utils;
+
+import com.twi.game.BuildConfig;
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+
+public class DirectShortArray extends DirectArray {
+    private ShortBuffer buffer;
+    private ShortBuffer items;
+
+    public DirectShortArray() {
+        this(true, 16);
+    }
+
+    public DirectShortArray(int capacity) {
+        this(true, capacity);
+    }
+
+    public DirectShortArray(boolean ordered2, int capacity) {
+        super(ordered2, capacity, 2);
+    }
+
+    public DirectShortArray(DirectShortArray array) {
+        this(array.ordered, array.size);
+        addAll(array);
+    }
+
+    public DirectShortArray(ShortArray array) {
+        this(array.ordered, array.size);
+        addAll(array.items, 0, array.size);
+    }
+
+    public DirectShortArray(short[] array) {
+        this(true, array, 0, array.length);
+    }
+
+    public DirectShortArray(boolean ordered2, short[] array, int startIndex, int count) {
+        this(ordered2, count);
+        addAll(array, startIndex, count);
+    }
+
+    /* access modifiers changed from: package-private */
+    public void setViews(ByteBuffer byteBuffer2) {
+        if (byteBuffer2 == null) {
+            this.items = null;
+            this.buffer = null;
+            return;
+        }
+        this.items = byteBuffer2.asShortBuffer();
+        this.buffer = byteBuffer2.asShortBuffer();
+    }
+
+    public void add(short value) {
+        int i = this.size;
+        if (i == this.items.capacity()) {
+            resize(Math.max(8, (int) (((float) i) * 1.75f)));
+        }
+        this.items.put(i, value);
+        this.size = i + 1;
+    }
+
+    public void add(short value1, short value2) {
+        int i = this.size;
+        if (i + 1 >= this.items.capacity()) {
+            resize(Math.max(8, (int) (((float) i) * 1.75f)));
+        }
+        ShortBuffer items2 = this.items;
+        items2.put(i, value1);
+        items2.put(i + 1, value2);
+        this.size = i + 2;
+    }
+
+    public void add(short value1, short value2, short value3) {
+        int i = this.size;
+        if (i + 2 >= this.items.capacity()) {
+            resize(Math.max(8, (int) (((float) i) * 1.75f)));
+        }
+        ShortBuffer items2 = this.items;
+        items2.put(i, value1);
+        items2.put(i + 1, value2);
+        items2.put(i + 2, value3);
+        this.size = i + 3;
+    }
+
+    public void add(short value1, short value2, short value3, short value4) {
+        int i = this.size;
+        if (i + 3 >= this.items.capacity()) {
+            resize(Math.max(8, (int) (((float) i) * 1.8f)));
+        }
+        ShortBuffer items2 = this.items;
+        items2.put(i, value1);
+        items2.put(i + 1, value2);
+        items2.put(i + 2, value3);
+        items2.put(i + 3, value4);
+        this.size = i + 4;
+    }
+
+    public void addAll(DirectShortArray array) {
+        addAll(array, 0, array.size);
+    }
+
+    public void addAll(DirectShortArray array, int offset, int length) {
+        if (offset + length <= array.size) {
+            ensureCapacity(length);
+            ShortBuffer src = array.buffer;
+            ShortBuffer items2 = this.items;
+            src.limit(offset + length);
+            src.position(offset);
+            items2.position(this.size);
+            items2.put(src);
+            src.clear();
+            items2.clear();
+            this.size += length;
+            return;
+        }
+        throw new IllegalArgumentException("offset + length must be <= size: " + offset + " + " + length + " <= " + array.size);
+    }
+
+    public void addAll(ShortArray array) {
+        addAll(array.items, 0, array.size);
+    }
+
+    public void addAll(short... array) {
+        addAll(array, 0, array.length);
+    }
+
+    public void addAll(short[] array, int offset, int length) {
+        ensureCapacity(length);
+        ShortBuffer items2 = this.items;
+        items2.position(this.size);
+        items2.put(array, offset, length);
+        items2.clear();
+        this.size += length;
+    }
+
+    public short get(int index) {
+        if (index < this.size) {
+            return this.items.get(index);
+        }
+        throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + this.size);
+    }
+
+    public void set(int index, short value) {
+        if (index < this.size) {
+            this.items.put(index, value);
+            return;
+        }
+        throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + this.size);
+    }
+
+    public void incr(int index, short value) {
+        if (index < this.size) {
+            ShortBuffer items2 = this.items;
+            items2.put(index, (short) (items2.get(index) + value));
+            return;
+        }
+        throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + this.size);
+    }
+
+    public void mul(int index, short value) {
+        if (index < this.size) {
+            ShortBuffer items2 = this.items;
+            items2.put(index, (short) (items2.get(index) * value));
+            return;
+        }
+        throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + this.size);
+    }
+
+    public void insert(int index, short value) {
+        int i = this.size;
+        if (index <= i) {
+            if (i == this.items.capacity()) {
+                resize(Math.max(8, (int) (((float) i) * 1.75f)));
+            }
+            ShortBuffer items2 = this.items;
+            if (this.ordered) {
+                for (int j = this.size; j > index; j--) {
+                    items2.put(j, items2.get(j - 1));
+                }
+            } else {
+                items2.put(this.size, items2.get(index));
+            }
+            this.size++;
+            items2.put(index, value);
+            return;
+        }
+        throw new IndexOutOfBoundsException("index can't be > size: " + index + " > " + this.size);
+    }
+
+    public void swap(int first, int second) {
+        int i = this.size;
+        if (first >= i) {
+            throw new IndexOutOfBoundsException("first can't be >= size: " + first + " >= " + this.size);
+        } else if (second < i) {
+            ShortBuffer items2 = this.items;
+            short firstValue = items2.get(first);
+            items2.put(first, items2.get(second));
+            items2.put(second, firstValue);
+        } else {
+            throw new IndexOutOfBoundsException("second can't be >= size: " + second + " >= " + this.size);
+        }
+    }
+
+    public boolean contains(short value) {
+        return indexOf(value) != -1;
+    }
+
+    public int indexOf(short value) {
+        ShortBuffer items2 = this.items;
+        int n = this.size;
+        for (int i = 0; i < n; i++) {
+            if (items2.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(short value) {
+        ShortBuffer items2 = this.items;
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (items2.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean removeValue(short value) {
+        int index = indexOf(value);
+        if (index == -1) {
+            return false;
+        }
+        removeIndex(index);
+        return true;
+    }
+
+    public short removeIndex(int index) {
+        int i = this.size;
+        if (index < i) {
+            ShortBuffer items2 = this.items;
+            short value = items2.get(index);
+            this.size = i - 1;
+            if (this.ordered) {
+                int n = this.size;
+                for (int j = index; j < n; j++) {
+                    items2.put(j, items2.get(j + 1));
+                }
+            } else {
+                items2.put(index, items2.get(this.size));
+            }
+            return value;
+        }
+        throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + this.size);
+    }
+
+    public void removeRange(int start, int end) {
+        int n = this.size;
+        if (end >= n) {
+            throw new IndexOutOfBoundsException("end can't be >= size: " + end + " >= " + this.size);
+        } else if (start <= end) {
+            int count = (end - start) + 1;
+            int from = this.ordered ? start + count : Math.max(n - count, end + 1);
+            ShortBuffer items2 = this.items;
+            int i = start;
+            for (int j = from; j < n; j++) {
+                items2.put(i, items2.get(j));
+                i++;
+            }
+            this.size = n - count;
+        } else {
+            throw new IndexOutOfBoundsException("start can't be > end: " + start + " > " + end);
+        }
+    }
+
+    public short pop() {
+        int i = this.size - 1;
+        this.size = i;
+        return this.items.get(i);
+    }
+
+    public short peek() {
+        return this.items.get(this.size - 1);
+    }
+
+    public short first() {
+        if (this.size != 0) {
+            return this.items.get(0);
+        }
+        throw new IllegalStateException("Array is empty.");
+    }
+
+    public void reverse() {
+        ShortBuffer items2 = this.items;
+        int lastIndex = this.size - 1;
+        int n = this.size / 2;
+        for (int i = 0; i < n; i++) {
+            int ii = lastIndex - i;
+            short temp = items2.get(i);
+            items2.put(i, items2.get(ii));
+            items2.put(ii, temp);
+        }
+    }
+
+    public ShortBuffer getBuffer() {
+        ShortBuffer buffer2 = this.buffer;
+        buffer2.clear();
+        buffer2.limit(this.size);
+        return buffer2;
+    }
+
+    public short[] toArray() {
+        short[] array = new short[this.size];
+        ShortBuffer items2 = this.items;
+        items2.get(array);
+        items2.clear();
+        return array;
+    }
+
+    public int hashCode() {
+        if (!this.ordered) {
+            return super.hashCode();
+        }
+        ShortBuffer items2 = this.items;
+        int h = 1;
+        int n = this.size;
+        for (int i = 0; i < n; i++) {
+            h = (h * 31) + items2.get(i);
+        }
+        return h;
+    }
+
+    public boolean equals(Object object) {
+        int n;
+        if (object == this) {
+            return true;
+        }
+        if (!this.ordered || !(object instanceof DirectShortArray)) {
+            return false;
+        }
+        DirectShortArray array = (DirectShortArray) object;
+        if (!array.ordered || (n = this.size) != array.size) {
+            return false;
+        }
+        ShortBuffer items1 = this.items;
+        ShortBuffer items2 = array.items;
+        for (int i = 0; i < n; i++) {
+            if (items1.get(i) != items2.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String toString() {
+        if (this.size == 0) {
+            return "[]";
+        }
+        ShortBuffer items2 = this.items;
+        StringBuilder buffer2 = new StringBuilder(32);
+        buffer2.append('[');
+        buffer2.append(items2.get(0));
+        for (int i = 1; i < this.size; i++) {
+            buffer2.append(", ");
+            buffer2.append(items2.get(i));
+        }
+        buffer2.append(']');
+        return buffer2.toString();
+    }
+
+    public String toString(String separator) {
+        if (this.size == 0) {
+            return BuildConfig.FLAVOR;
+        }
+        ShortBuffer items2 = this.items;
+        StringBuilder buffer2 = new StringBuilder(32);
+        buffer2.append(items2.get(0));
+        for (int i = 1; i < this.size; i++) {
+            buffer2.append(separator);
+            buffer2.append(items2.get(i));
+        }
+        return buffer2.toString();
+    }
+
+    public static DirectShortArray with(short... array) {
+        return new DirectShortArray(array);
+    }
+}
@@ -0,0 +1,43 @@
+package com.badlogic.gdx.utils;
+
+public class IdentitySet<T> extends ObjectSet<T> {
+    public IdentitySet() {
+    }
+
+    public IdentitySet(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    public IdentitySet(int initialCapacity, float loadFactor) {
+        super(initialCapacity, loadFactor);
+    }
+
+    public IdentitySet(IdentitySet<? extends T> set) {
+        super(set);
+    }
+
+    /* access modifiers changed from: protected */
+    public int place(T item) {
+        return (int) ((((long) System.identityHashCode(item)) * -7046029254386353131L) >>> this.shift);
+    }
+
+    /* access modifiers changed from: package-private */
+    public int locateKey(T key) {
+        if (key != null) {
+            T[] keyTable = this.keyTable;
+            int i = place(key);
+            while (true) {
+                T other = keyTable[i];
+                if (other == null) {
+                    return -(i + 1);
+                }
+                if (other == key) {
+                    return i;
+                }
+                i = (i + 1) & this.mask;
+            }
+        } else {
+            throw new IllegalArgumentException("key cannot be null.");
+        }
+    }
+}
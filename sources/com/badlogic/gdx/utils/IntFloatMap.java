@@ -1,28 +1,20 @@
 package com.badlogic.gdx.utils;
 
-import com.badlogic.gdx.math.MathUtils;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 public class IntFloatMap implements Iterable<Entry> {
-    private static final int EMPTY = 0;
-    private static final int PRIME1 = -1105259343;
-    private static final int PRIME2 = -1262997959;
-    private static final int PRIME3 = -825114047;
-    int capacity;
     private Entries entries1;
     private Entries entries2;
     boolean hasZeroValue;
-    private int hashShift;
     int[] keyTable;
     private Keys keys1;
     private Keys keys2;
     private float loadFactor;
-    private int mask;
-    private int pushIterations;
+    protected int mask;
+    protected int shift;
     public int size;
-    private int stashCapacity;
-    int stashSize;
     private int threshold;
     float[] valueTable;
     private Values values1;
@@ -38,416 +30,183 @@ public class IntFloatMap implements Iterable<Entry> {
     }
 
     public IntFloatMap(int initialCapacity, float loadFactor2) {
-        if (initialCapacity >= 0) {
-            int initialCapacity2 = MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) initialCapacity) / loadFactor2)));
-            if (initialCapacity2 <= 1073741824) {
-                this.capacity = initialCapacity2;
-                if (loadFactor2 > 0.0f) {
-                    this.loadFactor = loadFactor2;
-                    int i = this.capacity;
-                    this.threshold = (int) (((float) i) * loadFactor2);
-                    this.mask = i - 1;
-                    this.hashShift = 31 - Integer.numberOfTrailingZeros(i);
-                    this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) this.capacity))) * 2);
-                    this.pushIterations = Math.max(Math.min(this.capacity, 8), ((int) Math.sqrt((double) this.capacity)) / 8);
-                    this.keyTable = new int[(this.capacity + this.stashCapacity)];
-                    this.valueTable = new float[this.keyTable.length];
-                    return;
-                }
-                throw new IllegalArgumentException("loadFactor must be > 0: " + loadFactor2);
-            }
-            throw new IllegalArgumentException("initialCapacity is too large: " + initialCapacity2);
+        if (loadFactor2 <= 0.0f || loadFactor2 >= 1.0f) {
+            throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor2);
         }
-        throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+        this.loadFactor = loadFactor2;
+        int tableSize = ObjectMap.tableSize(initialCapacity, loadFactor2);
+        this.threshold = (int) (((float) tableSize) * loadFactor2);
+        this.mask = tableSize - 1;
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
+        this.keyTable = new int[tableSize];
+        this.valueTable = new float[tableSize];
     }
 
     public IntFloatMap(IntFloatMap map) {
-        this((int) Math.floor((double) (((float) map.capacity) * map.loadFactor)), map.loadFactor);
-        this.stashSize = map.stashSize;
-        int[] iArr = map.keyTable;
-        System.arraycopy(iArr, 0, this.keyTable, 0, iArr.length);
-        float[] fArr = map.valueTable;
-        System.arraycopy(fArr, 0, this.valueTable, 0, fArr.length);
+        this((int) (((float) map.keyTable.length) * map.loadFactor), map.loadFactor);
+        int[] kArr = map.keyTable;
+        System.arraycopy(kArr, 0, this.keyTable, 0, kArr.length);
+        float[] vArr = map.valueTable;
+        System.arraycopy(vArr, 0, this.valueTable, 0, vArr.length);
         this.size = map.size;
         this.zeroValue = map.zeroValue;
         this.hasZeroValue = map.hasZeroValue;
     }
 
-    public void put(int key, float value) {
-        int i = key;
-        float f = value;
-        if (i == 0) {
-            this.zeroValue = f;
-            if (!this.hasZeroValue) {
-                this.hasZeroValue = true;
-                this.size++;
-                return;
-            }
-            return;
-        }
+    /* access modifiers changed from: protected */
+    public int place(int item) {
+        return (int) ((((long) item) * -7046029254386353131L) >>> this.shift);
+    }
+
+    private int locateKey(int key) {
         int[] keyTable2 = this.keyTable;
-        int index1 = i & this.mask;
-        int key1 = keyTable2[index1];
-        if (i == key1) {
-            this.valueTable[index1] = f;
-            return;
-        }
-        int index2 = hash2(key);
-        int key2 = keyTable2[index2];
-        if (i == key2) {
-            this.valueTable[index2] = f;
-            return;
-        }
-        int index3 = hash3(key);
-        int key3 = keyTable2[index3];
-        if (i == key3) {
-            this.valueTable[index3] = f;
-            return;
-        }
-        int i2 = this.capacity;
-        int n = this.stashSize + i2;
-        while (i2 < n) {
-            if (i == keyTable2[i2]) {
-                this.valueTable[i2] = f;
-                return;
-            }
-            i2++;
-        }
-        if (key1 == 0) {
-            keyTable2[index1] = i;
-            this.valueTable[index1] = f;
-            int i3 = this.size;
-            this.size = i3 + 1;
-            if (i3 >= this.threshold) {
-                resize(this.capacity << 1);
-            }
-        } else if (key2 == 0) {
-            keyTable2[index2] = i;
-            this.valueTable[index2] = f;
-            int i4 = this.size;
-            this.size = i4 + 1;
-            if (i4 >= this.threshold) {
-                resize(this.capacity << 1);
+        int i = place(key);
+        while (true) {
+            int other = keyTable2[i];
+            if (other == 0) {
+                return -(i + 1);
             }
-        } else if (key3 == 0) {
-            keyTable2[index3] = i;
-            this.valueTable[index3] = f;
-            int i5 = this.size;
-            this.size = i5 + 1;
-            if (i5 >= this.threshold) {
-                resize(this.capacity << 1);
+            if (other == key) {
+                return i;
             }
-        } else {
-            int i6 = key2;
-            push(key, value, index1, key1, index2, key2, index3, key3);
-        }
-    }
-
-    public void putAll(IntFloatMap map) {
-        Iterator<Entry> it = map.entries().iterator();
-        while (it.hasNext()) {
-            Entry entry = it.next();
-            put(entry.key, entry.value);
+            i = (i + 1) & this.mask;
         }
     }
 
-    private void putResize(int key, float value) {
-        float f = value;
+    public void put(int key, float value) {
         if (key == 0) {
-            this.zeroValue = f;
-            this.hasZeroValue = true;
-            return;
-        }
-        int index1 = key & this.mask;
-        int[] iArr = this.keyTable;
-        int key1 = iArr[index1];
-        if (key1 == 0) {
-            iArr[index1] = key;
-            this.valueTable[index1] = f;
-            int i = this.size;
-            this.size = i + 1;
-            if (i >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
+            this.zeroValue = value;
+            if (!this.hasZeroValue) {
+                this.hasZeroValue = true;
+                this.size++;
             }
             return;
         }
-        int index2 = hash2(key);
-        int[] iArr2 = this.keyTable;
-        int key2 = iArr2[index2];
-        if (key2 == 0) {
-            iArr2[index2] = key;
-            this.valueTable[index2] = f;
-            int i2 = this.size;
-            this.size = i2 + 1;
-            if (i2 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
+        int i = locateKey(key);
+        if (i >= 0) {
+            this.valueTable[i] = value;
             return;
         }
-        int index3 = hash3(key);
-        int[] iArr3 = this.keyTable;
-        int key3 = iArr3[index3];
-        if (key3 == 0) {
-            iArr3[index3] = key;
-            this.valueTable[index3] = f;
-            int i3 = this.size;
-            this.size = i3 + 1;
-            if (i3 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
+        int i2 = -(i + 1);
+        this.keyTable[i2] = key;
+        this.valueTable[i2] = value;
+        int i3 = this.size + 1;
+        this.size = i3;
+        if (i3 >= this.threshold) {
+            resize(this.keyTable.length << 1);
         }
-        push(key, value, index1, key1, index2, key2, index3, key3);
     }
 
-    private void push(int insertKey, float insertValue, int index1, int key1, int index2, int key2, int index3, int key3) {
-        float evictedValue;
-        int evictedKey;
-        int[] keyTable2 = this.keyTable;
-        float[] valueTable2 = this.valueTable;
-        int mask2 = this.mask;
-        int pushIterations2 = this.pushIterations;
-        int insertKey2 = insertKey;
-        float insertValue2 = insertValue;
-        int index12 = index1;
-        int key12 = key1;
-        int index22 = index2;
-        int key22 = key2;
-        int index32 = index3;
-        int i = 0;
-        int key32 = key3;
-        while (true) {
-            int random = MathUtils.random(2);
-            if (random == 0) {
-                evictedKey = key12;
-                float evictedValue2 = valueTable2[index12];
-                keyTable2[index12] = insertKey2;
-                valueTable2[index12] = insertValue2;
-                evictedValue = evictedValue2;
-            } else if (random != 1) {
-                evictedKey = key32;
-                float evictedValue3 = valueTable2[index32];
-                keyTable2[index32] = insertKey2;
-                valueTable2[index32] = insertValue2;
-                evictedValue = evictedValue3;
-            } else {
-                evictedKey = key22;
-                float evictedValue4 = valueTable2[index22];
-                keyTable2[index22] = insertKey2;
-                valueTable2[index22] = insertValue2;
-                evictedValue = evictedValue4;
-            }
-            index12 = evictedKey & mask2;
-            key12 = keyTable2[index12];
-            if (key12 == 0) {
-                keyTable2[index12] = evictedKey;
-                valueTable2[index12] = evictedValue;
-                int i2 = mask2;
-                int mask3 = this.size;
-                int i3 = key32;
-                this.size = mask3 + 1;
-                if (mask3 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            int mask4 = mask2;
-            int i4 = key32;
-            index22 = hash2(evictedKey);
-            key22 = keyTable2[index22];
-            if (key22 == 0) {
-                keyTable2[index22] = evictedKey;
-                valueTable2[index22] = evictedValue;
-                int i5 = this.size;
-                this.size = i5 + 1;
-                if (i5 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            index32 = hash3(evictedKey);
-            key32 = keyTable2[index32];
-            if (key32 == 0) {
-                keyTable2[index32] = evictedKey;
-                valueTable2[index32] = evictedValue;
-                int i6 = this.size;
-                int[] iArr = keyTable2;
-                this.size = i6 + 1;
-                if (i6 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            int[] keyTable3 = keyTable2;
-            i++;
-            if (i == pushIterations2) {
-                putStash(evictedKey, evictedValue);
-                return;
+    public void putAll(IntFloatMap map) {
+        ensureCapacity(map.size);
+        if (map.hasZeroValue) {
+            put(0, map.zeroValue);
+        }
+        int[] keyTable2 = map.keyTable;
+        float[] valueTable2 = map.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            int key = keyTable2[i];
+            if (key != 0) {
+                put(key, valueTable2[i]);
             }
-            insertKey2 = evictedKey;
-            insertValue2 = evictedValue;
-            mask2 = mask4;
-            keyTable2 = keyTable3;
         }
     }
 
-    private void putStash(int key, float value) {
-        int i = this.stashSize;
-        if (i == this.stashCapacity) {
-            resize(this.capacity << 1);
-            putResize(key, value);
-            return;
+    private void putResize(int key, float value) {
+        int[] keyTable2 = this.keyTable;
+        int i = place(key);
+        while (keyTable2[i] != 0) {
+            i = (i + 1) & this.mask;
         }
-        int index = this.capacity + i;
-        this.keyTable[index] = key;
-        this.valueTable[index] = value;
-        this.stashSize = i + 1;
-        this.size++;
+        keyTable2[i] = key;
+        this.valueTable[i] = value;
     }
 
     public float get(int key, float defaultValue) {
-        if (key != 0) {
-            int index = this.mask & key;
-            if (this.keyTable[index] != key) {
-                index = hash2(key);
-                if (this.keyTable[index] != key) {
-                    index = hash3(key);
-                    if (this.keyTable[index] != key) {
-                        return getStash(key, defaultValue);
-                    }
-                }
+        if (key == 0) {
+            if (!this.hasZeroValue) {
+                return defaultValue;
             }
-            return this.valueTable[index];
-        } else if (!this.hasZeroValue) {
-            return defaultValue;
-        } else {
             return this.zeroValue;
         }
-    }
-
-    private float getStash(int key, float defaultValue) {
-        int[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key == keyTable2[i]) {
-                return this.valueTable[i];
-            }
-            i++;
+        int i = locateKey(key);
+        if (i < 0) {
+            return defaultValue;
         }
-        return defaultValue;
+        return this.valueTable[i];
     }
 
     public float getAndIncrement(int key, float defaultValue, float increment) {
-        if (key != 0) {
-            int index = this.mask & key;
-            if (key != this.keyTable[index]) {
-                index = hash2(key);
-                if (key != this.keyTable[index]) {
-                    index = hash3(key);
-                    if (key != this.keyTable[index]) {
-                        return getAndIncrementStash(key, defaultValue, increment);
-                    }
-                }
+        if (key == 0) {
+            if (this.hasZeroValue) {
+                float value = this.zeroValue;
+                this.zeroValue += increment;
+                return value;
             }
-            float[] fArr = this.valueTable;
-            float value = fArr[index];
-            fArr[index] = value + increment;
-            return value;
-        } else if (this.hasZeroValue) {
-            float value2 = this.zeroValue;
-            this.zeroValue += increment;
-            return value2;
-        } else {
             this.hasZeroValue = true;
             this.zeroValue = defaultValue + increment;
             this.size++;
             return defaultValue;
         }
-    }
-
-    private float getAndIncrementStash(int key, float defaultValue, float increment) {
-        int[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key == keyTable2[i]) {
-                float[] fArr = this.valueTable;
-                float value = fArr[i];
-                fArr[i] = value + increment;
-                return value;
-            }
-            i++;
+        int i = locateKey(key);
+        if (i >= 0) {
+            float[] vArr = this.valueTable;
+            float value2 = vArr[i];
+            vArr[i] = value2 + increment;
+            return value2;
+        }
+        int i2 = -(i + 1);
+        this.keyTable[i2] = key;
+        this.valueTable[i2] = defaultValue + increment;
+        int i3 = this.size + 1;
+        this.size = i3;
+        if (i3 >= this.threshold) {
+            resize(this.keyTable.length << 1);
         }
-        put(key, defaultValue + increment);
         return defaultValue;
     }
 
     public float remove(int key, float defaultValue) {
-        if (key != 0) {
-            int index = this.mask & key;
-            int[] iArr = this.keyTable;
-            if (key == iArr[index]) {
-                iArr[index] = 0;
-                this.size--;
-                return this.valueTable[index];
-            }
-            int index2 = hash2(key);
-            int[] iArr2 = this.keyTable;
-            if (key == iArr2[index2]) {
-                iArr2[index2] = 0;
-                this.size--;
-                return this.valueTable[index2];
-            }
-            int index3 = hash3(key);
-            int[] iArr3 = this.keyTable;
-            if (key != iArr3[index3]) {
-                return removeStash(key, defaultValue);
+        if (key == 0) {
+            if (!this.hasZeroValue) {
+                return defaultValue;
             }
-            iArr3[index3] = 0;
-            this.size--;
-            return this.valueTable[index3];
-        } else if (!this.hasZeroValue) {
-            return defaultValue;
-        } else {
             this.hasZeroValue = false;
             this.size--;
             return this.zeroValue;
         }
+        int i = locateKey(key);
+        if (i < 0) {
+            return defaultValue;
+        }
+        float oldValue = this.valueTable[i];
+        removeSlot(i);
+        return oldValue;
     }
 
     /* access modifiers changed from: package-private */
-    public float removeStash(int key, float defaultValue) {
+    public int removeSlot(int index) {
         int[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key == keyTable2[i]) {
-                float oldValue = this.valueTable[i];
-                removeStashIndex(i);
+        float[] valueTable2 = this.valueTable;
+        int mask2 = this.mask;
+        int i = index;
+        int next = (i + 1) & mask2;
+        while (true) {
+            int key = keyTable2[next];
+            if (key != 0) {
+                int placement = place(key);
+                if (((next - placement) & mask2) > ((i - placement) & mask2)) {
+                    keyTable2[i] = key;
+                    valueTable2[i] = valueTable2[next];
+                    i = next;
+                }
+                next = (next + 1) & mask2;
+            } else {
+                keyTable2[i] = 0;
                 this.size--;
-                return oldValue;
+                return i;
             }
-            i++;
-        }
-        return defaultValue;
-    }
-
-    /* access modifiers changed from: package-private */
-    public void removeStashIndex(int index) {
-        this.stashSize--;
-        int lastIndex = this.capacity + this.stashSize;
-        if (index < lastIndex) {
-            int[] iArr = this.keyTable;
-            iArr[index] = iArr[lastIndex];
-            float[] fArr = this.valueTable;
-            fArr[index] = fArr[lastIndex];
         }
     }
 
@@ -461,11 +220,9 @@ public class IntFloatMap implements Iterable<Entry> {
 
     public void shrink(int maximumCapacity) {
         if (maximumCapacity >= 0) {
-            if (this.size > maximumCapacity) {
-                maximumCapacity = this.size;
-            }
-            if (this.capacity > maximumCapacity) {
-                resize(MathUtils.nextPowerOfTwo(maximumCapacity));
+            int tableSize = ObjectMap.tableSize(Math.max(maximumCapacity, this.size), this.loadFactor);
+            if (this.keyTable.length > tableSize) {
+                resize(tableSize);
                 return;
             }
             return;
@@ -474,31 +231,21 @@ public class IntFloatMap implements Iterable<Entry> {
     }
 
     public void clear(int maximumCapacity) {
-        if (this.capacity <= maximumCapacity) {
+        int tableSize = ObjectMap.tableSize(maximumCapacity, this.loadFactor);
+        if (this.keyTable.length <= tableSize) {
             clear();
             return;
         }
         this.hasZeroValue = false;
         this.size = 0;
-        resize(maximumCapacity);
+        resize(tableSize);
     }
 
     public void clear() {
         if (this.size != 0) {
-            int[] keyTable2 = this.keyTable;
-            int i = this.capacity + this.stashSize;
-            while (true) {
-                int i2 = i - 1;
-                if (i > 0) {
-                    keyTable2[i2] = 0;
-                    i = i2;
-                } else {
-                    this.hasZeroValue = false;
-                    this.size = 0;
-                    this.stashSize = 0;
-                    return;
-                }
-            }
+            Arrays.fill(this.keyTable, 0);
+            this.size = 0;
+            this.hasZeroValue = false;
         }
     }
 
@@ -508,64 +255,33 @@ public class IntFloatMap implements Iterable<Entry> {
         }
         int[] keyTable2 = this.keyTable;
         float[] valueTable2 = this.valueTable;
-        int i = this.capacity + this.stashSize;
-        while (true) {
-            int i2 = i - 1;
-            if (i <= 0) {
-                return false;
-            }
-            if (keyTable2[i2] != 0 && valueTable2[i2] == value) {
+        for (int i = valueTable2.length - 1; i >= 0; i--) {
+            if (keyTable2[i] != 0 && valueTable2[i] == value) {
                 return true;
             }
-            i = i2;
         }
+        return false;
     }
 
     public boolean containsValue(float value, float epsilon) {
         if (this.hasZeroValue && Math.abs(this.zeroValue - value) <= epsilon) {
             return true;
         }
+        int[] keyTable2 = this.keyTable;
         float[] valueTable2 = this.valueTable;
-        int i = this.capacity + this.stashSize;
-        while (true) {
-            int i2 = i - 1;
-            if (i <= 0) {
-                return false;
-            }
-            if (Math.abs(valueTable2[i2] - value) <= epsilon) {
+        for (int i = valueTable2.length - 1; i >= 0; i--) {
+            if (keyTable2[i] != 0 && Math.abs(valueTable2[i] - value) <= epsilon) {
                 return true;
             }
-            i = i2;
         }
+        return false;
     }
 
     public boolean containsKey(int key) {
         if (key == 0) {
             return this.hasZeroValue;
         }
-        if (this.keyTable[this.mask & key] == key) {
-            return true;
-        }
-        if (this.keyTable[hash2(key)] == key) {
-            return true;
-        }
-        if (this.keyTable[hash3(key)] != key) {
-            return containsKeyStash(key);
-        }
-        return true;
-    }
-
-    private boolean containsKeyStash(int key) {
-        int[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key == keyTable2[i]) {
-                return true;
-            }
-            i++;
-        }
-        return false;
+        return locateKey(key) >= 0;
     }
 
     public int findKey(float value, int notFound) {
@@ -574,67 +290,40 @@ public class IntFloatMap implements Iterable<Entry> {
         }
         int[] keyTable2 = this.keyTable;
         float[] valueTable2 = this.valueTable;
-        int i = this.capacity + this.stashSize;
-        while (true) {
-            int i2 = i - 1;
-            if (i <= 0) {
-                return notFound;
+        for (int i = valueTable2.length - 1; i >= 0; i--) {
+            if (keyTable2[i] != 0 && valueTable2[i] == value) {
+                return keyTable2[i];
             }
-            if (keyTable2[i2] != 0 && valueTable2[i2] == value) {
-                return keyTable2[i2];
-            }
-            i = i2;
         }
+        return notFound;
     }
 
     public void ensureCapacity(int additionalCapacity) {
-        if (additionalCapacity >= 0) {
-            int sizeNeeded = this.size + additionalCapacity;
-            if (sizeNeeded >= this.threshold) {
-                resize(MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) sizeNeeded) / this.loadFactor))));
-                return;
-            }
-            return;
+        int tableSize = ObjectMap.tableSize(this.size + additionalCapacity, this.loadFactor);
+        if (this.keyTable.length < tableSize) {
+            resize(tableSize);
         }
-        throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
     }
 
     private void resize(int newSize) {
-        int oldEndIndex = this.capacity + this.stashSize;
-        this.capacity = newSize;
+        int oldCapacity = this.keyTable.length;
         this.threshold = (int) (((float) newSize) * this.loadFactor);
         this.mask = newSize - 1;
-        this.hashShift = 31 - Integer.numberOfTrailingZeros(newSize);
-        this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) newSize))) * 2);
-        this.pushIterations = Math.max(Math.min(newSize, 8), ((int) Math.sqrt((double) newSize)) / 8);
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
         int[] oldKeyTable = this.keyTable;
         float[] oldValueTable = this.valueTable;
-        int i = this.stashCapacity;
-        this.keyTable = new int[(newSize + i)];
-        this.valueTable = new float[(i + newSize)];
-        int oldSize = this.size;
-        this.size = this.hasZeroValue ? 1 : 0;
-        this.stashSize = 0;
-        if (oldSize > 0) {
-            for (int i2 = 0; i2 < oldEndIndex; i2++) {
-                int key = oldKeyTable[i2];
+        this.keyTable = new int[newSize];
+        this.valueTable = new float[newSize];
+        if (this.size > 0) {
+            for (int i = 0; i < oldCapacity; i++) {
+                int key = oldKeyTable[i];
                 if (key != 0) {
-                    putResize(key, oldValueTable[i2]);
+                    putResize(key, oldValueTable[i]);
                 }
             }
         }
     }
 
-    private int hash2(int h) {
-        int h2 = h * PRIME2;
-        return ((h2 >>> this.hashShift) ^ h2) & this.mask;
-    }
-
-    private int hash3(int h) {
-        int h2 = h * PRIME3;
-        return ((h2 >>> this.hashShift) ^ h2) & this.mask;
-    }
-
     public int hashCode() {
         int h = 0;
         if (this.hasZeroValue) {
@@ -642,7 +331,7 @@ public class IntFloatMap implements Iterable<Entry> {
         }
         int[] keyTable2 = this.keyTable;
         float[] valueTable2 = this.valueTable;
-        int n = this.capacity + this.stashSize;
+        int n = this.keyTable.length;
         for (int i = 0; i < n; i++) {
             int key = keyTable2[i];
             if (key != 0) {
@@ -669,7 +358,7 @@ public class IntFloatMap implements Iterable<Entry> {
         }
         int[] keyTable2 = this.keyTable;
         float[] valueTable2 = this.valueTable;
-        int n = this.capacity + this.stashSize;
+        int n = this.keyTable.length;
         for (int i = 0; i < n; i++) {
             int key = keyTable2[i];
             if (key != 0) {
@@ -746,6 +435,50 @@ public class IntFloatMap implements Iterable<Entry> {
         throw new UnsupportedOperationException("Method not decompiled: com.badlogic.gdx.utils.IntFloatMap.toString():java.lang.String");
     }
 
+    public void each(Consumer.IntFloatConsumer consumer) {
+        if (this.hasZeroValue) {
+            consumer.accept(0, this.zeroValue);
+        }
+        int[] keyTable2 = this.keyTable;
+        float[] valueTable2 = this.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            int key = keyTable2[i];
+            if (key != 0) {
+                consumer.accept(key, valueTable2[i]);
+            }
+        }
+    }
+
+    public void eachKey(Consumer.IntConsumer consumer) {
+        if (this.hasZeroValue) {
+            consumer.accept(0);
+        }
+        int[] keyTable2 = this.keyTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            int key = keyTable2[i];
+            if (key != 0) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    public void eachValue(Consumer.FloatConsumer consumer) {
+        if (this.hasZeroValue) {
+            consumer.accept(this.zeroValue);
+        }
+        int[] keyTable2 = this.keyTable;
+        float[] valueTable2 = this.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            int key = keyTable2[i];
+            if (key != 0) {
+                consumer.accept(valueTable2[i]);
+            }
+        }
+    }
+
     public Iterator<Entry> iterator() {
         return entries();
     }
@@ -829,9 +562,11 @@ public class IntFloatMap implements Iterable<Entry> {
         static final int INDEX_ILLEGAL = -2;
         static final int INDEX_ZERO = -1;
         int currentIndex;
+        int emptyIndex;
         public boolean hasNext;
         final IntFloatMap map;
         int nextIndex;
+        int remaining;
         boolean valid = true;
 
         public MapIterator(IntFloatMap map2) {
@@ -840,48 +575,56 @@ public class IntFloatMap implements Iterable<Entry> {
         }
 
         public void reset() {
+            int[] keyTable = this.map.keyTable;
+            int n = keyTable.length;
+            int empty = 0;
+            while (empty < n && keyTable[empty] != 0) {
+                empty++;
+            }
             this.currentIndex = INDEX_ILLEGAL;
-            this.nextIndex = -1;
+            this.emptyIndex = empty;
+            this.remaining = n;
             if (this.map.hasZeroValue) {
+                this.nextIndex = -1;
                 this.hasNext = true;
-            } else {
-                findNextIndex();
+                return;
             }
+            this.nextIndex = empty;
+            findNextIndex();
         }
 
         /* access modifiers changed from: package-private */
         public void findNextIndex() {
             this.hasNext = false;
+            if (this.nextIndex == -1) {
+                this.nextIndex = this.emptyIndex;
+            }
             int[] keyTable = this.map.keyTable;
-            int n = this.map.capacity + this.map.stashSize;
-            do {
-                int i = this.nextIndex + 1;
-                this.nextIndex = i;
-                if (i >= n) {
+            int mask = keyTable.length - 1;
+            while (this.remaining > 0) {
+                this.nextIndex = (this.nextIndex + 1) & mask;
+                this.remaining--;
+                if (keyTable[this.nextIndex] != 0) {
+                    this.hasNext = true;
                     return;
                 }
-            } while (keyTable[this.nextIndex] == 0);
-            this.hasNext = true;
+            }
         }
 
         public void remove() {
-            if (this.currentIndex != -1 || !this.map.hasZeroValue) {
-                int i = this.currentIndex;
-                if (i < 0) {
-                    throw new IllegalStateException("next must be called before remove.");
-                } else if (i >= this.map.capacity) {
-                    this.map.removeStashIndex(this.currentIndex);
-                    this.nextIndex = this.currentIndex - 1;
-                    findNextIndex();
-                } else {
-                    this.map.keyTable[this.currentIndex] = 0;
-                }
-            } else {
-                this.map.hasZeroValue = false;
+            int i = this.currentIndex;
+            if (i == -1 && this.map.hasZeroValue) {
+                IntFloatMap intFloatMap = this.map;
+                intFloatMap.hasZeroValue = false;
+                intFloatMap.size--;
+            } else if (i < 0) {
+                throw new IllegalStateException("next must be called before remove.");
+            } else if (this.map.removeSlot(i) != i) {
+                this.nextIndex = i;
+                this.remaining++;
+                this.hasNext = true;
             }
             this.currentIndex = INDEX_ILLEGAL;
-            IntFloatMap intFloatMap = this.map;
-            intFloatMap.size--;
         }
     }
 
@@ -1,25 +1,17 @@
 package com.badlogic.gdx.utils;
 
-import com.badlogic.gdx.math.MathUtils;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 
 public class IntSet {
-    private static final int EMPTY = 0;
-    private static final int PRIME1 = -1105259343;
-    private static final int PRIME2 = -1262997959;
-    private static final int PRIME3 = -825114047;
-    int capacity;
     boolean hasZeroValue;
-    private int hashShift;
     private IntSetIterator iterator1;
     private IntSetIterator iterator2;
     int[] keyTable;
     private float loadFactor;
-    private int mask;
-    private int pushIterations;
+    protected int mask;
+    protected int shift;
     public int size;
-    private int stashCapacity;
-    int stashSize;
     private int threshold;
 
     public IntSet() {
@@ -31,87 +23,58 @@ public class IntSet {
     }
 
     public IntSet(int initialCapacity, float loadFactor2) {
-        if (initialCapacity >= 0) {
-            int initialCapacity2 = MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) initialCapacity) / loadFactor2)));
-            if (initialCapacity2 <= 1073741824) {
-                this.capacity = initialCapacity2;
-                if (loadFactor2 > 0.0f) {
-                    this.loadFactor = loadFactor2;
-                    int i = this.capacity;
-                    this.threshold = (int) (((float) i) * loadFactor2);
-                    this.mask = i - 1;
-                    this.hashShift = 31 - Integer.numberOfTrailingZeros(i);
-                    this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) this.capacity))) * 2);
-                    this.pushIterations = Math.max(Math.min(this.capacity, 8), ((int) Math.sqrt((double) this.capacity)) / 8);
-                    this.keyTable = new int[(this.capacity + this.stashCapacity)];
-                    return;
-                }
-                throw new IllegalArgumentException("loadFactor must be > 0: " + loadFactor2);
-            }
-            throw new IllegalArgumentException("initialCapacity is too large: " + initialCapacity2);
+        if (loadFactor2 <= 0.0f || loadFactor2 >= 1.0f) {
+            throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor2);
         }
-        throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+        this.loadFactor = loadFactor2;
+        int tableSize = ObjectMap.tableSize(initialCapacity, loadFactor2);
+        this.threshold = (int) (((float) tableSize) * loadFactor2);
+        this.mask = tableSize - 1;
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
+        this.keyTable = new int[tableSize];
     }
 
     public IntSet(IntSet set) {
-        this((int) Math.floor((double) (((float) set.capacity) * set.loadFactor)), set.loadFactor);
-        this.stashSize = set.stashSize;
+        this((int) (((float) set.keyTable.length) * set.loadFactor), set.loadFactor);
         int[] iArr = set.keyTable;
         System.arraycopy(iArr, 0, this.keyTable, 0, iArr.length);
         this.size = set.size;
         this.hasZeroValue = set.hasZeroValue;
     }
 
+    /* access modifiers changed from: protected */
+    public int place(int item) {
+        return (int) ((((long) item) * -7046029254386353131L) >>> this.shift);
+    }
+
+    private int locateKey(int key) {
+        int[] keyTable2 = this.keyTable;
+        int i = place(key);
+        while (true) {
+            int other = keyTable2[i];
+            if (other == 0) {
+                return -(i + 1);
+            }
+            if (other == key) {
+                return i;
+            }
+            i = (i + 1) & this.mask;
+        }
+    }
+
     public boolean add(int key) {
-        int index2;
-        int key2;
-        int index3;
-        int key3;
-        int i = key;
-        if (i != 0) {
-            int[] keyTable2 = this.keyTable;
-            int index1 = i & this.mask;
-            int key1 = keyTable2[index1];
-            if (key1 == i || (key2 = keyTable2[index2]) == i || (key3 = keyTable2[index3]) == i) {
+        if (key != 0) {
+            int i = locateKey(key);
+            if (i >= 0) {
                 return false;
             }
-            int i2 = this.capacity;
-            int n = this.stashSize + i2;
-            while (i2 < n) {
-                if (keyTable2[i2] == i) {
-                    return false;
-                }
-                i2++;
-            }
-            if (key1 == 0) {
-                keyTable2[index1] = i;
-                int i3 = this.size;
-                this.size = i3 + 1;
-                if (i3 >= this.threshold) {
-                    resize(this.capacity << 1);
-                }
-                return true;
-            } else if (key2 == 0) {
-                keyTable2[(index2 = hash2(key))] = i;
-                int i4 = this.size;
-                this.size = i4 + 1;
-                if (i4 >= this.threshold) {
-                    resize(this.capacity << 1);
-                }
-                return true;
-            } else if (key3 == 0) {
-                keyTable2[(index3 = hash3(key))] = i;
-                int i5 = this.size;
-                this.size = i5 + 1;
-                if (i5 >= this.threshold) {
-                    resize(this.capacity << 1);
-                }
-                return true;
-            } else {
-                int i6 = key3;
-                push(key, index1, key1, index2, key2, index3, key3);
-                return true;
+            this.keyTable[-(i + 1)] = key;
+            int i2 = this.size + 1;
+            this.size = i2;
+            if (i2 >= this.threshold) {
+                resize(this.keyTable.length << 1);
             }
+            return true;
         } else if (this.hasZeroValue) {
             return false;
         } else {
@@ -147,159 +110,38 @@ public class IntSet {
         }
     }
 
+
     public void addAll(IntSet set) {
         ensureCapacity(set.size);
-        IntSetIterator iterator = set.iterator();
-        while (iterator.hasNext) {
-            add(iterator.next());
-        }
-    }
-
-    private void addResize(int key) {
-        if (key == 0) {
-            this.hasZeroValue = true;
-            return;
-        }
-        int index1 = key & this.mask;
-        int[] iArr = this.keyTable;
-        int key1 = iArr[index1];
-        if (key1 == 0) {
-            iArr[index1] = key;
-            int i = this.size;
-            this.size = i + 1;
-            if (i >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
+        if (set.hasZeroValue) {
+            add(0);
         }
-        int index2 = hash2(key);
-        int[] iArr2 = this.keyTable;
-        int key2 = iArr2[index2];
-        if (key2 == 0) {
-            iArr2[index2] = key;
-            int i2 = this.size;
-            this.size = i2 + 1;
-            if (i2 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
-        }
-        int index3 = hash3(key);
-        int[] iArr3 = this.keyTable;
-        int key3 = iArr3[index3];
-        if (key3 == 0) {
-            iArr3[index3] = key;
-            int i3 = this.size;
-            this.size = i3 + 1;
-            if (i3 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
+        int[] keyTable2 = set.keyTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            int key = keyTable2[i];
+            if (key != 0) {
+                add(key);
             }
-            return;
         }
-        push(key, index1, key1, index2, key2, index3, key3);
     }
 
-    private void push(int insertKey, int index1, int key1, int index2, int key2, int index3, int key3) {
-        int evictedKey;
+    private void addResize(int key) {
         int[] keyTable2 = this.keyTable;
-        int mask2 = this.mask;
-        int i = 0;
-        int pushIterations2 = this.pushIterations;
-        while (true) {
-            int random = MathUtils.random(2);
-            if (random == 0) {
-                evictedKey = key1;
-                keyTable2[index1] = insertKey;
-            } else if (random != 1) {
-                evictedKey = key3;
-                keyTable2[index3] = insertKey;
-            } else {
-                evictedKey = key2;
-                keyTable2[index2] = insertKey;
-            }
-            index1 = evictedKey & mask2;
-            key1 = keyTable2[index1];
-            if (key1 == 0) {
-                keyTable2[index1] = evictedKey;
-                int i2 = this.size;
-                this.size = i2 + 1;
-                if (i2 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            index2 = hash2(evictedKey);
-            key2 = keyTable2[index2];
-            if (key2 == 0) {
-                keyTable2[index2] = evictedKey;
-                int i3 = this.size;
-                this.size = i3 + 1;
-                if (i3 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            index3 = hash3(evictedKey);
-            key3 = keyTable2[index3];
-            if (key3 == 0) {
-                keyTable2[index3] = evictedKey;
-                int i4 = this.size;
-                this.size = i4 + 1;
-                if (i4 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            i++;
-            if (i == pushIterations2) {
-                addStash(evictedKey);
-                return;
-            }
-            insertKey = evictedKey;
-        }
-    }
-
-    private void addStash(int key) {
-        int i = this.stashSize;
-        if (i == this.stashCapacity) {
-            resize(this.capacity << 1);
-            addResize(key);
-            return;
+        int i = place(key);
+        while (keyTable2[i] != 0) {
+            i = (i + 1) & this.mask;
         }
-        this.keyTable[this.capacity + i] = key;
-        this.stashSize = i + 1;
-        this.size++;
+        keyTable2[i] = key;
     }
 
     public boolean remove(int key) {
         if (key != 0) {
-            int index = this.mask & key;
-            int[] iArr = this.keyTable;
-            if (iArr[index] == key) {
-                iArr[index] = 0;
-                this.size--;
-                return true;
-            }
-            int index2 = hash2(key);
-            int[] iArr2 = this.keyTable;
-            if (iArr2[index2] == key) {
-                iArr2[index2] = 0;
-                this.size--;
-                return true;
-            }
-            int index3 = hash3(key);
-            int[] iArr3 = this.keyTable;
-            if (iArr3[index3] != key) {
-                return removeStash(key);
+            int i = locateKey(key);
+            if (i < 0) {
+                return false;
             }
-            iArr3[index3] = 0;
-            this.size--;
+            removeSlot(i);
             return true;
         } else if (!this.hasZeroValue) {
             return false;
@@ -311,28 +153,25 @@ public class IntSet {
     }
 
     /* access modifiers changed from: package-private */
-    public boolean removeStash(int key) {
+    public int removeSlot(int index) {
         int[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (keyTable2[i] == key) {
-                removeStashIndex(i);
+        int mask2 = this.mask;
+        int i = index;
+        int next = (i + 1) & mask2;
+        while (true) {
+            int key = keyTable2[next];
+            if (key != 0) {
+                int placement = place(key);
+                if (((next - placement) & mask2) > ((i - placement) & mask2)) {
+                    keyTable2[i] = key;
+                    i = next;
+                }
+                next = (next + 1) & mask2;
+            } else {
+                keyTable2[i] = 0;
                 this.size--;
-                return true;
+                return i;
             }
-            i++;
-        }
-        return false;
-    }
-
-    /* access modifiers changed from: package-private */
-    public void removeStashIndex(int index) {
-        this.stashSize--;
-        int lastIndex = this.capacity + this.stashSize;
-        if (index < lastIndex) {
-            int[] iArr = this.keyTable;
-            iArr[index] = iArr[lastIndex];
         }
     }
 
@@ -346,11 +185,9 @@ public class IntSet {
 
     public void shrink(int maximumCapacity) {
         if (maximumCapacity >= 0) {
-            if (this.size > maximumCapacity) {
-                maximumCapacity = this.size;
-            }
-            if (this.capacity > maximumCapacity) {
-                resize(MathUtils.nextPowerOfTwo(maximumCapacity));
+            int tableSize = ObjectMap.tableSize(Math.max(maximumCapacity, this.size), this.loadFactor);
+            if (this.keyTable.length > tableSize) {
+                resize(tableSize);
                 return;
             }
             return;
@@ -359,31 +196,21 @@ public class IntSet {
     }
 
     public void clear(int maximumCapacity) {
-        if (this.capacity <= maximumCapacity) {
+        int tableSize = ObjectMap.tableSize(maximumCapacity, this.loadFactor);
+        if (this.keyTable.length <= tableSize) {
             clear();
             return;
         }
-        this.hasZeroValue = false;
         this.size = 0;
-        resize(maximumCapacity);
+        this.hasZeroValue = false;
+        resize(tableSize);
     }
 
     public void clear() {
         if (this.size != 0) {
-            int[] keyTable2 = this.keyTable;
-            int i = this.capacity + this.stashSize;
-            while (true) {
-                int i2 = i - 1;
-                if (i > 0) {
-                    keyTable2[i2] = 0;
-                    i = i2;
-                } else {
-                    this.size = 0;
-                    this.stashSize = 0;
-                    this.hasZeroValue = false;
-                    return;
-                }
-            }
+            this.size = 0;
+            this.hasZeroValue = false;
+            Arrays.fill(this.keyTable, 0);
         }
     }
 
@@ -391,29 +218,7 @@ public class IntSet {
         if (key == 0) {
             return this.hasZeroValue;
         }
-        if (this.keyTable[this.mask & key] == key) {
-            return true;
-        }
-        if (this.keyTable[hash2(key)] == key) {
-            return true;
-        }
-        if (this.keyTable[hash3(key)] != key) {
-            return containsKeyStash(key);
-        }
-        return true;
-    }
-
-    private boolean containsKeyStash(int key) {
-        int[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (keyTable2[i] == key) {
-                return true;
-            }
-            i++;
-        }
-        return false;
+        return locateKey(key) >= 0;
     }
 
     public int first() {
@@ -421,7 +226,7 @@ public class IntSet {
             return 0;
         }
         int[] keyTable2 = this.keyTable;
-        int n = this.capacity + this.stashSize;
+        int n = keyTable2.length;
         for (int i = 0; i < n; i++) {
             if (keyTable2[i] != 0) {
                 return keyTable2[i];
@@ -431,32 +236,21 @@ public class IntSet {
     }
 
     public void ensureCapacity(int additionalCapacity) {
-        if (additionalCapacity >= 0) {
-            int sizeNeeded = this.size + additionalCapacity;
-            if (sizeNeeded >= this.threshold) {
-                resize(MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) sizeNeeded) / this.loadFactor))));
-                return;
-            }
-            return;
+        int tableSize = ObjectMap.tableSize(this.size + additionalCapacity, this.loadFactor);
+        if (this.keyTable.length < tableSize) {
+            resize(tableSize);
         }
-        throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
     }
 
     private void resize(int newSize) {
-        int oldEndIndex = this.capacity + this.stashSize;
-        this.capacity = newSize;
+        int oldCapacity = this.keyTable.length;
         this.threshold = (int) (((float) newSize) * this.loadFactor);
         this.mask = newSize - 1;
-        this.hashShift = 31 - Integer.numberOfTrailingZeros(newSize);
-        this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) newSize))) * 2);
-        this.pushIterations = Math.max(Math.min(newSize, 8), ((int) Math.sqrt((double) newSize)) / 8);
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
         int[] oldKeyTable = this.keyTable;
-        this.keyTable = new int[(this.stashCapacity + newSize)];
-        int oldSize = this.size;
-        this.size = this.hasZeroValue ? 1 : 0;
-        this.stashSize = 0;
-        if (oldSize > 0) {
-            for (int i = 0; i < oldEndIndex; i++) {
+        this.keyTable = new int[newSize];
+        if (this.size > 0) {
+            for (int i = 0; i < oldCapacity; i++) {
                 int key = oldKeyTable[i];
                 if (key != 0) {
                     addResize(key);
@@ -465,19 +259,9 @@ public class IntSet {
         }
     }
 
-    private int hash2(int h) {
-        int h2 = h * PRIME2;
-        return ((h2 >>> this.hashShift) ^ h2) & this.mask;
-    }
-
-    private int hash3(int h) {
-        int h2 = h * PRIME3;
-        return ((h2 >>> this.hashShift) ^ h2) & this.mask;
-    }
-
     public int hashCode() {
         int h = 0;
-        int n = this.capacity + this.stashSize;
+        int n = this.keyTable.length;
         for (int i = 0; i < n; i++) {
             int[] iArr = this.keyTable;
             if (iArr[i] != 0) {
@@ -496,7 +280,7 @@ public class IntSet {
             return false;
         }
         int[] keyTable2 = this.keyTable;
-        int n = this.capacity + this.stashSize;
+        int n = this.keyTable.length;
         for (int i = 0; i < n; i++) {
             if (keyTable2[i] != 0 && !other.contains(keyTable2[i])) {
                 return false;
@@ -559,6 +343,20 @@ public class IntSet {
         throw new UnsupportedOperationException("Method not decompiled: com.badlogic.gdx.utils.IntSet.toString():java.lang.String");
     }
 
+    public void each(Consumer.IntConsumer consumer) {
+        if (this.hasZeroValue) {
+            consumer.accept(0);
+        }
+        int[] keyTable2 = this.keyTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            int key = keyTable2[i];
+            if (key != 0) {
+                consumer.accept(key);
+            }
+        }
+    }
+
     public IntSetIterator iterator() {
         if (Collections.allocateIterators) {
             return new IntSetIterator(this);
@@ -591,8 +389,10 @@ public class IntSet {
         static final int INDEX_ILLEGAL = -2;
         static final int INDEX_ZERO = -1;
         int currentIndex;
+        int emptyIndex;
         public boolean hasNext;
         int nextIndex;
+        int remaining;
         final IntSet set;
         boolean valid = true;
 
@@ -602,48 +402,56 @@ public class IntSet {
         }
 
         public void reset() {
+            int[] keyTable = this.set.keyTable;
+            int n = keyTable.length;
+            int empty = 0;
+            while (empty < n && keyTable[empty] != 0) {
+                empty++;
+            }
             this.currentIndex = INDEX_ILLEGAL;
-            this.nextIndex = -1;
+            this.emptyIndex = empty;
+            this.remaining = n;
             if (this.set.hasZeroValue) {
+                this.nextIndex = -1;
                 this.hasNext = true;
-            } else {
-                findNextIndex();
+                return;
             }
+            this.nextIndex = empty;
+            findNextIndex();
         }
 
         /* access modifiers changed from: package-private */
         public void findNextIndex() {
             this.hasNext = false;
+            if (this.nextIndex == -1) {
+                this.nextIndex = this.emptyIndex;
+            }
             int[] keyTable = this.set.keyTable;
-            int n = this.set.capacity + this.set.stashSize;
-            do {
-                int i = this.nextIndex + 1;
-                this.nextIndex = i;
-                if (i >= n) {
+            int mask = keyTable.length - 1;
+            while (this.remaining > 0) {
+                this.nextIndex = (this.nextIndex + 1) & mask;
+                this.remaining--;
+                if (keyTable[this.nextIndex] != 0) {
+                    this.hasNext = true;
                     return;
                 }
-            } while (keyTable[this.nextIndex] == 0);
-            this.hasNext = true;
+            }
         }
 
         public void remove() {
-            if (this.currentIndex != -1 || !this.set.hasZeroValue) {
-                int i = this.currentIndex;
-                if (i < 0) {
-                    throw new IllegalStateException("next must be called before remove.");
-                } else if (i >= this.set.capacity) {
-                    this.set.removeStashIndex(this.currentIndex);
-                    this.nextIndex = this.currentIndex - 1;
-                    findNextIndex();
-                } else {
-                    this.set.keyTable[this.currentIndex] = 0;
-                }
-            } else {
-                this.set.hasZeroValue = false;
+            int i = this.currentIndex;
+            if (i == -1 && this.set.hasZeroValue) {
+                IntSet intSet = this.set;
+                intSet.hasZeroValue = false;
+                intSet.size--;
+            } else if (i < 0) {
+                throw new IllegalStateException("next must be called before remove.");
+            } else if (this.set.removeSlot(i) != i) {
+                this.nextIndex = i;
+                this.remaining++;
+                this.hasNext = true;
             }
             this.currentIndex = INDEX_ILLEGAL;
-            IntSet intSet = this.set;
-            intSet.size--;
         }
 
         public int next() {
@@ -27,6 +27,7 @@ public class Json {
     private static final boolean debug = false;
     private final ObjectMap<Class, Object[]> classToDefaultValues;
     private final ObjectMap<Class, Serializer> classToSerializer;
+    private final ObjectSet<Class> classWithoutGeneratedSerializer;
     private final ObjectMap<Class, String> classToTag;
     private Serializer defaultSerializer;
     private boolean enumNames;
@@ -64,6 +65,7 @@ public class Json {
         this.tagToClass = new ObjectMap<>();
         this.classToTag = new ObjectMap<>();
         this.classToSerializer = new ObjectMap<>();
+        this.classWithoutGeneratedSerializer = new ObjectSet<>();
         this.classToDefaultValues = new ObjectMap<>();
         this.equals1 = new Object[]{null};
         this.equals2 = new Object[]{null};
@@ -78,6 +80,7 @@ public class Json {
         this.tagToClass = new ObjectMap<>();
         this.classToTag = new ObjectMap<>();
         this.classToSerializer = new ObjectMap<>();
+        this.classWithoutGeneratedSerializer = new ObjectSet<>();
         this.classToDefaultValues = new ObjectMap<>();
         this.equals1 = new Object[]{null};
         this.equals2 = new Object[]{null};
@@ -96,10 +99,18 @@ public class Json {
         this.ignoreDeprecated = ignoreDeprecated2;
     }
 
+    public boolean getIgnoreDeprecated() {
+        return this.ignoreDeprecated;
+    }
+
     public void setReadDeprecated(boolean readDeprecated2) {
         this.readDeprecated = readDeprecated2;
     }
 
+    public boolean getReadDeprecated() {
+        return this.readDeprecated;
+    }
+
     public void setOutputType(JsonWriter.OutputType outputType2) {
         this.outputType = outputType2;
     }
@@ -138,13 +149,42 @@ public class Json {
     }
 
     public <T> Serializer<T> getSerializer(Class<T> type) {
-        return this.classToSerializer.get(type);
+        Serializer<T> serializer = this.classToSerializer.get(type);
+        if (serializer != null || type == null || this.classWithoutGeneratedSerializer.contains(type)) {
+            return serializer;
+        }
+        Serializer<T> serializer2 = newGeneratedSerializer(type);
+        if (serializer2 == null) {
+            this.classWithoutGeneratedSerializer.add(type);
+            return null;
+        }
+        this.classToSerializer.put(type, serializer2);
+        return serializer2;
+    }
+
+    private <T> Serializer<T> newGeneratedSerializer(Class<T> type) {
+        if (!ClassReflection.isAnnotationPresent(type, GenerateJsonSerializer.class)) {
+            return null;
+        }
+        try {
+            return (Serializer) ClassReflection.newInstance(ClassReflection.forName(getGeneratedSerializerName(type)));
+        } catch (ReflectionException e) {
+            return null;
+        }
+    }
+
+    public static String getGeneratedSerializerName(Class type) {
+        return type.getName().replace('$', '_') + "JsonSerializer";
     }
 
     public void setUsePrototypes(boolean usePrototypes2) {
         this.usePrototypes = usePrototypes2;
     }
 
+    public boolean getUsePrototypes() {
+        return this.usePrototypes;
+    }
+
     public void setElementType(Class type, String fieldName, Class elementType) {
         FieldMetadata metadata = getFields(type).get(fieldName);
         if (metadata != null) {
@@ -497,6 +537,54 @@ public class Json {
         }
     }
 
+    public void writeValue(String name, int value) {
+        try {
+            this.writer.name(name).value(value);
+        } catch (IOException ex) {
+            throw new SerializationException((Throwable) ex);
+        }
+    }
+
+    public void writeValue(String name, long value) {
+        try {
+            this.writer.name(name).value(value);
+        } catch (IOException ex) {
+            throw new SerializationException((Throwable) ex);
+        }
+    }
+
+    public void writeValue(String name, float value) {
+        try {
+            this.writer.name(name).value(value);
+        } catch (IOException ex) {
+            throw new SerializationException((Throwable) ex);
+        }
+    }
+
+    public void writeValue(String name, double value) {
+        try {
+            this.writer.name(name).value(value);
+        } catch (IOException ex) {
+            throw new SerializationException((Throwable) ex);
+        }
+    }
+
+    public void writeValue(String name, boolean value) {
+        try {
+            this.writer.name(name).value(value);
+        } catch (IOException ex) {
+            throw new SerializationException((Throwable) ex);
+        }
+    }
+
+    public void writeValue(String name, char value) {
+        try {
+            this.writer.name(name).value(value);
+        } catch (IOException ex) {
+            throw new SerializationException((Throwable) ex);
+        }
+    }
+
     public void writeValue(String name, Object value, Class knownType) {
         try {
             this.writer.name(name);
@@ -549,7 +637,7 @@ public class Json {
                         writeObjectEnd();
                         return;
                     } else {
-                        Serializer serializer = this.classToSerializer.get(actualType);
+                        Serializer serializer = getSerializer(actualType);
                         if (serializer != null) {
                             serializer.write(this, value, knownType);
                             return;
@@ -1007,9 +1095,7 @@ public class Json {
             r0.<init>((java.lang.String) r2)
             throw r0
         L_0x0073:
-            com.badlogic.gdx.utils.ObjectMap<java.lang.Class, com.badlogic.gdx.utils.Json$Serializer> r2 = r9.classToSerializer
-            java.lang.Object r2 = r2.get(r10)
-            com.badlogic.gdx.utils.Json$Serializer r2 = (com.badlogic.gdx.utils.Json.Serializer) r2
+            com.badlogic.gdx.utils.Json$Serializer r2 = r9.getSerializer(r10)
             if (r2 == 0) goto L_0x0082
             java.lang.Object r0 = r2.read(r9, r12, r10)
             return r0
@@ -1134,9 +1220,7 @@ public class Json {
             return r0
         L_0x014f:
             if (r10 == 0) goto L_0x0173
-            com.badlogic.gdx.utils.ObjectMap<java.lang.Class, com.badlogic.gdx.utils.Json$Serializer> r1 = r9.classToSerializer
-            java.lang.Object r1 = r1.get(r10)
-            com.badlogic.gdx.utils.Json$Serializer r1 = (com.badlogic.gdx.utils.Json.Serializer) r1
+            com.badlogic.gdx.utils.Json$Serializer r1 = r9.getSerializer(r10)
             if (r1 == 0) goto L_0x0160
             java.lang.Object r0 = r1.read(r9, r12, r10)
             return r0
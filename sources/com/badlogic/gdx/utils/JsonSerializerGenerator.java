@@ -0,0 +1,309 @@
+package com.badlogic.gdx.utils;
+
+import com.badlogic.gdx.files.FileHandle;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+public class JsonSerializerGenerator {
+    private final File outputDirectory;
+
+    public JsonSerializerGenerator(File outputDirectory2) {
+        this.outputDirectory = outputDirectory2;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Usage: JsonSerializerGenerator outputDirectory className...");
+            return;
+        }
+        JsonSerializerGenerator generator = new JsonSerializerGenerator(new File(args[0]));
+        for (int i = 1; i < args.length; i++) {
+            generator.generate(Class.forName(args[i]));
+        }
+    }
+
+    public FileHandle generate(Class type) {
+        if (type.isAnnotationPresent(GenerateJsonSerializer.class)) {
+            String serializerName = Json.getGeneratedSerializerName(type);
+            FileHandle file = new FileHandle(new File(this.outputDirectory, serializerName.replace('.', '/') + ".java"));
+            file.parent().mkdirs();
+            file.writeString(generateSource(type), false, "UTF-8");
+            return file;
+        }
+        throw new GdxRuntimeException("Class is not annotated with @GenerateJsonSerializer: " + type.getName());
+    }
+
+    public String generateSource(Class type) {
+        String packageName = getPackageName(type);
+        if (!isAccessible(type, packageName) || Modifier.isAbstract(type.getModifiers()) || type.isInterface()) {
+            throw new GdxRuntimeException("Class must be concrete and visible from its package: " + type.getName());
+        }
+        try {
+            if (Modifier.isPrivate(type.getDeclaredConstructor(new Class[0]).getModifiers())) {
+                throw new GdxRuntimeException("No-arg constructor must not be private: " + type.getName());
+            }
+            String serializerName = Json.getGeneratedSerializerName(type);
+            String simpleName = serializerName.substring(serializerName.lastIndexOf('.') + 1);
+            String typeName = type.getCanonicalName();
+            Array<Field> fields = getFields(type);
+            StringBuilder buffer = new StringBuilder(1024);
+            if (packageName.length() > 0) {
+                buffer.append("package ").append(packageName).append(";\n\n");
+            }
+            boolean hasDeprecated = false;
+            boolean hasObjects = false;
+            boolean hasReflected = false;
+            int n = fields.size;
+            for (int i = 0; i < n; i++) {
+                Field field = fields.get(i);
+                if (field.isAnnotationPresent(Deprecated.class)) {
+                    hasDeprecated = true;
+                }
+                if (!isDirectlyAccessible(field, packageName)) {
+                    hasReflected = true;
+                } else if (!field.getType().isPrimitive()) {
+                    hasObjects = true;
+                }
+            }
+            if (hasReflected) {
+                buffer.append("import com.badlogic.gdx.utils.GdxRuntimeException;\n");
+            }
+            buffer.append("import com.badlogic.gdx.utils.Json;\n");
+            buffer.append("import com.badlogic.gdx.utils.JsonValue;\n");
+            if (hasReflected) {
+                buffer.append("import com.badlogic.gdx.utils.SerializationException;\n");
+                buffer.append("import com.badlogic.gdx.utils.reflect.ClassReflection;\n");
+                buffer.append("import com.badlogic.gdx.utils.reflect.Field;\n");
+                buffer.append("import com.badlogic.gdx.utils.reflect.ReflectionException;\n");
+            }
+            if (hasObjects || hasReflected) {
+                buffer.append("import java.util.Arrays;\n");
+            }
+            buffer.append("\n");
+            buffer.append("public class ").append(simpleName).append(" implements Json.Serializer<").append(typeName).append("> {\n");
+            buffer.append("    private static final ").append(typeName).append(" prototype = new ").append(typeName).append("();\n");
+            for (int i2 = 0; i2 < n; i2++) {
+                Field field2 = fields.get(i2);
+                if (!isDirectlyAccessible(field2, packageName)) {
+                    buffer.append("    private static final Field ").append(getFieldConstant(field2)).append(" = findField(\"").append(field2.getName()).append("\");\n");
+                }
+            }
+            buffer.append("\n");
+            buffer.append("    public void write(Json json, ").append(typeName).append(" object, Class knownType) {\n");
+            buffer.append("        boolean usePrototypes = json.getUsePrototypes();\n");
+            if (hasDeprecated) {
+                buffer.append("        boolean ignoreDeprecated = json.getIgnoreDeprecated();\n");
+            }
+            buffer.append("        json.writeObjectStart(").append(typeName).append(".class, knownType);\n");
+            for (int i3 = 0; i3 < n; i3++) {
+                Field field3 = fields.get(i3);
+                String name = field3.getName();
+                Class fieldType = field3.getType();
+                String indent = "        ";
+                if (field3.isAnnotationPresent(Deprecated.class)) {
+                    buffer.append("        if (!ignoreDeprecated) {\n");
+                    indent = "            ";
+                }
+                buffer.append(indent).append("if (!usePrototypes || ");
+                if (!isDirectlyAccessible(field3, packageName)) {
+                    buffer.append("!isDefault(").append(getFieldConstant(field3)).append(", object)) {\n");
+                    buffer.append(indent).append("    json.writeField(object, \"").append(name).append("\");\n");
+                } else if (fieldType.isPrimitive()) {
+                    if (fieldType == Float.TYPE) {
+                        buffer.append("Float.compare(object.").append(name).append(", prototype.").append(name).append(") != 0) {\n");
+                    } else if (fieldType == Double.TYPE) {
+                        buffer.append("Double.compare(object.").append(name).append(", prototype.").append(name).append(") != 0) {\n");
+                    } else {
+                        buffer.append("object.").append(name).append(" != prototype.").append(name).append(") {\n");
+                    }
+                    buffer.append(indent).append("    json.writeValue(\"").append(name).append("\", object.").append(name).append(");\n");
+                } else {
+                    buffer.append("!isDefault(object.").append(name).append(", prototype.").append(name).append(")) {\n");
+                    buffer.append(indent).append("    json.writeValue(\"").append(name).append("\", object.").append(name).append(", ").append(fieldType.getCanonicalName()).append(".class, ").append(getElementTypeLiteral(field3, packageName)).append(");\n");
+                }
+                buffer.append(indent).append("}\n");
+                if (field3.isAnnotationPresent(Deprecated.class)) {
+                    buffer.append("        }\n");
+                }
+            }
+            buffer.append("        json.writeObjectEnd();\n");
+            buffer.append("    }\n\n");
+            buffer.append("    public ").append(typeName).append(" read(Json json, JsonValue jsonData, Class type) {\n");
+            buffer.append("        if (jsonData.isNull()) {\n");
+            buffer.append("            return null;\n");
+            buffer.append("        }\n");
+            if (hasDeprecated) {
+                buffer.append("        boolean skipDeprecated = json.getIgnoreDeprecated() && !json.getReadDeprecated();\n");
+            }
+            buffer.append("        ").append(typeName).append(" object = new ").append(typeName).append("();\n");
+            for (int i4 = 0; i4 < n; i4++) {
+                Field field4 = fields.get(i4);
+                String name2 = field4.getName();
+                Class fieldType2 = field4.getType();
+                String indent2 = "        ";
+                if (field4.isAnnotationPresent(Deprecated.class)) {
+                    buffer.append("        if (!skipDeprecated) {\n");
+                    indent2 = "            ";
+                }
+                if (!isDirectlyAccessible(field4, packageName)) {
+                    buffer.append(indent2).append("json.readField(object, \"").append(name2).append("\", jsonData);\n");
+                } else if (fieldType2.isPrimitive()) {
+                    buffer.append(indent2).append("object.").append(name2).append(" = jsonData.get").append(getPrimitiveAccessor(fieldType2)).append("(\"").append(name2).append("\", object.").append(name2).append(");\n");
+                } else {
+                    buffer.append(indent2).append("object.").append(name2).append(" = json.readValue(\"").append(name2).append("\", ").append(fieldType2.getCanonicalName()).append(".class, ").append(getElementTypeLiteral(field4, packageName)).append(", object.").append(name2).append(", jsonData);\n");
+                }
+                if (field4.isAnnotationPresent(Deprecated.class)) {
+                    buffer.append("        }\n");
+                }
+            }
+            buffer.append("        return object;\n");
+            buffer.append("    }\n");
+            if (hasObjects || hasReflected) {
+                buffer.append("\n");
+                buffer.append("    private static boolean isDefault(Object value, Object defaultValue) {\n");
+                buffer.append("        if (value == null || defaultValue == null) {\n");
+                buffer.append("            return value == defaultValue;\n");
+                buffer.append("        }\n");
+                buffer.append("        if (value.equals(defaultValue)) {\n");
+                buffer.append("            return true;\n");
+                buffer.append("        }\n");
+                buffer.append("        return value.getClass().isArray() && defaultValue.getClass().isArray() && Arrays.deepEquals(new Object[]{value}, new Object[]{defaultValue});\n");
+                buffer.append("    }\n");
+            }
+            if (hasReflected) {
+                buffer.append("\n");
+                buffer.append("    private static boolean isDefault(Field field, Object object) {\n");
+                buffer.append("        try {\n");
+                buffer.append("            return isDefault(field.get(object), field.get(prototype));\n");
+                buffer.append("        } catch (ReflectionException ex) {\n");
+                buffer.append("            throw new SerializationException(\"Error accessing field: \" + field.getName() + \" (").append(type.getName()).append(")\", ex);\n");
+                buffer.append("        }\n");
+                buffer.append("    }\n\n");
+                buffer.append("    private static Field findField(String name) {\n");
+                buffer.append("        for (Class nextClass = ").append(typeName).append(".class; nextClass != Object.class; nextClass = nextClass.getSuperclass()) {\n");
+                buffer.append("            try {\n");
+                buffer.append("                Field field = ClassReflection.getDeclaredField(nextClass, name);\n");
+                buffer.append("                field.setAccessible(true);\n");
+                buffer.append("                return field;\n");
+                buffer.append("            } catch (ReflectionException e) {\n");
+                buffer.append("            }\n");
+                buffer.append("        }\n");
+                buffer.append("        throw new GdxRuntimeException(\"Field not found: \" + name + \" (").append(type.getName()).append(")\");\n");
+                buffer.append("    }\n");
+            }
+            buffer.append("}\n");
+            return buffer.toString();
+        } catch (NoSuchMethodException e) {
+            throw new GdxRuntimeException("Class must have a no-arg constructor: " + type.getName(), e);
+        }
+    }
+
+    private Array<Field> getFields(Class type) {
+        Array<Class> classHierarchy = new Array<>();
+        for (Class nextClass = type; nextClass != Object.class; nextClass = nextClass.getSuperclass()) {
+            classHierarchy.add(nextClass);
+        }
+        Array<Field> fields = new Array<>();
+        for (int i = classHierarchy.size - 1; i >= 0; i--) {
+            for (Field field : classHierarchy.get(i).getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isTransient(modifiers) && !Modifier.isStatic(modifiers) && !field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private boolean isDirectlyAccessible(Field field, String packageName) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isPrivate(modifiers) || Modifier.isFinal(modifiers)) {
+            return false;
+        }
+        if (!Modifier.isPublic(modifiers) && !getPackageName(field.getDeclaringClass()).equals(packageName)) {
+            return false;
+        }
+        return isAccessible(field.getDeclaringClass(), packageName) && isAccessible(field.getType(), packageName);
+    }
+
+    private boolean isAccessible(Class type, String packageName) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (type.getCanonicalName() == null) {
+            return false;
+        }
+        for (Class nextClass = type; nextClass != null; nextClass = nextClass.getEnclosingClass()) {
+            int modifiers = nextClass.getModifiers();
+            if (Modifier.isPrivate(modifiers)) {
+                return false;
+            }
+            if (!Modifier.isPublic(modifiers) && !getPackageName(nextClass).equals(packageName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String getElementTypeLiteral(Field field, String packageName) {
+        Type genericType = field.getGenericType();
+        if (!(genericType instanceof ParameterizedType)) {
+            return "null";
+        }
+        Type[] actualTypes = ((ParameterizedType) genericType).getActualTypeArguments();
+        int index = (ObjectMap.class.isAssignableFrom(field.getType()) || Map.class.isAssignableFrom(field.getType())) ? 1 : 0;
+        if (index >= actualTypes.length) {
+            return "null";
+        }
+        Type actualType = actualTypes[index];
+        if (actualType instanceof ParameterizedType) {
+            actualType = ((ParameterizedType) actualType).getRawType();
+        }
+        if (!(actualType instanceof Class) || !isAccessible((Class) actualType, packageName)) {
+            return "null";
+        }
+        return ((Class) actualType).getCanonicalName() + ".class";
+    }
+
+    private static String getFieldConstant(Field field) {
+        return field.getName() + "Field";
+    }
+
+    private static String getPrimitiveAccessor(Class type) {
+        if (type == Integer.TYPE) {
+            return "Int";
+        }
+        if (type == Float.TYPE) {
+            return "Float";
+        }
+        if (type == Boolean.TYPE) {
+            return "Boolean";
+        }
+        if (type == Long.TYPE) {
+            return "Long";
+        }
+        if (type == Double.TYPE) {
+            return "Double";
+        }
+        if (type == Short.TYPE) {
+            return "Short";
+        }
+        if (type == Byte.TYPE) {
+            return "Byte";
+        }
+        return "Char";
+    }
+
+    private static String getPackageName(Class type) {
+        String name = type.getName();
+        int index = name.lastIndexOf('.');
+        return index == -1 ? "" : name.substring(0, index);
+    }
+}
@@ -79,6 +79,55 @@ public class JsonWriter extends Writer {
         return this;
     }
 
+    public JsonWriter value(int value) throws IOException {
+        requireCommaOrName();
+        this.writer.write(Integer.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        if (this.quoteLongValues) {
+            return value((Object) Long.valueOf(value));
+        }
+        requireCommaOrName();
+        this.writer.write(Long.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(float value) throws IOException {
+        long longValue = (long) value;
+        requireCommaOrName();
+        if (((double) value) == ((double) longValue)) {
+            this.writer.write(Long.toString(longValue));
+        } else {
+            this.writer.write(Float.toString(value));
+        }
+        return this;
+    }
+
+    public JsonWriter value(double value) throws IOException {
+        if (this.quoteLongValues) {
+            return value((Object) Double.valueOf(value));
+        }
+        long longValue = (long) value;
+        if (value == ((double) longValue)) {
+            return value(longValue);
+        }
+        requireCommaOrName();
+        this.writer.write(Double.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        requireCommaOrName();
+        this.writer.write(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter value(char value) throws IOException {
+        return value((Object) Character.valueOf(value));
+    }
+
     public JsonWriter json(String json) throws IOException {
         requireCommaOrName();
         this.writer.write(json);
@@ -1,28 +1,20 @@
 package com.badlogic.gdx.utils;
 
-import com.badlogic.gdx.math.MathUtils;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 public class LongMap<V> implements Iterable<Entry<V>> {
-    private static final int EMPTY = 0;
-    private static final int PRIME1 = -1105259343;
-    private static final int PRIME2 = -1262997959;
-    private static final int PRIME3 = -825114047;
-    int capacity;
     private Entries entries1;
     private Entries entries2;
     boolean hasZeroValue;
-    private int hashShift;
     long[] keyTable;
     private Keys keys1;
     private Keys keys2;
     private float loadFactor;
-    private int mask;
-    private int pushIterations;
+    protected int mask;
+    protected int shift;
     public int size;
-    private int stashCapacity;
-    int stashSize;
     private int threshold;
     V[] valueTable;
     private Values values1;
@@ -38,34 +30,22 @@ public class LongMap<V> implements Iterable<Entry<V>> {
     }
 
     public LongMap(int initialCapacity, float loadFactor2) {
-        if (initialCapacity >= 0) {
-            int initialCapacity2 = MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) initialCapacity) / loadFactor2)));
-            if (initialCapacity2 <= 1073741824) {
-                this.capacity = initialCapacity2;
-                if (loadFactor2 > 0.0f) {
-                    this.loadFactor = loadFactor2;
-                    int i = this.capacity;
-                    this.threshold = (int) (((float) i) * loadFactor2);
-                    this.mask = i - 1;
-                    this.hashShift = 63 - Long.numberOfTrailingZeros((long) i);
-                    this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) this.capacity))) * 2);
-                    this.pushIterations = Math.max(Math.min(this.capacity, 8), ((int) Math.sqrt((double) this.capacity)) / 8);
-                    this.keyTable = new long[(this.capacity + this.stashCapacity)];
-                    this.valueTable = (Object[]) new Object[this.keyTable.length];
-                    return;
-                }
-                throw new IllegalArgumentException("loadFactor must be > 0: " + loadFactor2);
-            }
-            throw new IllegalArgumentException("initialCapacity is too large: " + initialCapacity2);
+        if (loadFactor2 <= 0.0f || loadFactor2 >= 1.0f) {
+            throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor2);
         }
-        throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+        this.loadFactor = loadFactor2;
+        int tableSize = ObjectMap.tableSize(initialCapacity, loadFactor2);
+        this.threshold = (int) (((float) tableSize) * loadFactor2);
+        this.mask = tableSize - 1;
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
+        this.keyTable = new long[tableSize];
+        this.valueTable = (V[]) new Object[tableSize];
     }
 
     public LongMap(LongMap<? extends V> map) {
-        this((int) Math.floor((double) (((float) map.capacity) * map.loadFactor)), map.loadFactor);
-        this.stashSize = map.stashSize;
-        long[] jArr = map.keyTable;
-        System.arraycopy(jArr, 0, this.keyTable, 0, jArr.length);
+        this((int) (((float) map.keyTable.length) * map.loadFactor), map.loadFactor);
+        long[] kArr = map.keyTable;
+        System.arraycopy(kArr, 0, this.keyTable, 0, kArr.length);
         V[] vArr = map.valueTable;
         System.arraycopy(vArr, 0, this.valueTable, 0, vArr.length);
         this.size = map.size;
@@ -73,385 +53,152 @@ public class LongMap<V> implements Iterable<Entry<V>> {
         this.hasZeroValue = map.hasZeroValue;
     }
 
+    /* access modifiers changed from: protected */
+    public int place(long item) {
+        return (int) (((item ^ (item >>> 32)) * -7046029254386353131L) >>> this.shift);
+    }
+
+    private int locateKey(long key) {
+        long[] keyTable2 = this.keyTable;
+        int i = place(key);
+        while (true) {
+            long other = keyTable2[i];
+            if (other == 0) {
+                return -(i + 1);
+            }
+            if (other == key) {
+                return i;
+            }
+            i = (i + 1) & this.mask;
+        }
+    }
+
     public V put(long key, V value) {
-        V v = value;
         if (key == 0) {
             V oldValue = this.zeroValue;
-            this.zeroValue = v;
+            this.zeroValue = value;
             if (!this.hasZeroValue) {
                 this.hasZeroValue = true;
                 this.size++;
             }
             return oldValue;
         }
-        long[] keyTable2 = this.keyTable;
-        int index1 = (int) (key & ((long) this.mask));
-        long key1 = keyTable2[index1];
-        if (key1 == key) {
+        int i = locateKey(key);
+        if (i >= 0) {
             V[] vArr = this.valueTable;
-            V oldValue2 = vArr[index1];
-            vArr[index1] = v;
+            V oldValue2 = vArr[i];
+            vArr[i] = value;
             return oldValue2;
         }
-        int index2 = hash2(key);
-        long key2 = keyTable2[index2];
-        if (key2 == key) {
-            V[] vArr2 = this.valueTable;
-            V oldValue3 = vArr2[index2];
-            vArr2[index2] = v;
-            return oldValue3;
-        }
-        int index3 = hash3(key);
-        long key3 = keyTable2[index3];
-        if (key3 == key) {
-            V[] vArr3 = this.valueTable;
-            V oldValue4 = vArr3[index3];
-            vArr3[index3] = v;
-            return oldValue4;
-        }
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (keyTable2[i] == key) {
-                V[] vArr4 = this.valueTable;
-                V oldValue5 = vArr4[i];
-                vArr4[i] = v;
-                return oldValue5;
-            }
-            i++;
-        }
-        if (key1 == 0) {
-            keyTable2[index1] = key;
-            this.valueTable[index1] = v;
-            int i2 = this.size;
-            this.size = i2 + 1;
-            if (i2 >= this.threshold) {
-                resize(this.capacity << 1);
-            }
-            return null;
-        } else if (key2 == 0) {
-            keyTable2[index2] = key;
-            this.valueTable[index2] = v;
-            int i3 = this.size;
-            this.size = i3 + 1;
-            if (i3 >= this.threshold) {
-                resize(this.capacity << 1);
-            }
-            return null;
-        } else if (key3 == 0) {
-            keyTable2[index3] = key;
-            this.valueTable[index3] = v;
-            int i4 = this.size;
-            this.size = i4 + 1;
-            if (i4 >= this.threshold) {
-                resize(this.capacity << 1);
-            }
-            return null;
-        } else {
-            int i5 = index1;
-            push(key, value, index1, key1, index2, key2, index3, key3);
-            return null;
+        int i2 = -(i + 1);
+        this.keyTable[i2] = key;
+        this.valueTable[i2] = value;
+        int i3 = this.size + 1;
+        this.size = i3;
+        if (i3 >= this.threshold) {
+            resize(this.keyTable.length << 1);
         }
+        return null;
     }
 
     public void putAll(LongMap<? extends V> map) {
-        Iterator<Entry<? extends V>> it = map.entries().iterator();
-        while (it.hasNext()) {
-            Entry<? extends V> entry = it.next();
-            put(entry.key, entry.value);
+        ensureCapacity(map.size);
+        if (map.hasZeroValue) {
+            put(0, map.zeroValue);
         }
-    }
-
-    private void putResize(long key, V value) {
-        V v = value;
-        if (key == 0) {
-            this.zeroValue = v;
-            this.hasZeroValue = true;
-            return;
-        }
-        int index1 = (int) (key & ((long) this.mask));
-        long[] jArr = this.keyTable;
-        long key1 = jArr[index1];
-        if (key1 == 0) {
-            jArr[index1] = key;
-            this.valueTable[index1] = v;
-            int i = this.size;
-            this.size = i + 1;
-            if (i >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
-        }
-        int index2 = hash2(key);
-        long[] jArr2 = this.keyTable;
-        long key2 = jArr2[index2];
-        if (key2 == 0) {
-            jArr2[index2] = key;
-            this.valueTable[index2] = v;
-            int i2 = this.size;
-            this.size = i2 + 1;
-            if (i2 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
-        }
-        int index3 = hash3(key);
-        long[] jArr3 = this.keyTable;
-        long key3 = jArr3[index3];
-        if (key3 == 0) {
-            jArr3[index3] = key;
-            this.valueTable[index3] = v;
-            int i3 = this.size;
-            this.size = i3 + 1;
-            if (i3 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
-        }
-        push(key, value, index1, key1, index2, key2, index3, key3);
-    }
-
-    private void push(long insertKey, V insertValue, int index1, long key1, int index2, long key2, int index3, long key3) {
-        long[] keyTable2;
-        V evictedValue;
-        long evictedKey;
-        long[] keyTable3 = this.keyTable;
-        V[] valueTable2 = this.valueTable;
-        int mask2 = this.mask;
-        int pushIterations2 = this.pushIterations;
-        long insertKey2 = insertKey;
-        V insertValue2 = insertValue;
-        int index12 = index1;
-        long key12 = key1;
-        int index22 = index2;
-        long key22 = key2;
-        long key32 = key3;
-        int i = 0;
-        int index32 = index3;
-        while (true) {
-            int pushIterations3 = pushIterations2;
-            int pushIterations4 = MathUtils.random(2);
-            if (pushIterations4 == 0) {
-                evictedValue = valueTable2[index12];
-                keyTable3[index12] = insertKey2;
-                valueTable2[index12] = insertValue2;
-                keyTable2 = keyTable3;
-                evictedKey = key12;
-            } else if (pushIterations4 != 1) {
-                evictedValue = valueTable2[index32];
-                keyTable3[index32] = insertKey2;
-                valueTable2[index32] = insertValue2;
-                keyTable2 = keyTable3;
-                evictedKey = key32;
-            } else {
-                evictedValue = valueTable2[index22];
-                keyTable3[index22] = insertKey2;
-                valueTable2[index22] = insertValue2;
-                keyTable2 = keyTable3;
-                evictedKey = key22;
-            }
-            long j = key32;
-            index12 = (int) (((long) mask2) & evictedKey);
-            key12 = keyTable2[index12];
-            if (key12 == 0) {
-                keyTable2[index12] = evictedKey;
-                valueTable2[index12] = evictedValue;
-                int i2 = this.size;
-                int i3 = mask2;
-                this.size = i2 + 1;
-                if (i2 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            int mask3 = mask2;
-            index22 = hash2(evictedKey);
-            key22 = keyTable2[index22];
-            if (key22 == 0) {
-                keyTable2[index22] = evictedKey;
-                valueTable2[index22] = evictedValue;
-                int i4 = this.size;
-                this.size = i4 + 1;
-                if (i4 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            index32 = hash3(evictedKey);
-            long key33 = keyTable2[index32];
-            if (key33 == 0) {
-                keyTable2[index32] = evictedKey;
-                valueTable2[index32] = evictedValue;
-                int i5 = this.size;
-                this.size = i5 + 1;
-                if (i5 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            int i6 = i + 1;
-            int pushIterations5 = pushIterations3;
-            if (i6 == pushIterations5) {
-                putStash(evictedKey, evictedValue);
-                return;
+        long[] keyTable2 = map.keyTable;
+        V[] valueTable2 = map.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            long key = keyTable2[i];
+            if (key != 0) {
+                put(key, valueTable2[i]);
             }
-            insertKey2 = evictedKey;
-            insertValue2 = evictedValue;
-            i = i6;
-            pushIterations2 = pushIterations5;
-            keyTable3 = keyTable2;
-            mask2 = mask3;
-            key32 = key33;
         }
     }
 
-    private void putStash(long key, V value) {
-        int i = this.stashSize;
-        if (i == this.stashCapacity) {
-            resize(this.capacity << 1);
-            putResize(key, value);
-            return;
+    private void putResize(long key, V value) {
+        long[] keyTable2 = this.keyTable;
+        int i = place(key);
+        while (keyTable2[i] != 0) {
+            i = (i + 1) & this.mask;
         }
-        int index = this.capacity + i;
-        this.keyTable[index] = key;
-        this.valueTable[index] = value;
-        this.stashSize = i + 1;
-        this.size++;
+        keyTable2[i] = key;
+        this.valueTable[i] = value;
     }
 
     public V get(long key) {
-        if (key != 0) {
-            int index = (int) (((long) this.mask) & key);
-            if (this.keyTable[index] != key) {
-                index = hash2(key);
-                if (this.keyTable[index] != key) {
-                    index = hash3(key);
-                    if (this.keyTable[index] != key) {
-                        return getStash(key, (Object) null);
-                    }
-                }
+        if (key == 0) {
+            if (!this.hasZeroValue) {
+                return null;
             }
-            return this.valueTable[index];
-        } else if (!this.hasZeroValue) {
-            return null;
-        } else {
             return this.zeroValue;
         }
+        int i = locateKey(key);
+        if (i < 0) {
+            return null;
+        }
+        return this.valueTable[i];
     }
 
     public V get(long key, V defaultValue) {
-        if (key != 0) {
-            int index = (int) (((long) this.mask) & key);
-            if (this.keyTable[index] != key) {
-                index = hash2(key);
-                if (this.keyTable[index] != key) {
-                    index = hash3(key);
-                    if (this.keyTable[index] != key) {
-                        return getStash(key, defaultValue);
-                    }
-                }
+        if (key == 0) {
+            if (!this.hasZeroValue) {
+                return defaultValue;
             }
-            return this.valueTable[index];
-        } else if (!this.hasZeroValue) {
-            return defaultValue;
-        } else {
             return this.zeroValue;
         }
-    }
-
-    private V getStash(long key, V defaultValue) {
-        long[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (keyTable2[i] == key) {
-                return this.valueTable[i];
-            }
-            i++;
+        int i = locateKey(key);
+        if (i < 0) {
+            return defaultValue;
         }
-        return defaultValue;
+        return this.valueTable[i];
     }
 
     public V remove(long key) {
-        if (key != 0) {
-            int index = (int) (((long) this.mask) & key);
-            long[] jArr = this.keyTable;
-            if (jArr[index] == key) {
-                jArr[index] = 0;
-                V[] vArr = this.valueTable;
-                V oldValue = vArr[index];
-                vArr[index] = null;
-                this.size--;
-                return oldValue;
-            }
-            int index2 = hash2(key);
-            long[] jArr2 = this.keyTable;
-            if (jArr2[index2] == key) {
-                jArr2[index2] = 0;
-                V[] vArr2 = this.valueTable;
-                V oldValue2 = vArr2[index2];
-                vArr2[index2] = null;
-                this.size--;
-                return oldValue2;
-            }
-            int index3 = hash3(key);
-            long[] jArr3 = this.keyTable;
-            if (jArr3[index3] != key) {
-                return removeStash(key);
+        if (key == 0) {
+            if (!this.hasZeroValue) {
+                return null;
             }
-            jArr3[index3] = 0;
-            V[] vArr3 = this.valueTable;
-            V oldValue3 = vArr3[index3];
-            vArr3[index3] = null;
-            this.size--;
-            return oldValue3;
-        } else if (!this.hasZeroValue) {
-            return null;
-        } else {
-            V oldValue4 = this.zeroValue;
-            this.zeroValue = null;
             this.hasZeroValue = false;
+            V oldValue = this.zeroValue;
+            this.zeroValue = null;
             this.size--;
-            return oldValue4;
+            return oldValue;
         }
+        int i = locateKey(key);
+        if (i < 0) {
+            return null;
+        }
+        V oldValue2 = this.valueTable[i];
+        removeSlot(i);
+        return oldValue2;
     }
 
     /* access modifiers changed from: package-private */
-    public V removeStash(long key) {
+    public int removeSlot(int index) {
         long[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (keyTable2[i] == key) {
-                V oldValue = this.valueTable[i];
-                removeStashIndex(i);
+        V[] valueTable2 = this.valueTable;
+        int mask2 = this.mask;
+        int i = index;
+        int next = (i + 1) & mask2;
+        while (true) {
+            long key = keyTable2[next];
+            if (key != 0) {
+                int placement = place(key);
+                if (((next - placement) & mask2) > ((i - placement) & mask2)) {
+                    keyTable2[i] = key;
+                    valueTable2[i] = valueTable2[next];
+                    i = next;
+                }
+                next = (next + 1) & mask2;
+            } else {
+                keyTable2[i] = 0;
+                valueTable2[i] = null;
                 this.size--;
-                return oldValue;
+                return i;
             }
-            i++;
         }
-        return null;
-    }
-
-    /* access modifiers changed from: package-private */
-    public void removeStashIndex(int index) {
-        this.stashSize--;
-        int lastIndex = this.capacity + this.stashSize;
-        if (index < lastIndex) {
-            long[] jArr = this.keyTable;
-            jArr[index] = jArr[lastIndex];
-            V[] vArr = this.valueTable;
-            vArr[index] = vArr[lastIndex];
-            vArr[lastIndex] = null;
-            return;
-        }
-        this.valueTable[index] = null;
     }
 
     public boolean notEmpty() {
@@ -464,11 +211,9 @@ public class LongMap<V> implements Iterable<Entry<V>> {
 
     public void shrink(int maximumCapacity) {
         if (maximumCapacity >= 0) {
-            if (this.size > maximumCapacity) {
-                maximumCapacity = this.size;
-            }
-            if (this.capacity > maximumCapacity) {
-                resize(MathUtils.nextPowerOfTwo(maximumCapacity));
+            int tableSize = ObjectMap.tableSize(Math.max(maximumCapacity, this.size), this.loadFactor);
+            if (this.keyTable.length > tableSize) {
+                resize(tableSize);
                 return;
             }
             return;
@@ -477,85 +222,59 @@ public class LongMap<V> implements Iterable<Entry<V>> {
     }
 
     public void clear(int maximumCapacity) {
-        if (this.capacity <= maximumCapacity) {
+        int tableSize = ObjectMap.tableSize(maximumCapacity, this.loadFactor);
+        if (this.keyTable.length <= tableSize) {
             clear();
             return;
         }
         this.zeroValue = null;
         this.hasZeroValue = false;
         this.size = 0;
-        resize(maximumCapacity);
+        resize(tableSize);
     }
 
     public void clear() {
         if (this.size != 0) {
-            long[] keyTable2 = this.keyTable;
-            V[] valueTable2 = this.valueTable;
-            int i = this.capacity + this.stashSize;
-            while (true) {
-                int i2 = i - 1;
-                if (i > 0) {
-                    keyTable2[i2] = 0;
-                    valueTable2[i2] = null;
-                    i = i2;
-                } else {
-                    this.size = 0;
-                    this.stashSize = 0;
-                    this.zeroValue = null;
-                    this.hasZeroValue = false;
-                    return;
-                }
-            }
+            Arrays.fill(this.keyTable, 0L);
+            Arrays.fill(this.valueTable, (Object) null);
+            this.size = 0;
+            this.zeroValue = null;
+            this.hasZeroValue = false;
         }
     }
 
     public boolean containsValue(Object value, boolean identity) {
         V[] valueTable2 = this.valueTable;
+        long[] keyTable2 = this.keyTable;
         if (value == null) {
             if (this.hasZeroValue && this.zeroValue == null) {
                 return true;
             }
-            long[] keyTable2 = this.keyTable;
-            int i = this.capacity + this.stashSize;
-            while (true) {
-                int i2 = i - 1;
-                if (i <= 0) {
-                    return false;
-                }
-                if (keyTable2[i2] != 0 && valueTable2[i2] == null) {
+            for (int i = valueTable2.length - 1; i >= 0; i--) {
+                if (keyTable2[i] != 0 && valueTable2[i] == null) {
                     return true;
                 }
-                i = i2;
             }
+            return false;
         } else if (identity) {
             if (value == this.zeroValue) {
                 return true;
             }
-            int i3 = this.capacity + this.stashSize;
-            while (true) {
-                int i4 = i3 - 1;
-                if (i3 <= 0) {
-                    return false;
-                }
-                if (valueTable2[i4] == value) {
+            for (int i2 = valueTable2.length - 1; i2 >= 0; i2--) {
+                if (valueTable2[i2] == value) {
                     return true;
                 }
-                i3 = i4;
             }
+            return false;
         } else if (this.hasZeroValue && value.equals(this.zeroValue)) {
             return true;
         } else {
-            int i5 = this.capacity + this.stashSize;
-            while (true) {
-                int i6 = i5 - 1;
-                if (i5 <= 0) {
-                    return false;
-                }
-                if (value.equals(valueTable2[i6])) {
+            for (int i3 = valueTable2.length - 1; i3 >= 0; i3--) {
+                if (value.equals(valueTable2[i3])) {
                     return true;
                 }
-                i5 = i6;
             }
+            return false;
         }
     }
 
@@ -563,132 +282,68 @@ public class LongMap<V> implements Iterable<Entry<V>> {
         if (key == 0) {
             return this.hasZeroValue;
         }
-        if (this.keyTable[(int) (((long) this.mask) & key)] == key) {
-            return true;
-        }
-        if (this.keyTable[hash2(key)] == key) {
-            return true;
-        }
-        if (this.keyTable[hash3(key)] != key) {
-            return containsKeyStash(key);
-        }
-        return true;
-    }
-
-    private boolean containsKeyStash(long key) {
-        long[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (keyTable2[i] == key) {
-                return true;
-            }
-            i++;
-        }
-        return false;
+        return locateKey(key) >= 0;
     }
 
     public long findKey(Object value, boolean identity, long notFound) {
         V[] valueTable2 = this.valueTable;
+        long[] keyTable2 = this.keyTable;
         if (value == null) {
-            if (!this.hasZeroValue || this.zeroValue != null) {
-                long[] keyTable2 = this.keyTable;
-                int i = this.capacity + this.stashSize;
-                while (true) {
-                    int i2 = i - 1;
-                    if (i <= 0) {
-                        break;
-                    } else if (keyTable2[i2] != 0 && valueTable2[i2] == null) {
-                        return keyTable2[i2];
-                    } else {
-                        i = i2;
-                    }
-                }
-            } else {
+            if (this.hasZeroValue && this.zeroValue == null) {
                 return 0;
             }
-        } else if (identity) {
-            if (value != this.zeroValue) {
-                int i3 = this.capacity + this.stashSize;
-                while (true) {
-                    int i4 = i3 - 1;
-                    if (i3 <= 0) {
-                        break;
-                    } else if (valueTable2[i4] == value) {
-                        return this.keyTable[i4];
-                    } else {
-                        i3 = i4;
-                    }
+            for (int i = valueTable2.length - 1; i >= 0; i--) {
+                if (keyTable2[i] != 0 && valueTable2[i] == null) {
+                    return keyTable2[i];
                 }
-            } else {
+            }
+        } else if (identity) {
+            if (value == this.zeroValue) {
                 return 0;
             }
-        } else if (!this.hasZeroValue || !value.equals(this.zeroValue)) {
-            int i5 = this.capacity + this.stashSize;
-            while (true) {
-                int i6 = i5 - 1;
-                if (i5 <= 0) {
-                    break;
-                } else if (value.equals(valueTable2[i6])) {
-                    return this.keyTable[i6];
-                } else {
-                    i5 = i6;
+            for (int i2 = valueTable2.length - 1; i2 >= 0; i2--) {
+                if (valueTable2[i2] == value) {
+                    return keyTable2[i2];
                 }
             }
-        } else {
+        } else if (this.hasZeroValue && value.equals(this.zeroValue)) {
             return 0;
+        } else {
+            for (int i3 = valueTable2.length - 1; i3 >= 0; i3--) {
+                if (value.equals(valueTable2[i3])) {
+                    return keyTable2[i3];
+                }
+            }
         }
         return notFound;
     }
 
     public void ensureCapacity(int additionalCapacity) {
-        if (additionalCapacity >= 0) {
-            int sizeNeeded = this.size + additionalCapacity;
-            if (sizeNeeded >= this.threshold) {
-                resize(MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) sizeNeeded) / this.loadFactor))));
-                return;
-            }
-            return;
+        int tableSize = ObjectMap.tableSize(this.size + additionalCapacity, this.loadFactor);
+        if (this.keyTable.length < tableSize) {
+            resize(tableSize);
         }
-        throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
     }
 
     private void resize(int newSize) {
-        int oldEndIndex = this.capacity + this.stashSize;
-        this.capacity = newSize;
+        int oldCapacity = this.keyTable.length;
         this.threshold = (int) (((float) newSize) * this.loadFactor);
         this.mask = newSize - 1;
-        this.hashShift = 63 - Long.numberOfTrailingZeros((long) newSize);
-        this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) newSize))) * 2);
-        this.pushIterations = Math.max(Math.min(newSize, 8), ((int) Math.sqrt((double) newSize)) / 8);
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
         long[] oldKeyTable = this.keyTable;
         V[] oldValueTable = this.valueTable;
-        int i = this.stashCapacity;
-        this.keyTable = new long[(newSize + i)];
-        this.valueTable = (Object[]) new Object[(i + newSize)];
-        int oldSize = this.size;
-        this.size = this.hasZeroValue ? 1 : 0;
-        this.stashSize = 0;
-        if (oldSize > 0) {
-            for (int i2 = 0; i2 < oldEndIndex; i2++) {
-                long key = oldKeyTable[i2];
+        this.keyTable = new long[newSize];
+        this.valueTable = (V[]) new Object[newSize];
+        if (this.size > 0) {
+            for (int i = 0; i < oldCapacity; i++) {
+                long key = oldKeyTable[i];
                 if (key != 0) {
-                    putResize(key, oldValueTable[i2]);
+                    putResize(key, oldValueTable[i]);
                 }
             }
         }
     }
 
-    private int hash2(long h) {
-        long h2 = h * -1262997959;
-        return (int) (((h2 >>> this.hashShift) ^ h2) & ((long) this.mask));
-    }
-
-    private int hash3(long h) {
-        long h2 = h * -825114047;
-        return (int) (((h2 >>> this.hashShift) ^ h2) & ((long) this.mask));
-    }
-
     public int hashCode() {
         V v;
         int h = 0;
@@ -697,7 +352,7 @@ public class LongMap<V> implements Iterable<Entry<V>> {
         }
         long[] keyTable2 = this.keyTable;
         V[] valueTable2 = this.valueTable;
-        int n = this.capacity + this.stashSize;
+        int n = this.keyTable.length;
         for (int i = 0; i < n; i++) {
             long key = keyTable2[i];
             if (key != 0) {
@@ -735,7 +390,7 @@ public class LongMap<V> implements Iterable<Entry<V>> {
         }
         long[] keyTable2 = this.keyTable;
         V[] valueTable2 = this.valueTable;
-        int n = this.capacity + this.stashSize;
+        int n = this.keyTable.length;
         for (int i = 0; i < n; i++) {
             long key = keyTable2[i];
             if (key != 0) {
@@ -769,7 +424,7 @@ public class LongMap<V> implements Iterable<Entry<V>> {
         }
         long[] keyTable2 = this.keyTable;
         V[] valueTable2 = this.valueTable;
-        int n = this.capacity + this.stashSize;
+        int n = this.keyTable.length;
         for (int i = 0; i < n; i++) {
             long key = keyTable2[i];
             if (key != 0 && valueTable2[i] != other.get(key, ObjectMap.dummy)) {
@@ -821,6 +476,50 @@ public class LongMap<V> implements Iterable<Entry<V>> {
         }
     }
 
+    public void each(Consumer.LongObjectConsumer<? super V> consumer) {
+        if (this.hasZeroValue) {
+            consumer.accept(0, this.zeroValue);
+        }
+        long[] keyTable2 = this.keyTable;
+        V[] valueTable2 = this.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            long key = keyTable2[i];
+            if (key != 0) {
+                consumer.accept(key, valueTable2[i]);
+            }
+        }
+    }
+
+    public void eachKey(Consumer.LongConsumer consumer) {
+        if (this.hasZeroValue) {
+            consumer.accept(0);
+        }
+        long[] keyTable2 = this.keyTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            long key = keyTable2[i];
+            if (key != 0) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    public void eachValue(Consumer<? super V> consumer) {
+        if (this.hasZeroValue) {
+            consumer.accept(this.zeroValue);
+        }
+        long[] keyTable2 = this.keyTable;
+        V[] valueTable2 = this.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            long key = keyTable2[i];
+            if (key != 0) {
+                consumer.accept(valueTable2[i]);
+            }
+        }
+    }
+
     public Iterator<Entry<V>> iterator() {
         return entries();
     }
@@ -904,9 +603,11 @@ public class LongMap<V> implements Iterable<Entry<V>> {
         static final int INDEX_ILLEGAL = -2;
         static final int INDEX_ZERO = -1;
         int currentIndex;
+        int emptyIndex;
         public boolean hasNext;
         final LongMap<V> map;
         int nextIndex;
+        int remaining;
         boolean valid = true;
 
         public MapIterator(LongMap<V> map2) {
@@ -915,51 +616,57 @@ public class LongMap<V> implements Iterable<Entry<V>> {
         }
 
         public void reset() {
+            long[] keyTable = this.map.keyTable;
+            int n = keyTable.length;
+            int empty = 0;
+            while (empty < n && keyTable[empty] != 0) {
+                empty++;
+            }
             this.currentIndex = INDEX_ILLEGAL;
-            this.nextIndex = -1;
+            this.emptyIndex = empty;
+            this.remaining = n;
             if (this.map.hasZeroValue) {
+                this.nextIndex = -1;
                 this.hasNext = true;
-            } else {
-                findNextIndex();
+                return;
             }
+            this.nextIndex = empty;
+            findNextIndex();
         }
 
         /* access modifiers changed from: package-private */
         public void findNextIndex() {
             this.hasNext = false;
+            if (this.nextIndex == -1) {
+                this.nextIndex = this.emptyIndex;
+            }
             long[] keyTable = this.map.keyTable;
-            int n = this.map.capacity + this.map.stashSize;
-            do {
-                int i = this.nextIndex + 1;
-                this.nextIndex = i;
-                if (i >= n) {
+            int mask = keyTable.length - 1;
+            while (this.remaining > 0) {
+                this.nextIndex = (this.nextIndex + 1) & mask;
+                this.remaining--;
+                if (keyTable[this.nextIndex] != 0) {
+                    this.hasNext = true;
                     return;
                 }
-            } while (keyTable[this.nextIndex] == 0);
-            this.hasNext = true;
+            }
         }
 
         public void remove() {
-            if (this.currentIndex != -1 || !this.map.hasZeroValue) {
-                int i = this.currentIndex;
-                if (i < 0) {
-                    throw new IllegalStateException("next must be called before remove.");
-                } else if (i >= this.map.capacity) {
-                    this.map.removeStashIndex(this.currentIndex);
-                    this.nextIndex = this.currentIndex - 1;
-                    findNextIndex();
-                } else {
-                    this.map.keyTable[this.currentIndex] = 0;
-                    this.map.valueTable[this.currentIndex] = null;
-                }
-            } else {
+            int i = this.currentIndex;
+            if (i == -1 && this.map.hasZeroValue) {
                 LongMap<V> longMap = this.map;
                 longMap.zeroValue = null;
                 longMap.hasZeroValue = false;
+                longMap.size--;
+            } else if (i < 0) {
+                throw new IllegalStateException("next must be called before remove.");
+            } else if (this.map.removeSlot(i) != i) {
+                this.nextIndex = i;
+                this.remaining++;
+                this.hasNext = true;
             }
             this.currentIndex = INDEX_ILLEGAL;
-            LongMap<V> longMap2 = this.map;
-            longMap2.size--;
         }
     }
 
@@ -1,26 +1,19 @@
 package com.badlogic.gdx.utils;
 
-import com.badlogic.gdx.math.MathUtils;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 public class ObjectFloatMap<K> implements Iterable<Entry<K>> {
-    private static final int PRIME1 = -1105259343;
-    private static final int PRIME2 = -1262997959;
-    private static final int PRIME3 = -825114047;
-    int capacity;
     private Entries entries1;
     private Entries entries2;
-    private int hashShift;
     K[] keyTable;
     private Keys keys1;
     private Keys keys2;
     private float loadFactor;
-    private int mask;
-    private int pushIterations;
+    protected int mask;
+    protected int shift;
     public int size;
-    private int stashCapacity;
-    int stashSize;
     private int threshold;
     float[] valueTable;
     private Values values1;
@@ -35,386 +28,150 @@ public class ObjectFloatMap<K> implements Iterable<Entry<K>> {
     }
 
     public ObjectFloatMap(int initialCapacity, float loadFactor2) {
-        if (initialCapacity >= 0) {
-            int initialCapacity2 = MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) initialCapacity) / loadFactor2)));
-            if (initialCapacity2 <= 1073741824) {
-                this.capacity = initialCapacity2;
-                if (loadFactor2 > 0.0f) {
-                    this.loadFactor = loadFactor2;
-                    int i = this.capacity;
-                    this.threshold = (int) (((float) i) * loadFactor2);
-                    this.mask = i - 1;
-                    this.hashShift = 31 - Integer.numberOfTrailingZeros(i);
-                    this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) this.capacity))) * 2);
-                    this.pushIterations = Math.max(Math.min(this.capacity, 8), ((int) Math.sqrt((double) this.capacity)) / 8);
-                    this.keyTable = (Object[]) new Object[(this.capacity + this.stashCapacity)];
-                    this.valueTable = new float[this.keyTable.length];
-                    return;
-                }
-                throw new IllegalArgumentException("loadFactor must be > 0: " + loadFactor2);
-            }
-            throw new IllegalArgumentException("initialCapacity is too large: " + initialCapacity2);
+        if (loadFactor2 <= 0.0f || loadFactor2 >= 1.0f) {
+            throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor2);
         }
-        throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+        this.loadFactor = loadFactor2;
+        int tableSize = ObjectMap.tableSize(initialCapacity, loadFactor2);
+        this.threshold = (int) (((float) tableSize) * loadFactor2);
+        this.mask = tableSize - 1;
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
+        this.keyTable = (K[]) new Object[tableSize];
+        this.valueTable = new float[tableSize];
     }
 
     public ObjectFloatMap(ObjectFloatMap<? extends K> map) {
-        this((int) Math.floor((double) (((float) map.capacity) * map.loadFactor)), map.loadFactor);
-        this.stashSize = map.stashSize;
+        this((int) (((float) map.keyTable.length) * map.loadFactor), map.loadFactor);
         K[] kArr = map.keyTable;
         System.arraycopy(kArr, 0, this.keyTable, 0, kArr.length);
-        float[] fArr = map.valueTable;
-        System.arraycopy(fArr, 0, this.valueTable, 0, fArr.length);
+        float[] vArr = map.valueTable;
+        System.arraycopy(vArr, 0, this.valueTable, 0, vArr.length);
         this.size = map.size;
     }
 
-    public void put(K key, float value) {
-        K k = key;
-        if (k != null) {
+    /* access modifiers changed from: protected */
+    public int place(K item) {
+        return (int) ((((long) item.hashCode()) * -7046029254386353131L) >>> this.shift);
+    }
+
+    /* access modifiers changed from: package-private */
+    public int locateKey(K key) {
+        if (key != null) {
             K[] keyTable2 = this.keyTable;
-            int hashCode = key.hashCode();
-            int index1 = hashCode & this.mask;
-            K key1 = keyTable2[index1];
-            if (k.equals(key1)) {
-                this.valueTable[index1] = value;
-                return;
-            }
-            int index2 = hash2(hashCode);
-            K key2 = keyTable2[index2];
-            if (k.equals(key2)) {
-                this.valueTable[index2] = value;
-                return;
-            }
-            int index3 = hash3(hashCode);
-            K key3 = keyTable2[index3];
-            if (k.equals(key3)) {
-                this.valueTable[index3] = value;
-                return;
-            }
-            int i = this.capacity;
-            int n = this.stashSize + i;
-            while (i < n) {
-                if (k.equals(keyTable2[i])) {
-                    this.valueTable[i] = value;
-                    return;
-                }
-                i++;
-            }
-            if (key1 == null) {
-                keyTable2[index1] = k;
-                this.valueTable[index1] = value;
-                int i2 = this.size;
-                this.size = i2 + 1;
-                if (i2 >= this.threshold) {
-                    resize(this.capacity << 1);
-                }
-            } else if (key2 == null) {
-                keyTable2[index2] = k;
-                this.valueTable[index2] = value;
-                int i3 = this.size;
-                this.size = i3 + 1;
-                if (i3 >= this.threshold) {
-                    resize(this.capacity << 1);
+            int i = place(key);
+            while (true) {
+                K other = keyTable2[i];
+                if (other == null) {
+                    return -(i + 1);
                 }
-            } else if (key3 == null) {
-                keyTable2[index3] = k;
-                this.valueTable[index3] = value;
-                int i4 = this.size;
-                this.size = i4 + 1;
-                if (i4 >= this.threshold) {
-                    resize(this.capacity << 1);
+                if (other.equals(key)) {
+                    return i;
                 }
-            } else {
-                K k2 = key2;
-                push(key, value, index1, key1, index2, key2, index3, key3);
+                i = (i + 1) & this.mask;
             }
         } else {
             throw new IllegalArgumentException("key cannot be null.");
         }
     }
 
-    public void putAll(ObjectFloatMap<? extends K> map) {
-        Entries<? extends K> it = map.entries().iterator();
-        while (it.hasNext()) {
-            Entry<? extends K> entry = (Entry) it.next();
-            put(entry.key, entry.value);
-        }
-    }
-
-    private void putResize(K key, float value) {
-        int hashCode = key.hashCode();
-        int index1 = hashCode & this.mask;
-        K[] kArr = this.keyTable;
-        K key1 = kArr[index1];
-        if (key1 == null) {
-            kArr[index1] = key;
-            this.valueTable[index1] = value;
-            int i = this.size;
-            this.size = i + 1;
-            if (i >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
-        }
-        int index2 = hash2(hashCode);
-        K[] kArr2 = this.keyTable;
-        K key2 = kArr2[index2];
-        if (key2 == null) {
-            kArr2[index2] = key;
-            this.valueTable[index2] = value;
-            int i2 = this.size;
-            this.size = i2 + 1;
-            if (i2 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
+    public void put(K key, float value) {
+        int i = locateKey(key);
+        if (i >= 0) {
+            this.valueTable[i] = value;
             return;
         }
-        int index3 = hash3(hashCode);
-        K[] kArr3 = this.keyTable;
-        K key3 = kArr3[index3];
-        if (key3 == null) {
-            kArr3[index3] = key;
-            this.valueTable[index3] = value;
-            int i3 = this.size;
-            this.size = i3 + 1;
-            if (i3 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
+        int i2 = -(i + 1);
+        this.keyTable[i2] = key;
+        this.valueTable[i2] = value;
+        int i3 = this.size + 1;
+        this.size = i3;
+        if (i3 >= this.threshold) {
+            resize(this.keyTable.length << 1);
         }
-        push(key, value, index1, key1, index2, key2, index3, key3);
     }
 
-    private void push(K insertKey, float insertValue, int index1, K key1, int index2, K key2, int index3, K key3) {
-        float evictedValue;
-        K evictedKey;
-        K[] keyTable2 = this.keyTable;
-        float[] valueTable2 = this.valueTable;
-        int mask2 = this.mask;
-        int pushIterations2 = this.pushIterations;
-        K insertKey2 = insertKey;
-        float insertValue2 = insertValue;
-        int index12 = index1;
-        K key12 = key1;
-        int index22 = index2;
-        K key22 = key2;
-        int index32 = index3;
-        int i = 0;
-        K key32 = key3;
-        while (true) {
-            int random = MathUtils.random(2);
-            if (random == 0) {
-                evictedKey = key12;
-                float evictedValue2 = valueTable2[index12];
-                keyTable2[index12] = insertKey2;
-                valueTable2[index12] = insertValue2;
-                evictedValue = evictedValue2;
-            } else if (random != 1) {
-                evictedKey = key32;
-                float evictedValue3 = valueTable2[index32];
-                keyTable2[index32] = insertKey2;
-                valueTable2[index32] = insertValue2;
-                evictedValue = evictedValue3;
-            } else {
-                evictedKey = key22;
-                float evictedValue4 = valueTable2[index22];
-                keyTable2[index22] = insertKey2;
-                valueTable2[index22] = insertValue2;
-                evictedValue = evictedValue4;
-            }
-            K k = key32;
-            int hashCode = evictedKey.hashCode();
-            index12 = hashCode & mask2;
-            key12 = keyTable2[index12];
-            if (key12 == null) {
-                keyTable2[index12] = evictedKey;
-                valueTable2[index12] = evictedValue;
-                int i2 = mask2;
-                int mask3 = this.size;
-                int i3 = index32;
-                this.size = mask3 + 1;
-                if (mask3 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            int mask4 = mask2;
-            int i4 = index32;
-            index22 = hash2(hashCode);
-            key22 = keyTable2[index22];
-            if (key22 == null) {
-                keyTable2[index22] = evictedKey;
-                valueTable2[index22] = evictedValue;
-                int i5 = this.size;
-                this.size = i5 + 1;
-                if (i5 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            index32 = hash3(hashCode);
-            K key33 = keyTable2[index32];
-            if (key33 == null) {
-                keyTable2[index32] = evictedKey;
-                valueTable2[index32] = evictedValue;
-                K[] kArr = keyTable2;
-                int i6 = this.size;
-                float[] fArr = valueTable2;
-                this.size = i6 + 1;
-                if (i6 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            K[] keyTable3 = keyTable2;
-            float[] valueTable3 = valueTable2;
-            i++;
-            if (i == pushIterations2) {
-                putStash(evictedKey, evictedValue);
-                return;
+    public void putAll(ObjectFloatMap<? extends K> map) {
+        ensureCapacity(map.size);
+        K[] keyTable2 = map.keyTable;
+        float[] valueTable2 = map.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            K key = keyTable2[i];
+            if (key != null) {
+                put(key, valueTable2[i]);
             }
-            insertKey2 = evictedKey;
-            insertValue2 = evictedValue;
-            key32 = key33;
-            mask2 = mask4;
-            keyTable2 = keyTable3;
-            valueTable2 = valueTable3;
         }
     }
 
-    private void putStash(K key, float value) {
-        int i = this.stashSize;
-        if (i == this.stashCapacity) {
-            resize(this.capacity << 1);
-            putResize(key, value);
-            return;
+    private void putResize(K key, float value) {
+        K[] keyTable2 = this.keyTable;
+        int i = place(key);
+        while (keyTable2[i] != null) {
+            i = (i + 1) & this.mask;
         }
-        int index = this.capacity + i;
-        this.keyTable[index] = key;
-        this.valueTable[index] = value;
-        this.stashSize = i + 1;
-        this.size++;
+        keyTable2[i] = key;
+        this.valueTable[i] = value;
     }
 
     public float get(K key, float defaultValue) {
-        int hashCode = key.hashCode();
-        int index = this.mask & hashCode;
-        if (!key.equals(this.keyTable[index])) {
-            index = hash2(hashCode);
-            if (!key.equals(this.keyTable[index])) {
-                index = hash3(hashCode);
-                if (!key.equals(this.keyTable[index])) {
-                    return getStash(key, defaultValue);
-                }
-            }
-        }
-        return this.valueTable[index];
-    }
-
-    private float getStash(K key, float defaultValue) {
-        K[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key.equals(keyTable2[i])) {
-                return this.valueTable[i];
-            }
-            i++;
+        int i = locateKey(key);
+        if (i < 0) {
+            return defaultValue;
         }
-        return defaultValue;
+        return this.valueTable[i];
     }
 
     public float getAndIncrement(K key, float defaultValue, float increment) {
-        int hashCode = key.hashCode();
-        int index = this.mask & hashCode;
-        if (!key.equals(this.keyTable[index])) {
-            index = hash2(hashCode);
-            if (!key.equals(this.keyTable[index])) {
-                index = hash3(hashCode);
-                if (!key.equals(this.keyTable[index])) {
-                    return getAndIncrementStash(key, defaultValue, increment);
-                }
-            }
-        }
-        float[] fArr = this.valueTable;
-        float value = fArr[index];
-        fArr[index] = value + increment;
-        return value;
-    }
-
-    private float getAndIncrementStash(K key, float defaultValue, float increment) {
-        K[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key.equals(keyTable2[i])) {
-                float[] fArr = this.valueTable;
-                float value = fArr[i];
-                fArr[i] = value + increment;
-                return value;
-            }
-            i++;
+        int i = locateKey(key);
+        if (i >= 0) {
+            float[] vArr = this.valueTable;
+            float oldValue = vArr[i];
+            vArr[i] = oldValue + increment;
+            return oldValue;
+        }
+        int i2 = -(i + 1);
+        this.keyTable[i2] = key;
+        this.valueTable[i2] = defaultValue + increment;
+        int i3 = this.size + 1;
+        this.size = i3;
+        if (i3 >= this.threshold) {
+            resize(this.keyTable.length << 1);
         }
-        put(key, defaultValue + increment);
         return defaultValue;
     }
 
     public float remove(K key, float defaultValue) {
-        int hashCode = key.hashCode();
-        int index = this.mask & hashCode;
-        if (key.equals(this.keyTable[index])) {
-            this.keyTable[index] = null;
-            this.size--;
-            return this.valueTable[index];
-        }
-        int index2 = hash2(hashCode);
-        if (key.equals(this.keyTable[index2])) {
-            this.keyTable[index2] = null;
-            this.size--;
-            return this.valueTable[index2];
-        }
-        int index3 = hash3(hashCode);
-        if (!key.equals(this.keyTable[index3])) {
-            return removeStash(key, defaultValue);
+        int i = locateKey(key);
+        if (i < 0) {
+            return defaultValue;
         }
-        this.keyTable[index3] = null;
-        this.size--;
-        return this.valueTable[index3];
+        float oldValue = this.valueTable[i];
+        removeSlot(i);
+        return oldValue;
     }
 
     /* access modifiers changed from: package-private */
-    public float removeStash(K key, float defaultValue) {
+    public int removeSlot(int index) {
         K[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key.equals(keyTable2[i])) {
-                float oldValue = this.valueTable[i];
-                removeStashIndex(i);
+        float[] valueTable2 = this.valueTable;
+        int mask2 = this.mask;
+        int i = index;
+        int next = (i + 1) & mask2;
+        while (true) {
+            K key = keyTable2[next];
+            if (key != null) {
+                int placement = place(key);
+                if (((next - placement) & mask2) > ((i - placement) & mask2)) {
+                    keyTable2[i] = key;
+                    valueTable2[i] = valueTable2[next];
+                    i = next;
+                }
+                next = (next + 1) & mask2;
+            } else {
+                keyTable2[i] = null;
                 this.size--;
-                return oldValue;
+                return i;
             }
-            i++;
-        }
-        return defaultValue;
-    }
-
-    /* access modifiers changed from: package-private */
-    public void removeStashIndex(int index) {
-        this.stashSize--;
-        int lastIndex = this.capacity + this.stashSize;
-        if (index < lastIndex) {
-            K[] kArr = this.keyTable;
-            kArr[index] = kArr[lastIndex];
-            float[] fArr = this.valueTable;
-            fArr[index] = fArr[lastIndex];
-            kArr[lastIndex] = null;
         }
     }
 
@@ -428,11 +185,9 @@ public class ObjectFloatMap<K> implements Iterable<Entry<K>> {
 
     public void shrink(int maximumCapacity) {
         if (maximumCapacity >= 0) {
-            if (this.size > maximumCapacity) {
-                maximumCapacity = this.size;
-            }
-            if (this.capacity > maximumCapacity) {
-                resize(MathUtils.nextPowerOfTwo(maximumCapacity));
+            int tableSize = ObjectMap.tableSize(Math.max(maximumCapacity, this.size), this.loadFactor);
+            if (this.keyTable.length > tableSize) {
+                resize(tableSize);
                 return;
             }
             return;
@@ -441,144 +196,79 @@ public class ObjectFloatMap<K> implements Iterable<Entry<K>> {
     }
 
     public void clear(int maximumCapacity) {
-        if (this.capacity <= maximumCapacity) {
+        int tableSize = ObjectMap.tableSize(maximumCapacity, this.loadFactor);
+        if (this.keyTable.length <= tableSize) {
             clear();
             return;
         }
         this.size = 0;
-        resize(maximumCapacity);
+        resize(tableSize);
     }
 
     public void clear() {
         if (this.size != 0) {
-            K[] keyTable2 = this.keyTable;
-            int i = this.capacity + this.stashSize;
-            while (true) {
-                int i2 = i - 1;
-                if (i > 0) {
-                    keyTable2[i2] = null;
-                    i = i2;
-                } else {
-                    this.size = 0;
-                    this.stashSize = 0;
-                    return;
-                }
-            }
+            this.size = 0;
+            Arrays.fill(this.keyTable, (Object) null);
         }
     }
 
     public boolean containsValue(float value) {
         K[] keyTable2 = this.keyTable;
         float[] valueTable2 = this.valueTable;
-        int i = this.capacity + this.stashSize;
-        while (true) {
-            int i2 = i - 1;
-            if (i <= 0) {
-                return false;
-            }
-            if (keyTable2[i2] != null && valueTable2[i2] == value) {
+        for (int i = valueTable2.length - 1; i >= 0; i--) {
+            if (keyTable2[i] != null && valueTable2[i] == value) {
                 return true;
             }
-            i = i2;
         }
+        return false;
     }
 
     public boolean containsKey(K key) {
-        int hashCode = key.hashCode();
-        if (key.equals(this.keyTable[this.mask & hashCode])) {
-            return true;
-        }
-        if (key.equals(this.keyTable[hash2(hashCode)])) {
-            return true;
-        }
-        if (!key.equals(this.keyTable[hash3(hashCode)])) {
-            return containsKeyStash(key);
-        }
-        return true;
-    }
-
-    private boolean containsKeyStash(K key) {
-        K[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key.equals(keyTable2[i])) {
-                return true;
-            }
-            i++;
-        }
-        return false;
+        return locateKey(key) >= 0;
     }
 
     public K findKey(float value) {
         K[] keyTable2 = this.keyTable;
         float[] valueTable2 = this.valueTable;
-        int i = this.capacity + this.stashSize;
-        while (true) {
-            int i2 = i - 1;
-            if (i <= 0) {
-                return null;
-            }
-            if (keyTable2[i2] != null && valueTable2[i2] == value) {
-                return keyTable2[i2];
+        for (int i = valueTable2.length - 1; i >= 0; i--) {
+            if (keyTable2[i] != null && valueTable2[i] == value) {
+                return keyTable2[i];
             }
-            i = i2;
         }
+        return null;
     }
 
     public void ensureCapacity(int additionalCapacity) {
-        if (additionalCapacity >= 0) {
-            int sizeNeeded = this.size + additionalCapacity;
-            if (sizeNeeded >= this.threshold) {
-                resize(MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) sizeNeeded) / this.loadFactor))));
-                return;
-            }
-            return;
+        int tableSize = ObjectMap.tableSize(this.size + additionalCapacity, this.loadFactor);
+        if (this.keyTable.length < tableSize) {
+            resize(tableSize);
         }
-        throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
     }
 
     private void resize(int newSize) {
-        int oldEndIndex = this.capacity + this.stashSize;
-        this.capacity = newSize;
+        int oldCapacity = this.keyTable.length;
         this.threshold = (int) (((float) newSize) * this.loadFactor);
         this.mask = newSize - 1;
-        this.hashShift = 31 - Integer.numberOfTrailingZeros(newSize);
-        this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) newSize))) * 2);
-        this.pushIterations = Math.max(Math.min(newSize, 8), ((int) Math.sqrt((double) newSize)) / 8);
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
         K[] oldKeyTable = this.keyTable;
         float[] oldValueTable = this.valueTable;
-        int i = this.stashCapacity;
-        this.keyTable = (Object[]) new Object[(newSize + i)];
-        this.valueTable = new float[(i + newSize)];
-        int oldSize = this.size;
-        this.size = 0;
-        this.stashSize = 0;
-        if (oldSize > 0) {
-            for (int i2 = 0; i2 < oldEndIndex; i2++) {
-                K key = oldKeyTable[i2];
+        this.keyTable = (K[]) new Object[newSize];
+        this.valueTable = new float[newSize];
+        if (this.size > 0) {
+            for (int i = 0; i < oldCapacity; i++) {
+                K key = oldKeyTable[i];
                 if (key != null) {
-                    putResize(key, oldValueTable[i2]);
+                    putResize(key, oldValueTable[i]);
                 }
             }
         }
     }
 
-    private int hash2(int h) {
-        int h2 = h * PRIME2;
-        return ((h2 >>> this.hashShift) ^ h2) & this.mask;
-    }
-
-    private int hash3(int h) {
-        int h2 = h * PRIME3;
-        return ((h2 >>> this.hashShift) ^ h2) & this.mask;
-    }
-
     public int hashCode() {
         int h = 0;
         K[] keyTable2 = this.keyTable;
         float[] valueTable2 = this.valueTable;
-        int n = this.capacity + this.stashSize;
+        int n = this.keyTable.length;
         for (int i = 0; i < n; i++) {
             K key = keyTable2[i];
             if (key != null) {
@@ -601,7 +291,7 @@ public class ObjectFloatMap<K> implements Iterable<Entry<K>> {
         }
         K[] keyTable2 = this.keyTable;
         float[] valueTable2 = this.valueTable;
-        int n = this.capacity + this.stashSize;
+        int n = this.keyTable.length;
         for (int i = 0; i < n; i++) {
             K key = keyTable2[i];
             if (key != null) {
@@ -657,6 +347,41 @@ public class ObjectFloatMap<K> implements Iterable<Entry<K>> {
         }
     }
 
+    public void each(Consumer.ObjectFloatConsumer<? super K> consumer) {
+        K[] keyTable2 = this.keyTable;
+        float[] valueTable2 = this.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            K key = keyTable2[i];
+            if (key != null) {
+                consumer.accept(key, valueTable2[i]);
+            }
+        }
+    }
+
+    public void eachKey(Consumer<? super K> consumer) {
+        K[] keyTable2 = this.keyTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            K key = keyTable2[i];
+            if (key != null) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    public void eachValue(Consumer.FloatConsumer consumer) {
+        K[] keyTable2 = this.keyTable;
+        float[] valueTable2 = this.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            K key = keyTable2[i];
+            if (key != null) {
+                consumer.accept(valueTable2[i]);
+            }
+        }
+    }
+
     public Entries<K> iterator() {
         return entries();
     }
@@ -741,6 +466,7 @@ public class ObjectFloatMap<K> implements Iterable<Entry<K>> {
         public boolean hasNext;
         final ObjectFloatMap<K> map;
         int nextIndex;
+        int remaining;
         boolean valid = true;
 
         public MapIterator(ObjectFloatMap<K> map2) {
@@ -749,8 +475,15 @@ public class ObjectFloatMap<K> implements Iterable<Entry<K>> {
         }
 
         public void reset() {
+            K[] keyTable = this.map.keyTable;
+            int n = keyTable.length;
+            int empty = 0;
+            while (empty < n && keyTable[empty] != null) {
+                empty++;
+            }
             this.currentIndex = -1;
-            this.nextIndex = -1;
+            this.nextIndex = empty;
+            this.remaining = n;
             findNextIndex();
         }
 
@@ -758,30 +491,26 @@ public class ObjectFloatMap<K> implements Iterable<Entry<K>> {
         public void findNextIndex() {
             this.hasNext = false;
             K[] keyTable = this.map.keyTable;
-            int n = this.map.capacity + this.map.stashSize;
-            do {
-                int i = this.nextIndex + 1;
-                this.nextIndex = i;
-                if (i >= n) {
+            int mask = keyTable.length - 1;
+            while (this.remaining > 0) {
+                this.nextIndex = (this.nextIndex + 1) & mask;
+                this.remaining--;
+                if (keyTable[this.nextIndex] != null) {
+                    this.hasNext = true;
                     return;
                 }
-            } while (keyTable[this.nextIndex] == null);
-            this.hasNext = true;
+            }
         }
 
         public void remove() {
             int i = this.currentIndex;
             if (i >= 0) {
-                if (i >= this.map.capacity) {
-                    this.map.removeStashIndex(this.currentIndex);
-                    this.nextIndex = this.currentIndex - 1;
-                    findNextIndex();
-                } else {
-                    this.map.keyTable[this.currentIndex] = null;
+                if (this.map.removeSlot(i) != i) {
+                    this.nextIndex = i;
+                    this.remaining++;
+                    this.hasNext = true;
                 }
                 this.currentIndex = -1;
-                ObjectFloatMap<K> objectFloatMap = this.map;
-                objectFloatMap.size--;
                 return;
             }
             throw new IllegalStateException("next must be called before remove.");
@@ -2,28 +2,22 @@ package com.badlogic.gdx.utils;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.twi.game.BuildConfig;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
-    private static final int PRIME1 = -1105259343;
-    private static final int PRIME2 = -1262997959;
-    private static final int PRIME3 = -825114047;
     static final Object dummy = new Object();
-    int capacity;
     Entries entries1;
     Entries entries2;
-    private int hashShift;
     K[] keyTable;
     Keys keys1;
     Keys keys2;
-    private float loadFactor;
-    private int mask;
-    private int pushIterations;
+    float loadFactor;
+    protected int mask;
+    protected int shift;
     public int size;
-    private int stashCapacity;
-    int stashSize;
-    private int threshold;
+    int threshold;
     V[] valueTable;
     Values values1;
     Values values2;
@@ -37,32 +31,20 @@ public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
     }
 
     public ObjectMap(int initialCapacity, float loadFactor2) {
-        if (initialCapacity >= 0) {
-            int initialCapacity2 = MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) initialCapacity) / loadFactor2)));
-            if (initialCapacity2 <= 1073741824) {
-                this.capacity = initialCapacity2;
-                if (loadFactor2 > 0.0f) {
-                    this.loadFactor = loadFactor2;
-                    int i = this.capacity;
-                    this.threshold = (int) (((float) i) * loadFactor2);
-                    this.mask = i - 1;
-                    this.hashShift = 31 - Integer.numberOfTrailingZeros(i);
-                    this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) this.capacity))) * 2);
-                    this.pushIterations = Math.max(Math.min(this.capacity, 8), ((int) Math.sqrt((double) this.capacity)) / 8);
-                    this.keyTable = (Object[]) new Object[(this.capacity + this.stashCapacity)];
-                    this.valueTable = (Object[]) new Object[this.keyTable.length];
-                    return;
-                }
-                throw new IllegalArgumentException("loadFactor must be > 0: " + loadFactor2);
-            }
-            throw new IllegalArgumentException("initialCapacity is too large: " + initialCapacity2);
+        if (loadFactor2 <= 0.0f || loadFactor2 >= 1.0f) {
+            throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor2);
         }
-        throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+        this.loadFactor = loadFactor2;
+        int tableSize = tableSize(initialCapacity, loadFactor2);
+        this.threshold = (int) (((float) tableSize) * loadFactor2);
+        this.mask = tableSize - 1;
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
+        this.keyTable = (K[]) new Object[tableSize];
+        this.valueTable = (V[]) new Object[tableSize];
     }
 
     public ObjectMap(ObjectMap<? extends K, ? extends V> map) {
-        this((int) Math.floor((double) (((float) map.capacity) * map.loadFactor)), map.loadFactor);
-        this.stashSize = map.stashSize;
+        this((int) (((float) map.keyTable.length) * map.loadFactor), map.loadFactor);
         K[] kArr = map.keyTable;
         System.arraycopy(kArr, 0, this.keyTable, 0, kArr.length);
         V[] vArr = map.valueTable;
@@ -70,360 +52,134 @@ public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
         this.size = map.size;
     }
 
-    public V put(K key, V value) {
-        K k = key;
-        if (k != null) {
-            K[] keyTable2 = this.keyTable;
-            int hashCode = key.hashCode();
-            int index1 = hashCode & this.mask;
-            K key1 = keyTable2[index1];
-            if (k.equals(key1)) {
-                V[] vArr = this.valueTable;
-                V oldValue = vArr[index1];
-                vArr[index1] = value;
-                return oldValue;
-            }
-            int index2 = hash2(hashCode);
-            K key2 = keyTable2[index2];
-            if (k.equals(key2)) {
-                V[] vArr2 = this.valueTable;
-                V oldValue2 = vArr2[index2];
-                vArr2[index2] = value;
-                return oldValue2;
+    static int tableSize(int capacity, float loadFactor2) {
+        if (capacity >= 0) {
+            int tableSize = MathUtils.nextPowerOfTwo(Math.max(2, (int) Math.ceil((double) (((float) capacity) / loadFactor2))));
+            if (tableSize <= 1073741824) {
+                return tableSize;
             }
-            int index3 = hash3(hashCode);
-            K key3 = keyTable2[index3];
-            if (k.equals(key3)) {
-                V[] vArr3 = this.valueTable;
-                V oldValue3 = vArr3[index3];
-                vArr3[index3] = value;
-                return oldValue3;
-            }
-            int i = this.capacity;
-            int n = this.stashSize + i;
-            while (i < n) {
-                if (k.equals(keyTable2[i])) {
-                    V[] vArr4 = this.valueTable;
-                    V oldValue4 = vArr4[i];
-                    vArr4[i] = value;
-                    return oldValue4;
-                }
-                i++;
-            }
-            if (key1 == null) {
-                keyTable2[index1] = k;
-                this.valueTable[index1] = value;
-                int i2 = this.size;
-                this.size = i2 + 1;
-                if (i2 >= this.threshold) {
-                    resize(this.capacity << 1);
-                }
-                return null;
-            } else if (key2 == null) {
-                keyTable2[index2] = k;
-                this.valueTable[index2] = value;
-                int i3 = this.size;
-                this.size = i3 + 1;
-                if (i3 >= this.threshold) {
-                    resize(this.capacity << 1);
+            throw new IllegalArgumentException("The required capacity is too large: " + capacity);
+        }
+        throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+    }
+
+    /* access modifiers changed from: protected */
+    public int place(K item) {
+        return (int) ((((long) item.hashCode()) * -7046029254386353131L) >>> this.shift);
+    }
+
+    /* access modifiers changed from: package-private */
+    public int locateKey(K key) {
+        if (key != null) {
+            K[] keyTable2 = this.keyTable;
+            int i = place(key);
+            while (true) {
+                K other = keyTable2[i];
+                if (other == null) {
+                    return -(i + 1);
                 }
-                return null;
-            } else if (key3 == null) {
-                keyTable2[index3] = k;
-                this.valueTable[index3] = value;
-                int i4 = this.size;
-                this.size = i4 + 1;
-                if (i4 >= this.threshold) {
-                    resize(this.capacity << 1);
+                if (other.equals(key)) {
+                    return i;
                 }
-                return null;
-            } else {
-                K k2 = key2;
-                push(key, value, index1, key1, index2, key2, index3, key3);
-                return null;
+                i = (i + 1) & this.mask;
             }
         } else {
             throw new IllegalArgumentException("key cannot be null.");
         }
     }
 
-    public void putAll(ObjectMap<? extends K, ? extends V> map) {
-        ensureCapacity(map.size);
-        Entries<? extends K, ? extends V> it = map.iterator();
-        while (it.hasNext()) {
-            Entry<? extends K, ? extends V> entry = (Entry) it.next();
-            put(entry.key, entry.value);
-        }
-    }
-
-    private void putResize(K key, V value) {
-        int hashCode = key.hashCode();
-        int index1 = hashCode & this.mask;
-        K[] kArr = this.keyTable;
-        K key1 = kArr[index1];
-        if (key1 == null) {
-            kArr[index1] = key;
-            this.valueTable[index1] = value;
-            int i = this.size;
-            this.size = i + 1;
-            if (i >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
-        }
-        int index2 = hash2(hashCode);
-        K[] kArr2 = this.keyTable;
-        K key2 = kArr2[index2];
-        if (key2 == null) {
-            kArr2[index2] = key;
-            this.valueTable[index2] = value;
-            int i2 = this.size;
-            this.size = i2 + 1;
-            if (i2 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
+    public V put(K key, V value) {
+        int i = locateKey(key);
+        if (i >= 0) {
+            V[] vArr = this.valueTable;
+            V oldValue = vArr[i];
+            vArr[i] = value;
+            return oldValue;
         }
-        int index3 = hash3(hashCode);
-        K[] kArr3 = this.keyTable;
-        K key3 = kArr3[index3];
-        if (key3 == null) {
-            kArr3[index3] = key;
-            this.valueTable[index3] = value;
-            int i3 = this.size;
-            this.size = i3 + 1;
-            if (i3 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
+        int i2 = -(i + 1);
+        this.keyTable[i2] = key;
+        this.valueTable[i2] = value;
+        int i3 = this.size + 1;
+        this.size = i3;
+        if (i3 >= this.threshold) {
+            resize(this.keyTable.length << 1);
         }
-        push(key, value, index1, key1, index2, key2, index3, key3);
+        return null;
     }
 
-    private void push(K insertKey, V insertValue, int index1, K key1, int index2, K key2, int index3, K key3) {
-        V evictedValue;
-        K evictedKey;
-        K[] keyTable2 = this.keyTable;
-        V[] valueTable2 = this.valueTable;
-        int mask2 = this.mask;
-        int pushIterations2 = this.pushIterations;
-        K insertKey2 = insertKey;
-        V insertValue2 = insertValue;
-        int index12 = index1;
-        K key12 = key1;
-        int index22 = index2;
-        K key22 = key2;
-        int index32 = index3;
-        int i = 0;
-        K key32 = key3;
-        while (true) {
-            int random = MathUtils.random(2);
-            if (random == 0) {
-                evictedKey = key12;
-                V evictedValue2 = valueTable2[index12];
-                keyTable2[index12] = insertKey2;
-                valueTable2[index12] = insertValue2;
-                evictedValue = evictedValue2;
-            } else if (random != 1) {
-                evictedKey = key32;
-                V evictedValue3 = valueTable2[index32];
-                keyTable2[index32] = insertKey2;
-                valueTable2[index32] = insertValue2;
-                evictedValue = evictedValue3;
-            } else {
-                evictedKey = key22;
-                V evictedValue4 = valueTable2[index22];
-                keyTable2[index22] = insertKey2;
-                valueTable2[index22] = insertValue2;
-                evictedValue = evictedValue4;
-            }
-            K k = key32;
-            int hashCode = evictedKey.hashCode();
-            index12 = hashCode & mask2;
-            key12 = keyTable2[index12];
-            if (key12 == null) {
-                keyTable2[index12] = evictedKey;
-                valueTable2[index12] = evictedValue;
-                int i2 = mask2;
-                int mask3 = this.size;
-                int i3 = index32;
-                this.size = mask3 + 1;
-                if (mask3 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            int mask4 = mask2;
-            int i4 = index32;
-            index22 = hash2(hashCode);
-            key22 = keyTable2[index22];
-            if (key22 == null) {
-                keyTable2[index22] = evictedKey;
-                valueTable2[index22] = evictedValue;
-                int i5 = this.size;
-                this.size = i5 + 1;
-                if (i5 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            index32 = hash3(hashCode);
-            K key33 = keyTable2[index32];
-            if (key33 == null) {
-                keyTable2[index32] = evictedKey;
-                valueTable2[index32] = evictedValue;
-                K[] kArr = keyTable2;
-                int i6 = this.size;
-                V[] vArr = valueTable2;
-                this.size = i6 + 1;
-                if (i6 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            K[] keyTable3 = keyTable2;
-            V[] valueTable3 = valueTable2;
-            i++;
-            if (i == pushIterations2) {
-                putStash(evictedKey, evictedValue);
-                return;
+    public void putAll(ObjectMap<? extends K, ? extends V> map) {
+        ensureCapacity(map.size);
+        K[] keyTable2 = map.keyTable;
+        V[] valueTable2 = map.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            K key = keyTable2[i];
+            if (key != null) {
+                put(key, valueTable2[i]);
             }
-            insertKey2 = evictedKey;
-            insertValue2 = evictedValue;
-            key32 = key33;
-            mask2 = mask4;
-            keyTable2 = keyTable3;
-            valueTable2 = valueTable3;
         }
     }
 
-    private void putStash(K key, V value) {
-        int i = this.stashSize;
-        if (i == this.stashCapacity) {
-            resize(this.capacity << 1);
-            putResize(key, value);
-            return;
+    private void putResize(K key, V value) {
+        K[] keyTable2 = this.keyTable;
+        int i = place(key);
+        while (keyTable2[i] != null) {
+            i = (i + 1) & this.mask;
         }
-        int index = this.capacity + i;
-        this.keyTable[index] = key;
-        this.valueTable[index] = value;
-        this.stashSize = i + 1;
-        this.size++;
+        keyTable2[i] = key;
+        this.valueTable[i] = value;
     }
 
     public V get(K key) {
-        int hashCode = key.hashCode();
-        int index = this.mask & hashCode;
-        if (!key.equals(this.keyTable[index])) {
-            index = hash2(hashCode);
-            if (!key.equals(this.keyTable[index])) {
-                index = hash3(hashCode);
-                if (!key.equals(this.keyTable[index])) {
-                    return getStash(key, (Object) null);
-                }
-            }
+        int i = locateKey(key);
+        if (i < 0) {
+            return null;
         }
-        return this.valueTable[index];
+        return this.valueTable[i];
     }
 
     public V get(K key, V defaultValue) {
-        int hashCode = key.hashCode();
-        int index = this.mask & hashCode;
-        if (!key.equals(this.keyTable[index])) {
-            index = hash2(hashCode);
-            if (!key.equals(this.keyTable[index])) {
-                index = hash3(hashCode);
-                if (!key.equals(this.keyTable[index])) {
-                    return getStash(key, defaultValue);
-                }
-            }
+        int i = locateKey(key);
+        if (i < 0) {
+            return defaultValue;
         }
-        return this.valueTable[index];
-    }
-
-    private V getStash(K key, V defaultValue) {
-        K[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key.equals(keyTable2[i])) {
-                return this.valueTable[i];
-            }
-            i++;
-        }
-        return defaultValue;
+        return this.valueTable[i];
     }
 
     public V remove(K key) {
-        int hashCode = key.hashCode();
-        int index = this.mask & hashCode;
-        if (key.equals(this.keyTable[index])) {
-            this.keyTable[index] = null;
-            V[] vArr = this.valueTable;
-            V oldValue = vArr[index];
-            vArr[index] = null;
-            this.size--;
-            return oldValue;
+        int i = locateKey(key);
+        if (i < 0) {
+            return null;
         }
-        int index2 = hash2(hashCode);
-        if (key.equals(this.keyTable[index2])) {
-            this.keyTable[index2] = null;
-            V[] vArr2 = this.valueTable;
-            V oldValue2 = vArr2[index2];
-            vArr2[index2] = null;
-            this.size--;
-            return oldValue2;
-        }
-        int index3 = hash3(hashCode);
-        if (!key.equals(this.keyTable[index3])) {
-            return removeStash(key);
-        }
-        this.keyTable[index3] = null;
-        V[] vArr3 = this.valueTable;
-        V oldValue3 = vArr3[index3];
-        vArr3[index3] = null;
-        this.size--;
-        return oldValue3;
+        V oldValue = this.valueTable[i];
+        removeSlot(i);
+        return oldValue;
     }
 
     /* access modifiers changed from: package-private */
-    public V removeStash(K key) {
+    public int removeSlot(int index) {
         K[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key.equals(keyTable2[i])) {
-                V oldValue = this.valueTable[i];
-                removeStashIndex(i);
+        V[] valueTable2 = this.valueTable;
+        int mask2 = this.mask;
+        int i = index;
+        int next = (i + 1) & mask2;
+        while (true) {
+            K key = keyTable2[next];
+            if (key != null) {
+                int placement = place(key);
+                if (((next - placement) & mask2) > ((i - placement) & mask2)) {
+                    keyTable2[i] = key;
+                    valueTable2[i] = valueTable2[next];
+                    i = next;
+                }
+                next = (next + 1) & mask2;
+            } else {
+                keyTable2[i] = null;
+                valueTable2[i] = null;
                 this.size--;
-                return oldValue;
+                return i;
             }
-            i++;
         }
-        return null;
-    }
-
-    /* access modifiers changed from: package-private */
-    public void removeStashIndex(int index) {
-        this.stashSize--;
-        int lastIndex = this.capacity + this.stashSize;
-        if (index < lastIndex) {
-            K[] kArr = this.keyTable;
-            kArr[index] = kArr[lastIndex];
-            V[] vArr = this.valueTable;
-            vArr[index] = vArr[lastIndex];
-            kArr[lastIndex] = null;
-            vArr[lastIndex] = null;
-            return;
-        }
-        this.keyTable[index] = null;
-        this.valueTable[index] = null;
     }
 
     public boolean notEmpty() {
@@ -436,11 +192,9 @@ public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
 
     public void shrink(int maximumCapacity) {
         if (maximumCapacity >= 0) {
-            if (this.size > maximumCapacity) {
-                maximumCapacity = this.size;
-            }
-            if (this.capacity > maximumCapacity) {
-                resize(MathUtils.nextPowerOfTwo(maximumCapacity));
+            int tableSize = tableSize(Math.max(maximumCapacity, this.size), this.loadFactor);
+            if (this.keyTable.length > tableSize) {
+                resize(tableSize);
                 return;
             }
             return;
@@ -449,31 +203,20 @@ public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
     }
 
     public void clear(int maximumCapacity) {
-        if (this.capacity <= maximumCapacity) {
+        int tableSize = tableSize(maximumCapacity, this.loadFactor);
+        if (this.keyTable.length <= tableSize) {
             clear();
             return;
         }
         this.size = 0;
-        resize(maximumCapacity);
+        resize(tableSize);
     }
 
     public void clear() {
         if (this.size != 0) {
-            K[] keyTable2 = this.keyTable;
-            V[] valueTable2 = this.valueTable;
-            int i = this.capacity + this.stashSize;
-            while (true) {
-                int i2 = i - 1;
-                if (i > 0) {
-                    keyTable2[i2] = null;
-                    valueTable2[i2] = null;
-                    i = i2;
-                } else {
-                    this.size = 0;
-                    this.stashSize = 0;
-                    return;
-                }
-            }
+            this.size = 0;
+            Arrays.fill(this.keyTable, (Object) null);
+            Arrays.fill(this.valueTable, (Object) null);
         }
     }
 
@@ -481,166 +224,92 @@ public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
         V[] valueTable2 = this.valueTable;
         if (value == null) {
             K[] keyTable2 = this.keyTable;
-            int i = this.capacity + this.stashSize;
-            while (true) {
-                int i2 = i - 1;
-                if (i <= 0) {
-                    return false;
-                }
-                if (keyTable2[i2] != null && valueTable2[i2] == null) {
+            for (int i = valueTable2.length - 1; i >= 0; i--) {
+                if (keyTable2[i] != null && valueTable2[i] == null) {
                     return true;
                 }
-                i = i2;
             }
+            return false;
         } else if (identity) {
-            int i3 = this.capacity + this.stashSize;
-            while (true) {
-                int i4 = i3 - 1;
-                if (i3 <= 0) {
-                    return false;
-                }
-                if (valueTable2[i4] == value) {
+            for (int i2 = valueTable2.length - 1; i2 >= 0; i2--) {
+                if (valueTable2[i2] == value) {
                     return true;
                 }
-                i3 = i4;
             }
+            return false;
         } else {
-            int i5 = this.capacity + this.stashSize;
-            while (true) {
-                int i6 = i5 - 1;
-                if (i5 <= 0) {
-                    return false;
-                }
-                if (value.equals(valueTable2[i6])) {
+            for (int i3 = valueTable2.length - 1; i3 >= 0; i3--) {
+                if (value.equals(valueTable2[i3])) {
                     return true;
                 }
-                i5 = i6;
             }
+            return false;
         }
     }
 
     public boolean containsKey(K key) {
-        int hashCode = key.hashCode();
-        if (key.equals(this.keyTable[this.mask & hashCode])) {
-            return true;
-        }
-        if (key.equals(this.keyTable[hash2(hashCode)])) {
-            return true;
-        }
-        if (!key.equals(this.keyTable[hash3(hashCode)])) {
-            return containsKeyStash(key);
-        }
-        return true;
-    }
-
-    private boolean containsKeyStash(K key) {
-        K[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key.equals(keyTable2[i])) {
-                return true;
-            }
-            i++;
-        }
-        return false;
+        return locateKey(key) >= 0;
     }
 
     public K findKey(Object value, boolean identity) {
         V[] valueTable2 = this.valueTable;
+        K[] keyTable2 = this.keyTable;
         if (value == null) {
-            K[] keyTable2 = this.keyTable;
-            int i = this.capacity + this.stashSize;
-            while (true) {
-                int i2 = i - 1;
-                if (i <= 0) {
-                    return null;
-                }
-                if (keyTable2[i2] != null && valueTable2[i2] == null) {
-                    return keyTable2[i2];
+            for (int i = valueTable2.length - 1; i >= 0; i--) {
+                if (keyTable2[i] != null && valueTable2[i] == null) {
+                    return keyTable2[i];
                 }
-                i = i2;
             }
+            return null;
         } else if (identity) {
-            int i3 = this.capacity + this.stashSize;
-            while (true) {
-                int i4 = i3 - 1;
-                if (i3 <= 0) {
-                    return null;
-                }
-                if (valueTable2[i4] == value) {
-                    return this.keyTable[i4];
+            for (int i2 = valueTable2.length - 1; i2 >= 0; i2--) {
+                if (valueTable2[i2] == value) {
+                    return keyTable2[i2];
                 }
-                i3 = i4;
             }
+            return null;
         } else {
-            int i5 = this.capacity + this.stashSize;
-            while (true) {
-                int i6 = i5 - 1;
-                if (i5 <= 0) {
-                    return null;
-                }
-                if (value.equals(valueTable2[i6])) {
-                    return this.keyTable[i6];
+            for (int i3 = valueTable2.length - 1; i3 >= 0; i3--) {
+                if (value.equals(valueTable2[i3])) {
+                    return keyTable2[i3];
                 }
-                i5 = i6;
             }
+            return null;
         }
     }
 
     public void ensureCapacity(int additionalCapacity) {
-        if (additionalCapacity >= 0) {
-            int sizeNeeded = this.size + additionalCapacity;
-            if (sizeNeeded >= this.threshold) {
-                resize(MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) sizeNeeded) / this.loadFactor))));
-                return;
-            }
-            return;
+        int tableSize = tableSize(this.size + additionalCapacity, this.loadFactor);
+        if (this.keyTable.length < tableSize) {
+            resize(tableSize);
         }
-        throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
     }
 
-    private void resize(int newSize) {
-        int oldEndIndex = this.capacity + this.stashSize;
-        this.capacity = newSize;
+    /* access modifiers changed from: package-private */
+    public final void resize(int newSize) {
+        int oldCapacity = this.keyTable.length;
         this.threshold = (int) (((float) newSize) * this.loadFactor);
         this.mask = newSize - 1;
-        this.hashShift = 31 - Integer.numberOfTrailingZeros(newSize);
-        this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) newSize))) * 2);
-        this.pushIterations = Math.max(Math.min(newSize, 8), ((int) Math.sqrt((double) newSize)) / 8);
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
         K[] oldKeyTable = this.keyTable;
         V[] oldValueTable = this.valueTable;
-        int i = this.stashCapacity;
-        this.keyTable = (Object[]) new Object[(newSize + i)];
-        this.valueTable = (Object[]) new Object[(i + newSize)];
-        int oldSize = this.size;
-        this.size = 0;
-        this.stashSize = 0;
-        if (oldSize > 0) {
-            for (int i2 = 0; i2 < oldEndIndex; i2++) {
-                K key = oldKeyTable[i2];
+        this.keyTable = (K[]) new Object[newSize];
+        this.valueTable = (V[]) new Object[newSize];
+        if (this.size > 0) {
+            for (int i = 0; i < oldCapacity; i++) {
+                K key = oldKeyTable[i];
                 if (key != null) {
-                    putResize(key, oldValueTable[i2]);
+                    putResize(key, oldValueTable[i]);
                 }
             }
         }
     }
 
-    private int hash2(int h) {
-        int h2 = h * PRIME2;
-        return ((h2 >>> this.hashShift) ^ h2) & this.mask;
-    }
-
-    private int hash3(int h) {
-        int h2 = h * PRIME3;
-        return ((h2 >>> this.hashShift) ^ h2) & this.mask;
-    }
-
     public int hashCode() {
         int h = 0;
         K[] keyTable2 = this.keyTable;
         V[] valueTable2 = this.valueTable;
-        int n = this.capacity + this.stashSize;
+        int n = keyTable2.length;
         for (int i = 0; i < n; i++) {
             K key = keyTable2[i];
             if (key != null) {
@@ -667,7 +336,7 @@ public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
         }
         K[] keyTable2 = this.keyTable;
         V[] valueTable2 = this.valueTable;
-        int n = this.capacity + this.stashSize;
+        int n = keyTable2.length;
         for (int i = 0; i < n; i++) {
             K key = keyTable2[i];
             if (key != null) {
@@ -697,7 +366,7 @@ public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
         }
         K[] keyTable2 = this.keyTable;
         V[] valueTable2 = this.valueTable;
-        int n = this.capacity + this.stashSize;
+        int n = keyTable2.length;
         for (int i = 0; i < n; i++) {
             K key = keyTable2[i];
             if (key != null && valueTable2[i] != other.get(key, dummy)) {
@@ -762,6 +431,41 @@ public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
         return buffer.toString();
     }
 
+    public void each(Consumer.BiConsumer<? super K, ? super V> consumer) {
+        K[] keyTable2 = this.keyTable;
+        V[] valueTable2 = this.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            K key = keyTable2[i];
+            if (key != null) {
+                consumer.accept(key, valueTable2[i]);
+            }
+        }
+    }
+
+    public void eachKey(Consumer<? super K> consumer) {
+        K[] keyTable2 = this.keyTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            K key = keyTable2[i];
+            if (key != null) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    public void eachValue(Consumer<? super V> consumer) {
+        K[] keyTable2 = this.keyTable;
+        V[] valueTable2 = this.valueTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            K key = keyTable2[i];
+            if (key != null) {
+                consumer.accept(valueTable2[i]);
+            }
+        }
+    }
+
     public Entries<K, V> iterator() {
         return entries();
     }
@@ -846,6 +550,7 @@ public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
         public boolean hasNext;
         final ObjectMap<K, V> map;
         int nextIndex;
+        int remaining;
         boolean valid = true;
 
         public MapIterator(ObjectMap<K, V> map2) {
@@ -854,8 +559,15 @@ public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
         }
 
         public void reset() {
+            K[] keyTable = this.map.keyTable;
+            int n = keyTable.length;
+            int empty = 0;
+            while (empty < n && keyTable[empty] != null) {
+                empty++;
+            }
             this.currentIndex = -1;
-            this.nextIndex = -1;
+            this.nextIndex = empty;
+            this.remaining = n;
             findNextIndex();
         }
 
@@ -863,31 +575,26 @@ public class ObjectMap<K, V> implements Iterable<Entry<K, V>> {
         public void findNextIndex() {
             this.hasNext = false;
             K[] keyTable = this.map.keyTable;
-            int n = this.map.capacity + this.map.stashSize;
-            do {
-                int i = this.nextIndex + 1;
-                this.nextIndex = i;
-                if (i >= n) {
+            int mask = keyTable.length - 1;
+            while (this.remaining > 0) {
+                this.nextIndex = (this.nextIndex + 1) & mask;
+                this.remaining--;
+                if (keyTable[this.nextIndex] != null) {
+                    this.hasNext = true;
                     return;
                 }
-            } while (keyTable[this.nextIndex] == null);
-            this.hasNext = true;
+            }
         }
 
         public void remove() {
             int i = this.currentIndex;
             if (i >= 0) {
-                if (i >= this.map.capacity) {
-                    this.map.removeStashIndex(this.currentIndex);
-                    this.nextIndex = this.currentIndex - 1;
-                    findNextIndex();
-                } else {
-                    this.map.keyTable[this.currentIndex] = null;
-                    this.map.valueTable[this.currentIndex] = null;
+                if (this.map.removeSlot(i) != i) {
+                    this.nextIndex = i;
+                    this.remaining++;
+                    this.hasNext = true;
                 }
                 this.currentIndex = -1;
-                ObjectMap<K, V> objectMap = this.map;
-                objectMap.size--;
                 return;
             }
             throw new IllegalStateException("next must be called before remove.");
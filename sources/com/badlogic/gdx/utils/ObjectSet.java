@@ -1,26 +1,19 @@
 package com.badlogic.gdx.utils;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.twi.game.BuildConfig;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 public class ObjectSet<T> implements Iterable<T> {
-    private static final int PRIME1 = -1105259343;
-    private static final int PRIME2 = -1262997959;
-    private static final int PRIME3 = -825114047;
-    int capacity;
-    private int hashShift;
     private ObjectSetIterator iterator1;
     private ObjectSetIterator iterator2;
     T[] keyTable;
-    private float loadFactor;
-    private int mask;
-    private int pushIterations;
+    float loadFactor;
+    protected int mask;
+    protected int shift;
     public int size;
-    private int stashCapacity;
-    int stashSize;
-    private int threshold;
+    int threshold;
 
     public ObjectSet() {
         this(51, 0.8f);
@@ -31,98 +24,63 @@ public class ObjectSet<T> implements Iterable<T> {
     }
 
     public ObjectSet(int initialCapacity, float loadFactor2) {
-        if (initialCapacity >= 0) {
-            int initialCapacity2 = MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) initialCapacity) / loadFactor2)));
-            if (initialCapacity2 <= 1073741824) {
-                this.capacity = initialCapacity2;
-                if (loadFactor2 > 0.0f) {
-                    this.loadFactor = loadFactor2;
-                    int i = this.capacity;
-                    this.threshold = (int) (((float) i) * loadFactor2);
-                    this.mask = i - 1;
-                    this.hashShift = 31 - Integer.numberOfTrailingZeros(i);
-                    this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) this.capacity))) * 2);
-                    this.pushIterations = Math.max(Math.min(this.capacity, 8), ((int) Math.sqrt((double) this.capacity)) / 8);
-                    this.keyTable = (Object[]) new Object[(this.capacity + this.stashCapacity)];
-                    return;
-                }
-                throw new IllegalArgumentException("loadFactor must be > 0: " + loadFactor2);
-            }
-            throw new IllegalArgumentException("initialCapacity is too large: " + initialCapacity2);
+        if (loadFactor2 <= 0.0f || loadFactor2 >= 1.0f) {
+            throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor2);
         }
-        throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+        this.loadFactor = loadFactor2;
+        int tableSize = ObjectMap.tableSize(initialCapacity, loadFactor2);
+        this.threshold = (int) (((float) tableSize) * loadFactor2);
+        this.mask = tableSize - 1;
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
+        this.keyTable = (T[]) new Object[tableSize];
     }
 
     public ObjectSet(ObjectSet<? extends T> set) {
-        this((int) Math.floor((double) (((float) set.capacity) * set.loadFactor)), set.loadFactor);
-        this.stashSize = set.stashSize;
-        T[] tArr = set.keyTable;
+        this((int) (((float) set.keyTable.length) * set.loadFactor), set.loadFactor);
+        Object[] tArr = set.keyTable;
         System.arraycopy(tArr, 0, this.keyTable, 0, tArr.length);
         this.size = set.size;
     }
 
-    public boolean add(T key) {
-        T t = key;
-        if (t != null) {
+    /* access modifiers changed from: protected */
+    public int place(T item) {
+        return (int) ((((long) item.hashCode()) * -7046029254386353131L) >>> this.shift);
+    }
+
+    /* access modifiers changed from: package-private */
+    public int locateKey(T key) {
+        if (key != null) {
             T[] keyTable2 = this.keyTable;
-            int hashCode = key.hashCode();
-            int index1 = hashCode & this.mask;
-            T key1 = keyTable2[index1];
-            if (t.equals(key1)) {
-                return false;
-            }
-            int index2 = hash2(hashCode);
-            T key2 = keyTable2[index2];
-            if (t.equals(key2)) {
-                return false;
-            }
-            int index3 = hash3(hashCode);
-            T key3 = keyTable2[index3];
-            if (t.equals(key3)) {
-                return false;
-            }
-            int i = this.capacity;
-            int n = this.stashSize + i;
-            while (i < n) {
-                if (t.equals(keyTable2[i])) {
-                    return false;
-                }
-                i++;
-            }
-            if (key1 == null) {
-                keyTable2[index1] = t;
-                int i2 = this.size;
-                this.size = i2 + 1;
-                if (i2 >= this.threshold) {
-                    resize(this.capacity << 1);
-                }
-                return true;
-            } else if (key2 == null) {
-                keyTable2[index2] = t;
-                int i3 = this.size;
-                this.size = i3 + 1;
-                if (i3 >= this.threshold) {
-                    resize(this.capacity << 1);
+            int i = place(key);
+            while (true) {
+                T other = keyTable2[i];
+                if (other == null) {
+                    return -(i + 1);
                 }
-                return true;
-            } else if (key3 == null) {
-                keyTable2[index3] = t;
-                int i4 = this.size;
-                this.size = i4 + 1;
-                if (i4 >= this.threshold) {
-                    resize(this.capacity << 1);
+                if (other.equals(key)) {
+                    return i;
                 }
-                return true;
-            } else {
-                T t2 = key3;
-                push(key, index1, key1, index2, key2, index3, key3);
-                return true;
+                i = (i + 1) & this.mask;
             }
         } else {
             throw new IllegalArgumentException("key cannot be null.");
         }
     }
 
+    public boolean add(T key) {
+        int i = locateKey(key);
+        if (i >= 0) {
+            return false;
+        }
+        this.keyTable[-(i + 1)] = key;
+        int i2 = this.size + 1;
+        this.size = i2;
+        if (i2 >= this.threshold) {
+            resize(this.keyTable.length << 1);
+        }
+        return true;
+    }
+
     public void addAll(Array<? extends T> array) {
         addAll(array.items, 0, array.size);
     }
@@ -158,179 +116,43 @@ public class ObjectSet<T> implements Iterable<T> {
     }
 
     private void addResize(T key) {
-        int hashCode = key.hashCode();
-        int index1 = hashCode & this.mask;
-        T[] tArr = this.keyTable;
-        T key1 = tArr[index1];
-        if (key1 == null) {
-            tArr[index1] = key;
-            int i = this.size;
-            this.size = i + 1;
-            if (i >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
-        }
-        int index2 = hash2(hashCode);
-        T[] tArr2 = this.keyTable;
-        T key2 = tArr2[index2];
-        if (key2 == null) {
-            tArr2[index2] = key;
-            int i2 = this.size;
-            this.size = i2 + 1;
-            if (i2 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
-        }
-        int index3 = hash3(hashCode);
-        T[] tArr3 = this.keyTable;
-        T key3 = tArr3[index3];
-        if (key3 == null) {
-            tArr3[index3] = key;
-            int i3 = this.size;
-            this.size = i3 + 1;
-            if (i3 >= this.threshold) {
-                resize(this.capacity << 1);
-                return;
-            }
-            return;
-        }
-        push(key, index1, key1, index2, key2, index3, key3);
-    }
-
-    private void push(T insertKey, int index1, T key1, int index2, T key2, int index3, T key3) {
-        T evictedKey;
         T[] keyTable2 = this.keyTable;
-        int mask2 = this.mask;
-        int pushIterations2 = this.pushIterations;
-        T insertKey2 = insertKey;
-        int index12 = index1;
-        T key12 = key1;
-        int index22 = index2;
-        T key22 = key2;
-        int index32 = index3;
-        int i = 0;
-        T key32 = key3;
-        while (true) {
-            int random = MathUtils.random(2);
-            if (random == 0) {
-                evictedKey = key12;
-                keyTable2[index12] = insertKey2;
-            } else if (random != 1) {
-                evictedKey = key32;
-                keyTable2[index32] = insertKey2;
-            } else {
-                evictedKey = key22;
-                keyTable2[index22] = insertKey2;
-            }
-            int hashCode = evictedKey.hashCode();
-            index12 = hashCode & mask2;
-            key12 = keyTable2[index12];
-            if (key12 == null) {
-                keyTable2[index12] = evictedKey;
-                int i2 = this.size;
-                this.size = i2 + 1;
-                if (i2 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            index22 = hash2(hashCode);
-            key22 = keyTable2[index22];
-            if (key22 == null) {
-                keyTable2[index22] = evictedKey;
-                int i3 = this.size;
-                this.size = i3 + 1;
-                if (i3 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            index32 = hash3(hashCode);
-            key32 = keyTable2[index32];
-            if (key32 == null) {
-                keyTable2[index32] = evictedKey;
-                int i4 = this.size;
-                this.size = i4 + 1;
-                if (i4 >= this.threshold) {
-                    resize(this.capacity << 1);
-                    return;
-                }
-                return;
-            }
-            i++;
-            if (i == pushIterations2) {
-                addStash(evictedKey);
-                return;
-            }
-            insertKey2 = evictedKey;
+        int i = place(key);
+        while (keyTable2[i] != null) {
+            i = (i + 1) & this.mask;
         }
-    }
-
-    private void addStash(T key) {
-        int i = this.stashSize;
-        if (i == this.stashCapacity) {
-            resize(this.capacity << 1);
-            addResize(key);
-            return;
-        }
-        this.keyTable[this.capacity + i] = key;
-        this.stashSize = i + 1;
-        this.size++;
+        keyTable2[i] = key;
     }
 
     public boolean remove(T key) {
-        int hashCode = key.hashCode();
-        int index = this.mask & hashCode;
-        if (key.equals(this.keyTable[index])) {
-            this.keyTable[index] = null;
-            this.size--;
-            return true;
-        }
-        int index2 = hash2(hashCode);
-        if (key.equals(this.keyTable[index2])) {
-            this.keyTable[index2] = null;
-            this.size--;
-            return true;
-        }
-        int index3 = hash3(hashCode);
-        if (!key.equals(this.keyTable[index3])) {
-            return removeStash(key);
-        }
-        this.keyTable[index3] = null;
-        this.size--;
+        int i = locateKey(key);
+        if (i < 0) {
+            return false;
+        }
+        removeSlot(i);
         return true;
     }
 
     /* access modifiers changed from: package-private */
-    public boolean removeStash(T key) {
+    public int removeSlot(int index) {
         T[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key.equals(keyTable2[i])) {
-                removeStashIndex(i);
+        int mask2 = this.mask;
+        int i = index;
+        int next = (i + 1) & mask2;
+        while (true) {
+            T key = keyTable2[next];
+            if (key != null) {
+                int placement = place(key);
+                if (((next - placement) & mask2) > ((i - placement) & mask2)) {
+                    keyTable2[i] = key;
+                    i = next;
+                }
+                next = (next + 1) & mask2;
+            } else {
+                keyTable2[i] = null;
                 this.size--;
-                return true;
+                return i;
             }
-            i++;
-        }
-        return false;
-    }
-
-    /* access modifiers changed from: package-private */
-    public void removeStashIndex(int index) {
-        this.stashSize--;
-        int lastIndex = this.capacity + this.stashSize;
-        if (index < lastIndex) {
-            T[] tArr = this.keyTable;
-            tArr[index] = tArr[lastIndex];
-            tArr[lastIndex] = null;
         }
     }
 
@@ -344,11 +166,9 @@ public class ObjectSet<T> implements Iterable<T> {
 
     public void shrink(int maximumCapacity) {
         if (maximumCapacity >= 0) {
-            if (this.size > maximumCapacity) {
-                maximumCapacity = this.size;
-            }
-            if (this.capacity > maximumCapacity) {
-                resize(MathUtils.nextPowerOfTwo(maximumCapacity));
+            int tableSize = ObjectMap.tableSize(Math.max(maximumCapacity, this.size), this.loadFactor);
+            if (this.keyTable.length > tableSize) {
+                resize(tableSize);
                 return;
             }
             return;
@@ -357,76 +177,37 @@ public class ObjectSet<T> implements Iterable<T> {
     }
 
     public void clear(int maximumCapacity) {
-        if (this.capacity <= maximumCapacity) {
+        int tableSize = ObjectMap.tableSize(maximumCapacity, this.loadFactor);
+        if (this.keyTable.length <= tableSize) {
             clear();
             return;
         }
         this.size = 0;
-        resize(maximumCapacity);
+        resize(tableSize);
     }
 
     public void clear() {
         if (this.size != 0) {
-            T[] keyTable2 = this.keyTable;
-            int i = this.capacity + this.stashSize;
-            while (true) {
-                int i2 = i - 1;
-                if (i > 0) {
-                    keyTable2[i2] = null;
-                    i = i2;
-                } else {
-                    this.size = 0;
-                    this.stashSize = 0;
-                    return;
-                }
-            }
+            this.size = 0;
+            Arrays.fill(this.keyTable, (Object) null);
         }
     }
 
     public boolean contains(T key) {
-        int hashCode = key.hashCode();
-        if (!key.equals(this.keyTable[this.mask & hashCode])) {
-            if (!key.equals(this.keyTable[hash2(hashCode)])) {
-                if (key.equals(this.keyTable[hash3(hashCode)]) || getKeyStash(key) != null) {
-                    return true;
-                }
-                return false;
-            }
-        }
-        return true;
+        return locateKey(key) >= 0;
     }
 
     public T get(T key) {
-        int hashCode = key.hashCode();
-        T found = this.keyTable[this.mask & hashCode];
-        if (!key.equals(found)) {
-            found = this.keyTable[hash2(hashCode)];
-            if (!key.equals(found)) {
-                found = this.keyTable[hash3(hashCode)];
-                if (!key.equals(found)) {
-                    return getKeyStash(key);
-                }
-            }
-        }
-        return found;
-    }
-
-    private T getKeyStash(T key) {
-        T[] keyTable2 = this.keyTable;
-        int i = this.capacity;
-        int n = this.stashSize + i;
-        while (i < n) {
-            if (key.equals(keyTable2[i])) {
-                return keyTable2[i];
-            }
-            i++;
+        int i = locateKey(key);
+        if (i < 0) {
+            return null;
         }
-        return null;
+        return this.keyTable[i];
     }
 
     public T first() {
         T[] keyTable2 = this.keyTable;
-        int n = this.capacity + this.stashSize;
+        int n = keyTable2.length;
         for (int i = 0; i < n; i++) {
             if (keyTable2[i] != null) {
                 return keyTable2[i];
@@ -436,32 +217,21 @@ public class ObjectSet<T> implements Iterable<T> {
     }
 
     public void ensureCapacity(int additionalCapacity) {
-        if (additionalCapacity >= 0) {
-            int sizeNeeded = this.size + additionalCapacity;
-            if (sizeNeeded >= this.threshold) {
-                resize(MathUtils.nextPowerOfTwo((int) Math.ceil((double) (((float) sizeNeeded) / this.loadFactor))));
-                return;
-            }
-            return;
+        int tableSize = ObjectMap.tableSize(this.size + additionalCapacity, this.loadFactor);
+        if (this.keyTable.length < tableSize) {
+            resize(tableSize);
         }
-        throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
     }
 
     private void resize(int newSize) {
-        int oldEndIndex = this.capacity + this.stashSize;
-        this.capacity = newSize;
+        int oldCapacity = this.keyTable.length;
         this.threshold = (int) (((float) newSize) * this.loadFactor);
         this.mask = newSize - 1;
-        this.hashShift = 31 - Integer.numberOfTrailingZeros(newSize);
-        this.stashCapacity = Math.max(3, ((int) Math.ceil(Math.log((double) newSize))) * 2);
-        this.pushIterations = Math.max(Math.min(newSize, 8), ((int) Math.sqrt((double) newSize)) / 8);
+        this.shift = Long.numberOfLeadingZeros((long) this.mask);
         T[] oldKeyTable = this.keyTable;
-        this.keyTable = (Object[]) new Object[(this.stashCapacity + newSize)];
-        int oldSize = this.size;
-        this.size = 0;
-        this.stashSize = 0;
-        if (oldSize > 0) {
-            for (int i = 0; i < oldEndIndex; i++) {
+        this.keyTable = (T[]) new Object[newSize];
+        if (this.size > 0) {
+            for (int i = 0; i < oldCapacity; i++) {
                 T key = oldKeyTable[i];
                 if (key != null) {
                     addResize(key);
@@ -470,19 +240,9 @@ public class ObjectSet<T> implements Iterable<T> {
         }
     }
 
-    private int hash2(int h) {
-        int h2 = h * PRIME2;
-        return ((h2 >>> this.hashShift) ^ h2) & this.mask;
-    }
-
-    private int hash3(int h) {
-        int h2 = h * PRIME3;
-        return ((h2 >>> this.hashShift) ^ h2) & this.mask;
-    }
-
     public int hashCode() {
         int h = 0;
-        int n = this.capacity + this.stashSize;
+        int n = this.keyTable.length;
         for (int i = 0; i < n; i++) {
             T[] tArr = this.keyTable;
             if (tArr[i] != null) {
@@ -501,7 +261,7 @@ public class ObjectSet<T> implements Iterable<T> {
             return false;
         }
         T[] keyTable2 = this.keyTable;
-        int n = this.capacity + this.stashSize;
+        int n = this.keyTable.length;
         for (int i = 0; i < n; i++) {
             if (keyTable2[i] != null && !other.contains(keyTable2[i])) {
                 return false;
@@ -549,6 +309,17 @@ public class ObjectSet<T> implements Iterable<T> {
         }
     }
 
+    public void each(Consumer<? super T> consumer) {
+        T[] keyTable2 = this.keyTable;
+        int n = keyTable2.length;
+        for (int i = 0; i < n; i++) {
+            T key = keyTable2[i];
+            if (key != null) {
+                consumer.accept(key);
+            }
+        }
+    }
+
     public ObjectSetIterator<T> iterator() {
         if (Collections.allocateIterators) {
             return new ObjectSetIterator<>(this);
@@ -581,6 +352,7 @@ public class ObjectSet<T> implements Iterable<T> {
         int currentIndex;
         public boolean hasNext;
         int nextIndex;
+        int remaining;
         final ObjectSet<K> set;
         boolean valid = true;
 
@@ -590,38 +362,41 @@ public class ObjectSet<T> implements Iterable<T> {
         }
 
         public void reset() {
+            K[] keyTable = this.set.keyTable;
+            int n = keyTable.length;
+            int empty = 0;
+            while (empty < n && keyTable[empty] != null) {
+                empty++;
+            }
             this.currentIndex = -1;
-            this.nextIndex = -1;
+            this.nextIndex = empty;
+            this.remaining = n;
             findNextIndex();
         }
 
         private void findNextIndex() {
             this.hasNext = false;
-            T[] tArr = this.set.keyTable;
-            int n = this.set.capacity + this.set.stashSize;
-            do {
-                int i = this.nextIndex + 1;
-                this.nextIndex = i;
-                if (i >= n) {
+            K[] keyTable = this.set.keyTable;
+            int mask = keyTable.length - 1;
+            while (this.remaining > 0) {
+                this.nextIndex = (this.nextIndex + 1) & mask;
+                this.remaining--;
+                if (keyTable[this.nextIndex] != null) {
+                    this.hasNext = true;
                     return;
                 }
-            } while (tArr[this.nextIndex] == null);
-            this.hasNext = true;
+            }
         }
 
         public void remove() {
             int i = this.currentIndex;
             if (i >= 0) {
-                if (i >= this.set.capacity) {
-                    this.set.removeStashIndex(this.currentIndex);
-                    this.nextIndex = this.currentIndex - 1;
-                    findNextIndex();
-                } else {
-                    this.set.keyTable[this.currentIndex] = null;
+                if (this.set.removeSlot(i) != i) {
+                    this.nextIndex = i;
+                    this.remaining++;
+                    this.hasNext = true;
                 }
                 this.currentIndex = -1;
-                ObjectSet<K> objectSet = this.set;
-                objectSet.size--;
                 return;
             }
             throw new IllegalStateException("next must be called before remove.");
@@ -12,12 +12,12 @@ public class OrderedMap<K, V> extends ObjectMap<K, V> {
 
     public OrderedMap(int initialCapacity) {
         super(initialCapacity);
-        this.keys = new Array<>(this.capacity);
+        this.keys = new Array<>(initialCapacity);
     }
 
     public OrderedMap(int initialCapacity, float loadFactor) {
         super(initialCapacity, loadFactor);
-        this.keys = new Array<>(this.capacity);
+        this.keys = new Array<>(initialCapacity);
     }
 
     public OrderedMap(OrderedMap<? extends K, ? extends V> map) {
@@ -55,6 +55,27 @@ public class OrderedMap<K, V> extends ObjectMap<K, V> {
         return this.keys;
     }
 
+    public void each(Consumer.BiConsumer<? super K, ? super V> consumer) {
+        K[] keys2 = this.keys.items;
+        int n = this.keys.size;
+        for (int i = 0; i < n; i++) {
+            K key = keys2[i];
+            consumer.accept(key, get(key));
+        }
+    }
+
+    public void eachKey(Consumer<? super K> consumer) {
+        this.keys.each(consumer);
+    }
+
+    public void eachValue(Consumer<? super V> consumer) {
+        K[] keys2 = this.keys.items;
+        int n = this.keys.size;
+        for (int i = 0; i < n; i++) {
+            consumer.accept(get(keys2[i]));
+        }
+    }
+
     public ObjectMap.Entries<K, V> iterator() {
         return entries();
     }
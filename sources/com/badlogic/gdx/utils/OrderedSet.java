@@ -14,17 +14,17 @@ public class OrderedSet<T> extends ObjectSet<T> {
 
     public OrderedSet(int initialCapacity, float loadFactor) {
         super(initialCapacity, loadFactor);
-        this.items = new Array<>(this.capacity);
+        this.items = new Array<>(initialCapacity);
     }
 
     public OrderedSet(int initialCapacity) {
         super(initialCapacity);
-        this.items = new Array<>(this.capacity);
+        this.items = new Array<>(initialCapacity);
     }
 
     public OrderedSet(OrderedSet<? extends T> set) {
         super(set);
-        this.items = new Array<>(this.capacity);
+        this.items = new Array<>(set.items.size);
         this.items.addAll(set.items);
     }
 
@@ -74,6 +74,10 @@ public class OrderedSet<T> extends ObjectSet<T> {
         return this.items;
     }
 
+    public void each(Consumer<? super T> consumer) {
+        this.items.each(consumer);
+    }
+
     public OrderedSetIterator<T> iterator() {
         if (Collections.allocateIterators) {
             return new OrderedSetIterator<>(this);
@@ -274,6 +274,19 @@ public class Queue<T> implements Iterable<T> {
         }
     }
 
+    public void each(Consumer<? super T> consumer) {
+        T[] values2 = this.values;
+        int n = this.size;
+        int index = this.head;
+        for (int i = 0; i < n; i++) {
+            consumer.accept(values2[index]);
+            index++;
+            if (index == values2.length) {
+                index = 0;
+            }
+        }
+    }
+
     public Iterator<T> iterator() {
         if (Collections.allocateIterators) {
             return new QueueIterator(this, true);
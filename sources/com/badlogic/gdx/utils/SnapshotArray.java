@@ -149,6 +149,18 @@ public class SnapshotArray<T> extends Array<T> {
         return super.setSize(newSize);
     }
 
+    public void each(Consumer<? super T> consumer) {
+        T[] items2 = begin();
+        try {
+            int n = this.size;
+            for (int i = 0; i < n; i++) {
+                consumer.accept(items2[i]);
+            }
+        } finally {
+            end();
+        }
+    }
+
     public static <T> SnapshotArray<T> with(T... array) {
         return new SnapshotArray<>(array);
     }
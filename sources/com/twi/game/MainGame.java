@@ -3,18 +3,19 @@ package com.twi.game;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.MultiTextureSpriteBatch;
 import com.twi.game.states.GameStatesManager;
 import com.twi.game.states.MenuState;
 
 public class MainGame extends ApplicationAdapter {
     public static final int HEIGHT = 480;
     public static final int WIDTH = 800;
-    private SpriteBatch batch;
+    private Batch batch;
     private GameStatesManager gsm;
 
     public void create() {
-        this.batch = new SpriteBatch();
+        this.batch = new MultiTextureSpriteBatch();
         this.gsm = new GameStatesManager();
         Gdx.gl.glClearColor(255.0f, 255.0f, 255.0f, 1.0f);
         GameStatesManager gameStatesManager = this.gsm;
@@ -2,8 +2,8 @@ package com.twi.game.Managers;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
@@ -40,7 +40,7 @@ public class Button {
         return this.button;
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         this.button.draw(SpB, 1.0f);
     }
 
@@ -1,6 +1,6 @@
 package com.twi.game.Managers;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.net.HttpStatus;
 import com.twi.game.MainGame;
@@ -240,7 +240,7 @@ public class EnemiesManager extends Enemy implements ManagerIntergace {
         arrayList.add(new EnergyBonus(((int) arrayList.get(arrayList.size() - 1).getPosition().x) + arrayList2.get(arrayList2.size() - 1).getTexture().getWidth() + (((int) ((Math.random() * 3.0d) + 4.0d)) * MainGame.WIDTH) + (((int) (this.speed - 5.0f)) * 10), ((int) ((Math.random() * 3.0d) + 1.0d)) * 20, this.speed));
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         Iterator<EnemiesOnTheGround> it = this.enemies.iterator();
         while (it.hasNext()) {
             EnemiesOnTheGround enemy = it.next();
@@ -5,7 +5,7 @@ import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 
 public class GameOverManager {
     private Texture[] avatar = new Texture[10];
@@ -105,7 +105,7 @@ public class GameOverManager {
         throw new UnsupportedOperationException("Method not decompiled: com.twi.game.Managers.GameOverManager.update(float):void");
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         if (!this.isGlitchEffectOff) {
             SpB.draw(this.glitch[this.stateGlitch], 0.0f, 0.0f);
             return;
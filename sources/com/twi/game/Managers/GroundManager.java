@@ -1,6 +1,6 @@
 package com.twi.game.Managers;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.twi.game.game_objects.GroundTexture;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -39,7 +39,7 @@ public class GroundManager implements ManagerIntergace {
         }
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         Iterator<GroundTexture> it = this.ground.iterator();
         while (it.hasNext()) {
             GroundTexture A = it.next();
@@ -1,11 +1,11 @@
 package com.twi.game.Managers;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 
 public interface ManagerIntergace {
     void dispose();
 
-    void render(SpriteBatch spriteBatch);
+    void render(Batch spriteBatch);
 
     void update();
 }
@@ -1,7 +1,7 @@
 package com.twi.game.Managers;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.Touchable;
@@ -105,7 +105,7 @@ public class MenuButtonsManager {
         Gdx.input.setInputProcessor(stage);
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         if (!this.isCreditsOn && !this.isExitOn) {
             this.creditsButton.render(SpB);
             this.playButton.render(SpB);
@@ -1,7 +1,7 @@
 package com.twi.game.Managers;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.net.HttpStatus;
 import com.twi.game.game_objects.BackGroundObject;
 import java.util.ArrayList;
@@ -81,7 +81,7 @@ public class PlayBackgroundManager implements ManagerIntergace {
         }
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         SpB.draw(this.background, 0.0f, 0.0f);
         Iterator<BackGroundObject> it = this.bonus.iterator();
         while (it.hasNext()) {
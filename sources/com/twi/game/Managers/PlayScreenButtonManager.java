@@ -2,7 +2,7 @@ package com.twi.game.Managers;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -116,7 +116,7 @@ public class PlayScreenButtonManager {
         Gdx.input.setInputProcessor(stage);
     }
 
-    public void render(SpriteBatch SpB, boolean menuMode) {
+    public void render(Batch SpB, boolean menuMode) {
         if (!this.isPauseOn) {
             this.pauseButton.render(SpB);
             SpB.draw(this.shot_button, 10.0f, 10.0f);
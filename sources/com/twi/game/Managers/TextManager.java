@@ -4,31 +4,44 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.StringBuilder;
 import com.twi.game.states.PlayState;
 
 public class TextManager implements ManagerIntergace {
     static BitmapFont font;
+    private final BitmapFontCache highScoreCache;
+    private final StringBuilder highScoreText = new StringBuilder();
+    private final BitmapFontCache scoreCache;
+    private final StringBuilder scoreText = new StringBuilder();
 
     public TextManager() {
         font = new BitmapFont(Gdx.files.internal("GameScreen/Text/1.fnt"));
         font.setColor(Color.YELLOW);
         font.getData().setScale(0.53333336f);
+        this.scoreCache = font.newFontCache();
+        this.scoreCache.setColor(font.getColor());
+        this.highScoreCache = font.newFontCache();
+        this.highScoreCache.setColor(font.getColor());
     }
 
     public void update() {
     }
 
-    public void render(SpriteBatch SpB) {
-        GlyphLayout glyphLayout = new GlyphLayout();
-        GlyphLayout glyphLayout2 = new GlyphLayout();
-        BitmapFont bitmapFont = font;
-        glyphLayout.setText(bitmapFont, "Score: " + PlayState.score);
-        BitmapFont bitmapFont2 = font;
-        glyphLayout2.setText(bitmapFont2, "High Score: " + PlayState.highScore);
-        font.draw((Batch) SpB, glyphLayout, 400.0f - (glyphLayout.width / 2.0f), 432.0f);
-        font.draw((Batch) SpB, glyphLayout2, 400.0f - (glyphLayout2.width / 2.0f), 456.0f);
+    public void render(Batch SpB) {
+        this.scoreText.setLength(0);
+        this.scoreText.append("Score: ").append(PlayState.score);
+        this.highScoreText.setLength(0);
+        this.highScoreText.append("High Score: ").append(PlayState.highScore);
+        draw(SpB, this.scoreCache, this.scoreText, 432.0f);
+        draw(SpB, this.highScoreCache, this.highScoreText, 456.0f);
+    }
+
+    private void draw(Batch SpB, BitmapFontCache cache, CharSequence text, float y) {
+        GlyphLayout glyphLayout = cache.updateText(text, 0.0f, 0.0f);
+        cache.setPosition(400.0f - (glyphLayout.width / 2.0f), y);
+        cache.draw(SpB);
     }
 
     public void dispose() {
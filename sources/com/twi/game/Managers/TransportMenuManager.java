@@ -1,6 +1,6 @@
 package com.twi.game.Managers;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.twi.game.game_objects.BackGroundMenuObject;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -41,7 +41,7 @@ public class TransportMenuManager implements ManagerIntergace {
         }
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         Iterator<BackGroundMenuObject> it = this.transport.iterator();
         while (it.hasNext()) {
             BackGroundMenuObject A = it.next();
@@ -3,7 +3,7 @@ package com.twi.game.game_objects;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.TimeUtils;
@@ -72,7 +72,7 @@ public class MainCharacter1 {
         this.jumpSound = Gdx.audio.newSound(Gdx.files.internal("jump.ogg"));
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         if (this.shield) {
             SpB.draw(this.shieldTexture, 20.0f, (float) ((480 - this.hpTexture.getHeight()) - 20));
         }
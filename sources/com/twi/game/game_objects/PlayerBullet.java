@@ -1,7 +1,7 @@
 package com.twi.game.game_objects;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 
@@ -28,7 +28,7 @@ public class PlayerBullet {
         this.texture = new Texture("Player/Shot/shot-" + this.state + ".png");
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         SpB.draw(this.texture, this.position.x, this.position.y);
     }
 
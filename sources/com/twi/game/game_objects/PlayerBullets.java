@@ -1,6 +1,6 @@
 package com.twi.game.game_objects;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import java.util.ArrayList;
 import java.util.Iterator;
 
@@ -26,7 +26,7 @@ public class PlayerBullets {
         }
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         if (!this.playerBullets.isEmpty()) {
             Iterator<PlayerBullet> it = this.playerBullets.iterator();
             while (it.hasNext()) {
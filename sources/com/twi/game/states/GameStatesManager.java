@@ -1,7 +1,7 @@
 package com.twi.game.states;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import java.util.Stack;
 
 public class GameStatesManager {
@@ -29,7 +29,7 @@ public class GameStatesManager {
         this.states.peek().update(dTime);
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         if (!this.states.empty()) {
             this.states.peek().render(SpB);
         }
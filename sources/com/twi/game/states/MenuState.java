@@ -3,7 +3,7 @@ package com.twi.game.states;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.twi.game.Managers.MenuButtonsManager;
@@ -47,7 +47,7 @@ public class MenuState extends State {
         this.stage.act(dTime);
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         SpB.begin();
         SpB.setProjectionMatrix(this.camera.combined);
         SpB.draw(this.background, 0.0f, 0.0f);
@@ -3,7 +3,7 @@ package com.twi.game.states;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.List;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
@@ -45,7 +45,7 @@ public class MultiplayerGameMode extends State {
     public void update(float dTime) {
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         SpB.setProjectionMatrix(this.camera.combined);
         SpB.begin();
         SpB.draw(this.background, 0.0f, 0.0f);
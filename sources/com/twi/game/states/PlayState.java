@@ -6,7 +6,7 @@ import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.TimeUtils;
@@ -171,7 +171,7 @@ public class PlayState extends State {
         gameOver = true;
     }
 
-    public void render(SpriteBatch SpB) {
+    public void render(Batch SpB) {
         SpB.setProjectionMatrix(this.camera.combined);
         SpB.begin();
         this.PBM.render(SpB);
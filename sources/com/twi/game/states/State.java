@@ -1,7 +1,7 @@
 package com.twi.game.states;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.math.Vector3;
 
 public abstract class State {
@@ -16,7 +16,7 @@ public abstract class State {
 
     public abstract void pause();
 
-    public abstract void render(SpriteBatch spriteBatch);
+    public abstract void render(Batch spriteBatch);
 
     public abstract void resume();
 